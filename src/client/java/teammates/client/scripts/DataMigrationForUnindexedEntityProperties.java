@@ -0,0 +1,114 @@
+package teammates.client.scripts;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import com.googlecode.objectify.Key;
+
+import teammates.storage.entity.BaseEntity;
+import teammates.storage.entity.FeedbackResponse;
+import teammates.storage.entity.FeedbackResponseComment;
+
+/**
+ * Script to rewrite all entities of a kind so that the index rows of their properties marked as
+ * {@link com.googlecode.objectify.annotation.Unindex} are removed.
+ *
+ * <p>The datastore only drops the index rows of a property that is no longer indexed when the entity is
+ * written again. Entities are loaded and saved back unchanged in batches, keeping their timestamps.
+ *
+ * @param <E> The entity type to be rewritten.
+ */
+public class DataMigrationForUnindexedEntityProperties<E extends BaseEntity> extends DataMigrationBaseScript<Key<E>> {
+
+    /**
+     * Number of entities to rewrite per batch.
+     * Maximum entities that can be saved in one request is 500 (limit imposed by GAE Datastore).
+     */
+    private static final int BATCH_SIZE = 500;
+
+    private final Class<E> entityClass;
+
+    private List<Key<E>> keysToRewrite = new ArrayList<>();
+
+    public DataMigrationForUnindexedEntityProperties(Class<E> entityClass) {
+        this.entityClass = entityClass;
+    }
+
+    public static void main(String[] args) throws IOException {
+        new DataMigrationForUnindexedEntityProperties<>(FeedbackResponse.class).doOperationRemotely();
+        new DataMigrationForUnindexedEntityProperties<>(FeedbackResponseComment.class).doOperationRemotely();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean isPreview() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected String getEntityType(Key<E> key) {
+        return key.getKind().toLowerCase();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected List<Key<E>> getEntities() {
+        return ofy().load().type(entityClass).keys().list();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The index rows of an entity cannot be inspected, so every entity is rewritten.
+     */
+    @Override
+    protected boolean isMigrationNeeded(Key<E> key) {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void printPreviewInformation(Key<E> key) {
+        // nothing to preview as the entity is saved back unchanged
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void migrate(Key<E> key) {
+        keysToRewrite.add(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void postAction() {
+        for (int i = 0; i < keysToRewrite.size(); i += BATCH_SIZE) {
+            List<Key<E>> batch = keysToRewrite.subList(i, Math.min(i + BATCH_SIZE, keysToRewrite.size()));
+            Collection<E> entities = ofy().load().keys(batch).values();
+            for (E entity : entities) {
+                if (entity instanceof FeedbackResponse) {
+                    ((FeedbackResponse) entity).keepUpdateTimestamp = true;
+                }
+            }
+            ofy().save().entities(entities).now();
+            // prevents the session cache from holding every entity rewritten so far
+            ofy().clear();
+            println("Rewritten " + (i + batch.size()) + " of " + keysToRewrite.size() + " entities.");
+        }
+    }
+
+}
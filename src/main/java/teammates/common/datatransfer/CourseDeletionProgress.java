@@ -0,0 +1,65 @@
+package teammates.common.datatransfer;
+
+/**
+ * The point reached by the deletion of a course: the kind of entities being deleted
+ * and the cursor at which the next batch of them starts.
+ */
+public class CourseDeletionProgress {
+
+    /**
+     * The kinds of entities of a course, in the order in which they are deleted.
+     * The instructors and students go first so that the course disappears from their pages early on.
+     */
+    public enum Stage {
+        INSTRUCTORS,
+        STUDENTS,
+        COMMENTS,
+        RESPONSES,
+        QUESTIONS,
+        SESSIONS,
+        COURSE
+    }
+
+    private final Stage stage;
+    private final String cursor;
+
+    public CourseDeletionProgress(Stage stage, String cursor) {
+        this.stage = stage;
+        this.cursor = cursor;
+    }
+
+    /**
+     * Returns the progress at the start of the deletion of a course.
+     */
+    public static CourseDeletionProgress start() {
+        return new CourseDeletionProgress(Stage.values()[0], null);
+    }
+
+    public Stage getStage() {
+        return stage;
+    }
+
+    /**
+     * Returns the web-safe cursor to continue the current stage from, or {@code null} at the start of the stage.
+     */
+    public String getCursor() {
+        return cursor;
+    }
+
+    /**
+     * Returns the progress at the start of the next stage, or {@code null} if the current stage is the last one.
+     */
+    public CourseDeletionProgress nextStage() {
+        int nextStageIndex = stage.ordinal() + 1;
+        if (nextStageIndex == Stage.values().length) {
+            return null;
+        }
+        return new CourseDeletionProgress(Stage.values()[nextStageIndex], null);
+    }
+
+    @Override
+    public String toString() {
+        return stage + (cursor == null ? "" : " from " + cursor);
+    }
+
+}
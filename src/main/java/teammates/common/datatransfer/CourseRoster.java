@@ -1,9 +1,12 @@
 package teammates.common.datatransfer;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
@@ -12,23 +15,92 @@ import teammates.common.datatransfer.attributes.StudentAttributes;
  * Contains a list of students and instructors in a course. Useful for caching
  * a copy of student and instructor details of a course instead of reading
  * them from the database multiple times.
+ *
+ * <p>Students are also indexed by team and by section when the roster is built.
+ * All lists, sets and maps returned are read-only views of these indexes.
  */
 public class CourseRoster {
 
     Map<String, StudentAttributes> studentListByEmail = new HashMap<>();
     Map<String, InstructorAttributes> instructorListByEmail = new HashMap<>();
 
+    private final List<StudentAttributes> students;
+    private final List<InstructorAttributes> instructors;
+    private final Map<String, List<StudentAttributes>> studentsByTeam;
+    private final Map<String, List<StudentAttributes>> studentsBySection;
+    private final Map<String, Set<String>> teamsBySection;
+
     public CourseRoster(List<StudentAttributes> students, List<InstructorAttributes> instructors) {
         populateStudentListByEmail(students);
         populateInstructorListByEmail(instructors);
+
+        this.students = Collections.unmodifiableList(new ArrayList<>(studentListByEmail.values()));
+        this.instructors = Collections.unmodifiableList(new ArrayList<>(instructorListByEmail.values()));
+
+        Map<String, List<StudentAttributes>> teamIndex = new HashMap<>();
+        Map<String, List<StudentAttributes>> sectionIndex = new HashMap<>();
+        Map<String, Set<String>> sectionToTeams = new HashMap<>();
+        for (StudentAttributes student : this.students) {
+            teamIndex.computeIfAbsent(student.team, key -> new ArrayList<>()).add(student);
+            sectionIndex.computeIfAbsent(student.section, key -> new ArrayList<>()).add(student);
+            sectionToTeams.computeIfAbsent(student.section, key -> new HashSet<>()).add(student.team);
+        }
+        teamIndex.replaceAll((team, members) -> Collections.unmodifiableList(members));
+        sectionIndex.replaceAll((section, members) -> Collections.unmodifiableList(members));
+        sectionToTeams.replaceAll((section, teams) -> Collections.unmodifiableSet(teams));
+        this.studentsByTeam = Collections.unmodifiableMap(teamIndex);
+        this.studentsBySection = Collections.unmodifiableMap(sectionIndex);
+        this.teamsBySection = Collections.unmodifiableMap(sectionToTeams);
     }
 
+    /**
+     * Returns a read-only view of all students in the course.
+     */
     public List<StudentAttributes> getStudents() {
-        return new ArrayList<>(studentListByEmail.values());
+        return students;
     }
 
+    /**
+     * Returns a read-only view of all instructors in the course.
+     */
     public List<InstructorAttributes> getInstructors() {
-        return new ArrayList<>(instructorListByEmail.values());
+        return instructors;
+    }
+
+    /**
+     * Returns a read-only view of the names of all teams that have students.
+     */
+    public Set<String> getTeamNames() {
+        return studentsByTeam.keySet();
+    }
+
+    /**
+     * Returns a read-only view of the students in the team, or an empty list if there is no such team.
+     */
+    public List<StudentAttributes> getTeamMembers(String teamName) {
+        return studentsByTeam.getOrDefault(teamName, Collections.emptyList());
+    }
+
+    /**
+     * Returns a read-only view of the students in the section, or an empty list if there is no such section.
+     */
+    public List<StudentAttributes> getStudentsInSection(String sectionName) {
+        return studentsBySection.getOrDefault(sectionName, Collections.emptyList());
+    }
+
+    /**
+     * Returns a read-only view of the names of teams in the section,
+     * or an empty set if there is no such section.
+     */
+    public Set<String> getTeamsInSection(String sectionName) {
+        return teamsBySection.getOrDefault(sectionName, Collections.emptySet());
+    }
+
+    /**
+     * Returns a read-only view of the mapping from each section that has students to the teams in it.
+     */
+    public Map<String, Set<String>> getTeamsBySection() {
+        return teamsBySection;
     }
 
     /**
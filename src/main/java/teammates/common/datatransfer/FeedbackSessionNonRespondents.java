@@ -0,0 +1,25 @@
+package teammates.common.datatransfer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+
+/**
+ * The students and instructors of a course who have yet to complete a feedback session.
+ */
+public class FeedbackSessionNonRespondents {
+
+    private final List<StudentAttributes> students = new ArrayList<>();
+    private final List<InstructorAttributes> instructors = new ArrayList<>();
+
+    public List<StudentAttributes> getStudents() {
+        return students;
+    }
+
+    public List<InstructorAttributes> getInstructors() {
+        return instructors;
+    }
+
+}
@@ -2,7 +2,8 @@ package teammates.common.datatransfer;
 
 public class FeedbackSessionResultParameters {
     public boolean isIncludeResposeStatus, inSection, fromSection, toSection;
-    public String questionId, section, range, viewType;
+    public String questionId, section, range, viewType, cursor;
+    public int pageSize;
 
     public FeedbackSessionResultParameters() {
         setAllBooleanParametersToFalse();
@@ -57,6 +58,15 @@ public class FeedbackSessionResultParameters {
         }
     }
 
+    /**
+     * Limits the responses to the page of about {@code pageSize} responses that starts at {@code cursor}
+     * (or at the first response if {@code cursor} is null).
+     */
+    public void setPage(String cursor, int pageSize){
+        this.cursor = cursor;
+        this.pageSize = pageSize;
+    }
+
     public void setViewType(String viewType){
         this.viewType = viewType;
     }
@@ -51,7 +51,15 @@ public class FeedbackSessionResultsBundle {
     public FeedbackSessionResponseStatus responseStatus;
     public CourseRoster roster;
     public Map<String, List<FeedbackResponseCommentAttributes>> responseComments;
+    /**
+     * Whether no responses were left out by a range limit. A page of responses is complete even if
+     * more pages follow; see {@link #hasNextPage()}.
+     */
     public boolean isComplete;
+    public String nextCursor;
+    // bounds of the primary participants (givers, or recipients) covered by a page of responses
+    public String pageStartAfterParticipant;
+    public String pageEndParticipant;
 
     //Added for review
     public boolean isMissingResponsesShown;
@@ -1020,7 +1028,7 @@ public class FeedbackSessionResultsBundle {
      */
     private List<String> getSortedListOfStudentEmails() {
         List<String> emailList = new ArrayList<>();
-        List<StudentAttributes> students = roster.getStudents();
+        List<StudentAttributes> students = new ArrayList<>(roster.getStudents());
         StudentAttributes.sortBySectionName(students);
         for (StudentAttributes student : students) {
             emailList.add(student.email);
@@ -1554,15 +1562,14 @@ public class FeedbackSessionResultsBundle {
     }
 
     private Map<String, Set<String>> getTeamNameToEmailsTableFromRoster(CourseRoster courseroster) {
-        List<StudentAttributes> students = courseroster.getStudents();
         Map<String, Set<String>> teamNameToEmails = new HashMap<>();
 
-        for (StudentAttributes student : students) {
-            String studentTeam = student.team;
-            Set<String> studentEmails = teamNameToEmails.getOrDefault(studentTeam, new TreeSet<>());
-
-            studentEmails.add(student.email);
-            teamNameToEmails.put(studentTeam, studentEmails);
+        for (String teamName : courseroster.getTeamNames()) {
+            Set<String> studentEmails = new TreeSet<>();
+            for (StudentAttributes student : courseroster.getTeamMembers(teamName)) {
+                studentEmails.add(student.email);
+            }
+            teamNameToEmails.put(teamName, studentEmails);
         }
 
         List<InstructorAttributes> instructors = courseroster.getInstructors();
@@ -1578,17 +1585,10 @@ public class FeedbackSessionResultsBundle {
     }
 
     private Map<String, Set<String>> getSectionToTeamNamesFromRoster(CourseRoster courseroster) {
-        List<StudentAttributes> students = courseroster.getStudents();
         Map<String, Set<String>> sectionToTeam = new HashMap<>();
 
-        for (StudentAttributes student : students) {
-            String studentSection = student.section;
-            String studentTeam = student.team;
-            Set<String> teamNames = sectionToTeam.getOrDefault(studentSection, new HashSet<>());
-
-            teamNames.add(studentTeam);
-            sectionToTeam.put(studentSection, teamNames);
-        }
+        courseroster.getTeamsBySection().forEach(
+                (sectionName, teamNames) -> sectionToTeam.put(sectionName, new HashSet<>(teamNames)));
 
         return sectionToTeam;
     }
@@ -1685,6 +1685,28 @@ public class FeedbackSessionResultsBundle {
         return isComplete;
     }
 
+    /**
+     * Returns the cursor to get the next page of responses with, or {@code null} if the bundle
+     * is not paged or contains the last page.
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasNextPage() {
+        return nextCursor != null;
+    }
+
+    /**
+     * Returns true if the missing responses of the participant are to be shown with this bundle.
+     * A page of responses covers the participants (givers, or recipients) that come after the last participant
+     * of the previous page, up to its own last participant; a bundle that is not paged covers every participant.
+     */
+    public boolean isParticipantOnPage(String participant) {
+        return (pageStartAfterParticipant == null || participant.compareTo(pageStartAfterParticipant) > 0)
+                && (pageEndParticipant == null || participant.compareTo(pageEndParticipant) <= 0);
+    }
+
     public ZoneId getTimeZone() {
         return feedbackSession.getTimeZone();
     }
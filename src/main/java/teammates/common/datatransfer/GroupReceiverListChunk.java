@@ -0,0 +1,41 @@
+package teammates.common.datatransfer;
+
+import java.util.List;
+
+/**
+ * A part of a group receiver list file, read from a byte offset of the file.
+ */
+public class GroupReceiverListChunk {
+
+    private final List<String> emails;
+    private final long nextOffset;
+    private final boolean isLastChunk;
+
+    public GroupReceiverListChunk(List<String> emails, long nextOffset, boolean isLastChunk) {
+        this.emails = emails;
+        this.nextOffset = nextOffset;
+        this.isLastChunk = isLastChunk;
+    }
+
+    /**
+     * Returns the email addresses in the chunk.
+     */
+    public List<String> getEmails() {
+        return emails;
+    }
+
+    /**
+     * Returns the byte offset of the file from which the next chunk is to be read.
+     */
+    public long getNextOffset() {
+        return nextOffset;
+    }
+
+    /**
+     * Returns true if the chunk reaches the end of the file.
+     */
+    public boolean isLastChunk() {
+        return isLastChunk;
+    }
+
+}
@@ -0,0 +1,36 @@
+package teammates.common.datatransfer;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A page of query results together with the cursor at which the next page starts.
+ *
+ * @param <T> the type of the results
+ */
+public class QueryPage<T> {
+
+    private final List<T> items;
+    private final String nextCursor;
+
+    public QueryPage(List<T> items, String nextCursor) {
+        this.items = Collections.unmodifiableList(items);
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    /**
+     * Returns the web-safe cursor to query the next page with, or {@code null} if this is the last page.
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasNextPage() {
+        return nextCursor != null;
+    }
+
+}
@@ -0,0 +1,38 @@
+package teammates.common.datatransfer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The IDs of the documents of a search index that are to be (re)built or deleted.
+ */
+public class SearchDocumentUpdates {
+
+    private final String indexName;
+    private final List<String> documentIdsToPut = new ArrayList<>();
+    private final List<String> documentIdsToDelete = new ArrayList<>();
+
+    public SearchDocumentUpdates(String indexName) {
+        this.indexName = indexName;
+    }
+
+    public String getIndexName() {
+        return indexName;
+    }
+
+    public List<String> getDocumentIdsToPut() {
+        return documentIdsToPut;
+    }
+
+    public List<String> getDocumentIdsToDelete() {
+        return documentIdsToDelete;
+    }
+
+    /**
+     * Returns the number of documents to be (re)built or deleted.
+     */
+    public int size() {
+        return documentIdsToPut.size() + documentIdsToDelete.size();
+    }
+
+}
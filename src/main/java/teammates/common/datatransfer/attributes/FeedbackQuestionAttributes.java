@@ -44,6 +44,14 @@ public class FeedbackQuestionAttributes extends EntityAttributes<FeedbackQuestio
     protected transient Instant updatedAt;
     private String feedbackQuestionId;
 
+    /**
+     * The details last parsed by {@link #getQuestionDetails()}, and the metadata and question type
+     * they were parsed from, so that the same metadata is not parsed again.
+     */
+    private transient FeedbackQuestionDetails parsedQuestionDetails;
+    private transient Text parsedQuestionMetaData;
+    private transient FeedbackQuestionType parsedQuestionType;
+
     public FeedbackQuestionAttributes() {
         // attributes to be set after construction
     }
@@ -556,9 +564,23 @@ public class FeedbackQuestionAttributes extends EntityAttributes<FeedbackQuestio
     /**
      * Retrieves the Feedback*QuestionDetails object for this question.
      *
+     * <p>The details are parsed once and reused until {@link #questionMetaData} or {@link #questionType}
+     * is changed. Changes made to the returned object are not saved unless it is given to
+     * {@link #setQuestionDetails(FeedbackQuestionDetails)}.
+     *
      * @return The Feedback*QuestionDetails object representing the question's details
      */
     public FeedbackQuestionDetails getQuestionDetails() {
+        if (parsedQuestionDetails == null || parsedQuestionMetaData != questionMetaData
+                || parsedQuestionType != questionType) {
+            parsedQuestionDetails = parseQuestionDetails();
+            parsedQuestionMetaData = questionMetaData;
+            parsedQuestionType = questionType;
+        }
+        return parsedQuestionDetails;
+    }
+
+    private FeedbackQuestionDetails parseQuestionDetails() {
         final String questionMetaDataValue = questionMetaData.getValue();
         // For old Text questions, the questionText simply contains the question, not a JSON
         if (questionType == FeedbackQuestionType.TEXT && !isValidJsonString(questionMetaDataValue)) {
@@ -44,6 +44,14 @@ public class FeedbackResponseAttributes extends EntityAttributes<FeedbackRespons
     protected transient Instant updatedAt;
     private String feedbackResponseId;
 
+    /**
+     * The details last parsed by {@link #getResponseDetails()}, and the metadata and question type
+     * they were parsed from, so that the same metadata is not parsed again.
+     */
+    private transient FeedbackResponseDetails parsedResponseDetails;
+    private transient Text parsedResponseMetaData;
+    private transient FeedbackQuestionType parsedFeedbackQuestionType;
+
     public FeedbackResponseAttributes() {
         // attributes to be set after construction
     }
@@ -187,6 +195,10 @@ public class FeedbackResponseAttributes extends EntityAttributes<FeedbackRespons
 
     /**
      * Retrieves the Feedback*ResponseDetails object for this response.
+     *
+     * <p>The details are parsed once and reused until {@link #responseMetaData} or {@link #feedbackQuestionType}
+     * is changed. Changes made to the returned object are not saved unless it is given to
+     * {@link #setResponseDetails(FeedbackResponseDetails)}.
      * @return The Feedback*ResponseDetails object representing the response's details
      */
     public FeedbackResponseDetails getResponseDetails() {
@@ -195,6 +207,16 @@ public class FeedbackResponseAttributes extends EntityAttributes<FeedbackRespons
             return null;
         }
 
+        if (parsedResponseDetails == null || parsedResponseMetaData != responseMetaData
+                || parsedFeedbackQuestionType != feedbackQuestionType) {
+            parsedResponseDetails = parseResponseDetails();
+            parsedResponseMetaData = responseMetaData;
+            parsedFeedbackQuestionType = feedbackQuestionType;
+        }
+        return parsedResponseDetails;
+    }
+
+    private FeedbackResponseDetails parseResponseDetails() {
         Class<? extends FeedbackResponseDetails> responseDetailsClass = getFeedbackResponseDetailsClass();
 
         if (responseDetailsClass == FeedbackTextResponseDetails.class) {
@@ -45,6 +45,7 @@ public class FeedbackSessionAttributes extends EntityAttributes<FeedbackSession>
     private boolean isPublishedEmailEnabled;
     private transient Set<String> respondingInstructorList;
     private transient Set<String> respondingStudentList;
+    private transient Integer expectedRespondentCount;
 
     FeedbackSessionAttributes() {
         isOpeningEmailEnabled = true;
@@ -79,6 +80,7 @@ public class FeedbackSessionAttributes extends EntityAttributes<FeedbackSession>
                 .withRespondingInstructorList(fs.getRespondingInstructorList())
                 .withRespondingStudentList(fs.getRespondingStudentList())
                 .withClosingEmailEnabled(fs.isClosingEmailEnabled())
+                .withExpectedRespondentCount(fs.getExpectedRespondentCount())
                 .build();
     }
 
@@ -134,12 +136,14 @@ public class FeedbackSessionAttributes extends EntityAttributes<FeedbackSession>
 
     @Override
     public FeedbackSession toEntity() {
-        return new FeedbackSession(feedbackSessionName, courseId, creatorEmail, instructions,
+        FeedbackSession feedbackSession = new FeedbackSession(feedbackSessionName, courseId, creatorEmail, instructions,
                 createdTime, startTime, endTime, sessionVisibleFromTime, resultsVisibleFromTime,
                 timeZone.getId(), getGracePeriodMinutes(), feedbackSessionType,
                 sentOpenEmail, sentClosingEmail, sentClosedEmail, sentPublishedEmail,
                 isOpeningEmailEnabled, isClosingEmailEnabled, isPublishedEmailEnabled,
                 respondingInstructorList, respondingStudentList);
+        feedbackSession.setExpectedRespondentCount(expectedRespondentCount);
+        return feedbackSession;
     }
 
     @Override
@@ -608,6 +612,18 @@ public class FeedbackSessionAttributes extends EntityAttributes<FeedbackSession>
         this.respondingStudentList = respondingStudentList;
     }
 
+    /**
+     * Returns the stored number of respondents expected for this session,
+     * or {@code null} if it has not been computed since the last change to the course or its questions.
+     */
+    public Integer getExpectedRespondentCount() {
+        return expectedRespondentCount;
+    }
+
+    public void setExpectedRespondentCount(Integer expectedRespondentCount) {
+        this.expectedRespondentCount = expectedRespondentCount;
+    }
+
     public String getEndTimeInIso8601Format() {
         return TimeHelper.formatInstantToIso8601Utc(endTime);
     }
@@ -737,6 +753,11 @@ public class FeedbackSessionAttributes extends EntityAttributes<FeedbackSession>
             return this;
         }
 
+        public Builder withExpectedRespondentCount(Integer expectedRespondentCount) {
+            feedbackSessionAttributes.setExpectedRespondentCount(expectedRespondentCount);
+            return this;
+        }
+
         public FeedbackSessionAttributes build() {
             return feedbackSessionAttributes;
         }
@@ -294,15 +294,14 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
             for (int i = 0; i < incomingPoints.length; i++) {
                 incomingPoints[i] = teamResult.normalizedPeerContributionRatio[i][studentIndx];
             }
-            contribFragments.append(Templates.populateTemplate(
-                    FormTemplates.CONTRIB_RESULT_STATS_FRAGMENT,
+            Templates.appendPopulatedTemplate(contribFragments, FormTemplates.CONTRIB_RESULT_STATS_FRAGMENT,
                     Slots.CONTRIB_STUDENT_TEAM, SanitizationHelper.sanitizeForHtml(displayTeam),
                     Slots.CONTRIB_STUDENT_NAME, SanitizationHelper.sanitizeForHtml(displayName),
                     Slots.CONTRIB_CC, getPointsAsColorizedHtml(summary.claimedToInstructor),
                     Slots.CONTRIB_PC, getPointsAsColorizedHtml(summary.perceivedToInstructor),
                     Slots.CONTRIB_DIFF, getPointsDiffAsHtml(summary),
                     Slots.CONTRIB_RR, getNormalizedPointsListColorizedDescending(incomingPoints, studentIndx),
-                    Slots.CONTRIB_PARAM_STUDENT_NAME, Const.ParamsNames.STUDENT_NAME));
+                    Slots.CONTRIB_PARAM_STUDENT_NAME, Const.ParamsNames.STUDENT_NAME);
         }
 
         return Templates.populateTemplate(
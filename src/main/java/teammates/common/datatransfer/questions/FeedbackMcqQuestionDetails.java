@@ -413,10 +413,10 @@ public class FeedbackMcqQuestionDetails extends FeedbackQuestionDetails {
         DecimalFormat df = new DecimalFormat("#.##");
 
         answerFrequency.forEach((key, value) ->
-                fragments.append(Templates.populateTemplate(FormTemplates.MCQ_RESULT_STATS_OPTIONFRAGMENT,
+                Templates.appendPopulatedTemplate(fragments, FormTemplates.MCQ_RESULT_STATS_OPTIONFRAGMENT,
                         Slots.MCQ_CHOICE_VALUE, SanitizationHelper.sanitizeForHtml(key),
                         Slots.COUNT, value.toString(),
-                        Slots.PERCENTAGE, df.format(100 * (double) value / responses.size()))));
+                        Slots.PERCENTAGE, df.format(100 * (double) value / responses.size())));
 
         return Templates.populateTemplate(FormTemplates.MCQ_RESULT_STATS, Slots.FRAGMENTS, fragments.toString());
     }
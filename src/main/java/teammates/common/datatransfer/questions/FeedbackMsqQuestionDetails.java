@@ -562,11 +562,11 @@ public class FeedbackMsqQuestionDetails extends FeedbackQuestionDetails {
 
         StringBuilder fragments = new StringBuilder();
         answerFrequency.forEach((key, value) ->
-                fragments.append(Templates.populateTemplate(FormTemplates.MCQ_RESULT_STATS_OPTIONFRAGMENT,
+                Templates.appendPopulatedTemplate(fragments, FormTemplates.MCQ_RESULT_STATS_OPTIONFRAGMENT,
                                 Slots.MCQ_CHOICE_VALUE, key,
                                 Slots.COUNT, value.toString(),
                                 Slots.PERCENTAGE,
-                                df.format(100 * divideOrReturnZero(value, numChoicesSelected)))));
+                                df.format(100 * divideOrReturnZero(value, numChoicesSelected))));
 
         //Use same template as MCQ for now, until they need to be different.
         return Templates.populateTemplate(FormTemplates.MCQ_RESULT_STATS, Slots.FRAGMENTS, fragments.toString());
@@ -5,6 +5,7 @@ import java.text.DecimalFormat;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -186,22 +187,12 @@ public class FeedbackNumericalScaleQuestionDetails extends
     private String getInstructorQuestionResultsStatisticsHtml(
             List<FeedbackResponseAttributes> responses,
             FeedbackQuestionAttributes question, FeedbackSessionResultsBundle bundle) {
-        Map<String, Double> min = new HashMap<>();
-        Map<String, Double> max = new HashMap<>();
-        Map<String, Double> average = new HashMap<>();
-        Map<String, Double> averageExcludingSelf = new HashMap<>();
-        Map<String, Double> total = new HashMap<>();
-        Map<String, Double> totalExcludingSelf = new HashMap<>();
-        Map<String, Integer> numResponses = new HashMap<>();
-        Map<String, Integer> numResponsesExcludingSelf = new HashMap<>();
-
         // need to know which recipients are hidden since anonymised recipients will not appear in the summary table
-        List<String> hiddenRecipients = getHiddenRecipients(responses, question, bundle);
+        Set<String> hiddenRecipients = getHiddenRecipients(responses, question, bundle);
 
-        populateSummaryStatisticsFromResponses(responses, min, max, average, averageExcludingSelf, total,
-                                               totalExcludingSelf, numResponses, numResponsesExcludingSelf);
+        Map<String, RecipientStatistics> statistics = getStatisticsPerRecipient(responses);
 
-        boolean showAvgExcludingSelf = showAverageExcludingSelf(question, averageExcludingSelf);
+        boolean showAvgExcludingSelf = showAverageExcludingSelf(question, statistics);
 
         String fragmentTemplateToUse = showAvgExcludingSelf
                                      ? FormTemplates.NUMSCALE_RESULTS_STATS_FRAGMENT_WITH_SELF_RESPONSE
@@ -214,27 +205,27 @@ public class FeedbackNumericalScaleQuestionDetails extends
 
         StringBuilder fragmentHtml = new StringBuilder();
 
-        for (String recipient : numResponses.keySet()) {
+        for (Map.Entry<String, RecipientStatistics> recipientStatistics : statistics.entrySet()) {
+            String recipient = recipientStatistics.getKey();
             // hidden recipients do not appear in the summary table, so ignore responses with hidden recipients
             if (hiddenRecipients.contains(recipient)) {
                 continue;
             }
+            RecipientStatistics stats = recipientStatistics.getValue();
 
-            Double userAverageExcludingSelf = averageExcludingSelf.get(recipient);
             String userAverageExcludingSelfText =
-                    getAverageExcludingSelfText(showAvgExcludingSelf, df, userAverageExcludingSelf);
+                    getAverageExcludingSelfText(showAvgExcludingSelf, df, stats.getAverageExcludingSelf());
 
             String recipientName = recipient.equals(Const.GENERAL_QUESTION) ? "General" : bundle.getNameForEmail(recipient);
             String recipientTeam = bundle.getTeamNameForEmail(recipient);
 
-            fragmentHtml.append(Templates.populateTemplate(
-                                    fragmentTemplateToUse,
+            Templates.appendPopulatedTemplate(fragmentHtml, fragmentTemplateToUse,
                                     Slots.RECIPIENT_TEAM, SanitizationHelper.sanitizeForHtml(recipientTeam),
                                     Slots.RECIPIENT_NAME, SanitizationHelper.sanitizeForHtml(recipientName),
-                                    Slots.AVERAGE, df.format(average.get(recipient)),
-                                    Slots.MAX, df.format(max.get(recipient)),
-                                    Slots.MIN, df.format(min.get(recipient)),
-                                    Slots.AVERAGE_EXCLUDING_SELF_RESPONSE, userAverageExcludingSelfText));
+                                    Slots.AVERAGE, df.format(stats.getAverage()),
+                                    Slots.MAX, df.format(stats.max),
+                                    Slots.MIN, df.format(stats.min),
+                                    Slots.AVERAGE_EXCLUDING_SELF_RESPONSE, userAverageExcludingSelfText);
         }
 
         if (fragmentHtml.length() == 0) {
@@ -255,21 +246,11 @@ public class FeedbackNumericalScaleQuestionDetails extends
             List<FeedbackResponseAttributes> responses, String studentEmail,
             FeedbackQuestionAttributes question, FeedbackSessionResultsBundle bundle) {
 
-        Map<String, Double> min = new HashMap<>();
-        Map<String, Double> max = new HashMap<>();
-        Map<String, Double> average = new HashMap<>();
-        Map<String, Double> averageExcludingSelf = new HashMap<>();
-        Map<String, Double> total = new HashMap<>();
-        Map<String, Double> totalExcludingSelf = new HashMap<>();
-        Map<String, Integer> numResponses = new HashMap<>();
-        Map<String, Integer> numResponsesExcludingSelf = new HashMap<>();
-
         // need to know which recipients are hidden since anonymised recipients will not appear in the summary table
-        List<String> hiddenRecipients = getHiddenRecipients(responses, question, bundle);
+        Set<String> hiddenRecipients = getHiddenRecipients(responses, question, bundle);
 
-        populateSummaryStatisticsFromResponses(responses, min, max, average, averageExcludingSelf, total,
-                                               totalExcludingSelf, numResponses, numResponsesExcludingSelf);
-        boolean showAvgExcludingSelf = showAverageExcludingSelf(question, averageExcludingSelf);
+        Map<String, RecipientStatistics> statistics = getStatisticsPerRecipient(responses);
+        boolean showAvgExcludingSelf = showAverageExcludingSelf(question, statistics);
 
         String fragmentTemplateToUse = showAvgExcludingSelf
                                      ? FormTemplates.NUMSCALE_RESULTS_STATS_FRAGMENT_WITH_SELF_RESPONSE
@@ -286,11 +267,14 @@ public class FeedbackNumericalScaleQuestionDetails extends
         boolean isRecipientTypeStudent = !isRecipientTypeGeneral && !isRecipientTypeTeam;
 
         String currentUserTeam = bundle.getTeamNameForEmail(studentEmail);
-        String currentUserIdentifier = getCurrentUserIdentifier(numResponses,
+        String currentUserIdentifier = getCurrentUserIdentifier(statistics,
                                                                 isRecipientTypeStudent, studentEmail,
                                                                 isRecipientTypeTeam, currentUserTeam);
+        boolean hasAtLeastTwoResponsesForCurrentUser = hasAtLeastTwoResponses(statistics, currentUserIdentifier);
+        boolean hasAtLeastTwoResponsesOtherThanCurrentUser =
+                hasAtLeastTwoResponsesOtherThanCurrentUser(statistics, currentUserIdentifier, hiddenRecipients);
 
-        Set<String> recipientSet = numResponses.keySet();
+        Set<String> recipientSet = statistics.keySet();
         ArrayList<String> recipientList = new ArrayList<>();
 
         boolean hasCurrentUserReceivedAnyResponse = recipientSet.contains(currentUserIdentifier);
@@ -323,49 +307,35 @@ public class FeedbackNumericalScaleQuestionDetails extends
             boolean isRecipientGeneral = recipient.equalsIgnoreCase(Const.GENERAL_QUESTION);
 
             recipientName = getDisplayableRecipientName(isHiddenRecipient,
-                            isRecipientCurrentUser, hasAtLeastTwoResponses(numResponses, currentUserIdentifier),
-                            isRecipientTypeStudent, hasAtLeastTwoResponsesOtherThanCurrentUser(
-                                                            numResponses, currentUserIdentifier, hiddenRecipients),
+                            isRecipientCurrentUser, hasAtLeastTwoResponsesForCurrentUser,
+                            isRecipientTypeStudent, hasAtLeastTwoResponsesOtherThanCurrentUser,
                             isRecipientGeneral, bundle.getNameForEmail(recipient), currentUserTeam);
 
             recipientTeam = getDisplayableRecipientTeam(isHiddenRecipient,
                                                         isRecipientCurrentUser,
-                                                        hasAtLeastTwoResponses(numResponses, currentUserIdentifier),
+                                                        hasAtLeastTwoResponsesForCurrentUser,
                                                         isRecipientTypeStudent,
-                                                        hasAtLeastTwoResponsesOtherThanCurrentUser(numResponses,
-                                                                                                   currentUserIdentifier,
-                                                                                                   hiddenRecipients),
+                                                        hasAtLeastTwoResponsesOtherThanCurrentUser,
                                                         bundle.getTeamNameForEmail(recipient), currentUserTeam);
 
-            Double minScore = null;
-            Double maxScore = null;
-            Double averageScore = null;
-            Double averageScoreExcludingSelf = null;
-
             boolean isRecipientDetailsAvailable = recipientName != null && recipientTeam != null;
 
             if (!isRecipientDetailsAvailable) {
                 continue;
             }
 
-            minScore = min.get(recipient);
-            maxScore = max.get(recipient);
-            averageScore = average.get(recipient);
-            averageScoreExcludingSelf = averageExcludingSelf.get(recipient);
+            RecipientStatistics stats = statistics.get(recipient);
 
             String averageScoreExcludingSelfText =
-                    getAverageExcludingSelfText(showAvgExcludingSelf, df, averageScoreExcludingSelf);
+                    getAverageExcludingSelfText(showAvgExcludingSelf, df, stats.getAverageExcludingSelf());
 
-            String recipientFragmentHtml = Templates.populateTemplate(
-                    fragmentTemplateToUse,
+            Templates.appendPopulatedTemplate(fragmentHtml, fragmentTemplateToUse,
                     Slots.RECIPIENT_TEAM, SanitizationHelper.sanitizeForHtml(recipientTeam),
                     Slots.RECIPIENT_NAME, SanitizationHelper.sanitizeForHtml(recipientName),
-                    Slots.AVERAGE, df.format(averageScore),
-                    Slots.MAX, df.format(maxScore),
-                    Slots.MIN, df.format(minScore),
+                    Slots.AVERAGE, df.format(stats.getAverage()),
+                    Slots.MAX, df.format(stats.max),
+                    Slots.MIN, df.format(stats.min),
                     Slots.AVERAGE_EXCLUDING_SELF_RESPONSE, averageScoreExcludingSelfText);
-
-            fragmentHtml.append(recipientFragmentHtml);
         }
 
         if (fragmentHtml.length() == 0) {
@@ -373,8 +343,7 @@ public class FeedbackNumericalScaleQuestionDetails extends
         }
 
         String statsTitle = getStatsTitle(
-                isRecipientTypeGeneral, isRecipientTypeTeam,
-                hasAtLeastTwoResponsesOtherThanCurrentUser(numResponses, currentUserIdentifier, hiddenRecipients));
+                isRecipientTypeGeneral, isRecipientTypeTeam, hasAtLeastTwoResponsesOtherThanCurrentUser);
         String templateToUse = showAvgExcludingSelf
                              ? FormTemplates.NUMSCALE_RESULT_STATS_WITH_SELF_RESPONSE
                              : FormTemplates.NUMSCALE_RESULT_STATS;
@@ -417,28 +386,24 @@ public class FeedbackNumericalScaleQuestionDetails extends
         return null;
     }
 
-    private String getCurrentUserIdentifier(Map<String, Integer> numResponses,
+    private String getCurrentUserIdentifier(Map<String, RecipientStatistics> statistics,
             boolean isRecipientStudent, String currentUserEmail,
             boolean isRecipientTeam, String currentUserTeam) {
 
-        if (isRecipientStudent && numResponses.containsKey(currentUserEmail)
-                && numResponses.get(currentUserEmail) >= 1) {
+        // a recipient has statistics only if it has received at least one response
+        if (isRecipientStudent && statistics.containsKey(currentUserEmail)) {
             return currentUserEmail;
-        } else if (isRecipientTeam && numResponses.containsKey(currentUserTeam)
-                   && numResponses.get(currentUserTeam) >= 1) {
+        } else if (isRecipientTeam && statistics.containsKey(currentUserTeam)) {
             return currentUserTeam;
         } else {
             return "";
         }
     }
 
-    private boolean hasAtLeastTwoResponses(Map<String, Integer> numResponses,
+    private boolean hasAtLeastTwoResponses(Map<String, RecipientStatistics> statistics,
             String recipient) {
-        if (numResponses == null) {
-            return false;
-        }
-        Integer numOfResponses = numResponses.get(recipient);
-        return numOfResponses != null && numOfResponses >= 2;
+        RecipientStatistics recipientStatistics = statistics.get(recipient);
+        return recipientStatistics != null && recipientStatistics.numResponses >= 2;
     }
 
     private String getAverageExcludingSelfText(boolean showAvgExcludingSelf, DecimalFormat df, Double averageExcludingSelf) {
@@ -458,22 +423,12 @@ public class FeedbackNumericalScaleQuestionDetails extends
             return "";
         }
 
-        Map<String, Double> min = new HashMap<>();
-        Map<String, Double> max = new HashMap<>();
-        Map<String, Double> average = new HashMap<>();
-        Map<String, Double> averageExcludingSelf = new HashMap<>();
-        Map<String, Double> total = new HashMap<>();
-        Map<String, Double> totalExcludingSelf = new HashMap<>();
-        Map<String, Integer> numResponses = new HashMap<>();
-        Map<String, Integer> numResponsesExcludingSelf = new HashMap<>();
-
         // need to know which recipients are hidden since anonymised recipients will not appear in the summary table
-        List<String> hiddenRecipients = getHiddenRecipients(responses, question, bundle);
+        Set<String> hiddenRecipients = getHiddenRecipients(responses, question, bundle);
 
-        populateSummaryStatisticsFromResponses(responses, min, max, average, averageExcludingSelf, total,
-                                               totalExcludingSelf, numResponses, numResponsesExcludingSelf);
+        Map<String, RecipientStatistics> statistics = getStatisticsPerRecipient(responses);
 
-        boolean showAvgExcludingSelf = showAverageExcludingSelf(question, averageExcludingSelf);
+        boolean showAvgExcludingSelf = showAverageExcludingSelf(question, statistics);
 
         DecimalFormat df = new DecimalFormat();
         df.setMinimumFractionDigits(0);
@@ -485,27 +440,28 @@ public class FeedbackNumericalScaleQuestionDetails extends
                          + System.lineSeparator();
 
         StringBuilder csvBody = new StringBuilder();
-        for (String recipient : numResponses.keySet()) {
+        for (Map.Entry<String, RecipientStatistics> recipientStatistics : statistics.entrySet()) {
+            String recipient = recipientStatistics.getKey();
             // hidden recipients do not appear in the summary table, so ignore responses with hidden recipients
             if (hiddenRecipients.contains(recipient)) {
                 continue;
             }
+            RecipientStatistics stats = recipientStatistics.getValue();
 
             String recipientTeam = bundle.getTeamNameForEmail(recipient);
             boolean isRecipientGeneral = recipient.equals(Const.GENERAL_QUESTION);
 
-            Double averageScoreExcludingSelf = averageExcludingSelf.get(recipient);
             String averageScoreExcludingSelfText =
-                    getAverageExcludingSelfText(showAvgExcludingSelf, df, averageScoreExcludingSelf);
+                    getAverageExcludingSelfText(showAvgExcludingSelf, df, stats.getAverageExcludingSelf());
 
             csvBody.append(SanitizationHelper.sanitizeForCsv(recipientTeam) + ','
                            + SanitizationHelper.sanitizeForCsv(isRecipientGeneral
                                                       ? "General"
                                                       : bundle.getNameForEmail(recipient))
                            + ','
-                           + df.format(average.get(recipient)) + ','
-                           + df.format(min.get(recipient)) + ','
-                           + df.format(max.get(recipient))
+                           + df.format(stats.getAverage()) + ','
+                           + df.format(stats.min) + ','
+                           + df.format(stats.max)
                            + (showAvgExcludingSelf ? ',' + averageScoreExcludingSelfText : "")
                            + System.lineSeparator());
         }
@@ -514,7 +470,7 @@ public class FeedbackNumericalScaleQuestionDetails extends
     }
 
     private boolean showAverageExcludingSelf(
-            FeedbackQuestionAttributes question, Map<String, Double> averageExcludingSelf) {
+            FeedbackQuestionAttributes question, Map<String, RecipientStatistics> statistics) {
 
         if (question.recipientType == FeedbackParticipantType.NONE) {
             // General recipient type would not give self response
@@ -522,84 +478,35 @@ public class FeedbackNumericalScaleQuestionDetails extends
             return false;
         }
 
-        for (Double average : averageExcludingSelf.values()) {
+        for (RecipientStatistics recipientStatistics : statistics.values()) {
             // There exists at least one average score exclude self
-            if (average != null) {
+            if (recipientStatistics.getAverageExcludingSelf() != null) {
                 return true;
             }
         }
         return false;
     }
 
-    private void populateSummaryStatisticsFromResponses(
-            List<FeedbackResponseAttributes> responses,
-            Map<String, Double> min, Map<String, Double> max,
-            Map<String, Double> average, Map<String, Double> averageExcludingSelf,
-            Map<String, Double> total, Map<String, Double> totalExcludingSelf,
-            Map<String, Integer> numResponses,
-            Map<String, Integer> numResponsesExcludingSelf) {
-
+    /**
+     * Aggregates the responses by recipient in a single pass.
+     */
+    private Map<String, RecipientStatistics> getStatisticsPerRecipient(List<FeedbackResponseAttributes> responses) {
+        Map<String, RecipientStatistics> statistics = new HashMap<>();
         for (FeedbackResponseAttributes response : responses) {
             FeedbackNumericalScaleResponseDetails responseDetails =
                     (FeedbackNumericalScaleResponseDetails) response.getResponseDetails();
-            double answer = responseDetails.getAnswer();
-            String giverEmail = response.giver;
-            String recipientEmail = response.recipient;
-
-            // Compute number of responses including user's self response
-            int numOfResponses = numResponses.getOrDefault(recipientEmail, 0) + 1;
-            numResponses.put(recipientEmail, numOfResponses);
-
-            // Compute number of responses excluding user's self response
-            numResponsesExcludingSelf.putIfAbsent(recipientEmail, 0);
-            boolean isSelfResponse = giverEmail.equalsIgnoreCase(recipientEmail);
-            if (!isSelfResponse) {
-                int numOfResponsesExcludingSelf = numResponsesExcludingSelf.get(recipientEmail) + 1;
-                numResponsesExcludingSelf.put(recipientEmail, numOfResponsesExcludingSelf);
-            }
-
-            // Compute minimum score received
-            double minScoreReceived = Math.min(answer, min.getOrDefault(recipientEmail, answer));
-            min.put(recipientEmail, minScoreReceived);
-
-            // Compute maximum score received
-            double maxScoreReceived = Math.max(answer, max.getOrDefault(recipientEmail, answer));
-            max.put(recipientEmail, maxScoreReceived);
-
-            // Compute total score received
-            double totalScore = total.getOrDefault(recipientEmail, 0.0) + answer;
-            total.put(recipientEmail, totalScore);
-
-            // Compute total score received excluding self
-            totalExcludingSelf.putIfAbsent(recipientEmail, null);
-
-            if (!isSelfResponse) {
-                Double totalScoreExcludingSelf = totalExcludingSelf.get(recipientEmail);
-
-                // totalScoreExcludingSelf == null when the user has only self response
-                totalExcludingSelf.put(recipientEmail,
-                                       totalScoreExcludingSelf == null ? answer : totalScoreExcludingSelf + answer);
-            }
-
-            // Compute average score received
-            double averageReceived = total.get(recipientEmail) / numResponses.get(recipientEmail);
-            average.put(recipientEmail, averageReceived);
-
-            // Compute average score received excluding self
-            averageExcludingSelf.putIfAbsent(recipientEmail, null);
-            if (!isSelfResponse && totalExcludingSelf.get(recipientEmail) != null) {
-                double averageReceivedExcludingSelf =
-                        totalExcludingSelf.get(recipientEmail) / numResponsesExcludingSelf.get(recipientEmail);
-                averageExcludingSelf.put(recipientEmail, averageReceivedExcludingSelf);
-            }
+            boolean isSelfResponse = response.giver.equalsIgnoreCase(response.recipient);
+            statistics.computeIfAbsent(response.recipient, recipient -> new RecipientStatistics())
+                    .addResponse(responseDetails.getAnswer(), isSelfResponse);
         }
+        return statistics;
     }
 
-    private List<String> getHiddenRecipients(
+    private Set<String> getHiddenRecipients(
             List<FeedbackResponseAttributes> responses,
             FeedbackQuestionAttributes question,
             FeedbackSessionResultsBundle bundle) {
-        List<String> hiddenRecipients = new ArrayList<>(); // List of recipients to hide
+        Set<String> hiddenRecipients = new HashSet<>(); // Set of recipients to hide
         FeedbackParticipantType type = question.recipientType;
         for (FeedbackResponseAttributes response : responses) {
             if (!bundle.visibilityTable.get(response.getId())[1]
@@ -632,17 +539,17 @@ public class FeedbackNumericalScaleQuestionDetails extends
      * have only 1 response each
      * Return false otherwise.
      */
-    private boolean hasAtLeastTwoResponsesOtherThanCurrentUser(
-            Map<String, Integer> numResponses, String currentUserIdentifier, List<String> hiddenRecipients) {
+    private boolean hasAtLeastTwoResponsesOtherThanCurrentUser(Map<String, RecipientStatistics> statistics,
+            String currentUserIdentifier, Set<String> hiddenRecipients) {
         boolean isAtLeastTwoResponsesOtherThanCurrentUser = false;
 
         // At least 2 responses are given to any recipient other than current user
-        for (String recipient : numResponses.keySet()) {
+        for (String recipient : statistics.keySet()) {
             if (hiddenRecipients.contains(recipient)) {
                 continue;
             }
 
-            if (hasAtLeastTwoResponses(numResponses, recipient)
+            if (hasAtLeastTwoResponses(statistics, recipient)
                     && !recipient.equals(currentUserIdentifier)) {
 
                 isAtLeastTwoResponsesOtherThanCurrentUser = true;
@@ -769,4 +676,39 @@ public class FeedbackNumericalScaleQuestionDetails extends
         return step;
     }
 
+    /**
+     * Summary statistics of the responses received by a recipient, updated one response at a time.
+     */
+    private static class RecipientStatistics {
+
+        int numResponses;
+        int numResponsesExcludingSelf;
+        double min;
+        double max;
+        double total;
+        double totalExcludingSelf;
+
+        void addResponse(double answer, boolean isSelfResponse) {
+            min = numResponses == 0 ? answer : Math.min(answer, min);
+            max = numResponses == 0 ? answer : Math.max(answer, max);
+            total += answer;
+            numResponses++;
+
+            if (!isSelfResponse) {
+                totalExcludingSelf = numResponsesExcludingSelf == 0 ? answer : totalExcludingSelf + answer;
+                numResponsesExcludingSelf++;
+            }
+        }
+
+        double getAverage() {
+            return total / numResponses;
+        }
+
+        /**
+         * Returns the average excluding the self response, or null if there is only the self response.
+         */
+        Double getAverageExcludingSelf() {
+            return numResponsesExcludingSelf == 0 ? null : totalExcludingSelf / numResponsesExcludingSelf;
+        }
+    }
 }
@@ -1165,9 +1165,8 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
 
             for (int i = 0; i < getNumOfRubricSubQuestions(); i++) {
                 String subQuestionStats = getHtmlForSubQuestion(i);
-                html.append(Templates.populateTemplate(
-                        FormTemplates.RUBRIC_RESULT_RECIPIENT_STATS_BODY_FRAGMENT,
-                        Slots.RUBRIC_RECIPIENT_STAT_ROW, subQuestionStats));
+                Templates.appendPopulatedTemplate(html, FormTemplates.RUBRIC_RESULT_RECIPIENT_STATS_BODY_FRAGMENT,
+                        Slots.RUBRIC_RECIPIENT_STAT_ROW, subQuestionStats);
             }
 
             return html.toString();
@@ -7,4 +7,8 @@ public class EmailSendingException extends TeammatesException {
         super(e.getMessage());
     }
 
+    public EmailSendingException(String message) {
+        super(message);
+    }
+
 }
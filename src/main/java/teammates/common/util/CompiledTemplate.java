@@ -0,0 +1,121 @@
+package teammates.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A template split once into its literal text and its slots, i.e. {@code ${...}} variables,
+ * so that it can be populated in one pass.
+ *
+ * @see Templates#populateTemplate(String, String...)
+ */
+final class CompiledTemplate {
+
+    private static final String SLOT_START = "${";
+    private static final char SLOT_END = '}';
+
+    /** The literal text before each slot, followed by the literal text after the last slot. */
+    private final String[] literals;
+    private final String[] slots;
+    private final int literalsLength;
+    private final boolean hasUnclosedSlotStart;
+
+    private CompiledTemplate(String[] literals, String[] slots) {
+        this.literals = literals;
+        this.slots = slots;
+        int length = 0;
+        boolean hasUnclosed = false;
+        for (int i = 0; i < literals.length; i++) {
+            length += literals[i].length();
+            hasUnclosed = hasUnclosed || i < slots.length && literals[i].contains(SLOT_START);
+        }
+        this.literalsLength = length;
+        this.hasUnclosedSlotStart = hasUnclosed;
+    }
+
+    /**
+     * Splits {@code template} into its literal text and its slots.
+     */
+    static CompiledTemplate compile(String template) {
+        List<String> literals = new ArrayList<>();
+        List<String> slots = new ArrayList<>();
+        int literalStart = 0;
+        int slotStart = template.indexOf(SLOT_START);
+        while (slotStart >= 0) {
+            int slotEnd = template.indexOf(SLOT_END, slotStart + SLOT_START.length());
+            if (slotEnd < 0) {
+                break;
+            }
+            // the slot starts at the last slot start before its end, e.g. "${a${b}" has the slot "${b}"
+            slotStart = template.lastIndexOf(SLOT_START, slotEnd - SLOT_START.length());
+            literals.add(template.substring(literalStart, slotStart));
+            slots.add(template.substring(slotStart, slotEnd + 1));
+            literalStart = slotEnd + 1;
+            slotStart = template.indexOf(SLOT_START, literalStart);
+        }
+        literals.add(template.substring(literalStart));
+        return new CompiledTemplate(literals.toArray(new String[0]), slots.toArray(new String[0]));
+    }
+
+    /**
+     * Returns true if {@code key} is a single slot, which can be filled by {@link #render}.
+     */
+    static boolean isSlot(String key) {
+        return key.startsWith(SLOT_START) && key.indexOf(SLOT_START, SLOT_START.length()) < 0
+                && key.indexOf(SLOT_END) == key.length() - 1;
+    }
+
+    /**
+     * Returns true if {@code value} cannot form a slot together with the text around it.
+     */
+    static boolean isInertValue(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '$' || c == '{' || c == SLOT_END) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if a slot start precedes a slot without being closed, e.g. the "${a" of "${a${b}".
+     * Replacing the slot may then form a new slot with the text before it.
+     */
+    boolean hasUnclosedSlotStart() {
+        return hasUnclosedSlotStart;
+    }
+
+    /**
+     * Returns an estimate of the length of the template populated with the given values.
+     */
+    int getEstimatedLength(String... keyValuePairs) {
+        int length = literalsLength;
+        for (int i = 1; i < keyValuePairs.length; i += 2) {
+            length += keyValuePairs[i].length();
+        }
+        return length;
+    }
+
+    /**
+     * Appends the template to {@code out}, with each slot replaced by the value of the first pair
+     * whose key is the slot. Slots without a value are kept as they are. The values are not scanned for slots.
+     */
+    void render(StringBuilder out, String... keyValuePairs) {
+        for (int i = 0; i < slots.length; i++) {
+            out.append(literals[i]);
+            out.append(getValue(slots[i], keyValuePairs));
+        }
+        out.append(literals[slots.length]);
+    }
+
+    private static String getValue(String slot, String... keyValuePairs) {
+        for (int i = 0; i < keyValuePairs.length; i += 2) {
+            if (slot.equals(keyValuePairs[i])) {
+                return keyValuePairs[i + 1];
+            }
+        }
+        return slot;
+    }
+
+}
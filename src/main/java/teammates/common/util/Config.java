@@ -29,6 +29,9 @@ public final class Config {
     /** The value of the "app.persistence.checkduration" in build.properties file. */
     public static final int PERSISTENCE_CHECK_DURATION;
 
+    /** The value of the "app.results.fetch.concurrency" in build.properties file. */
+    public static final int RESULTS_FETCH_CONCURRENCY;
+
     /** The value of the "app.crashreport.email" in build.properties file. */
     public static final String SUPPORT_EMAIL;
 
@@ -74,6 +77,7 @@ public final class Config {
         GCS_BUCKETNAME = properties.getProperty("app.gcs.bucketname");
         ENCRYPTION_KEY = properties.getProperty("app.encryption.key");
         PERSISTENCE_CHECK_DURATION = Integer.parseInt(properties.getProperty("app.persistence.checkduration"));
+        RESULTS_FETCH_CONCURRENCY = Integer.parseInt(properties.getProperty("app.results.fetch.concurrency", "4"));
         SUPPORT_EMAIL = properties.getProperty("app.crashreport.email");
         STUDENT_MOTD_URL = properties.getProperty("app.student.motd.url");
         EMAIL_SENDEREMAIL = properties.getProperty("app.email.senderemail");
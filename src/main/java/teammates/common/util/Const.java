@@ -57,7 +57,6 @@ public final class Const {
     public static final String ACTION_RESULT_SYSTEM_ERROR_REPORT = "System Error Report";
 
     public static final int SIZE_LIMIT_PER_ENROLLMENT = 150;
-    public static final int INSTRUCTOR_VIEW_RESPONSE_LIMIT = 8000;
 
     // for course sorting in instructorHomePage
     public static final String SORT_BY_COURSE_ID = "id";
@@ -128,6 +127,9 @@ public final class Const {
         /** This is the limit given to Blobstore API, beyond which an ugly error page is shown. */
         public static final long MAX_FILE_LIMIT_FOR_BLOBSTOREAPI = 11000000;
 
+        /** The number of bytes of a group receiver list file that are read at a time. */
+        public static final int GROUP_RECEIVER_LIST_CHUNK_SIZE = 100000;
+
         /** e.g. "2014-04-01 11:59 PM UTC" */
         public static final String DEFAULT_DATE_TIME_FORMAT = "yyyy-MM-dd h:mm a Z";
 
@@ -680,8 +682,7 @@ public final class Const {
         public static final String ADMIN_EMAIL_EMPTY_TRASH_BIN = "emptytrashbin";
         public static final String ADMIN_EMAIL_TRASH_ACTION_REDIRECT = "redirect";
 
-        public static final String ADMIN_GROUP_RECEIVER_EMAIL_LIST_INDEX = "emaillistindex";
-        public static final String ADMIN_GROUP_RECEIVER_EMAIL_INDEX = "emailindex";
+        public static final String ADMIN_GROUP_RECEIVER_BYTE_OFFSET = "emailbyteoffset";
 
         public static final String FEEDBACK_SESSION_NAME = "fsname";
         public static final String FEEDBACK_SESSION_INDEX = "fsindex";
@@ -796,6 +797,10 @@ public final class Const {
         public static final String FEEDBACK_RESULTS_INDICATE_MISSING_RESPONSES = "frindicatemissingresponses";
         public static final String FEEDBACK_RESULTS_NEED_AJAX = "frneedajax";
         public static final String FEEDBACK_RESULTS_MAIN_INDEX = "frmainindex";
+        public static final String FEEDBACK_RESULTS_CURSOR = "frcursor";
+
+        public static final String COURSE_DELETION_STAGE = "coursedeletionstage";
+        public static final String COURSE_DELETION_CURSOR = "coursedeletioncursor";
 
         public static final String PREVIEWAS = "previewas";
 
@@ -840,6 +845,12 @@ public final class Const {
         public static final String EMAIL_COURSE = "course";
         public static final String EMAIL_FEEDBACK = "feedback";
         public static final String EMAIL_TYPE = "type";
+        public static final String EMAIL_RUN_ID = "emailrunid";
+        public static final String EMAIL_RUN_SIZE = "emailrunsize";
+        public static final String EMAIL_SHARD_INDEX = "emailshardindex";
+        public static final String EMAIL_SHARD_OFFSET = "emailshardoffset";
+        public static final String EMAIL_SHARD_STUDENTS = "emailshardstudents";
+        public static final String EMAIL_SHARD_INSTRUCTORS = "emailshardinstructors";
         public static final String SESSION_SUMMARY_EMAIL_SEND_CHECK = "sessionsummarysendemail";
         public static final String OPEN_OR_PUBLISHED_EMAIL_SEND_CHECK = "openorpublishedemailsent";
 
@@ -869,6 +880,8 @@ public final class Const {
         public static final String RESPONDENT_IS_INSTRUCTOR = "respondentisinstructor";
         public static final String RESPONDENT_IS_TO_BE_REMOVED = "respondentistoberemoved";
 
+        public static final String SEARCH_DOCUMENT_UPDATES = "searchdocumentupdates";
+
         //Parameters for checking persistence of data during Eventual Consistency
         public static final String CHECK_PERSISTENCE_COURSE = "persistencecourse";
 
@@ -1051,6 +1064,9 @@ public final class Const {
         public static final String AUTOMATED_FEEDBACK_CLOSED_REMINDERS = "/auto/feedbackSessionClosedReminders";
         public static final String AUTOMATED_FEEDBACK_CLOSING_REMINDERS = "/auto/feedbackSessionClosingReminders";
         public static final String AUTOMATED_FEEDBACK_PUBLISHED_REMINDERS = "/auto/feedbackSessionPublishedReminders";
+        public static final String AUTOMATED_FEEDBACK_RESPONSE_RATE_RECONCILIATION =
+                "/auto/feedbackSessionResponseRateReconciliation";
+        public static final String AUTOMATED_COURSE_DELETION_RESUMPTION = "/auto/courseDeletionResumption";
 
         public static final String ERROR_FEEDBACK_SUBMIT = "/page/errorFeedbackSubmit";
 
@@ -1072,9 +1088,21 @@ public final class Const {
         public static final String ADMIN_SEND_EMAIL_QUEUE_NAME = "admin-send-email-queue";
         public static final String ADMIN_SEND_EMAIL_WORKER_URL = "/worker/adminSendEmail";
 
+        public static final String COURSE_DELETION_QUEUE_NAME = "course-deletion-queue";
+        public static final String COURSE_DELETION_WORKER_URL = "/worker/courseDeletion";
+
         public static final String FEEDBACK_RESPONSE_ADJUSTMENT_QUEUE_NAME = "feedback-response-adjustment-queue";
         public static final String FEEDBACK_RESPONSE_ADJUSTMENT_WORKER_URL = "/worker/feedbackResponseAdjustment";
 
+        public static final String FEEDBACK_RESPONSE_EMAIL_UPDATE_QUEUE_NAME = "feedback-response-email-update-queue";
+        public static final String FEEDBACK_RESPONSE_EMAIL_UPDATE_WORKER_URL = "/worker/feedbackResponseEmailUpdate";
+
+        public static final String FEEDBACK_SESSION_EMAIL_FAN_OUT_QUEUE_NAME = "feedback-session-email-fan-out-queue";
+        public static final String FEEDBACK_SESSION_EMAIL_FAN_OUT_WORKER_URL = "/worker/feedbackSessionEmailFanOut";
+
+        public static final String FEEDBACK_SESSION_EMAIL_SHARD_QUEUE_NAME = "feedback-session-email-shard-queue";
+        public static final String FEEDBACK_SESSION_EMAIL_SHARD_WORKER_URL = "/worker/feedbackSessionEmailShard";
+
         public static final String FEEDBACK_SESSION_PUBLISHED_EMAIL_QUEUE_NAME =
                 "feedback-session-published-email-queue";
         public static final String FEEDBACK_SESSION_PUBLISHED_EMAIL_WORKER_URL =
@@ -1088,6 +1116,11 @@ public final class Const {
         public static final String FEEDBACK_SESSION_REMIND_PARTICULAR_USERS_EMAIL_WORKER_URL =
                 "/worker/feedbackSessionRemindParticularUsersEmail";
 
+        public static final String FEEDBACK_SESSION_RESPONSE_RATE_REFRESH_QUEUE_NAME =
+                "feedback-session-response-rate-refresh-queue";
+        public static final String FEEDBACK_SESSION_RESPONSE_RATE_REFRESH_WORKER_URL =
+                "/worker/feedbackSessionResponseRateRefresh";
+
         public static final String FEEDBACK_SESSION_UNPUBLISHED_EMAIL_QUEUE_NAME =
                 "feedback-session-unpublished-email-queue";
         public static final String FEEDBACK_SESSION_UNPUBLISHED_EMAIL_WORKER_URL =
@@ -1101,6 +1134,9 @@ public final class Const {
         public static final String INSTRUCTOR_COURSE_JOIN_EMAIL_QUEUE_NAME = "instructor-course-join-email-queue";
         public static final String INSTRUCTOR_COURSE_JOIN_EMAIL_WORKER_URL = "/worker/instructorCourseJoinEmail";
 
+        public static final String SEARCH_DOCUMENTS_UPDATE_QUEUE_NAME = "search-documents-update-queue";
+        public static final String SEARCH_DOCUMENTS_UPDATE_WORKER_URL = "/worker/searchDocumentsUpdate";
+
         public static final String SEND_EMAIL_QUEUE_NAME = "send-email-queue";
         public static final String SEND_EMAIL_WORKER_URL = "/worker/sendEmail";
 
@@ -1329,6 +1365,12 @@ public final class Const {
                 + " A summary of the course has been sent to the new email.";
         public static final String STUDENT_NOT_FOUND_FOR_EDIT =
                 "The student you tried to edit does not exist. " + STUDENT_EVENTUAL_CONSISTENCY;
+        public static final String STUDENT_EMAIL_CHANGE_IN_PROGRESS =
+                "The responses of the student are still being moved to the student's new email. "
+                + "Please try changing the email again in a few minutes.";
+        public static final String STUDENT_EMAIL_RESPONSES_BEING_MOVED =
+                "The responses given with the email %s are still being moved to the new email of another student. "
+                + "Please try again in a few minutes.";
         public static final String STUDENT_DELETED = "The student has been removed from the course";
         public static final String STUDENTS_DELETED = "All the students have been removed from the course";
         public static final String STUDENT_PROFILE_EDITED = "Your profile has been edited successfully";
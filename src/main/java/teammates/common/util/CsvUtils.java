@@ -5,6 +5,7 @@ import teammates.common.datatransfer.FeedbackSessionResultsBundle;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
 
 
@@ -34,35 +35,49 @@ public final class CsvUtils {
         return exportBuilder.toString();
     }
 
+    /**
+     * Returns the course/session/section header that precedes the question blocks of a results CSV.
+     */
+    public String getFeedbackSessionResultsHeaderAsCsv(FeedbackSessionAttributes session, String section) {
+        return createHeader(session, section);
+    }
+
+    /**
+     * Returns the question blocks of a results CSV for the questions in {@code resultsBundle}, without the header.
+     */
+    public String getFeedbackSessionResultsForQuestionsAsCsv(FeedbackSessionResultsBundle resultsBundle) {
+        return fillFeedbackResultsForQuestionsWithEntrySet(resultsBundle);
+    }
+
     private StringBuilder createStringBuilderWithCourseSessionHeader(FeedbackSessionResultsBundle resultsBundle) {
         StringBuilder exportBuilder = new StringBuilder(100);
-        exportBuilder.append(createHeader(resultsBundle));
+        exportBuilder.append(createHeader(resultsBundle.feedbackSession, resultsBundle.section));
         return exportBuilder;
     }
 
-    private String createHeader(FeedbackSessionResultsBundle results) {
-        return getCourseIdInSanitizedCsv(results) +
-                getSessionNameInSanitizedCsv(results) +
-                getSectionNameInSanitizedCsv(results) +
+    private String createHeader(FeedbackSessionAttributes session, String section) {
+        return getCourseIdInSanitizedCsv(session) +
+                getSessionNameInSanitizedCsv(session) +
+                getSectionNameInSanitizedCsv(section) +
                 System.lineSeparator() + System.lineSeparator();
     }
 
-    private String getCourseIdInSanitizedCsv(FeedbackSessionResultsBundle results) {
+    private String getCourseIdInSanitizedCsv(FeedbackSessionAttributes session) {
         return String.format("Course,%s",
-                SanitizationHelper.sanitizeForCsv(results.feedbackSession.getCourseId())) +
+                SanitizationHelper.sanitizeForCsv(session.getCourseId())) +
                 System.lineSeparator();
     }
 
-    private String getSessionNameInSanitizedCsv(FeedbackSessionResultsBundle results) {
+    private String getSessionNameInSanitizedCsv(FeedbackSessionAttributes session) {
         return String.format("Session Name,%s",
-                SanitizationHelper.sanitizeForCsv(results.feedbackSession.getFeedbackSessionName())) +
+                SanitizationHelper.sanitizeForCsv(session.getFeedbackSessionName())) +
                 System.lineSeparator();
     }
 
-    private String getSectionNameInSanitizedCsv(FeedbackSessionResultsBundle results) {
+    private String getSectionNameInSanitizedCsv(String section) {
         StringBuilder exportBuilder = new StringBuilder(100);
-        if (results.section != null) {
-            exportBuilder.append(String.format("Section Name,%s", SanitizationHelper.sanitizeForCsv(results.section)))
+        if (section != null) {
+            exportBuilder.append(String.format("Section Name,%s", SanitizationHelper.sanitizeForCsv(section)))
                     .append(System.lineSeparator());
         }
         return exportBuilder.toString();
@@ -0,0 +1,33 @@
+package teammates.common.util;
+
+import teammates.common.exception.EmailSendingException;
+
+/**
+ * Represents the outcome of sending an email to its recipient.
+ */
+public class EmailSendingResult {
+
+    private final EmailWrapper email;
+    private final EmailSendingException error;
+
+    public EmailSendingResult(EmailWrapper email, EmailSendingException error) {
+        this.email = email;
+        this.error = error;
+    }
+
+    public EmailWrapper getEmail() {
+        return email;
+    }
+
+    /**
+     * Returns the cause of the failure to send the email, or null if the email is sent.
+     */
+    public EmailSendingException getError() {
+        return error;
+    }
+
+    public boolean isSuccessful() {
+        return error == null;
+    }
+
+}
@@ -3,8 +3,8 @@ package teammates.common.util;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
-import java.util.Arrays;
-import java.util.LinkedList;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 
 import com.google.appengine.api.blobstore.BlobInfoFactory;
@@ -18,6 +18,8 @@ import com.google.appengine.tools.cloudstorage.GcsOutputChannel;
 import com.google.appengine.tools.cloudstorage.GcsServiceFactory;
 import com.google.appengine.tools.cloudstorage.RetryParams;
 
+import teammates.common.datatransfer.GroupReceiverListChunk;
+
 /**
  * Holds functions for operations related to Google Cloud Storage.
  */
@@ -89,90 +91,91 @@ public final class GoogleCloudStorageHelper {
     }
 
     /**
-     * Gets the file with the specified {@link BlobKey} in the Google Cloud Storage,
-     * parses it and returns it as a list of list.<br>
+     * Reads the file with the specified {@link BlobKey} in the Google Cloud Storage from the byte {@code offset},
+     * and returns the comma-separated email addresses found in at most {@code maxBytesToRead} bytes of it.<br>
+     * The chunk ends at the last complete email address read, so that the next chunk can be read from
+     * {@link GroupReceiverListChunk#getNextOffset()} without breaking any email address.<br>
      * Assumption: the file represented by {@code blobKey} is a valid txt file
      *             that can be parsed into a comma-separated list
      */
-    public static List<List<String>> getGroupReceiverList(BlobKey blobKey) throws IOException {
+    public static GroupReceiverListChunk getGroupReceiverListChunk(BlobKey blobKey, long offset, int maxBytesToRead)
+            throws IOException {
         Assumption.assertNotNull(blobKey);
 
+        try (InputStream blobStream = new BlobstoreInputStream(blobKey, offset)) {
+            return getGroupReceiverListChunk(blobStream, getFileSize(blobKey), offset, maxBytesToRead);
+        }
+    }
+
+    /**
+     * Reads the chunk of a group receiver list file of {@code fileSize} bytes that starts at the byte
+     * {@code offset}, from the {@code stream} of the file positioned at that offset.
+     *
+     * @see #getGroupReceiverListChunk(BlobKey, long, int)
+     */
+    public static GroupReceiverListChunk getGroupReceiverListChunk(InputStream stream, long fileSize, long offset,
+            int maxBytesToRead) throws IOException {
         // It turns out that error will occur if we read more than around 900000 bytes of data per time
-        // from the blobstream, which also brings problems when this large number of emails are all stored in one
-        // list. As a result, to prevent unexpected errors, we read the txt file several times and each time
-        // at most 900000 bytes are read, after which a new list is created to store all the emails addresses that
-        // happen to be in the newly read bytes.
-
-        // For email address which happens to be broken according to two consecutive reading, a check will be done
-        // before storing all emails separated from the second reading into a new list.
-        // Broken email will be fixed by deleting the first item of the email list from current reading
-        // AND appending it to the last item of the email list from last reading.
-
-        // The email list from each reading is inserted into an upper list (list of list).
-        // The structure is as below:
-
-        // ListOfList:
-        //       ListFromReading_1 :
-        //                     [example@email.com]
-        //                            ...
-        //       ListFromReading_2 :
-        //                     [example@email.com]
-        //                            ...
-
-        // This is the list of list
-        List<List<String>> listOfList = new LinkedList<>();
-
-        // Offset is needed for remembering where it stops from last reading
-        int offset = 0;
-
-        // File size is needed to track the number of unread bytes
-        int size = (int) getFileSize(blobKey);
-
-        while (size > 0) {
-            // Make sure not to over-read
-            int bytesToRead = Math.min(size, MAX_READING_LENGTH);
-            byte[] array = new byte[bytesToRead];
-            try (InputStream blobStream = new BlobstoreInputStream(blobKey, offset)) {
-
-                blobStream.read(array);
+        // from the blobstream, so at most that many bytes are read per chunk.
+        long bytesLeft = fileSize - offset;
+        int bytesToRead = (int) Math.max(0, Math.min(bytesLeft, Math.min(maxBytesToRead, MAX_READING_LENGTH)));
+        boolean isLastChunk = bytesToRead == bytesLeft || bytesToRead == 0;
+
+        byte[] bytes = new byte[bytesToRead];
+        int bytesRead = 0;
+        while (bytesRead < bytesToRead) {
+            int count = stream.read(bytes, bytesRead, bytesToRead - bytesRead);
+            if (count < 0) {
+                throw new IOException("Unexpected end of group receiver list file at " + (offset + bytesRead));
             }
-            // Remember where it stops reading
-            offset += MAX_READING_LENGTH;
-            // Decrease unread bytes
-            size -= MAX_READING_LENGTH;
-
-            // Get the read bytes into string and split it by ","
-            String readString = new String(array);
-            List<String> newList = Arrays.asList(readString.split(","));
-
-            if (listOfList.isEmpty()) {
-                // This is the first time reading
-                listOfList.add(newList);
-            } else {
-                // Check if the last reading stopped in the middle of a email address string
-                List<String> lastAddedList = listOfList.get(listOfList.size() - 1);
-                // Get the last item of the list from last reading
-                String lastStringOfLastAddedList = lastAddedList.get(lastAddedList.size() - 1);
-                // Get the first item of the list from current reading
-                String firstStringOfNewList = newList.get(0);
-
-                if (lastStringOfLastAddedList.contains("@") && firstStringOfNewList.contains("@")) {
-                    // No broken email from last reading found, simply add the list
-                    // from current reading into the upper list.
-                    listOfList.add(newList);
-                } else {
-                    // Either the left part or the right part of the broken email string does not contains a "@".
-                    // Simply append the right part to the left part (last item of the list from last reading).
-                    listOfList.get(listOfList.size() - 1)
-                            .set(lastAddedList.size() - 1, lastStringOfLastAddedList + firstStringOfNewList);
-
-                    // And also needs to delete the right part which is the first item of the list from current reading
-                    listOfList.add(newList.subList(1, newList.size() - 1));
-                }
+            bytesRead += count;
+        }
+
+        // Unless the end of the file is reached, the last email address may be broken by the read,
+        // so the chunk ends after the last comma and the broken email address is left to the next chunk.
+        int chunkLength = bytesToRead;
+        if (!isLastChunk) {
+            int lastCommaIndex = bytesToRead - 1;
+            while (lastCommaIndex >= 0 && bytes[lastCommaIndex] != ',') {
+                lastCommaIndex--;
+            }
+            if (lastCommaIndex >= 0) {
+                chunkLength = lastCommaIndex + 1;
             }
         }
 
-        return listOfList;
+        // whitespace around the addresses, e.g. the line break at the end of the file, is not part of them
+        List<String> emails = new ArrayList<>();
+        for (String email : new String(bytes, 0, chunkLength, StandardCharsets.UTF_8).split(",")) {
+            String trimmedEmail = email.trim();
+            if (!trimmedEmail.isEmpty()) {
+                emails.add(trimmedEmail);
+            }
+        }
+
+        return new GroupReceiverListChunk(emails, offset + chunkLength, isLastChunk);
+    }
+
+    /**
+     * Reads the whole group receiver list file with the specified {@link BlobKey} in the Google Cloud Storage,
+     * a chunk at a time, and returns the email addresses in it that are not valid.
+     */
+    public static List<String> getInvalidGroupReceiverEmails(BlobKey blobKey) throws IOException {
+        FieldValidator validator = new FieldValidator();
+        List<String> invalidEmails = new ArrayList<>();
+
+        GroupReceiverListChunk chunk = null;
+        long offset = 0;
+        while (chunk == null || !chunk.isLastChunk()) {
+            chunk = getGroupReceiverListChunk(blobKey, offset, Const.SystemParams.GROUP_RECEIVER_LIST_CHUNK_SIZE);
+            for (String email : chunk.getEmails()) {
+                if (!validator.getInvalidityInfoForEmail(email).isEmpty()) {
+                    invalidEmails.add(email);
+                }
+            }
+            offset = chunk.getNextOffset();
+        }
+        return invalidEmails;
     }
 
     private static long getFileSize(BlobKey blobKey) {
@@ -26,6 +26,12 @@ import com.google.gson.JsonSerializer;
  */
 public final class JsonUtils {
 
+    /**
+     * Shared by all callers, as {@link Gson} is thread-safe and caches the type adapter of each type
+     * after the type is first (de)serialized.
+     */
+    private static final Gson teammatesGson = createTeammatesGson();
+
     private JsonUtils() {
         // utility class
     }
@@ -34,7 +40,7 @@ public final class JsonUtils {
      * This creates a Gson object that can handle the Date format we use in the
      * Json file and also reformat the Json string in pretty-print format.
      */
-    private static Gson getTeammatesGson() {
+    private static Gson createTeammatesGson() {
         return new GsonBuilder()
                 .registerTypeAdapter(Date.class, new TeammatesDateAdapter())
                 .registerTypeAdapter(Instant.class, new TeammatesInstantAdapter())
@@ -51,7 +57,7 @@ public final class JsonUtils {
      * @see Gson#toJson(Object, Type)
      */
     public static String toJson(Object src, Type typeOfSrc) {
-        return getTeammatesGson().toJson(src, typeOfSrc);
+        return teammatesGson.toJson(src, typeOfSrc);
     }
 
     /**
@@ -60,7 +66,7 @@ public final class JsonUtils {
      * @see Gson#toJson(Object)
      */
     public static String toJson(Object src) {
-        return getTeammatesGson().toJson(src);
+        return teammatesGson.toJson(src);
     }
 
     /**
@@ -69,7 +75,7 @@ public final class JsonUtils {
      * @see Gson#fromJson(String, Type)
      */
     public static <T> T fromJson(String json, Type typeOfT) {
-        return getTeammatesGson().fromJson(json, typeOfT);
+        return teammatesGson.fromJson(json, typeOfT);
     }
 
     /**
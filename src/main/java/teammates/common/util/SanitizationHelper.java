@@ -1,5 +1,6 @@
 package teammates.common.util;
 
+import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
 import java.util.ArrayList;
@@ -13,6 +14,8 @@ import org.owasp.html.PolicyFactory;
 
 import com.google.appengine.api.datastore.Text;
 
+import teammates.common.exception.TeammatesException;
+
 /**
  * Class contains methods to sanitize user provided
  * parameters so that they conform to our data format
@@ -43,6 +46,9 @@ public final class SanitizationHelper {
                 .toFactory();
     private static final Logger log = Logger.getLogger();
 
+    /** What follows the '&' of each encoding produced by {@link #sanitizeForHtml(String)}. */
+    private static final String[] HTML_ENCODING_SUFFIXES = {"amp;", "lt;", "gt;", "quot;", "#x2f;", "#39;"};
+
     private SanitizationHelper() {
         // utility class
     }
@@ -145,19 +151,113 @@ public final class SanitizationHelper {
     /**
      * Sanitizes the string for inserting into HTML. Converts special characters
      * into HTML-safe equivalents.
+     *
+     * <p>An '&amp;' that already starts one of the encodings produced by this method is kept as is,
+     * so that sanitizing a string multiple times gives the same result as sanitizing it once.
+     *
+     * @return the sanitized string, the same instance if nothing has to be converted,
+     *         or null (if the parameter was null).
      */
     public static String sanitizeForHtml(String unsanitizedString) {
         if (unsanitizedString == null) {
             return null;
         }
-        return unsanitizedString.replace("<", "&lt;")
-                .replace(">", "&gt;")
-                .replace("\"", "&quot;")
-                .replace("/", "&#x2f;")
-                .replace("'", "&#39;")
-                //To ensure when apply sanitizeForHtml for multiple times, the string's still fine
-                //Regex meaning: replace '&' with safe encoding, but not the one that is safe already
-                .replaceAll("&(?!(amp;)|(lt;)|(gt;)|(quot;)|(#x2f;)|(#39;))", "&amp;");
+        int firstIndex = indexOfHtmlUnsafeChar(unsanitizedString, 0);
+        if (firstIndex < 0) {
+            return unsanitizedString;
+        }
+        StringBuilder sanitized = new StringBuilder(unsanitizedString.length() + 16);
+        sanitized.append(unsanitizedString, 0, firstIndex);
+        try {
+            appendSanitizedForHtml(sanitized, unsanitizedString, firstIndex);
+        } catch (IOException e) {
+            // StringBuilder does not throw IOException
+            Assumption.fail(TeammatesException.toStringWithStackTrace(e));
+        }
+        return sanitized.toString();
+    }
+
+    /**
+     * Appends the string sanitized as in {@link #sanitizeForHtml(String)} to {@code out},
+     * without creating an intermediate string. Nothing is appended if the string is null.
+     */
+    public static void appendSanitizedForHtml(Appendable out, String unsanitizedString) throws IOException {
+        if (unsanitizedString == null) {
+            return;
+        }
+        appendSanitizedForHtml(out, unsanitizedString, 0);
+    }
+
+    /**
+     * Appends {@code str} sanitized for HTML from index {@code from} onwards.
+     * Unchanged runs of characters are appended as a whole.
+     */
+    private static void appendSanitizedForHtml(Appendable out, String str, int from) throws IOException {
+        int start = from;
+        int index = indexOfHtmlUnsafeChar(str, from);
+        while (index >= 0) {
+            out.append(str, start, index);
+            out.append(getHtmlEncoding(str, index));
+            start = index + 1;
+            index = indexOfHtmlUnsafeChar(str, start);
+        }
+        out.append(str, start, str.length());
+    }
+
+    /**
+     * Returns the index of the first character from {@code from} onwards that has to be converted
+     * by {@link #sanitizeForHtml(String)}, or -1 if there is none.
+     */
+    private static int indexOfHtmlUnsafeChar(String str, int from) {
+        for (int i = from; i < str.length(); i++) {
+            switch (str.charAt(i)) {
+            case '<':
+            case '>':
+            case '"':
+            case '/':
+            case '\'':
+                return i;
+            case '&':
+                if (!isStartOfHtmlEncoding(str, i)) {
+                    return i;
+                }
+                break;
+            default:
+                break;
+            }
+        }
+        return -1;
+    }
+
+    private static String getHtmlEncoding(String str, int index) {
+        switch (str.charAt(index)) {
+        case '<':
+            return "&lt;";
+        case '>':
+            return "&gt;";
+        case '"':
+            return "&quot;";
+        case '/':
+            return "&#x2f;";
+        case '\'':
+            return "&#39;";
+        default:
+            return "&amp;";
+        }
+    }
+
+    /**
+     * Returns true if the '&amp;' at {@code index} starts one of the encodings produced by
+     * {@link #sanitizeForHtml(String)}. The characters of these encodings are never converted themselves,
+     * so checking the unsanitized string is the same as checking the sanitized one.
+     */
+    private static boolean isStartOfHtmlEncoding(String str, int index) {
+        for (String encodingSuffix : HTML_ENCODING_SUFFIXES) {
+            if (str.startsWith(encodingSuffix, index + 1)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -10,11 +10,24 @@ public class TaskWrapper {
     private final String queueName;
     private final String workerUrl;
     private final Map<String, String[]> paramMap;
+    private final long countdownTime;
+    private final String name;
 
     public TaskWrapper(String queueName, String workerUrl, Map<String, String[]> paramMap) {
+        this(queueName, workerUrl, paramMap, 0);
+    }
+
+    public TaskWrapper(String queueName, String workerUrl, Map<String, String[]> paramMap, long countdownTime) {
+        this(queueName, workerUrl, paramMap, countdownTime, null);
+    }
+
+    public TaskWrapper(String queueName, String workerUrl, Map<String, String[]> paramMap, long countdownTime,
+                       String name) {
         this.queueName = queueName;
         this.workerUrl = workerUrl;
         this.paramMap = paramMap;
+        this.countdownTime = countdownTime;
+        this.name = name;
     }
 
     public String getQueueName() {
@@ -29,4 +42,19 @@ public class TaskWrapper {
         return paramMap;
     }
 
+    /**
+     * Returns the time delay (in milliseconds) for the task to be executed, or 0 if the task is not deferred.
+     */
+    public long getCountdownTime() {
+        return countdownTime;
+    }
+
+    /**
+     * Returns the name of the task, or null if the task is unnamed.
+     * A queue does not add a task with the name of a task that it has already added.
+     */
+    public String getName() {
+        return name;
+    }
+
 }
@@ -1,9 +1,20 @@
 package teammates.common.util;
 
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
 public final class Templates {
 
     public static final String INSTRUCTOR_SAMPLE_DATA = FileHelper.readResourceFile("InstructorSampleData.json");
 
+    /**
+     * Templates compiled so far, weakly keyed so that templates built at runtime can be discarded.
+     * Lookups of the constant templates hit on identity.
+     */
+    private static final Map<String, CompiledTemplate> COMPILED_TEMPLATES =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
     private Templates() {
         // utility class
     }
@@ -19,6 +30,52 @@ public final class Templates {
     public static String populateTemplate(String template, String... keyValuePairs) {
         Assumption.assertTrue("The number of elements in keyValuePairs passed in must be even",
                 keyValuePairs.length % 2 == 0);
+        CompiledTemplate compiledTemplate = getCompiledTemplateIfPopulatableInOnePass(template, keyValuePairs);
+        if (compiledTemplate == null) {
+            return populateTemplateByReplacing(template, keyValuePairs);
+        }
+        StringBuilder populatedTemplate = new StringBuilder(compiledTemplate.getEstimatedLength(keyValuePairs));
+        compiledTemplate.render(populatedTemplate, keyValuePairs);
+        return populatedTemplate.toString();
+    }
+
+    /**
+     * Populates the HTML templates as in {@link #populateTemplate(String, String...)},
+     * appending the populated template to {@code out}.
+     */
+    public static void appendPopulatedTemplate(StringBuilder out, String template, String... keyValuePairs) {
+        Assumption.assertTrue("The number of elements in keyValuePairs passed in must be even",
+                keyValuePairs.length % 2 == 0);
+        CompiledTemplate compiledTemplate = getCompiledTemplateIfPopulatableInOnePass(template, keyValuePairs);
+        if (compiledTemplate == null) {
+            out.append(populateTemplateByReplacing(template, keyValuePairs));
+            return;
+        }
+        compiledTemplate.render(out, keyValuePairs);
+    }
+
+    /**
+     * Returns the compiled template if populating it in one pass gives the same result as replacing each key
+     * in turn, i.e. if every key is a slot and no value can bring in a slot to be replaced by a later key.
+     * Otherwise, e.g. for values that are templates themselves, returns null so that the keys are replaced in turn.
+     */
+    private static CompiledTemplate getCompiledTemplateIfPopulatableInOnePass(String template,
+                                                                              String... keyValuePairs) {
+        for (int i = 0; i < keyValuePairs.length; i += 2) {
+            if (!CompiledTemplate.isSlot(keyValuePairs[i]) || !CompiledTemplate.isInertValue(keyValuePairs[i + 1])) {
+                return null;
+            }
+        }
+
+        CompiledTemplate compiledTemplate = COMPILED_TEMPLATES.get(template);
+        if (compiledTemplate == null) {
+            compiledTemplate = CompiledTemplate.compile(template);
+            COMPILED_TEMPLATES.put(template, compiledTemplate);
+        }
+        return compiledTemplate.hasUnclosedSlotStart() ? null : compiledTemplate;
+    }
+
+    private static String populateTemplateByReplacing(String template, String... keyValuePairs) {
         String populatedTemplate = template;
         for (int i = 0; i < keyValuePairs.length; i += 2) {
             populatedTemplate = populatedTemplate.replace(keyValuePairs[i], keyValuePairs[i + 1]);
@@ -12,6 +12,7 @@ import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.exception.EntityDoesNotExistException;
+import teammates.common.util.Assumption;
 import teammates.common.util.Config;
 import teammates.common.util.Const;
 import teammates.common.util.EmailType;
@@ -59,24 +60,107 @@ public class EmailGenerator {
      * Generates the feedback session opening emails for the given {@code session}.
      */
     public List<EmailWrapper> generateFeedbackSessionOpeningEmails(FeedbackSessionAttributes session) {
+        return generateFeedbackSessionEmails(session, EmailType.FEEDBACK_OPENING);
+    }
 
-        String template = EmailTemplates.USER_FEEDBACK_SESSION;
+    /**
+     * Generates the {@code emailType} emails for the given {@code session} for all users who are to receive them.
+     *
+     * @see #getFeedbackSessionEmailStudentRecipients(FeedbackSessionAttributes, EmailType)
+     * @see #getFeedbackSessionEmailInstructorRecipients(FeedbackSessionAttributes, EmailType)
+     */
+    private List<EmailWrapper> generateFeedbackSessionEmails(FeedbackSessionAttributes session, EmailType emailType) {
+        return generateFeedbackSessionEmails(session, emailType,
+                getFeedbackSessionEmailStudentRecipients(session, emailType),
+                getFeedbackSessionEmailInstructorRecipients(session, emailType));
+    }
 
-        CourseAttributes course = coursesLogic.getCourse(session.getCourseId());
-        boolean isEmailNeeded = fsLogic.isFeedbackSessionForStudentsToAnswer(session);
-        List<InstructorAttributes> instructors = isEmailNeeded
-                                                 ? instructorsLogic.getInstructorsForCourse(session.getCourseId())
-                                                 : new ArrayList<InstructorAttributes>();
-        List<StudentAttributes> students = isEmailNeeded
-                                           ? studentsLogic.getStudentsForCourse(session.getCourseId())
-                                           : new ArrayList<StudentAttributes>();
+    /**
+     * Gets the students who are to receive the {@code emailType} emails for the given {@code session}.
+     * Supports {@link EmailType#FEEDBACK_OPENING}, {@link EmailType#FEEDBACK_CLOSING}
+     * and {@link EmailType#FEEDBACK_PUBLISHED} emails.
+     */
+    public List<StudentAttributes> getFeedbackSessionEmailStudentRecipients(
+            FeedbackSessionAttributes session, EmailType emailType) {
+        if (!isFeedbackSessionEmailNeeded(session, emailType)) {
+            return new ArrayList<>();
+        }
+        if (emailType != EmailType.FEEDBACK_CLOSING) {
+            return studentsLogic.getStudentsForCourse(session.getCourseId());
+        }
+        try {
+            return fsLogic.getStudentsWhoHaveNotFullyCompletedFeedbackSession(session);
+        } catch (EntityDoesNotExistException e) {
+            log.severe("Course " + session.getCourseId() + " does not exist or "
+                       + "session " + session.getFeedbackSessionName() + " does not exist");
+            return new ArrayList<>();
+        }
+    }
 
-        List<EmailWrapper> emails = generateFeedbackSessionEmailBases(course, session, students, instructors, template,
-                                                                      EmailType.FEEDBACK_OPENING.getSubject());
-        for (EmailWrapper email : emails) {
-            email.setContent(email.getContent().replace("${status}", FEEDBACK_STATUS_SESSION_OPENING));
+    /**
+     * Gets the instructors who are to receive the {@code emailType} emails for the given {@code session}.
+     * Supports {@link EmailType#FEEDBACK_OPENING}, {@link EmailType#FEEDBACK_CLOSING}
+     * and {@link EmailType#FEEDBACK_PUBLISHED} emails.
+     */
+    public List<InstructorAttributes> getFeedbackSessionEmailInstructorRecipients(
+            FeedbackSessionAttributes session, EmailType emailType) {
+        return isFeedbackSessionEmailNeeded(session, emailType)
+               ? instructorsLogic.getInstructorsForCourse(session.getCourseId())
+               : new ArrayList<InstructorAttributes>();
+    }
+
+    private boolean isFeedbackSessionEmailNeeded(FeedbackSessionAttributes session, EmailType emailType) {
+        switch (emailType) {
+        case FEEDBACK_OPENING:
+        case FEEDBACK_CLOSING:
+            return fsLogic.isFeedbackSessionForStudentsToAnswer(session);
+        case FEEDBACK_PUBLISHED:
+            return fsLogic.isFeedbackSessionViewableToStudents(session);
+        default:
+            Assumption.fail("Unsupported feedback session email type: " + emailType);
+            return false;
+        }
+    }
+
+    /**
+     * Generates the {@code emailType} emails for the given {@code session} for the given {@code students}
+     * and {@code instructors}. Supports {@link EmailType#FEEDBACK_OPENING}, {@link EmailType#FEEDBACK_CLOSING}
+     * and {@link EmailType#FEEDBACK_PUBLISHED} emails.
+     */
+    public List<EmailWrapper> generateFeedbackSessionEmails(FeedbackSessionAttributes session, EmailType emailType,
+            List<StudentAttributes> students, List<InstructorAttributes> instructors) {
+
+        CourseAttributes course = coursesLogic.getCourse(session.getCourseId());
+        if (course == null) {
+            log.warning("No emails generated for session " + session.getFeedbackSessionName() + " as course "
+                        + session.getCourseId() + " does not exist or is being deleted");
+            return new ArrayList<>();
+        }
+        String subject = emailType.getSubject();
+
+        switch (emailType) {
+        case FEEDBACK_OPENING:
+            List<EmailWrapper> emails = generateFeedbackSessionEmailBases(course, session, students, instructors,
+                                                                          EmailTemplates.USER_FEEDBACK_SESSION, subject);
+            for (EmailWrapper email : emails) {
+                email.setContent(email.getContent().replace("${status}", FEEDBACK_STATUS_SESSION_OPENING));
+            }
+            return emails;
+        case FEEDBACK_CLOSING:
+            String template =
+                    EmailTemplates.USER_FEEDBACK_SESSION.replace("${status}", FEEDBACK_STATUS_SESSION_CLOSING);
+            String additionalContactInformation =
+                    HTML_NO_ACTION_REQUIRED + getAdditionalContactInformationFragment(course);
+            return generateFeedbackSessionEmailBases(course, session, students, instructors, template,
+                    subject, FEEDBACK_ACTION_SUBMIT, additionalContactInformation);
+        case FEEDBACK_PUBLISHED:
+            return generateFeedbackSessionEmailBases(course, session, students, instructors,
+                    EmailTemplates.USER_FEEDBACK_SESSION_PUBLISHED, subject, FEEDBACK_ACTION_VIEW,
+                    getAdditionalContactInformationFragment(course));
+        default:
+            Assumption.fail("Unsupported feedback session email type: " + emailType);
+            return new ArrayList<>();
         }
-        return emails;
     }
 
     /**
@@ -122,7 +206,7 @@ public class EmailGenerator {
             }
         }
 
-        StringBuffer linksFragmentValue = new StringBuffer(1000);
+        StringBuilder linksFragmentValue = new StringBuilder(1000);
         String joinUrl = Config.getAppUrl(student.getRegistrationUrl()).toAbsoluteString();
 
         String joinFragmentValue = isYetToJoinCourse(student)
@@ -156,12 +240,11 @@ public class EmailGenerator {
                 reportUrlHtml = "<a href=\"" + reportUrl + "\">" + reportUrl + "</a>";
             }
 
-            linksFragmentValue.append(Templates.populateTemplate(
-                    EmailTemplates.FRAGMENT_SINGLE_FEEDBACK_SESSION_LINKS,
+            Templates.appendPopulatedTemplate(linksFragmentValue, EmailTemplates.FRAGMENT_SINGLE_FEEDBACK_SESSION_LINKS,
                     "${feedbackSessionName}", fsa.getFeedbackSessionName(),
                     "${deadline}", fsa.getEndTimeString() + (fsa.isClosed() ? " (Passed)" : ""),
                     "${submitUrl}", submitUrlHtml,
-                    "${reportUrl}", reportUrlHtml));
+                    "${reportUrl}", reportUrlHtml);
         }
         String additionalContactInformation = getAdditionalContactInformationFragment(course);
         String emailBody = Templates.populateTemplate(EmailTemplates.USER_FEEDBACK_SESSION_RESEND_ALL_LINKS,
@@ -284,37 +367,7 @@ public class EmailGenerator {
      * Generates the feedback session closing emails for the given {@code session}.
      */
     public List<EmailWrapper> generateFeedbackSessionClosingEmails(FeedbackSessionAttributes session) {
-
-        List<StudentAttributes> students = new ArrayList<>();
-        boolean isEmailNeeded = fsLogic.isFeedbackSessionForStudentsToAnswer(session);
-
-        if (isEmailNeeded) {
-            List<StudentAttributes> studentsForCourse = studentsLogic.getStudentsForCourse(session.getCourseId());
-
-            for (StudentAttributes student : studentsForCourse) {
-                try {
-                    if (!fsLogic.isFeedbackSessionFullyCompletedByStudent(session.getFeedbackSessionName(),
-                            session.getCourseId(), student.email)) {
-                        students.add(student);
-                    }
-                } catch (EntityDoesNotExistException e) {
-                    log.severe("Course " + session.getCourseId() + " does not exist or "
-                               + "session " + session.getFeedbackSessionName() + " does not exist");
-                    // Course or session cannot be found for one student => it will be the case for all students
-                    // Do not waste time looping through all students
-                    break;
-                }
-            }
-        }
-
-        String template = EmailTemplates.USER_FEEDBACK_SESSION.replace("${status}", FEEDBACK_STATUS_SESSION_CLOSING);
-        CourseAttributes course = coursesLogic.getCourse(session.getCourseId());
-        List<InstructorAttributes> instructors = isEmailNeeded
-                                                 ? instructorsLogic.getInstructorsForCourse(session.getCourseId())
-                                                 : new ArrayList<InstructorAttributes>();
-        String additionalContactInformation = HTML_NO_ACTION_REQUIRED + getAdditionalContactInformationFragment(course);
-        return generateFeedbackSessionEmailBases(course, session, students, instructors, template,
-                EmailType.FEEDBACK_CLOSING.getSubject(), FEEDBACK_ACTION_SUBMIT, additionalContactInformation);
+        return generateFeedbackSessionEmails(session, EmailType.FEEDBACK_CLOSING);
     }
 
     /**
@@ -327,6 +380,11 @@ public class EmailGenerator {
         }
 
         CourseAttributes course = coursesLogic.getCourse(session.getCourseId());
+        if (course == null) {
+            log.warning("No emails generated for session " + session.getFeedbackSessionName() + " as course "
+                        + session.getCourseId() + " does not exist or is being deleted");
+            return new ArrayList<>();
+        }
         boolean isEmailNeededForStudents = false;
         try {
             isEmailNeededForStudents = fsLogic.isFeedbackSessionHasQuestionForStudents(
@@ -350,21 +408,7 @@ public class EmailGenerator {
      * Generates the feedback session published emails for the given {@code session}.
      */
     public List<EmailWrapper> generateFeedbackSessionPublishedEmails(FeedbackSessionAttributes session) {
-
-        String template = EmailTemplates.USER_FEEDBACK_SESSION_PUBLISHED;
-
-        CourseAttributes course = coursesLogic.getCourse(session.getCourseId());
-        boolean isEmailNeeded = fsLogic.isFeedbackSessionViewableToStudents(session);
-        List<InstructorAttributes> instructors = isEmailNeeded
-                                                 ? instructorsLogic.getInstructorsForCourse(session.getCourseId())
-                                                 : new ArrayList<InstructorAttributes>();
-        List<StudentAttributes> students = isEmailNeeded
-                                           ? studentsLogic.getStudentsForCourse(session.getCourseId())
-                                           : new ArrayList<StudentAttributes>();
-
-        String additionalContactInformation = getAdditionalContactInformationFragment(course);
-        return generateFeedbackSessionEmailBases(course, session, students, instructors, template,
-                EmailType.FEEDBACK_PUBLISHED.getSubject(), FEEDBACK_ACTION_VIEW, additionalContactInformation);
+        return generateFeedbackSessionEmails(session, EmailType.FEEDBACK_PUBLISHED);
     }
 
     /**
@@ -6,6 +6,7 @@ import teammates.common.exception.EmailSendingException;
 import teammates.common.exception.TeammatesException;
 import teammates.common.util.Config;
 import teammates.common.util.EmailLogEntry;
+import teammates.common.util.EmailSendingResult;
 import teammates.common.util.EmailWrapper;
 import teammates.common.util.Logger;
 import teammates.logic.core.EmailSenderService;
@@ -21,18 +22,34 @@ public class EmailSender {
 
     private static final Logger log = Logger.getLogger();
 
-    private final EmailSenderService service;
-
-    public EmailSender() {
-        if (Config.isUsingSendgrid()) {
-            service = new SendgridService();
-        } else if (Config.isUsingMailgun()) {
-            service = new MailgunService();
-        } else if (Config.isUsingMailjet()) {
-            service = new MailjetService();
-        } else {
-            service = new JavamailService();
+    private final EmailSenderService service = ServiceHolder.SERVICE;
+
+    /**
+     * Holds the email service of this instance, which is shared by all its email senders so that
+     * the HTTP client of the service, and thus its connections, are reused across requests.
+     * The service is created when it is first used.
+     */
+    private static final class ServiceHolder {
+
+        static final EmailSenderService SERVICE = createService();
+
+        private ServiceHolder() {
+            // holds the service only
+        }
+
+        private static EmailSenderService createService() {
+            if (Config.isUsingSendgrid()) {
+                return new SendgridService();
+            }
+            if (Config.isUsingMailgun()) {
+                return new MailgunService();
+            }
+            if (Config.isUsingMailjet()) {
+                return new MailjetService();
+            }
+            return new JavamailService();
         }
+
     }
 
     /**
@@ -46,6 +63,27 @@ public class EmailSender {
         log.info(emailLogInfo);
     }
 
+    /**
+     * Sends the given {@code messages}, in as few calls to the email service as it allows,
+     * and generates a log report for each message sent.
+     * See {@link EmailSenderService#sendEmails(List)} for which messages each service batches.
+     *
+     * @return the result of sending each message, in the order of {@code messages}
+     */
+    public List<EmailSendingResult> sendEmails(List<EmailWrapper> messages) {
+        List<EmailSendingResult> results = service.sendEmails(messages);
+
+        for (EmailSendingResult result : results) {
+            if (result.isSuccessful()) {
+                log.info(new EmailLogEntry(result.getEmail()).generateLogMessage());
+            } else {
+                log.warning("Error in sending email: " + result.getEmail().getInfoForLogging()
+                            + "\nCause: " + result.getError().getMessage());
+            }
+        }
+        return results;
+    }
+
     /**
      * Sends the given {@code message} with Javamail service regardless of configuration.
      */
@@ -1,5 +1,7 @@
 package teammates.logic.api;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.time.Instant;
 import java.util.Date;
 import java.util.List;
@@ -24,10 +26,13 @@ import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.ExceedingRangeException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.exception.JoinCourseException;
+import teammates.common.exception.TeammatesException;
 import teammates.common.util.Assumption;
 import teammates.common.util.GoogleCloudStorageHelper;
+import teammates.common.util.Logger;
 import teammates.logic.core.AccountsLogic;
 import teammates.logic.core.AdminEmailsLogic;
+import teammates.logic.core.CourseRosterCache;
 import teammates.logic.core.CoursesLogic;
 import teammates.logic.core.FeedbackQuestionsLogic;
 import teammates.logic.core.FeedbackResponseCommentsLogic;
@@ -35,6 +40,7 @@ import teammates.logic.core.FeedbackResponsesLogic;
 import teammates.logic.core.FeedbackSessionsLogic;
 import teammates.logic.core.InstructorsLogic;
 import teammates.logic.core.ProfilesLogic;
+import teammates.logic.core.SearchDocumentsLogic;
 import teammates.logic.core.StudentsLogic;
 
 /**
@@ -44,6 +50,8 @@ import teammates.logic.core.StudentsLogic;
  */
 public class Logic {
 
+    private static final Logger log = Logger.getLogger();
+
     protected static final AccountsLogic accountsLogic = AccountsLogic.inst();
     protected static final StudentsLogic studentsLogic = StudentsLogic.inst();
     protected static final InstructorsLogic instructorsLogic = InstructorsLogic.inst();
@@ -55,6 +63,7 @@ public class Logic {
             FeedbackResponseCommentsLogic.inst();
     protected static final AdminEmailsLogic adminEmailsLogic = AdminEmailsLogic.inst();
     protected static final ProfilesLogic profilesLogic = ProfilesLogic.inst();
+    protected static final SearchDocumentsLogic searchDocumentsLogic = SearchDocumentsLogic.inst();
 
     /**
      * Creates a new Account based on given values. If a profile is not given,
@@ -360,6 +369,18 @@ public class Logic {
         return instructorsLogic.getInstructorsForCourse(courseId);
     }
 
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     * @return the instructors of the course with the given emails, in the order of {@code emails}.
+     */
+    public List<InstructorAttributes> getInstructorsForEmails(String courseId, List<String> emails) {
+        Assumption.assertNotNull(courseId);
+        Assumption.assertNotNull(emails);
+
+        return instructorsLogic.getInstructorsForEmails(courseId, emails);
+    }
+
     /**
      * Get the encrypted registration key for the instructor.
      * Preconditions: <br>
@@ -692,6 +713,39 @@ public class Logic {
         coursesLogic.deleteCourseCascade(courseId);
     }
 
+    /**
+     * Marks the course for deletion, which hides it right away.
+     * The data of the course is then deleted in batches with {@link #deleteCourseCascadeBatch}.<br>
+     * Fails silently if no such course. <br>
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public void markCourseForDeletion(String courseId) {
+        Assumption.assertNotNull(courseId);
+        coursesLogic.markCourseForDeletion(courseId);
+    }
+
+    /**
+     * Gets the IDs of the courses that are marked for deletion but not completely deleted yet,
+     * e.g. because the batches that delete them have stopped retrying.
+     */
+    public List<String> getIdsOfCoursesMarkedForDeletion() {
+        return coursesLogic.getIdsOfCoursesMarkedForDeletion();
+    }
+
+    /**
+     * Deletes one batch of the data of a course that is marked for deletion. <br>
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @return the progress to continue the deletion from, or null if the course has been completely deleted
+     */
+    public CourseDeletionProgress deleteCourseCascadeBatch(String courseId, CourseDeletionProgress progress) {
+        Assumption.assertNotNull(courseId);
+        Assumption.assertNotNull(progress);
+        return coursesLogic.deleteCourseCascadeBatch(courseId, progress);
+    }
+
     /**
      * Creates a student. <br>
      * Preconditions: <br>
@@ -804,6 +858,17 @@ public class Logic {
         return studentsLogic.getStudentsForCourse(courseId);
     }
 
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     * @return the students of the course with the given emails, in the order of {@code emails}.
+     */
+    public List<StudentAttributes> getStudentsForEmails(String courseId, List<String> emails) {
+        Assumption.assertNotNull(courseId);
+        Assumption.assertNotNull(emails);
+        return studentsLogic.getStudentsForEmails(courseId, emails);
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -921,6 +986,22 @@ public class Logic {
         studentsLogic.updateStudentCascade(originalEmail, student);
     }
 
+    /**
+     * Updates the student as {@link #updateStudent(String, StudentAttributes)} does, except that the responses
+     * given by or to the student are not moved to the new email. That is to be done in batches with
+     * {@link #updateFeedbackResponsesBatchForChangingEmail(String, String, String)}.<br>
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public void updateStudentWithResponsesEmailChangeDeferred(String originalEmail, StudentAttributes student)
+            throws InvalidParametersException, EntityDoesNotExistException {
+
+        Assumption.assertNotNull(originalEmail);
+        Assumption.assertNotNull(student);
+
+        studentsLogic.updateStudentCascadeWithResponsesEmailChangeDeferred(originalEmail, student);
+    }
+
     public void updateStudentWithoutDocument(String originalEmail, StudentAttributes student)
             throws InvalidParametersException, EntityDoesNotExistException {
 
@@ -987,6 +1068,17 @@ public class Logic {
         return feedbackSessionsLogic.isFeedbackSessionCompletedByStudent(fsa, userEmail);
     }
 
+    /**
+     * Gets the students and instructors of the course who have yet to complete the session.
+     *
+     * @see FeedbackSessionsLogic#getFeedbackSessionNonRespondents(FeedbackSessionAttributes)
+     */
+    public FeedbackSessionNonRespondents getFeedbackSessionNonRespondents(FeedbackSessionAttributes fsa)
+            throws EntityDoesNotExistException {
+        Assumption.assertNotNull(fsa);
+        return feedbackSessionsLogic.getFeedbackSessionNonRespondents(fsa);
+    }
+
     /**
      * Deletes the student from the course including any submissions to/from
      * for this student in this course.
@@ -1312,6 +1404,27 @@ public class Logic {
         return feedbackSessionsLogic.getFeedbackSessionResultsSummaryAsCsv(feedbackSessionIdentification);
     }
 
+    /**
+     * Writes summary results in CSV format to {@code writer}, one question at a time. <br>
+     * Preconditions: <br>
+     * * All parameters(except section and questionId) are non-null. <br>
+     * @see FeedbackSessionsLogic#writeFeedbackSessionResultsSummaryAsCsv(FeedbackSessionIdentification, Writer)
+     */
+    public void writeFeedbackSessionResultSummaryAsCsv(
+            String courseId, String feedbackSessionName, String instructorEmail, String section,
+            String questionId, boolean isMissingResponsesShown, boolean isStatsShown, Writer writer)
+            throws EntityDoesNotExistException, IOException {
+
+        Assumption.assertNotNull(courseId);
+        Assumption.assertNotNull(feedbackSessionName);
+        Assumption.assertNotNull(writer);
+
+        FeedbackSessionIdentification feedbackSessionIdentification = new FeedbackSessionIdentification(
+                feedbackSessionName, courseId, instructorEmail, section, questionId, isMissingResponsesShown, isStatsShown);
+
+        feedbackSessionsLogic.writeFeedbackSessionResultsSummaryAsCsv(feedbackSessionIdentification, writer);
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -1691,6 +1804,44 @@ public class Logic {
                                         feedbackSessionName, courseId, userEmail, section, range);
     }
 
+    /**
+     * Gets a question+response bundle with a page of the responses from a section that
+     * are visible to the instructor for a feedback session.
+     * Preconditions: <br>
+     * * All parameters except {@code cursor} are non-null. {@code cursor} is null for the first page.
+     * @see FeedbackSessionsLogic#getFeedbackSessionResultsForInstructorFromSectionPage
+     */
+    public FeedbackSessionResultsBundle getFeedbackSessionResultsForInstructorFromSectionPage(
+            String feedbackSessionName, String courseId, String userEmail, String section, String cursor, int pageSize)
+            throws EntityDoesNotExistException {
+
+        Assumption.assertNotNull(feedbackSessionName);
+        Assumption.assertNotNull(courseId);
+        Assumption.assertNotNull(userEmail);
+
+        return feedbackSessionsLogic.getFeedbackSessionResultsForInstructorFromSectionPage(
+                                        feedbackSessionName, courseId, userEmail, section, cursor, pageSize);
+    }
+
+    /**
+     * Gets a question+response bundle with a page of the responses to a section that
+     * are visible to the instructor for a feedback session.
+     * Preconditions: <br>
+     * * All parameters except {@code cursor} are non-null. {@code cursor} is null for the first page.
+     * @see FeedbackSessionsLogic#getFeedbackSessionResultsForInstructorToSectionPage
+     */
+    public FeedbackSessionResultsBundle getFeedbackSessionResultsForInstructorToSectionPage(
+            String feedbackSessionName, String courseId, String userEmail, String section, String cursor, int pageSize)
+            throws EntityDoesNotExistException {
+
+        Assumption.assertNotNull(feedbackSessionName);
+        Assumption.assertNotNull(courseId);
+        Assumption.assertNotNull(userEmail);
+
+        return feedbackSessionsLogic.getFeedbackSessionResultsForInstructorToSectionPage(
+                                        feedbackSessionName, courseId, userEmail, section, cursor, pageSize);
+    }
+
     /**
      * Gets a question+response bundle for questions with responses that
      * is visible to the instructor for a feedback session from a given question number
@@ -1874,6 +2025,44 @@ public class Logic {
         feedbackResponsesLogic.updateFeedbackResponse(feedbackResponse);
     }
 
+    /**
+     * Updates the responses with a single batch read and a single batch write.
+     * A response that is invalid, or cannot be recreated with a changed giver or recipient,
+     * is left as it is without affecting the others.<br>
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @return the exceptions for the responses that are not updated
+     * @throws EntityDoesNotExistException if any of the responses does not exist, after the others are updated
+     */
+    public List<TeammatesException> updateFeedbackResponses(List<FeedbackResponseAttributes> feedbackResponses)
+            throws EntityDoesNotExistException {
+
+        Assumption.assertNotNull(feedbackResponses);
+        return feedbackResponsesLogic.updateFeedbackResponses(feedbackResponses);
+    }
+
+    /**
+     * Moves one batch of the responses given by or to {@code oldEmail} in the course to {@code newEmail},
+     * together with their comments, if the student with {@code newEmail} changed it from {@code oldEmail}
+     * and the responses are not all moved yet.<br>
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @return true if there may be more responses of {@code oldEmail} left to be moved
+     * @throws EntityDoesNotExistException if the student with {@code newEmail} is not found while responses are
+     *         still left under {@code oldEmail}
+     */
+    public boolean updateFeedbackResponsesBatchForChangingEmail(String courseId, String oldEmail, String newEmail)
+            throws InvalidParametersException, EntityDoesNotExistException {
+
+        Assumption.assertNotNull(courseId);
+        Assumption.assertNotNull(oldEmail);
+        Assumption.assertNotNull(newEmail);
+
+        return studentsLogic.updateFeedbackResponsesBatchForChangedEmail(courseId, oldEmail, newEmail);
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -1883,6 +2072,16 @@ public class Logic {
         feedbackResponsesLogic.deleteFeedbackResponseAndCascade(feedbackResponse);
     }
 
+    /**
+     * Deletes the responses and their comments in batches.<br>
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public void deleteFeedbackResponses(List<FeedbackResponseAttributes> feedbackResponses) {
+        Assumption.assertNotNull(feedbackResponses);
+        feedbackResponsesLogic.deleteFeedbackResponsesAndCascade(feedbackResponses);
+    }
+
     /**
      * Create a feedback response comment, and return the created comment
      * Preconditions: <br>
@@ -2133,12 +2332,48 @@ public class Logic {
         return feedbackResponsesLogic.getFeedbackResponsesForSession(feedbackSessionName, courseId);
     }
 
-    public void adjustFeedbackResponseForEnrollments(List<StudentEnrollDetails> enrollmentList,
-                                                     FeedbackResponseAttributes response)
+    /**
+     * Adjusts the responses in the session for the changes in the enrollment of students.<br>
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public void adjustFeedbackResponsesForEnrollments(List<StudentEnrollDetails> enrollmentList,
+                                                      String feedbackSessionName, String courseId)
             throws InvalidParametersException, EntityDoesNotExistException {
         Assumption.assertNotNull(enrollmentList);
-        Assumption.assertNotNull(response);
-        studentsLogic.adjustFeedbackResponseForEnrollments(enrollmentList, response);
+        Assumption.assertNotNull(feedbackSessionName);
+        Assumption.assertNotNull(courseId);
+        studentsLogic.adjustFeedbackResponsesForEnrollments(enrollmentList, feedbackSessionName, courseId);
+    }
+
+    /**
+     * Returns the open and recently closed sessions whose stored response rate counters should be recomputed.
+     *
+     * @see FeedbackSessionsLogic#getFeedbackSessionsForResponseRateReconciliation()
+     */
+    public List<FeedbackSessionAttributes> getFeedbackSessionsForResponseRateReconciliation() {
+        return feedbackSessionsLogic.getFeedbackSessionsForResponseRateReconciliation();
+    }
+
+    /**
+     * Recomputes and stores the number of respondents expected for the feedback session.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @see FeedbackSessionsLogic#refreshExpectedRespondentCount(FeedbackSessionAttributes)
+     */
+    public void refreshExpectedRespondentCount(String feedbackSessionName, String courseId)
+            throws EntityDoesNotExistException {
+        Assumption.assertNotNull(feedbackSessionName);
+        Assumption.assertNotNull(courseId);
+
+        FeedbackSessionAttributes session = feedbackSessionsLogic.getFeedbackSession(feedbackSessionName, courseId);
+        if (session == null) {
+            throw new EntityDoesNotExistException(
+                    "Trying to refresh a non-existent feedback session: " + feedbackSessionName + "/" + courseId);
+        }
+        feedbackSessionsLogic.refreshExpectedRespondentCount(session);
     }
 
     /**
@@ -2173,4 +2408,68 @@ public class Logic {
         return studentsLogic.getSectionForTeam(courseId, teamName);
     }
 
+    /**
+     * Writes a batch of search documents deferred by an earlier request.
+     *
+     * @see SearchDocumentsLogic#writeDocuments(SearchDocumentUpdates)
+     */
+    public void writeSearchDocuments(SearchDocumentUpdates updates) {
+        Assumption.assertNotNull(updates);
+        searchDocumentsLogic.writeDocuments(updates);
+    }
+
+    /**
+     * Starts caching course rosters, deferring search document writes and recording the sessions
+     * whose expected respondent count is computed by reads, for the request being processed by the current thread.
+     *
+     * @see CourseRosterCache#startRequest()
+     * @see SearchDocumentsLogic#startBuffering()
+     * @see FeedbackSessionsLogic#startDeferringExpectedRespondentCountRefreshes()
+     */
+    public void startRequestScope() {
+        CourseRosterCache.startRequest();
+        searchDocumentsLogic.startBuffering();
+        feedbackSessionsLogic.startDeferringExpectedRespondentCountRefreshes();
+    }
+
+    /**
+     * Discards all data cached for the request being processed by the current thread
+     * and schedules the search document writes and expected respondent count refreshes it deferred.
+     * If a batch of search document writes cannot be scheduled, it is written right away instead;
+     * refreshes that cannot be scheduled are left to the periodic reconciliation of response rates.
+     *
+     * @see CourseRosterCache#endRequest()
+     * @see SearchDocumentsLogic#stopBuffering()
+     * @see FeedbackSessionsLogic#stopDeferringExpectedRespondentCountRefreshes()
+     */
+    public void endRequestScope() {
+        endRequestScope(new TaskQueuer());
+    }
+
+    /**
+     * Same as {@link #endRequestScope()}, but schedules the deferred work with the given {@code taskQueuer}.
+     */
+    public void endRequestScope(TaskQueuer taskQueuer) {
+        CourseRosterCache.endRequest();
+
+        for (SearchDocumentUpdates updates : searchDocumentsLogic.stopBuffering()) {
+            try {
+                taskQueuer.scheduleSearchDocumentsUpdate(updates);
+            } catch (Exception e) {
+                log.warning("Failed to schedule update of " + updates.size() + " search documents in "
+                        + updates.getIndexName() + ", writing them now: " + TeammatesException.toStringWithStackTrace(e));
+                searchDocumentsLogic.writeDocuments(updates);
+            }
+        }
+
+        List<FeedbackSessionAttributes> sessionsToRefresh =
+                feedbackSessionsLogic.stopDeferringExpectedRespondentCountRefreshes();
+        try {
+            taskQueuer.scheduleFeedbackSessionResponseRateRefreshes(sessionsToRefresh);
+        } catch (Exception e) {
+            log.warning("Failed to schedule refresh of the expected respondent counts of "
+                    + sessionsToRefresh.size() + " sessions: " + TeammatesException.toStringWithStackTrace(e));
+        }
+    }
+
 }
@@ -1,12 +1,20 @@
 package teammates.logic.api;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
+import teammates.common.datatransfer.CourseDeletionProgress;
+import teammates.common.datatransfer.SearchDocumentUpdates;
 import teammates.common.datatransfer.StudentEnrollDetails;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.util.Const.ParamsNames;
 import teammates.common.util.Const.TaskQueue;
+import teammates.common.util.EmailType;
 import teammates.common.util.EmailWrapper;
 import teammates.common.util.JsonUtils;
 import teammates.common.util.Logger;
@@ -20,6 +28,11 @@ public class TaskQueuer {
 
     private static final Logger log = Logger.getLogger();
 
+    private static final long SEARCH_DOCUMENTS_UPDATE_DELAY_MILLIS = 5000;
+
+    /** The number of receivers of an admin email that are sent the email by one task, in one call if possible. */
+    private static final int ADMIN_EMAIL_RECEIVERS_PER_TASK = 50;
+
     // The following methods are facades to the actual logic for adding tasks to the queue.
     // Using this method, the actual logic can still be black-boxed
     // while at the same time allowing this API to be mocked during test.
@@ -44,6 +57,10 @@ public class TaskQueuer {
         new TaskQueuesLogic().addTask(task);
     }
 
+    protected void addTasks(List<TaskWrapper> tasks) {
+        new TaskQueuesLogic().addTasks(tasks);
+    }
+
     /**
      * Gets the tasks added to the queue.
      * This method is used only for testing, where it is overridden.
@@ -85,56 +102,81 @@ public class TaskQueuer {
      * Schedules an admin email preparation in group mode, i.e. using the group receiver list
      * retrieved from the Google Cloud Storage (GCS).
      * <p>
-     * This group receiver list is in the form of {@code List<List<String>>} accessed by two indices,
-     * namely "email list index" for accessing the {@code List<String>} inside the {@code List<List<String>>}
-     * and "email index" for accessing the email {@code String} inside the {@code List<String>}.
+     * The group receiver list is a file of comma-separated email addresses, which is read
+     * in chunks from the byte offset {@code byteOffset} onwards.
      * </p>
      *
      * @param emailId the ID of admin email to be retrieved from the database
      * @param groupReceiverListFileKey the file key for the group receiver list in GCS
-     * @param emailListIndex see method description
-     * @param emailIndex see method description
+     * @param byteOffset the byte offset of the file from which the remaining email addresses are read
      */
     public void scheduleAdminEmailPreparationInGroupMode(String emailId, String groupReceiverListFileKey,
-                                                         int emailListIndex, int emailIndex) {
+                                                         long byteOffset) {
         Map<String, String> paramMap = new HashMap<>();
         paramMap.put(ParamsNames.ADMIN_EMAIL_ID, emailId);
         paramMap.put(ParamsNames.ADMIN_EMAIL_GROUP_RECEIVER_LIST_FILE_KEY, groupReceiverListFileKey);
-        paramMap.put(ParamsNames.ADMIN_GROUP_RECEIVER_EMAIL_LIST_INDEX, Integer.toString(emailListIndex));
-        paramMap.put(ParamsNames.ADMIN_GROUP_RECEIVER_EMAIL_INDEX, Integer.toString(emailIndex));
+        paramMap.put(ParamsNames.ADMIN_GROUP_RECEIVER_BYTE_OFFSET, Long.toString(byteOffset));
 
         addTask(TaskQueue.ADMIN_PREPARE_EMAIL_GROUP_MODE_QUEUE_NAME,
                 TaskQueue.ADMIN_PREPARE_EMAIL_GROUP_MODE_WORKER_URL, paramMap);
     }
 
     /**
-     * Schedules an admin email to be sent.
+     * Schedules an admin email to be sent to each of the given receivers.
+     * Each task sends the email to a group of receivers, and the tasks are added to the queue in batches.
      *
      * @param emailId the ID of admin email to be retrieved from the database (if needed)
-     * @param emailReceiver the email address of the email receiver
+     * @param emailReceivers the email addresses of the email receivers
      * @param emailSubject the subject of the email
      * @param emailContent the content of the email
+     * @throws IllegalStateException if some of the tasks could not be added for a reason other than their size
      */
-    public void scheduleAdminEmailForSending(String emailId, String emailReceiver, String emailSubject,
-                                             String emailContent) {
-        Map<String, String> paramMap = new HashMap<>();
-        paramMap.put(ParamsNames.ADMIN_EMAIL_RECEIVER, emailReceiver);
-        paramMap.put(ParamsNames.ADMIN_EMAIL_SUBJECT, emailSubject);
-        paramMap.put(ParamsNames.ADMIN_EMAIL_CONTENT, emailContent);
+    public void scheduleAdminEmailsForSending(String emailId, List<String> emailReceivers, String emailSubject,
+                                              String emailContent) {
+        if (emailReceivers.isEmpty()) {
+            return;
+        }
 
         try {
-            addTask(TaskQueue.ADMIN_SEND_EMAIL_QUEUE_NAME, TaskQueue.ADMIN_SEND_EMAIL_WORKER_URL, paramMap);
-        } catch (IllegalArgumentException e) {
-            if (e.getMessage().toLowerCase().contains("task size too large")) {
+            addTasks(getAdminEmailTasks(emailReceivers, emailId, emailSubject, emailContent));
+        } catch (IllegalStateException e) {
+            // all the tasks carry the same content, so if it makes them too large, every chunk fails
+            // and no task is added; any other failure is passed on so that the preparation is retried
+            Throwable cause = e.getCause();
+            if (cause instanceof IllegalArgumentException && cause.getMessage() != null
+                    && cause.getMessage().toLowerCase().contains("task size too large")) {
                 log.info("Email task size exceeds max limit. Switching to large email task mode.");
-                paramMap.remove(ParamsNames.ADMIN_EMAIL_SUBJECT);
-                paramMap.remove(ParamsNames.ADMIN_EMAIL_CONTENT);
-                paramMap.put(ParamsNames.ADMIN_EMAIL_ID, emailId);
-                addTask(TaskQueue.ADMIN_SEND_EMAIL_QUEUE_NAME, TaskQueue.ADMIN_SEND_EMAIL_WORKER_URL, paramMap);
+                addTasks(getAdminEmailTasks(emailReceivers, emailId, null, null));
+            } else {
+                throw e;
             }
         }
     }
 
+    /**
+     * Creates the tasks of an admin email, each for up to {@link #ADMIN_EMAIL_RECEIVERS_PER_TASK} receivers;
+     * the subject and content are left to be retrieved from the database using {@code emailId} if they are not given.
+     */
+    private List<TaskWrapper> getAdminEmailTasks(List<String> emailReceivers, String emailId, String emailSubject,
+                                                 String emailContent) {
+        List<TaskWrapper> tasks = new ArrayList<>();
+        for (int i = 0; i < emailReceivers.size(); i += ADMIN_EMAIL_RECEIVERS_PER_TASK) {
+            List<String> receiversOfTask =
+                    emailReceivers.subList(i, Math.min(i + ADMIN_EMAIL_RECEIVERS_PER_TASK, emailReceivers.size()));
+            Map<String, String[]> paramMap = new HashMap<>();
+            paramMap.put(ParamsNames.ADMIN_EMAIL_RECEIVER, receiversOfTask.toArray(new String[0]));
+            if (emailSubject == null) {
+                paramMap.put(ParamsNames.ADMIN_EMAIL_ID, new String[] { emailId });
+            } else {
+                paramMap.put(ParamsNames.ADMIN_EMAIL_SUBJECT, new String[] { emailSubject });
+                paramMap.put(ParamsNames.ADMIN_EMAIL_CONTENT, new String[] { emailContent });
+            }
+            tasks.add(new TaskWrapper(TaskQueue.ADMIN_SEND_EMAIL_QUEUE_NAME, TaskQueue.ADMIN_SEND_EMAIL_WORKER_URL,
+                                      paramMap));
+        }
+        return tasks;
+    }
+
     /**
      * Schedules for feedback session reminders (i.e. student has not submitted responses yet)
      * for the specified feedback session.
@@ -174,6 +216,58 @@ public class TaskQueuer {
                              TaskQueue.FEEDBACK_SESSION_REMIND_PARTICULAR_USERS_EMAIL_WORKER_URL, paramMap);
     }
 
+    /**
+     * Schedules the {@code emailType} emails of a feedback session to be split into shards,
+     * each of which is rendered and queued for sending by its own task.
+     *
+     * @param courseId the course ID of the feedback session
+     * @param feedbackSessionName the name of the feedback session
+     * @param emailType the type of the emails
+     */
+    public void scheduleFeedbackSessionEmailFanOut(String courseId, String feedbackSessionName, EmailType emailType) {
+        Map<String, String> paramMap = new HashMap<>();
+        paramMap.put(ParamsNames.EMAIL_COURSE, courseId);
+        paramMap.put(ParamsNames.EMAIL_FEEDBACK, feedbackSessionName);
+        paramMap.put(ParamsNames.EMAIL_TYPE, emailType.name());
+        // identifies this fan-out across retries of its tasks
+        paramMap.put(ParamsNames.EMAIL_RUN_ID, UUID.randomUUID().toString());
+
+        addTask(TaskQueue.FEEDBACK_SESSION_EMAIL_FAN_OUT_QUEUE_NAME,
+                TaskQueue.FEEDBACK_SESSION_EMAIL_FAN_OUT_WORKER_URL, paramMap);
+    }
+
+    /**
+     * Schedules the {@code emailType} emails of a feedback session to be rendered and queued for sending
+     * to one shard of its recipients.
+     *
+     * @param courseId the course ID of the feedback session
+     * @param feedbackSessionName the name of the feedback session
+     * @param emailType the type of the emails
+     * @param runId the ID of the fan-out the shard belongs to
+     * @param runSize the number of recipients of the whole fan-out
+     * @param shardIndex the index of the shard within the fan-out
+     * @param shardOffset the position of the first recipient of the shard among the recipients of the fan-out
+     * @param studentEmails the emails of the students in the shard
+     * @param instructorEmails the emails of the instructors in the shard
+     */
+    public void scheduleFeedbackSessionEmailShard(String courseId, String feedbackSessionName, EmailType emailType,
+            String runId, int runSize, int shardIndex, int shardOffset, List<String> studentEmails,
+            List<String> instructorEmails) {
+        Map<String, String> paramMap = new HashMap<>();
+        paramMap.put(ParamsNames.EMAIL_COURSE, courseId);
+        paramMap.put(ParamsNames.EMAIL_FEEDBACK, feedbackSessionName);
+        paramMap.put(ParamsNames.EMAIL_TYPE, emailType.name());
+        paramMap.put(ParamsNames.EMAIL_RUN_ID, runId);
+        paramMap.put(ParamsNames.EMAIL_RUN_SIZE, String.valueOf(runSize));
+        paramMap.put(ParamsNames.EMAIL_SHARD_INDEX, String.valueOf(shardIndex));
+        paramMap.put(ParamsNames.EMAIL_SHARD_OFFSET, String.valueOf(shardOffset));
+        paramMap.put(ParamsNames.EMAIL_SHARD_STUDENTS, JsonUtils.toJson(studentEmails));
+        paramMap.put(ParamsNames.EMAIL_SHARD_INSTRUCTORS, JsonUtils.toJson(instructorEmails));
+
+        addTask(TaskQueue.FEEDBACK_SESSION_EMAIL_SHARD_QUEUE_NAME,
+                TaskQueue.FEEDBACK_SESSION_EMAIL_SHARD_WORKER_URL, paramMap);
+    }
+
     /**
      * Schedules for feedback session published email to be sent.
      *
@@ -262,6 +356,42 @@ public class TaskQueuer {
                 TaskQueue.FEEDBACK_RESPONSE_ADJUSTMENT_WORKER_URL, paramMap);
     }
 
+    /**
+     * Schedules for the responses given by or to a student in a course to be moved to the student's new email.
+     * Each task moves one batch of responses and schedules another task if there are more.
+     *
+     * @param courseId the course ID of the student
+     * @param oldEmail the original email of the student
+     * @param newEmail the new email of the student
+     */
+    public void scheduleFeedbackResponseEmailUpdate(String courseId, String oldEmail, String newEmail) {
+        Map<String, String> paramMap = new HashMap<>();
+        paramMap.put(ParamsNames.COURSE_ID, courseId);
+        paramMap.put(ParamsNames.STUDENT_EMAIL, oldEmail);
+        paramMap.put(ParamsNames.NEW_STUDENT_EMAIL, newEmail);
+
+        addTask(TaskQueue.FEEDBACK_RESPONSE_EMAIL_UPDATE_QUEUE_NAME,
+                TaskQueue.FEEDBACK_RESPONSE_EMAIL_UPDATE_WORKER_URL, paramMap);
+    }
+
+    /**
+     * Schedules for the next batch of the entities of a course to be deleted.
+     * Each task deletes one batch and schedules another task if there are more.
+     *
+     * @param courseId the ID of the course, which must be already marked for deletion
+     * @param progress the point from which the deletion continues
+     */
+    public void scheduleCourseDeletion(String courseId, CourseDeletionProgress progress) {
+        Map<String, String> paramMap = new HashMap<>();
+        paramMap.put(ParamsNames.COURSE_ID, courseId);
+        paramMap.put(ParamsNames.COURSE_DELETION_STAGE, progress.getStage().name());
+        if (progress.getCursor() != null) {
+            paramMap.put(ParamsNames.COURSE_DELETION_CURSOR, progress.getCursor());
+        }
+
+        addTask(TaskQueue.COURSE_DELETION_QUEUE_NAME, TaskQueue.COURSE_DELETION_WORKER_URL, paramMap);
+    }
+
     public void scheduleUpdateRespondentForSession(
             String courseId, String feedbackSessionName, String email, boolean isInstructor, boolean isToBeRemoved) {
         Map<String, String> paramMap = new HashMap<>();
@@ -275,8 +405,44 @@ public class TaskQueuer {
                 TaskQueue.FEEDBACK_SESSION_UPDATE_RESPONDENT_WORKER_URL, paramMap);
     }
 
+    /**
+     * Schedules the expected respondent counts of the given feedback sessions to be recomputed and stored,
+     * one task per session.
+     */
+    public void scheduleFeedbackSessionResponseRateRefreshes(List<FeedbackSessionAttributes> sessions) {
+        if (sessions.isEmpty()) {
+            return;
+        }
+
+        List<TaskWrapper> tasks = new ArrayList<>();
+        for (FeedbackSessionAttributes session : sessions) {
+            Map<String, String[]> paramMap = new HashMap<>();
+            paramMap.put(ParamsNames.COURSE_ID, new String[] { session.getCourseId() });
+            paramMap.put(ParamsNames.FEEDBACK_SESSION_NAME, new String[] { session.getFeedbackSessionName() });
+            tasks.add(new TaskWrapper(TaskQueue.FEEDBACK_SESSION_RESPONSE_RATE_REFRESH_QUEUE_NAME,
+                    TaskQueue.FEEDBACK_SESSION_RESPONSE_RATE_REFRESH_WORKER_URL, paramMap));
+        }
+        addTasks(tasks);
+    }
+
+    /**
+     * Schedules a batch of search document writes deferred by a request.
+     * The task is delayed so that the datastore writes of the request are visible to the queries
+     * with which the documents are rebuilt.
+     *
+     * @param updates the IDs of the documents to be (re)built or deleted
+     */
+    public void scheduleSearchDocumentsUpdate(SearchDocumentUpdates updates) {
+        Map<String, String> paramMap = new HashMap<>();
+        paramMap.put(ParamsNames.SEARCH_DOCUMENT_UPDATES, JsonUtils.toJson(updates));
+
+        addDeferredTask(TaskQueue.SEARCH_DOCUMENTS_UPDATE_QUEUE_NAME,
+                TaskQueue.SEARCH_DOCUMENTS_UPDATE_WORKER_URL, paramMap, SEARCH_DOCUMENTS_UPDATE_DELAY_MILLIS);
+    }
+
     /**
      * Schedules for the given list of emails to be sent.
+     * The tasks are added to the queue in batches.
      *
      * @param emails the list of emails to be sent
      */
@@ -285,46 +451,79 @@ public class TaskQueuer {
             return;
         }
 
-        // Equally spread out the emails to be sent over 1 hour
+        List<TaskWrapper> tasks = getEmailTasks(emails, null, 0, emails.size());
+        try {
+            addTasks(tasks);
+        } catch (Exception e) {
+            log.severe("Error when adding " + tasks.size() + " emails to task queue: " + e.getMessage() + "\n"
+                       + "First email receiver: " + emails.get(0).getRecipient() + "\n"
+                       + "Email subject: " + emails.get(0).getSubject());
+        }
+    }
+
+    /**
+     * Schedules for the given list of emails to be sent, at most once per recipient for the given sending ID.
+     * The email to a recipient that has already been scheduled with the same sending ID is skipped.
+     *
+     * <p>The emails are a part of a larger batch, which is spread out over the same period as if it were
+     * scheduled at once: the emails are delayed according to their positions in the batch.
+     *
+     * <p>Unlike {@link #scheduleEmailsForSending(List)}, a failure to add the emails is thrown,
+     * so that the caller can be retried without emailing any recipient twice.
+     *
+     * @param emails the list of emails to be sent, with at most one email per recipient
+     * @param sendingId identifies the sending across retries of the caller
+     * @param batchOffset the position of the first of the emails in the batch
+     * @param batchSize the number of emails in the whole batch
+     */
+    public void scheduleEmailsForSendingOnce(List<EmailWrapper> emails, String sendingId, int batchOffset,
+                                             int batchSize) {
+        if (emails.isEmpty()) {
+            return;
+        }
+
+        addTasks(getEmailTasks(emails, sendingId, batchOffset, batchSize));
+    }
+
+    private List<TaskWrapper> getEmailTasks(List<EmailWrapper> emails, String sendingId, int batchOffset,
+                                            int batchSize) {
+        // Equally spread out the emails of the batch to be sent over 1 hour
         // Sets interval to a maximum of 5 seconds if the interval is too large
         int oneHourInMillis = 60 * 60 * 1000;
-        int emailIntervalMillis = Math.min(5000, oneHourInMillis / emails.size());
+        int emailIntervalMillis = Math.min(5000, oneHourInMillis / Math.max(batchSize, emails.size()));
 
-        int numberOfEmailsSent = 0;
+        List<TaskWrapper> tasks = new ArrayList<>();
+        int numberOfEmailsSent = batchOffset;
         for (EmailWrapper email : emails) {
             long emailDelayTimer = numberOfEmailsSent * emailIntervalMillis;
-            scheduleEmailForSending(email, emailDelayTimer);
+            String taskName = sendingId == null ? null : sendingId + "-" + getTaskNamePart(email.getRecipient());
+            tasks.add(getEmailTask(email, emailDelayTimer, taskName));
             numberOfEmailsSent++;
         }
+        return tasks;
     }
 
-    private void scheduleEmailForSending(EmailWrapper email, long emailDelayTimer) {
-        String emailSubject = email.getSubject();
-        String emailSenderName = email.getSenderName();
-        String emailSender = email.getSenderEmail();
-        String emailReceiver = email.getRecipient();
-        String emailReplyToAddress = email.getReplyTo();
-        try {
-            Map<String, String> paramMap = new HashMap<>();
-            paramMap.put(ParamsNames.EMAIL_SUBJECT, emailSubject);
-            paramMap.put(ParamsNames.EMAIL_CONTENT, email.getContent());
-            paramMap.put(ParamsNames.EMAIL_SENDER, emailSender);
-            if (emailSenderName != null && !emailSenderName.isEmpty()) {
-                paramMap.put(ParamsNames.EMAIL_SENDERNAME, emailSenderName);
-            }
-            paramMap.put(ParamsNames.EMAIL_RECEIVER, emailReceiver);
-            paramMap.put(ParamsNames.EMAIL_REPLY_TO_ADDRESS, emailReplyToAddress);
+    /**
+     * Encodes {@code value} with only the characters allowed in task names.
+     */
+    private String getTaskNamePart(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
 
-            addDeferredTask(TaskQueue.SEND_EMAIL_QUEUE_NAME, TaskQueue.SEND_EMAIL_WORKER_URL,
-                            paramMap, emailDelayTimer);
-        } catch (Exception e) {
-            log.severe("Error when adding email to task queue: " + e.getMessage() + "\n"
-                       + "Email sender: " + emailSender + "\n"
-                       + "Email sender name: " + emailSenderName + "\n"
-                       + "Email receiver: " + emailReceiver + "\n"
-                       + "Email subject: " + emailSubject + "\n"
-                       + "Email reply-to address: " + emailReplyToAddress);
+    private TaskWrapper getEmailTask(EmailWrapper email, long emailDelayTimer, String taskName) {
+        Map<String, String[]> paramMap = new HashMap<>();
+        paramMap.put(ParamsNames.EMAIL_SUBJECT, new String[] { email.getSubject() });
+        paramMap.put(ParamsNames.EMAIL_CONTENT, new String[] { email.getContent() });
+        paramMap.put(ParamsNames.EMAIL_SENDER, new String[] { email.getSenderEmail() });
+        String emailSenderName = email.getSenderName();
+        if (emailSenderName != null && !emailSenderName.isEmpty()) {
+            paramMap.put(ParamsNames.EMAIL_SENDERNAME, new String[] { emailSenderName });
         }
+        paramMap.put(ParamsNames.EMAIL_RECEIVER, new String[] { email.getRecipient() });
+        paramMap.put(ParamsNames.EMAIL_REPLY_TO_ADDRESS, new String[] { email.getReplyTo() });
+
+        return new TaskWrapper(TaskQueue.SEND_EMAIL_QUEUE_NAME, TaskQueue.SEND_EMAIL_WORKER_URL,
+                               paramMap, emailDelayTimer, taskName);
     }
 
 }
@@ -0,0 +1,96 @@
+package teammates.logic.core;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Supplier;
+
+import teammates.common.util.Assumption;
+import teammates.common.util.Logger;
+
+/**
+ * Starts independent datastore reads without waiting for one another and joins them when their
+ * results are needed, so that the total latency is bounded by the slowest read rather than the sum of all reads.
+ *
+ * <p>At most {@code maxReadsInFlight} reads are started at the same time; starting another read
+ * first waits for the oldest read that is still in flight. The time taken by each read, from its start
+ * to its join, can be logged with {@link #logTimings()}.
+ */
+final class ConcurrentFetcher {
+
+    private static final Logger log = Logger.getLogger();
+
+    private final String description;
+    private final int maxReadsInFlight;
+    private final Deque<Fetch<?>> readsInFlight = new ArrayDeque<>();
+    private final List<Fetch<?>> fetches = new ArrayList<>();
+
+    ConcurrentFetcher(String description, int maxReadsInFlight) {
+        Assumption.assertTrue("maxReadsInFlight must be positive", maxReadsInFlight > 0);
+        this.description = description;
+        this.maxReadsInFlight = maxReadsInFlight;
+    }
+
+    /**
+     * Starts a read. {@code startRead} must start the read and return without waiting for it;
+     * the {@link Supplier} it returns waits for and returns the result of the read.
+     */
+    <T> Fetch<T> start(String stageName, Supplier<Supplier<T>> startRead) {
+        while (readsInFlight.size() >= maxReadsInFlight) {
+            readsInFlight.peekFirst().join();
+        }
+        Fetch<T> fetch = new Fetch<>(stageName, startRead);
+        fetches.add(fetch);
+        readsInFlight.addLast(fetch);
+        return fetch;
+    }
+
+    /**
+     * Logs the time taken by each read that has been joined.
+     */
+    void logTimings() {
+        StringBuilder timings = new StringBuilder();
+        for (Fetch<?> fetch : fetches) {
+            if (fetch.isJoined) {
+                timings.append(timings.length() == 0 ? "" : ", ")
+                       .append(fetch.stageName).append('=').append(fetch.durationInMillis).append("ms");
+            }
+        }
+        log.info("Fetch stages for " + description + ": " + timings);
+    }
+
+    /**
+     * A read started by a {@link ConcurrentFetcher}.
+     */
+    final class Fetch<T> {
+
+        private final String stageName;
+        private final long startTime;
+        private final Supplier<T> pendingResult;
+        private boolean isJoined;
+        private long durationInMillis;
+        private T result;
+
+        private Fetch(String stageName, Supplier<Supplier<T>> startRead) {
+            this.stageName = stageName;
+            this.startTime = System.currentTimeMillis();
+            this.pendingResult = startRead.get();
+        }
+
+        /**
+         * Waits for the read to complete and returns its result.
+         */
+        T join() {
+            if (!isJoined) {
+                result = pendingResult.get();
+                durationInMillis = System.currentTimeMillis() - startTime;
+                isJoined = true;
+                readsInFlight.remove(this);
+            }
+            return result;
+        }
+
+    }
+
+}
@@ -0,0 +1,87 @@
+package teammates.logic.core;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import teammates.common.datatransfer.CourseRoster;
+
+/**
+ * Caches the {@link CourseRoster} of courses for the duration of a single request,
+ * so that the students and instructors of a course are loaded from the datastore
+ * at most once per request regardless of how many logic calls need them.
+ *
+ * <p>The cache is only active on the current thread between {@link #startRequest()}
+ * and {@link #endRequest()}. Outside of a request scope (e.g. in task queue workers and tests),
+ * every call to {@link #getCourseRoster(String)} loads a fresh roster.
+ *
+ * <p>Logic classes that modify students or instructors of a course must call
+ * {@link #invalidate(String)} so that later lookups in the same request see the change.
+ */
+public final class CourseRosterCache {
+
+    private static final ThreadLocal<Map<String, CourseRoster>> rostersForRequest = new ThreadLocal<>();
+
+    private CourseRosterCache() {
+        // utility class
+    }
+
+    /**
+     * Starts caching course rosters for the current thread.
+     */
+    public static void startRequest() {
+        rostersForRequest.set(new HashMap<>());
+    }
+
+    /**
+     * Stops caching course rosters for the current thread and discards all cached rosters.
+     */
+    public static void endRequest() {
+        rostersForRequest.remove();
+    }
+
+    /**
+     * Returns the roster of the course, loading it at most once per request.
+     */
+    public static CourseRoster getCourseRoster(String courseId) {
+        Map<String, CourseRoster> rosters = rostersForRequest.get();
+        if (rosters == null) {
+            return loadCourseRoster(courseId);
+        }
+        return rosters.computeIfAbsent(courseId, CourseRosterCache::loadCourseRoster);
+    }
+
+    /**
+     * Returns the roster of the course if it has already been loaded in the current request,
+     * or {@code null} otherwise.
+     */
+    public static CourseRoster getCachedCourseRoster(String courseId) {
+        Map<String, CourseRoster> rosters = rostersForRequest.get();
+        return rosters == null ? null : rosters.get(courseId);
+    }
+
+    /**
+     * Discards the cached roster of the course, if any.
+     */
+    public static void invalidate(String courseId) {
+        Map<String, CourseRoster> rosters = rostersForRequest.get();
+        if (rosters != null) {
+            rosters.remove(courseId);
+        }
+    }
+
+    /**
+     * Discards all cached rosters, e.g. when a change affects an unknown set of courses.
+     */
+    public static void invalidateAll() {
+        Map<String, CourseRoster> rosters = rostersForRequest.get();
+        if (rosters != null) {
+            rosters.clear();
+        }
+    }
+
+    private static CourseRoster loadCourseRoster(String courseId) {
+        return new CourseRoster(StudentsLogic.inst().getStudentsForCourse(courseId),
+                                InstructorsLogic.inst().getInstructorsForCourse(courseId));
+    }
+
+}
@@ -8,6 +8,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import teammates.common.datatransfer.CourseDeletionProgress;
 import teammates.common.datatransfer.CourseDetailsBundle;
 import teammates.common.datatransfer.CourseSummaryBundle;
 import teammates.common.datatransfer.FeedbackSessionDetailsBundle;
@@ -41,6 +42,11 @@ public final class CoursesLogic {
 
     private static final Logger log = Logger.getLogger();
 
+    /**
+     * Maximum number of entities of one kind deleted in one batch of a course deletion.
+     */
+    private static final int MAX_ENTITIES_PER_COURSE_DELETION_BATCH = 500;
+
     private static CoursesLogic instance = new CoursesLogic();
 
     /* Explanation: This class depends on CoursesDb class but no other *Db classes.
@@ -54,6 +60,10 @@ public final class CoursesLogic {
     private static final CoursesDb coursesDb = new CoursesDb();
 
     private static final AccountsLogic accountsLogic = AccountsLogic.inst();
+    private static final FeedbackQuestionsLogic feedbackQuestionsLogic = FeedbackQuestionsLogic.inst();
+    private static final FeedbackResponseCommentsLogic feedbackResponseCommentsLogic =
+            FeedbackResponseCommentsLogic.inst();
+    private static final FeedbackResponsesLogic feedbackResponsesLogic = FeedbackResponsesLogic.inst();
     private static final FeedbackSessionsLogic feedbackSessionsLogic = FeedbackSessionsLogic.inst();
     private static final InstructorsLogic instructorsLogic = InstructorsLogic.inst();
     private static final StudentsLogic studentsLogic = StudentsLogic.inst();
@@ -613,12 +623,88 @@ public final class CoursesLogic {
     /**
      * Delete a course from its given corresponding ID.
      * This will also cascade the data in other databases which are related to this course.
+     * All the batches of the deletion are run one after another within the current request.
      */
     public void deleteCourseCascade(String courseId) {
-        studentsLogic.deleteStudentsForCourse(courseId);
-        instructorsLogic.deleteInstructorsForCourse(courseId);
-        feedbackSessionsLogic.deleteFeedbackSessionsForCourseCascade(courseId);
-        coursesDb.deleteCourse(courseId);
+        markCourseForDeletion(courseId);
+
+        CourseDeletionProgress progress = CourseDeletionProgress.start();
+        while (progress != null) {
+            progress = deleteCourseCascadeBatch(courseId, progress);
+        }
+    }
+
+    /**
+     * Marks a course for deletion, which hides it right away.
+     * The course ID stays taken until the course is deleted by {@link #deleteCourseCascadeBatch}.
+     */
+    public void markCourseForDeletion(String courseId) {
+        coursesDb.markCourseForDeletion(courseId);
+    }
+
+    /**
+     * Gets the IDs of the courses that are marked for deletion but not completely deleted yet.
+     */
+    public List<String> getIdsOfCoursesMarkedForDeletion() {
+        return coursesDb.getIdsOfCoursesMarkedForDeletion();
+    }
+
+    /**
+     * Deletes one bounded batch of the entities of a course that is marked for deletion.
+     * The batch is found with a query that continues from the cursor in {@code progress},
+     * so that deleting a course of any size can be spread over many requests.
+     *
+     * @return the progress to continue from, or null if the course has been completely deleted
+     */
+    public CourseDeletionProgress deleteCourseCascadeBatch(String courseId, CourseDeletionProgress progress) {
+        if (isCoursePresent(courseId)) {
+            // the course has been deleted by an earlier run of the same deletion and its ID taken again
+            log.info("Stopped deleting course " + courseId + " as a new course with the same ID exists");
+            return null;
+        }
+
+        String cursor = progress.getCursor();
+        String nextCursor = null;
+
+        switch (progress.getStage()) {
+        case INSTRUCTORS:
+            nextCursor = instructorsLogic.deleteInstructorsForCoursePage(
+                    courseId, cursor, MAX_ENTITIES_PER_COURSE_DELETION_BATCH);
+            break;
+        case STUDENTS:
+            nextCursor = studentsLogic.deleteStudentsForCoursePage(
+                    courseId, cursor, MAX_ENTITIES_PER_COURSE_DELETION_BATCH);
+            break;
+        case COMMENTS:
+            nextCursor = feedbackResponseCommentsLogic.deleteFeedbackResponseCommentsForCoursePage(
+                    courseId, cursor, MAX_ENTITIES_PER_COURSE_DELETION_BATCH);
+            break;
+        case RESPONSES:
+            nextCursor = feedbackResponsesLogic.deleteFeedbackResponsesForCoursePage(
+                    courseId, cursor, MAX_ENTITIES_PER_COURSE_DELETION_BATCH);
+            break;
+        case QUESTIONS:
+            nextCursor = feedbackQuestionsLogic.deleteFeedbackQuestionsForCoursePage(
+                    courseId, cursor, MAX_ENTITIES_PER_COURSE_DELETION_BATCH);
+            break;
+        case SESSIONS:
+            nextCursor = feedbackSessionsLogic.deleteFeedbackSessionsForCoursePage(
+                    courseId, cursor, MAX_ENTITIES_PER_COURSE_DELETION_BATCH);
+            break;
+        case COURSE:
+            coursesDb.deleteCourse(courseId);
+            break;
+        default:
+            Assumption.fail("Unknown stage of course deletion: " + progress.getStage());
+            break;
+        }
+
+        log.info("Deleted a batch of " + progress.getStage() + " of course " + courseId
+                 + (nextCursor == null ? "; the stage is complete" : ""));
+
+        return nextCursor == null
+                ? progress.nextStage()
+                : new CourseDeletionProgress(progress.getStage(), nextCursor);
     }
 
     private Map<String, CourseSummaryBundle> getCourseSummaryWithoutStatsForInstructor(
@@ -1,6 +1,13 @@
 package teammates.logic.core;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
 import teammates.common.exception.EmailSendingException;
+import teammates.common.util.EmailSendingResult;
 import teammates.common.util.EmailWrapper;
 
 /**
@@ -31,6 +38,105 @@ public abstract class EmailSenderService {
     // accounts for the many different Exceptions from different email services
     protected abstract void sendEmailWithService(EmailWrapper wrapper) throws Exception;
 
+    /**
+     * Sends the emails packaged as {@code wrappers}, as few emails per call to the service as it allows.
+     *
+     * <p>Only Mailjet sends different messages in one call. SendGrid and Mailgun send one message to many
+     * recipients per call, so they batch only emails whose content is the same, and personalized emails
+     * such as the feedback session emails are sent one per call by them.
+     *
+     * @return the result of sending each email, in the order of {@code wrappers};
+     *         the emails sent in the same call to the service share the outcome of the call
+     */
+    public List<EmailSendingResult> sendEmails(List<EmailWrapper> wrappers) {
+        Map<EmailWrapper, EmailSendingException> errors = new LinkedHashMap<>();
+        for (List<EmailWrapper> batch : getBatches(wrappers)) {
+            try {
+                sendEmailsWithService(batch);
+            } catch (Exception e) {
+                EmailSendingException error = e instanceof EmailSendingException
+                                              ? (EmailSendingException) e
+                                              : new EmailSendingException(e);
+                batch.forEach(wrapper -> errors.put(wrapper, error));
+            }
+        }
+
+        List<EmailSendingResult> results = new ArrayList<>();
+        for (EmailWrapper wrapper : wrappers) {
+            results.add(new EmailSendingResult(wrapper, errors.get(wrapper)));
+        }
+        return results;
+    }
+
+    /**
+     * Sends a batch of emails, as given by {@link #getBatches(List)}, in one call to the service.
+     * Services that send one email per call need not override this.
+     *
+     * @throws EmailSendingException if the service does not accept the batch
+     */
+    @SuppressWarnings("PMD.SignatureDeclareThrowsException")
+    // accounts for the many different Exceptions from different email services
+    protected void sendEmailsWithService(List<EmailWrapper> wrappers) throws Exception {
+        for (EmailWrapper wrapper : wrappers) {
+            sendEmailWithService(wrapper);
+        }
+    }
+
+    /**
+     * Returns the maximum number of emails that the service accepts in one call.
+     */
+    protected int getMaxEmailsPerBatch() {
+        return 1;
+    }
+
+    /**
+     * Splits {@code wrappers} into batches to be sent in one call to the service each.
+     * By default, a batch holds emails that differ only in their recipients,
+     * for services that send the same message to many recipients in one call.
+     */
+    protected List<List<EmailWrapper>> getBatches(List<EmailWrapper> wrappers) {
+        List<List<EmailWrapper>> batches = new ArrayList<>();
+        Map<List<String>, List<EmailWrapper>> openBatches = new LinkedHashMap<>();
+        for (EmailWrapper wrapper : wrappers) {
+            // emails with bcc are not batched, so that the bcc recipient gets a copy of each of them
+            List<String> messageKey = wrapper.getBcc() == null || wrapper.getBcc().isEmpty()
+                    ? getMessageKey(wrapper)
+                    : null;
+            List<EmailWrapper> batch = messageKey == null ? null : openBatches.get(messageKey);
+            if (batch == null || batch.size() >= getMaxEmailsPerBatch()) {
+                batch = new ArrayList<>();
+                batches.add(batch);
+                if (messageKey != null) {
+                    openBatches.put(messageKey, batch);
+                }
+            }
+            batch.add(wrapper);
+        }
+        return batches;
+    }
+
+    /**
+     * Splits {@code wrappers} into batches of at most {@link #getMaxEmailsPerBatch()} emails in their order,
+     * for services that send different messages in one call.
+     */
+    protected List<List<EmailWrapper>> getBatchesInOrder(List<EmailWrapper> wrappers) {
+        List<List<EmailWrapper>> batches = new ArrayList<>();
+        for (int i = 0; i < wrappers.size(); i += getMaxEmailsPerBatch()) {
+            batches.add(new ArrayList<>(wrappers.subList(i, Math.min(i + getMaxEmailsPerBatch(), wrappers.size()))));
+        }
+        return batches;
+    }
+
+    private static List<String> getMessageKey(EmailWrapper wrapper) {
+        List<String> key = new ArrayList<>();
+        key.add(wrapper.getSenderEmail());
+        key.add(Objects.toString(wrapper.getSenderName(), ""));
+        key.add(wrapper.getReplyTo());
+        key.add(wrapper.getSubject());
+        key.add(wrapper.getContent());
+        return key;
+    }
+
     static boolean isNotSuccessStatus(int statusCode) {
         return statusCode < 200 || statusCode > 299;
     }
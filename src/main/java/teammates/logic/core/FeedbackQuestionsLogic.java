@@ -7,6 +7,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.TeamDetailsBundle;
@@ -78,7 +79,9 @@ public final class FeedbackQuestionsLogic {
             FeedbackQuestionAttributes fqa, int questionNumber) throws InvalidParametersException {
         fqa.questionNumber = questionNumber;
         fqa.removeIrrelevantVisibilityOptions();
-        return fqDb.createFeedbackQuestionWithoutExistenceCheck(fqa);
+        FeedbackQuestionAttributes createdQuestion = fqDb.createFeedbackQuestionWithoutExistenceCheck(fqa);
+        fsLogic.clearExpectedRespondentCount(fqa.feedbackSessionName, fqa.courseId);
+        return createdQuestion;
     }
 
     public FeedbackQuestionAttributes copyFeedbackQuestion(
@@ -139,6 +142,28 @@ public final class FeedbackQuestionsLogic {
         return questions;
     }
 
+    /**
+     * Starts loading the questions of the session without waiting for the datastore.
+     * Unlike {@link #getFeedbackQuestionsForSession(String, String)}, this does not check that the session exists;
+     * the caller is expected to load the session as well.
+     * @return a supplier of the questions sorted by question number
+     */
+    public Supplier<List<FeedbackQuestionAttributes>> getFeedbackQuestionsForSessionAsync(
+            String feedbackSessionName, String courseId) {
+        Supplier<List<FeedbackQuestionAttributes>> pendingQuestions =
+                fqDb.getFeedbackQuestionsForSessionAsync(feedbackSessionName, courseId);
+        return () -> {
+            List<FeedbackQuestionAttributes> questions = pendingQuestions.get();
+            questions.sort(null);
+
+            if (questions.size() > 1 && !areQuestionNumbersConsistent(questions)) {
+                log.severe(courseId + ": " + feedbackSessionName + " has invalid question numbers");
+            }
+
+            return questions;
+        };
+    }
+
     // TODO can be removed once we are sure that question numbers will be consistent
     private boolean areQuestionNumbersConsistent(List<FeedbackQuestionAttributes> questions) {
         Set<Integer> questionNumbersInSession = new HashSet<>();
@@ -335,7 +360,7 @@ public final class FeedbackQuestionsLogic {
             }
             break;
         case STUDENTS:
-            List<StudentAttributes> studentsInCourse = studentsLogic.getStudentsForCourse(question.courseId);
+            List<StudentAttributes> studentsInCourse = CourseRosterCache.getCourseRoster(question.courseId).getStudents();
             for (StudentAttributes student : studentsInCourse) {
                 // Ensure student does not evaluate himself
                 if (!giver.equals(student.email)) {
@@ -344,7 +369,8 @@ public final class FeedbackQuestionsLogic {
             }
             break;
         case INSTRUCTORS:
-            List<InstructorAttributes> instructorsInCourse = instructorsLogic.getInstructorsForCourse(question.courseId);
+            List<InstructorAttributes> instructorsInCourse =
+                    CourseRosterCache.getCourseRoster(question.courseId).getInstructors();
             for (InstructorAttributes instr : instructorsInCourse) {
                 // Ensure instructor does not evaluate himself
                 if (!giver.equals(instr.email)) {
@@ -529,41 +555,34 @@ public final class FeedbackQuestionsLogic {
             frLogic.deleteFeedbackResponsesForQuestionAndCascade(oldQuestion.getId(), hasResponseRateUpdate);
         }
 
+        boolean isGiverTypeChanged = newAttributes.giverType != null && newAttributes.giverType != oldQuestion.giverType;
+
         oldQuestion.updateValues(newAttributes);
         newAttributes.removeIrrelevantVisibilityOptions();
         fqDb.updateFeedbackQuestion(newAttributes);
-    }
 
-    public void deleteFeedbackQuestionsForSession(String feedbackSessionName, String courseId)
-            throws EntityDoesNotExistException {
-        List<FeedbackQuestionAttributes> questions =
-                getFeedbackQuestionsForSession(feedbackSessionName, courseId);
-
-        for (FeedbackQuestionAttributes question : questions) {
-            deleteFeedbackQuestionCascadeWithoutResponseRateUpdate(question.getId());
+        if (isGiverTypeChanged) {
+            fsLogic.clearExpectedRespondentCount(oldQuestion.feedbackSessionName, oldQuestion.courseId);
         }
-
     }
 
     /**
-     * Deletes a question by its auto-generated ID. <br>
-     * Cascade the deletion of all existing responses for the question and then
-     * shifts larger question numbers down by one to preserve number order. The
-     * response rate of the feedback session is not updated.
-     *
-     * <p>Silently fails if question does not exist.
+     * Deletes all the questions of a session, with their responses and the comments of the responses.
+     * The responses and comments are deleted in bounded batches found with keys-only queries. As the whole session
+     * goes away, the question numbers are not shifted and the response rate of the session is not updated.
      */
-    private void deleteFeedbackQuestionCascadeWithoutResponseRateUpdate(String feedbackQuestionId) {
-        FeedbackQuestionAttributes questionToDeleteById =
-                        getFeedbackQuestion(feedbackQuestionId);
+    public void deleteFeedbackQuestionsForSession(String feedbackSessionName, String courseId)
+            throws EntityDoesNotExistException {
+        if (fsLogic.getFeedbackSession(feedbackSessionName, courseId) == null) {
+            throw new EntityDoesNotExistException(
+                    "Trying to delete questions for a feedback session that does not exist.");
+        }
 
-        if (questionToDeleteById == null) {
-            log.warning("Trying to delete question that does not exist: " + feedbackQuestionId);
-        } else {
-            deleteFeedbackQuestionCascade(questionToDeleteById.feedbackSessionName,
-                                            questionToDeleteById.courseId,
-                                            questionToDeleteById.questionNumber, false);
+        boolean hasRemainingResponses = true;
+        while (hasRemainingResponses) {
+            hasRemainingResponses = frLogic.deleteFeedbackResponsesForSessionBatch(feedbackSessionName, courseId);
         }
+        fqDb.deleteFeedbackQuestionsForSession(feedbackSessionName, courseId);
     }
 
     /**
@@ -597,6 +616,16 @@ public final class FeedbackQuestionsLogic {
         fqDb.deleteFeedbackQuestionsForCourse(courseId);
     }
 
+    /**
+     * Deletes one page of the questions of the course. This is a non-cascade delete.
+     *
+     * @param cursor the cursor returned for the previous page, or null for the first page
+     * @return the cursor at which the next page starts, or null if there are no more questions
+     */
+    public String deleteFeedbackQuestionsForCoursePage(String courseId, String cursor, int pageSize) {
+        return fqDb.deleteFeedbackQuestionsForCoursePage(courseId, cursor, pageSize);
+    }
+
     /**
      * Deletes a question.<br> Question is identified by it's question number, and
      * the feedback session name and course ID of the question.<br>
@@ -624,6 +653,9 @@ public final class FeedbackQuestionsLogic {
         }
 
         fqDb.deleteEntity(questionToDelete);
+        if (hasResponseRateUpdate) {
+            fsLogic.clearExpectedRespondentCount(feedbackSessionName, courseId);
+        }
 
         if (questionToDelete.questionNumber < questionsToShiftQnNumber.size()) {
             shiftQuestionNumbersDown(questionToDelete.questionNumber, questionsToShiftQnNumber);
@@ -1,8 +1,11 @@
 package teammates.logic.core;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
@@ -99,6 +102,23 @@ public final class FeedbackResponseCommentsLogic {
         return frcDb.getFeedbackResponseCommentsForSessionInSection(courseId, feedbackSessionName, section);
     }
 
+    /**
+     * Starts loading the comments of the session in the section (or of the whole session if {@code section}
+     * is null) without waiting for the datastore.
+     */
+    public Supplier<List<FeedbackResponseCommentAttributes>> getFeedbackResponseCommentForSessionInSectionAsync(
+            String courseId, String feedbackSessionName, String section) {
+        return frcDb.getFeedbackResponseCommentsForSessionInSectionAsync(courseId, feedbackSessionName, section);
+    }
+
+    /**
+     * Moves the comments of each response whose ID is a key of {@code newResponseIds} to the response
+     * with the mapped ID, in a single batch write.
+     */
+    public void updateFeedbackResponseCommentsForChangingResponseIds(Map<String, String> newResponseIds) {
+        frcDb.updateFeedbackResponseIdsForResponses(newResponseIds);
+    }
+
     public void updateFeedbackResponseCommentsForChangingResponseId(
             String oldResponseId, String newResponseId)
             throws InvalidParametersException, EntityDoesNotExistException {
@@ -130,6 +150,14 @@ public final class FeedbackResponseCommentsLogic {
         }
     }
 
+    /**
+     * Updates the giver and receiver sections of the comments of each of the responses to those of the response,
+     * in a single batch write.
+     */
+    public void updateFeedbackResponseCommentsForResponses(List<FeedbackResponseAttributes> responses) {
+        frcDb.updateSectionsOfFeedbackResponseComments(responses);
+    }
+
     public FeedbackResponseCommentAttributes updateFeedbackResponseComment(
                                                      FeedbackResponseCommentAttributes feedbackResponseComment)
                                                      throws InvalidParametersException, EntityDoesNotExistException {
@@ -164,10 +192,40 @@ public final class FeedbackResponseCommentsLogic {
         frcDb.deleteFeedbackResponseCommentsForCourse(courseId);
     }
 
+    /**
+     * Deletes one page of the comments of the course.
+     *
+     * @param cursor the cursor returned for the previous page, or null for the first page
+     * @return the cursor at which the next page starts, or null if there are no more comments
+     */
+    public String deleteFeedbackResponseCommentsForCoursePage(String courseId, String cursor, int pageSize) {
+        return frcDb.deleteFeedbackResponseCommentsForCoursePage(courseId, cursor, pageSize);
+    }
+
     public void deleteFeedbackResponseCommentsForResponse(String responseId) {
         frcDb.deleteFeedbackResponseCommentsForResponse(responseId);
     }
 
+    /**
+     * Deletes the comments of all the given responses in batch writes of at most 500 comments.
+     */
+    public void deleteFeedbackResponseCommentsForResponses(Collection<String> responseIds) {
+        frcDb.deleteFeedbackResponseCommentsForResponses(responseIds);
+    }
+
+    /**
+     * Deletes one batch of the comments in a session, found with a keys-only query.
+     *
+     * @return true if there may be more comments in the session left to be deleted
+     */
+    public boolean deleteFeedbackResponseCommentsForSessionBatch(
+            String courseId, String feedbackSessionName, int batchSize) {
+        List<Long> commentIds =
+                frcDb.getFeedbackResponseCommentIdsForSessionWithinRange(courseId, feedbackSessionName, batchSize);
+        frcDb.deleteFeedbackResponseCommentsByIds(commentIds);
+        return commentIds.size() > batchSize;
+    }
+
     public void deleteFeedbackResponseComment(FeedbackResponseCommentAttributes feedbackResponseComment) {
         frcDb.deleteEntity(feedbackResponseComment);
     }
@@ -3,13 +3,18 @@ package teammates.logic.core;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.QueryPage;
 import teammates.common.datatransfer.StudentEnrollDetails;
+import teammates.common.datatransfer.StudentUpdateStatus;
 import teammates.common.datatransfer.UserRole;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
@@ -17,7 +22,9 @@ import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
+import teammates.common.exception.TeammatesException;
 import teammates.common.util.Assumption;
+import teammates.common.util.Const;
 import teammates.common.util.Logger;
 import teammates.storage.api.FeedbackResponsesDb;
 import teammates.storage.entity.FeedbackResponse;
@@ -30,8 +37,19 @@ import teammates.storage.entity.FeedbackResponse;
  */
 public final class FeedbackResponsesLogic {
 
+    /**
+     * Maximum number of responses given by, and of responses given to, a user that are moved to the user's new email
+     * in one batch.
+     */
+    public static final int MAX_RESPONSES_PER_EMAIL_CHANGE_BATCH = 200;
+
     private static final Logger log = Logger.getLogger();
 
+    /**
+     * Maximum number of responses, and of comments, of a session that are deleted in one batch.
+     */
+    private static final int MAX_ENTITIES_PER_SESSION_DELETION_BATCH = 500;
+
     private static FeedbackResponsesLogic instance = new FeedbackResponsesLogic();
 
     private static final FeedbackResponsesDb frDb = new FeedbackResponsesDb();
@@ -136,6 +154,68 @@ public final class FeedbackResponsesLogic {
         return frDb.getFeedbackResponsesForSessionToSectionWithinRange(feedbackSessionName, courseId, section, range);
     }
 
+    /**
+     * Starts loading the responses of the session given by or to the section (or of the whole session
+     * if {@code section} is null) without waiting for the datastore. A {@code range} of -1 loads all responses.
+     */
+    public Supplier<List<FeedbackResponseAttributes>> getFeedbackResponsesForSessionInSectionWithinRangeAsync(
+            String feedbackSessionName, String courseId, String section, int range) {
+        if (section == null) {
+            return frDb.getFeedbackResponsesForSessionWithinRangeAsync(feedbackSessionName, courseId, range);
+        }
+        return frDb.getFeedbackResponsesForSessionInSectionWithinRangeAsync(feedbackSessionName, courseId, section, range);
+    }
+
+    /**
+     * Starts loading the responses of the session given by the section (or of the whole session
+     * if {@code section} is null) without waiting for the datastore. A {@code range} of -1 loads all responses.
+     */
+    public Supplier<List<FeedbackResponseAttributes>> getFeedbackResponsesForSessionFromSectionWithinRangeAsync(
+            String feedbackSessionName, String courseId, String section, int range) {
+        if (section == null) {
+            return frDb.getFeedbackResponsesForSessionWithinRangeAsync(feedbackSessionName, courseId, range);
+        }
+        return frDb.getFeedbackResponsesForSessionFromSectionWithinRangeAsync(feedbackSessionName, courseId, section, range);
+    }
+
+    /**
+     * Starts loading the responses of the session given to the section (or of the whole session
+     * if {@code section} is null) without waiting for the datastore. A {@code range} of -1 loads all responses.
+     */
+    public Supplier<List<FeedbackResponseAttributes>> getFeedbackResponsesForSessionToSectionWithinRangeAsync(
+            String feedbackSessionName, String courseId, String section, int range) {
+        if (section == null) {
+            return frDb.getFeedbackResponsesForSessionWithinRangeAsync(feedbackSessionName, courseId, range);
+        }
+        return frDb.getFeedbackResponsesForSessionToSectionWithinRangeAsync(feedbackSessionName, courseId, section, range);
+    }
+
+    /**
+     * Gets a page of the responses of the session given by the section (or of the whole session
+     * if {@code section} is null), ordered by giver.
+     * @param cursor the cursor of the previous page, or null for the first page
+     */
+    public QueryPage<FeedbackResponseAttributes> getFeedbackResponsesForSessionFromSectionPage(
+            String feedbackSessionName, String courseId, String section, String cursor, int pageSize) {
+        if (section == null) {
+            return frDb.getFeedbackResponsesForSessionPage(feedbackSessionName, courseId, cursor, pageSize);
+        }
+        return frDb.getFeedbackResponsesForSessionFromSectionPage(feedbackSessionName, courseId, section, cursor, pageSize);
+    }
+
+    /**
+     * Gets a page of the responses of the session given to the section (or of the whole session
+     * if {@code section} is null), ordered by recipient.
+     * @param cursor the cursor of the previous page, or null for the first page
+     */
+    public QueryPage<FeedbackResponseAttributes> getFeedbackResponsesForSessionToSectionPage(
+            String feedbackSessionName, String courseId, String section, String cursor, int pageSize) {
+        if (section == null) {
+            return frDb.getFeedbackResponsesForSessionByRecipientPage(feedbackSessionName, courseId, cursor, pageSize);
+        }
+        return frDb.getFeedbackResponsesForSessionToSectionPage(feedbackSessionName, courseId, section, cursor, pageSize);
+    }
+
     public List<FeedbackResponseAttributes> getFeedbackResponsesForQuestion(String feedbackQuestionId) {
         return frDb.getFeedbackResponsesForQuestion(feedbackQuestionId);
     }
@@ -153,6 +233,14 @@ public final class FeedbackResponsesLogic {
         return frDb.getFeedbackResponsesForQuestionInSection(feedbackQuestionId, section);
     }
 
+    public List<FeedbackResponseAttributes> getFeedbackResponsesForQuestionFromSection(
+            String feedbackQuestionId, String section) {
+        if (section == null) {
+            return getFeedbackResponsesForQuestion(feedbackQuestionId);
+        }
+        return frDb.getFeedbackResponsesForQuestionFromSection(feedbackQuestionId, section);
+    }
+
     public List<FeedbackResponseAttributes> getFeedbackResponsesForReceiverForQuestion(
             String feedbackQuestionId, String userEmail) {
         return frDb.getFeedbackResponsesForReceiverForQuestion(feedbackQuestionId, userEmail);
@@ -257,6 +345,106 @@ public final class FeedbackResponsesLogic {
         return viewableResponses;
     }
 
+    /**
+     * Filters {@code responsesForQuestion}, which must contain all the responses of {@code question},
+     * down to the responses that are viewable by the user in the given section.<br>
+     * This returns the same responses as
+     * {@link #getViewableFeedbackResponsesForQuestionInSection(FeedbackQuestionAttributes, String, UserRole, String)}
+     * but works on responses that are already loaded instead of querying the database for each visibility rule.
+     *
+     * @param student the student viewing the responses; only used when {@code role} is {@link UserRole#STUDENT}
+     * @param studentsEmailInTeam emails of the students in the same team as {@code student}, including the student
+     */
+    public List<FeedbackResponseAttributes> getViewableFeedbackResponsesForQuestionInSection(
+            FeedbackQuestionAttributes question, List<FeedbackResponseAttributes> responsesForQuestion,
+            String userEmail, UserRole role, String section,
+            StudentAttributes student, Set<String> studentsEmailInTeam) {
+
+        if (role != UserRole.STUDENT && role != UserRole.INSTRUCTOR) {
+            Assumption.fail("The role of the requesting use has to be Student or Instructor");
+        }
+
+        List<FeedbackResponseAttributes> viewableResponses = new ArrayList<>();
+        for (FeedbackResponseAttributes response : responsesForQuestion) {
+            if (isResponseViewableInSection(question, response, userEmail, role, section,
+                                            student, studentsEmailInTeam)) {
+                viewableResponses.add(response);
+            }
+        }
+        return viewableResponses;
+    }
+
+    private boolean isResponseViewableInSection(
+            FeedbackQuestionAttributes question, FeedbackResponseAttributes response,
+            String userEmail, UserRole role, String section,
+            StudentAttributes student, Set<String> studentsEmailInTeam) {
+
+        boolean isGiverOrRecipientInSection = section == null
+                || section.equals(response.giverSection) || section.equals(response.recipientSection);
+
+        // responses that the user submitted himself
+        if (isGiverOrRecipientInSection && response.giver.equals(userEmail)) {
+            return true;
+        }
+
+        // responses that user is a receiver of when question is visible to receiver
+        if (isGiverOrRecipientInSection && response.recipient.equals(userEmail)
+                && question.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)) {
+            return true;
+        }
+
+        if (role == UserRole.INSTRUCTOR) {
+            return question.isResponseVisibleTo(FeedbackParticipantType.INSTRUCTORS)
+                    && isResponseInSection(response, section);
+        }
+
+        return isResponseViewableByStudent(question, response, student, studentsEmailInTeam);
+    }
+
+    /**
+     * Returns true if the response is in the section, using the same criteria as
+     * {@link FeedbackResponsesDb#getFeedbackResponsesForQuestionInSection(String, String)}.
+     */
+    private boolean isResponseInSection(FeedbackResponseAttributes response, String section) {
+        if (section == null) {
+            return true;
+        }
+        boolean isGiverInSection = section.equals(response.giverSection);
+        boolean isRecipientInSection = section.equals(response.recipientSection);
+        return isGiverInSection && isRecipientInSection
+                || isGiverInSection && Const.DEFAULT_SECTION.equals(response.recipientSection)
+                || Const.DEFAULT_SECTION.equals(response.giverSection) && isRecipientInSection;
+    }
+
+    private boolean isResponseViewableByStudent(
+            FeedbackQuestionAttributes question, FeedbackResponseAttributes response,
+            StudentAttributes student, Set<String> studentsEmailInTeam) {
+
+        if (question.isResponseVisibleTo(FeedbackParticipantType.STUDENTS)) {
+            return true;
+        }
+
+        if (student == null) {
+            return false;
+        }
+
+        if (question.recipientType.isTeam()
+                && question.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)
+                && response.recipient.equals(student.team)) {
+            return true;
+        }
+
+        if ((question.giverType == FeedbackParticipantType.TEAMS
+                || question.isResponseVisibleTo(FeedbackParticipantType.OWN_TEAM_MEMBERS))
+                && (studentsEmailInTeam.contains(response.giver) || response.giver.equals(student.team))) {
+            return true;
+        }
+
+        return question.isResponseVisibleTo(FeedbackParticipantType.RECEIVER_TEAM_MEMBERS)
+                && !response.recipient.equals(student.email)
+                && studentsEmailInTeam.contains(response.recipient);
+    }
+
     public boolean isNameVisibleToUser(
             FeedbackQuestionAttributes question,
             FeedbackResponseAttributes response,
@@ -373,6 +561,14 @@ public final class FeedbackResponsesLogic {
         return frDb.hasFeedbackResponseEntitiesForCourse(courseId);
     }
 
+    /**
+     * Returns true if there are responses given by or to {@code email} in the course.
+     */
+    public boolean hasFeedbackResponsesForEmailInCourse(String courseId, String email) {
+        return !frDb.getFeedbackResponsesFromGiverForCourseWithinRange(courseId, email, 1).isEmpty()
+                || !frDb.getFeedbackResponsesForReceiverForCourseWithinRange(courseId, email, 1).isEmpty();
+    }
+
     /**
      * Updates a {@link FeedbackResponse} based on it's {@code id}.<br>
      * If the giver/recipient field is changed, the {@link FeedbackResponse} is
@@ -443,6 +639,85 @@ public final class FeedbackResponsesLogic {
         }
     }
 
+    /**
+     * Updates the given responses as {@link #updateFeedbackResponse(FeedbackResponseAttributes)} does for each of them,
+     * but reads all the existing responses in a single batch read and saves all the responses whose
+     * giver and recipient are unchanged in a single batch write.
+     * Responses whose giver or recipient is changed are recreated one by one afterwards.<br>
+     * A response that is invalid, or that cannot be recreated, is left as it is without affecting the others.
+     *
+     * @return the exceptions for the responses that are not updated
+     * @throws EntityDoesNotExistException if any of the responses does not exist, after the others are updated
+     */
+    public List<TeammatesException> updateFeedbackResponses(List<FeedbackResponseAttributes> responsesToUpdate)
+            throws EntityDoesNotExistException {
+        Assumption.assertNotNull(responsesToUpdate);
+
+        List<String> responseIds = new ArrayList<>();
+        for (FeedbackResponseAttributes response : responsesToUpdate) {
+            if (response.getId() != null) {
+                responseIds.add(response.getId());
+            }
+        }
+        Map<String, FeedbackResponse> existingResponseEntities = frDb.getFeedbackResponseEntities(responseIds);
+
+        List<FeedbackResponseAttributes> responsesToSave = new ArrayList<>();
+        List<FeedbackResponse> responseEntitiesToSave = new ArrayList<>();
+        List<FeedbackResponseAttributes> responsesToRecreate = new ArrayList<>();
+        List<FeedbackResponseAttributes> responsesToReplace = new ArrayList<>();
+        List<TeammatesException> exceptions = new ArrayList<>();
+        boolean hasNonExistentResponse = false;
+        for (FeedbackResponseAttributes response : responsesToUpdate) {
+            FeedbackResponse oldResponseEntity = response.getId() == null
+                    ? frDb.getFeedbackResponseEntityWithCheck(response.feedbackQuestionId, response.giver,
+                            response.recipient)
+                    : existingResponseEntities.get(response.getId());
+            if (oldResponseEntity == null) {
+                hasNonExistentResponse = true;
+                continue;
+            }
+
+            FeedbackResponseAttributes newResponse = new FeedbackResponseAttributes(response);
+            FeedbackResponseAttributes oldResponse = new FeedbackResponseAttributes(oldResponseEntity);
+            copyFixedValuesFromOldToNew(newResponse, oldResponse);
+            if (!newResponse.isValid()) {
+                exceptions.add(new InvalidParametersException(newResponse.getInvalidityInfo()));
+                continue;
+            }
+
+            if (newResponse.recipient.equals(oldResponse.recipient)
+                    && newResponse.giver.equals(oldResponse.giver)) {
+                responsesToSave.add(newResponse);
+                responseEntitiesToSave.add(oldResponseEntity);
+            } else {
+                responsesToRecreate.add(newResponse);
+                responsesToReplace.add(oldResponse);
+            }
+        }
+
+        try {
+            frDb.updateFeedbackResponsesOptimized(responsesToSave, responseEntitiesToSave);
+        } catch (InvalidParametersException e) {
+            // the invalid responses are already left out
+            Assumption.fail(TeammatesException.toStringWithStackTrace(e));
+        }
+        for (int i = 0; i < responsesToRecreate.size(); i++) {
+            try {
+                // Recreate response to prevent possible future id conflict.
+                recreateResponse(responsesToRecreate.get(i), responsesToReplace.get(i));
+            } catch (InvalidParametersException | EntityAlreadyExistsException e) {
+                exceptions.add(e);
+            } catch (EntityDoesNotExistException e) {
+                hasNonExistentResponse = true;
+            }
+        }
+
+        if (hasNonExistentResponse) {
+            throw new EntityDoesNotExistException("Trying to update a feedback response that does not exist.");
+        }
+        return exceptions;
+    }
+
     /**
      * Copies values that cannot be changed to defensively avoid invalid parameters.
      * @param newResponse  values are copied from oldResponse
@@ -603,6 +878,87 @@ public final class FeedbackResponsesLogic {
         return shouldDeleteResponse;
     }
 
+    /**
+     * Adjusts the responses in the session for the changes in the enrollment of students, with the same rules as
+     * {@link #updateFeedbackResponseForChangingTeam} and {@link #updateFeedbackResponseForChangingSection}.
+     * Only the responses given by or to the students whose team or section is changed are read,
+     * and the responses to be deleted and updated are written in batches.
+     */
+    public void updateFeedbackResponsesForChangingEnrollments(String feedbackSessionName, String courseId,
+            List<StudentEnrollDetails> enrollmentList) throws InvalidParametersException, EntityDoesNotExistException {
+        Map<String, StudentEnrollDetails> modifiedEnrollments = new HashMap<>();
+        for (StudentEnrollDetails enrollment : enrollmentList) {
+            if (enrollment.updateStatus == StudentUpdateStatus.MODIFIED
+                    && (StudentsLogic.isTeamChanged(enrollment.oldTeam, enrollment.newTeam)
+                        || StudentsLogic.isSectionChanged(enrollment.oldSection, enrollment.newSection))) {
+                modifiedEnrollments.put(enrollment.email, enrollment);
+            }
+        }
+        if (modifiedEnrollments.isEmpty()) {
+            return;
+        }
+
+        Map<String, FeedbackQuestionAttributes> questions = new HashMap<>();
+        for (FeedbackQuestionAttributes question
+                : fqLogic.getFeedbackQuestionsForSession(feedbackSessionName, courseId)) {
+            questions.put(question.getId(), question);
+        }
+
+        List<FeedbackResponseAttributes> responsesToDelete = new ArrayList<>();
+        Set<String> giversOfDeletedResponses = new HashSet<>();
+        List<FeedbackResponseAttributes> responsesToUpdate = new ArrayList<>();
+        List<FeedbackResponse> responseEntitiesToUpdate = new ArrayList<>();
+        for (FeedbackResponse responseEntity : frDb.getFeedbackResponseEntitiesFromOrToUsersForSession(
+                modifiedEnrollments.keySet(), feedbackSessionName, courseId)) {
+            FeedbackResponseAttributes response = new FeedbackResponseAttributes(responseEntity);
+            FeedbackQuestionAttributes question = questions.get(response.feedbackQuestionId);
+            if (question == null) {
+                // the question is deleted while the responses are being adjusted
+                continue;
+            }
+            StudentEnrollDetails giverEnrollment = modifiedEnrollments.get(response.giver);
+            StudentEnrollDetails recipientEnrollment = modifiedEnrollments.get(response.recipient);
+
+            boolean shouldDeleteByChangeOfGiver = giverEnrollment != null
+                                                  && StudentsLogic.isTeamChanged(giverEnrollment.oldTeam,
+                                                                                 giverEnrollment.newTeam)
+                                                  && (question.giverType == FeedbackParticipantType.TEAMS
+                                                      || isRecipientTypeTeamMembers(question));
+            boolean shouldDeleteByChangeOfRecipient = recipientEnrollment != null
+                                                      && StudentsLogic.isTeamChanged(recipientEnrollment.oldTeam,
+                                                                                     recipientEnrollment.newTeam)
+                                                      && isRecipientTypeTeamMembers(question);
+            if (shouldDeleteByChangeOfGiver || shouldDeleteByChangeOfRecipient) {
+                responsesToDelete.add(response);
+                giversOfDeletedResponses.add(response.giver);
+                continue;
+            }
+
+            boolean isGiverSectionChanged = giverEnrollment != null
+                    && StudentsLogic.isSectionChanged(giverEnrollment.oldSection, giverEnrollment.newSection);
+            if (isGiverSectionChanged) {
+                response.giverSection = giverEnrollment.newSection;
+            }
+            boolean isRecipientSectionChanged = recipientEnrollment != null
+                    && StudentsLogic.isSectionChanged(recipientEnrollment.oldSection, recipientEnrollment.newSection);
+            if (isRecipientSectionChanged) {
+                response.recipientSection = recipientEnrollment.newSection;
+            }
+            if (isGiverSectionChanged || isRecipientSectionChanged) {
+                responsesToUpdate.add(response);
+                responseEntitiesToUpdate.add(responseEntity);
+            }
+        }
+
+        frDb.deleteFeedbackResponses(responsesToDelete);
+        frDb.updateFeedbackResponsesOptimized(responsesToUpdate, responseEntitiesToUpdate);
+        frcLogic.updateFeedbackResponseCommentsForResponses(responsesToUpdate);
+
+        for (String giver : giversOfDeletedResponses) {
+            updateSessionResponseRateForDeletingStudentResponse(giver, feedbackSessionName, courseId);
+        }
+    }
+
     private void updateSessionResponseRateForDeletingStudentResponse(String studentEmail, String sessionName,
             String courseId) throws InvalidParametersException, EntityDoesNotExistException {
         if (!hasGiverRespondedForSession(studentEmail, sessionName, courseId)) {
@@ -641,40 +997,70 @@ public final class FeedbackResponsesLogic {
     }
 
     /**
-     * Updates responses for a student when his email changes.
+     * Updates responses for a student when their email changes, together with the comments on the responses.
      */
-    // TODO: cascade the update to response comments
     public void updateFeedbackResponsesForChangingEmail(
             String courseId, String oldEmail, String newEmail)
-            throws InvalidParametersException, EntityDoesNotExistException {
+            throws InvalidParametersException {
+        boolean hasRemainingResponses = true;
+        while (hasRemainingResponses) {
+            hasRemainingResponses = updateFeedbackResponsesBatchForChangingEmail(courseId, oldEmail, newEmail);
+        }
+    }
 
-        List<FeedbackResponseAttributes> responsesFromUser =
-                getFeedbackResponsesFromGiverForCourse(courseId, oldEmail);
+    /**
+     * Moves one batch of the responses given by or to {@code oldEmail} in the course to {@code newEmail}.
+     * The new IDs of the responses are computed up front and checked with a single batch read. The new responses
+     * are then created, their comments moved to them and the old responses deleted, with one batch write each.
+     * A response whose new ID is already taken is not created again, so that a failed batch can be retried.
+     *
+     * @return true if there may be more responses of {@code oldEmail} left to be moved
+     */
+    public boolean updateFeedbackResponsesBatchForChangingEmail(String courseId, String oldEmail, String newEmail)
+            throws InvalidParametersException {
+        // one more response than the batch size is read, only to tell if any responses are left after the batch
+        List<FeedbackResponseAttributes> responsesFromUser = frDb.getFeedbackResponsesFromGiverForCourseWithinRange(
+                courseId, oldEmail, MAX_RESPONSES_PER_EMAIL_CHANGE_BATCH);
+        List<FeedbackResponseAttributes> responsesToUser = frDb.getFeedbackResponsesForReceiverForCourseWithinRange(
+                courseId, oldEmail, MAX_RESPONSES_PER_EMAIL_CHANGE_BATCH);
+
+        // responses that the user gave to themselves are found by both queries
+        Map<String, FeedbackResponseAttributes> oldResponses = new LinkedHashMap<>();
+        for (FeedbackResponseAttributes response
+                : responsesFromUser.subList(0, Math.min(responsesFromUser.size(), MAX_RESPONSES_PER_EMAIL_CHANGE_BATCH))) {
+            oldResponses.put(response.getId(), response);
+        }
+        for (FeedbackResponseAttributes response
+                : responsesToUser.subList(0, Math.min(responsesToUser.size(), MAX_RESPONSES_PER_EMAIL_CHANGE_BATCH))) {
+            oldResponses.put(response.getId(), response);
+        }
+        if (oldResponses.isEmpty()) {
+            return false;
+        }
 
-        for (FeedbackResponseAttributes response : responsesFromUser) {
-            response.giver = newEmail;
-            try {
-                updateFeedbackResponse(response);
-            } catch (EntityAlreadyExistsException e) {
-                Assumption
-                        .fail("Feedback response failed to update successfully"
-                            + "as email was already in use.");
+        Map<String, FeedbackResponseAttributes> newResponses = new LinkedHashMap<>();
+        Map<String, String> newResponseIds = new HashMap<>();
+        for (FeedbackResponseAttributes oldResponse : oldResponses.values()) {
+            FeedbackResponseAttributes newResponse = new FeedbackResponseAttributes(oldResponse);
+            newResponse.setId(null);
+            if (newResponse.giver.equals(oldEmail)) {
+                newResponse.giver = newEmail;
             }
+            if (newResponse.recipient.equals(oldEmail)) {
+                newResponse.recipient = newEmail;
+            }
+            String newResponseId = newResponse.toEntity().getId();
+            newResponses.put(newResponseId, newResponse);
+            newResponseIds.put(oldResponse.getId(), newResponseId);
         }
 
-        List<FeedbackResponseAttributes> responsesToUser =
-                getFeedbackResponsesForReceiverForCourse(courseId, oldEmail);
+        newResponses.keySet().removeAll(frDb.getFeedbackResponseEntities(newResponses.keySet()).keySet());
+        frDb.createEntitiesWithoutExistenceCheck(newResponses.values());
+        frcLogic.updateFeedbackResponseCommentsForChangingResponseIds(newResponseIds);
+        frDb.deleteFeedbackResponses(oldResponses.values());
 
-        for (FeedbackResponseAttributes response : responsesToUser) {
-            response.recipient = newEmail;
-            try {
-                updateFeedbackResponse(response);
-            } catch (EntityAlreadyExistsException e) {
-                Assumption
-                        .fail("Feedback response failed to update successfully"
-                            + "as email was already in use.");
-            }
-        }
+        return responsesFromUser.size() > MAX_RESPONSES_PER_EMAIL_CHANGE_BATCH
+                || responsesToUser.size() > MAX_RESPONSES_PER_EMAIL_CHANGE_BATCH;
     }
 
     public void deleteFeedbackResponseAndCascade(FeedbackResponseAttributes responseToDelete) {
@@ -682,41 +1068,63 @@ public final class FeedbackResponsesLogic {
         frDb.deleteEntity(responseToDelete);
     }
 
+    /**
+     * Deletes the given responses and their comments, with batch writes of at most 500 entities.
+     */
+    public void deleteFeedbackResponsesAndCascade(List<FeedbackResponseAttributes> responsesToDelete) {
+        Assumption.assertNotNull(responsesToDelete);
+
+        // a response that a user gave to themselves may be in the list twice
+        Set<String> responseIds = new LinkedHashSet<>();
+        for (FeedbackResponseAttributes response : responsesToDelete) {
+            responseIds.add(response.getId());
+        }
+        frcLogic.deleteFeedbackResponseCommentsForResponses(responseIds);
+        frDb.deleteFeedbackResponses(responsesToDelete);
+    }
+
+    /**
+     * Deletes the responses to a question and their comments by their keys.
+     * If {@code hasResponseRateUpdate} is true, the givers left without responses in the session are removed
+     * from the respondents of the session with a single write; otherwise the responses are found
+     * with a keys-only query.
+     */
     public void deleteFeedbackResponsesForQuestionAndCascade(
             String feedbackQuestionId, boolean hasResponseRateUpdate) {
+        if (!hasResponseRateUpdate) {
+            List<String> responseIds = frDb.getFeedbackResponseIdsForQuestion(feedbackQuestionId);
+            frcLogic.deleteFeedbackResponseCommentsForResponses(responseIds);
+            frDb.deleteFeedbackResponsesByIds(responseIds);
+            return;
+        }
+
+        // the givers cannot be recovered from the keys as emails may contain the separator of the response ID
         List<FeedbackResponseAttributes> responsesForQuestion =
                 getFeedbackResponsesForQuestion(feedbackQuestionId);
+        if (responsesForQuestion.isEmpty()) {
+            return;
+        }
+        deleteFeedbackResponsesAndCascade(responsesForQuestion);
 
         Set<String> emails = new HashSet<>();
-
         for (FeedbackResponseAttributes response : responsesForQuestion) {
-            this.deleteFeedbackResponseAndCascade(response);
             emails.add(response.giver);
         }
 
-        if (!hasResponseRateUpdate) {
-            return;
-        }
-
         try {
             FeedbackQuestionAttributes question = fqLogic
                     .getFeedbackQuestion(feedbackQuestionId);
             boolean isInstructor = question.giverType == FeedbackParticipantType.SELF
                                    || question.giverType == FeedbackParticipantType.INSTRUCTORS;
-            for (String email : emails) {
-                boolean hasResponses = hasGiverRespondedForSession(email, question.feedbackSessionName, question.courseId);
-                if (!hasResponses) {
-                    if (isInstructor) {
-                        fsLogic.deleteInstructorRespondent(email,
-                                question.feedbackSessionName,
-                                question.courseId);
-                    } else {
-                        fsLogic.deleteStudentFromRespondentList(email,
-                                question.feedbackSessionName,
-                                question.courseId);
-                    }
-                }
-            }
+
+            Set<String> nonRespondents = new HashSet<>(emails);
+            nonRespondents.removeAll(frDb.getGiverEmailsWithResponsesForSession(
+                    emails, question.feedbackSessionName, question.courseId));
+
+            Set<String> noEmails = new HashSet<>();
+            fsLogic.deleteRespondents(isInstructor ? nonRespondents : noEmails,
+                                      isInstructor ? noEmails : nonRespondents,
+                                      question.feedbackSessionName, question.courseId);
         } catch (InvalidParametersException | EntityDoesNotExistException e) {
             Assumption.fail("Fail to delete respondent");
         }
@@ -742,9 +1150,25 @@ public final class FeedbackResponsesLogic {
             responses.addAll(getFeedbackResponsesForReceiverForCourse(courseId, studentTeam));
         }
 
-        for (FeedbackResponseAttributes response : responses) {
-            this.deleteFeedbackResponseAndCascade(response);
-        }
+        deleteFeedbackResponsesAndCascade(responses);
+    }
+
+    /**
+     * Deletes one batch of the responses in a session and one batch of the comments in the session.
+     * Both are found with keys-only queries and deleted by their keys, so that a session of any size
+     * can be deleted in bounded steps. The respondents of the session are not updated.
+     *
+     * @return true if there may be more responses or comments in the session left to be deleted
+     */
+    public boolean deleteFeedbackResponsesForSessionBatch(String feedbackSessionName, String courseId) {
+        boolean hasRemainingComments = frcLogic.deleteFeedbackResponseCommentsForSessionBatch(
+                courseId, feedbackSessionName, MAX_ENTITIES_PER_SESSION_DELETION_BATCH);
+
+        List<String> responseIds = frDb.getFeedbackResponseIdsForSessionWithinRange(
+                feedbackSessionName, courseId, MAX_ENTITIES_PER_SESSION_DELETION_BATCH);
+        frDb.deleteFeedbackResponsesByIds(responseIds);
+
+        return hasRemainingComments || responseIds.size() > MAX_ENTITIES_PER_SESSION_DELETION_BATCH;
     }
 
     /**
@@ -756,6 +1180,16 @@ public final class FeedbackResponsesLogic {
         frDb.deleteFeedbackResponsesForCourse(courseId);
     }
 
+    /**
+     * Deletes one page of the responses of the course. This is a non-cascade delete.
+     *
+     * @param cursor the cursor returned for the previous page, or null for the first page
+     * @return the cursor at which the next page starts, or null if there are no more responses
+     */
+    public String deleteFeedbackResponsesForCoursePage(String courseId, String cursor, int pageSize) {
+        return frDb.deleteFeedbackResponsesForCoursePage(courseId, cursor, pageSize);
+    }
+
     /**
      * Adds {@link FeedbackResponseAttributes} in {@code newResponses} that are
      * not already in to {@code existingResponses} to {@code existingResponses}.
@@ -1,14 +1,20 @@
 package teammates.logic.core;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import teammates.common.datatransfer.*;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
@@ -31,12 +37,17 @@ import teammates.storage.api.FeedbackSessionsDb;
 public final class FeedbackSessionsLogic {
 
     private static final String QUESTION_ID_FOR_RESPONSE_RATE = "-1";
+    private static final int RESPONSE_RATE_RECONCILIATION_PERIOD_IN_DAYS = 2;
     private static final int EMAIL_NAME_PAIR = 0;
     private static final int EMAIL_LASTNAME_PAIR = 1;
     private static final int EMAIL_TEAMNAME_PAIR = 2;
 
     private static final String ASSUMPTION_FAIL_DELETE_INSTRUCTOR = "Fail to delete instructor respondent for ";
     private static final String ASSUMPTION_FAIL_RESPONSE_ORIGIN = "Client did not indicate the origin of the response(s)";
+    private static final String ASSUMPTION_FAIL_RESPONSE_PAGE_ORIGIN =
+            "Paged responses must be either from or to a section";
+    // not used by web-safe cursors
+    private static final String PAGE_TOKEN_SEPARATOR = "~";
     private static final String ERROR_NON_EXISTENT_COURSE = "Error getting feedback session(s): Course does not exist.";
     private static final String ERROR_NON_EXISTENT_STUDENT = "Error getting feedback session(s): Student does not exist.";
     private static final String ERROR_NON_EXISTENT_FS_STRING_FORMAT = "Trying to %s a non-existent feedback session: ";
@@ -62,6 +73,13 @@ public final class FeedbackSessionsLogic {
 
     private static final FeedbackSessionsDb fsDb = new FeedbackSessionsDb();
 
+    /**
+     * Sessions whose expected respondent count was computed but not stored in the current request,
+     * keyed by their identification string. {@code null} if the sessions are not being recorded.
+     */
+    private static final ThreadLocal<Map<String, FeedbackSessionAttributes>> sessionsWithUnstoredRespondentCount =
+            new ThreadLocal<>();
+
     private static final CoursesLogic coursesLogic = CoursesLogic.inst();
     private static final FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
     private static final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
@@ -497,7 +515,7 @@ public final class FeedbackSessionsLogic {
      *            the ID of the course
      */
     private Set<String> getHiddenInstructorEmails(String courseId) {
-        List<InstructorAttributes> instructors = instructorsLogic.getInstructorsForCourse(courseId);
+        List<InstructorAttributes> instructors = CourseRosterCache.getCourseRoster(courseId).getInstructors();
         Set<String> hiddenInstructorEmails = new HashSet<>();
 
         for (InstructorAttributes instructor : instructors) {
@@ -525,8 +543,7 @@ public final class FeedbackSessionsLogic {
         List<FeedbackQuestionAttributes> allQuestions = fqLogic.getFeedbackQuestionsForSession(feedbackSessionName,
                         courseId);
 
-        CourseRoster roster = new CourseRoster(studentsLogic.getStudentsForCourse(courseId),
-                                               instructorsLogic.getInstructorsForCourse(courseId));
+        CourseRoster roster = CourseRosterCache.getCourseRoster(courseId);
         return getFeedbackSessionResponseStatus(session, roster, allQuestions);
     }
 
@@ -550,15 +567,7 @@ public final class FeedbackSessionsLogic {
         FeedbackSessionResultsBundle results;
 
 
-        if (feedbackSessionIdentification.questionId == null) {
-
-            int indicatedRange = feedbackSessionIdentification.section == null ? Const.INSTRUCTOR_VIEW_RESPONSE_LIMIT : -1;
-
-            results = getFeedbackSessionResultsForInstructorInSectionWithinRangeFromView(
-                    feedbackSessionIdentification.feedbackSessionName, feedbackSessionIdentification.courseId, feedbackSessionIdentification.userEmail, feedbackSessionIdentification.section,
-                    indicatedRange, Const.FeedbackSessionResults.GRQ_SORT_TYPE);
-
-        } else if (feedbackSessionIdentification.section == null) {
+        if (feedbackSessionIdentification.section == null) {
 
             results = getFeedbackSessionResultsForInstructorFromQuestion(
                     feedbackSessionIdentification.feedbackSessionName, feedbackSessionIdentification.courseId, feedbackSessionIdentification.userEmail, feedbackSessionIdentification.questionId);
@@ -584,9 +593,7 @@ public final class FeedbackSessionsLogic {
         // methods
         // (rather than loading them many times).
 
-        CourseRoster roster = new CourseRoster(
-                studentsLogic.getStudentsForCourse(courseId),
-                instructorsLogic.getInstructorsForCourse(courseId));
+        CourseRoster roster = CourseRosterCache.getCourseRoster(courseId);
 
         FeedbackSessionResultParameters parameters = new FeedbackSessionResultParameters(questionId);
         parameters.setIncludeResposeStatusTrue();
@@ -605,9 +612,7 @@ public final class FeedbackSessionsLogic {
                                                 String questionId, String selectedSection)
                                         throws EntityDoesNotExistException {
 
-        CourseRoster roster = new CourseRoster(
-                studentsLogic.getStudentsForCourse(courseId),
-                instructorsLogic.getInstructorsForCourse(courseId));
+        CourseRoster roster = CourseRosterCache.getCourseRoster(courseId);
 
         FeedbackSessionResultParameters parameters = new FeedbackSessionResultParameters(questionId);
         parameters.setIncludeResposeStatusTrue();
@@ -635,9 +640,7 @@ public final class FeedbackSessionsLogic {
             String feedbackSessionName, String courseId, String userEmail, String section, int range, String viewType)
             throws EntityDoesNotExistException {
 
-        CourseRoster roster = new CourseRoster(
-                studentsLogic.getStudentsForCourse(courseId),
-                instructorsLogic.getInstructorsForCourse(courseId));
+        CourseRoster roster = CourseRosterCache.getCourseRoster(courseId);
 
         FeedbackSessionResultParameters parameters = new FeedbackSessionResultParameters();
         parameters.setIncludeResposeStatusTrue();
@@ -655,9 +658,7 @@ public final class FeedbackSessionsLogic {
             String feedbackSessionName, String courseId, String userEmail, String section, int range)
             throws EntityDoesNotExistException {
 
-        CourseRoster roster = new CourseRoster(
-                studentsLogic.getStudentsForCourse(courseId),
-                instructorsLogic.getInstructorsForCourse(courseId));
+        CourseRoster roster = CourseRosterCache.getCourseRoster(courseId);
 
         FeedbackSessionResultParameters parameters = new FeedbackSessionResultParameters();
         parameters.setIncludeResposeStatusTrue();
@@ -675,9 +676,7 @@ public final class FeedbackSessionsLogic {
             String feedbackSessionName, String courseId, String userEmail, String section, int range)
             throws EntityDoesNotExistException {
 
-        CourseRoster roster = new CourseRoster(
-                studentsLogic.getStudentsForCourse(courseId),
-                instructorsLogic.getInstructorsForCourse(courseId));
+        CourseRoster roster = CourseRosterCache.getCourseRoster(courseId);
 
         FeedbackSessionResultParameters parameters = new FeedbackSessionResultParameters();
         parameters.setIncludeResposeStatusTrue();
@@ -688,6 +687,50 @@ public final class FeedbackSessionsLogic {
                                                           UserRole.INSTRUCTOR, roster, parameters);
     }
 
+    /**
+     * Gets a page of results of a feedback session to show to an instructor, with responses given by a section
+     * (or by any section if {@code section} is null).
+     *
+     * <p>The bundle of every page but the last has a {@link FeedbackSessionResultsBundle#getNextCursor() cursor},
+     * which is to be passed back to get the next page.
+     * @param cursor the cursor of the previous page, or null for the first page
+     */
+    public FeedbackSessionResultsBundle getFeedbackSessionResultsForInstructorFromSectionPage(
+            String feedbackSessionName, String courseId, String userEmail, String section, String cursor, int pageSize)
+            throws EntityDoesNotExistException {
+
+        CourseRoster roster = CourseRosterCache.getCourseRoster(courseId);
+
+        FeedbackSessionResultParameters parameters = new FeedbackSessionResultParameters();
+        parameters.setIncludeResposeStatusTrue();
+        parameters.addFromSection(section);
+        parameters.setPage(cursor, pageSize);
+
+        return getFeedbackSessionResultsForUserWithParams(feedbackSessionName, courseId, userEmail,
+                                                          UserRole.INSTRUCTOR, roster, parameters);
+    }
+
+    /**
+     * Gets a page of results of a feedback session to show to an instructor, with responses given to a section
+     * (or to any section if {@code section} is null).
+     * @param cursor the cursor of the previous page, or null for the first page
+     * @see #getFeedbackSessionResultsForInstructorFromSectionPage(String, String, String, String, String, int)
+     */
+    public FeedbackSessionResultsBundle getFeedbackSessionResultsForInstructorToSectionPage(
+            String feedbackSessionName, String courseId, String userEmail, String section, String cursor, int pageSize)
+            throws EntityDoesNotExistException {
+
+        CourseRoster roster = CourseRosterCache.getCourseRoster(courseId);
+
+        FeedbackSessionResultParameters parameters = new FeedbackSessionResultParameters();
+        parameters.setIncludeResposeStatusTrue();
+        parameters.addToSection(section);
+        parameters.setPage(cursor, pageSize);
+
+        return getFeedbackSessionResultsForUserWithParams(feedbackSessionName, courseId, userEmail,
+                                                          UserRole.INSTRUCTOR, roster, parameters);
+    }
+
     /**
      * Gets results of a feedback session to show to an instructor.
      */
@@ -706,9 +749,7 @@ public final class FeedbackSessionsLogic {
             String section)
             throws EntityDoesNotExistException {
 
-        CourseRoster roster = new CourseRoster(
-                studentsLogic.getStudentsForCourse(courseId),
-                instructorsLogic.getInstructorsForCourse(courseId));
+        CourseRoster roster = CourseRosterCache.getCourseRoster(courseId);
 
 
         FeedbackSessionResultParameters parameters = new FeedbackSessionResultParameters();
@@ -727,9 +768,7 @@ public final class FeedbackSessionsLogic {
             String section)
             throws EntityDoesNotExistException {
 
-        CourseRoster roster = new CourseRoster(
-                studentsLogic.getStudentsForCourse(courseId),
-                instructorsLogic.getInstructorsForCourse(courseId));
+        CourseRoster roster = CourseRosterCache.getCourseRoster(courseId);
 
         FeedbackSessionResultParameters parameters = new FeedbackSessionResultParameters();
         parameters.setIncludeResposeStatusTrue();
@@ -747,9 +786,7 @@ public final class FeedbackSessionsLogic {
             String section)
             throws EntityDoesNotExistException {
 
-        CourseRoster roster = new CourseRoster(
-                studentsLogic.getStudentsForCourse(courseId),
-                instructorsLogic.getInstructorsForCourse(courseId));
+        CourseRoster roster = CourseRosterCache.getCourseRoster(courseId);
 
         FeedbackSessionResultParameters parameters = new FeedbackSessionResultParameters();
         parameters.setIncludeResposeStatusTrue();
@@ -799,7 +836,7 @@ public final class FeedbackSessionsLogic {
                 sessionsToSendEmailsFor.add(session);
             }
         }
-        return sessionsToSendEmailsFor;
+        return withoutSessionsOfHiddenCourses(sessionsToSendEmailsFor);
     }
 
     public List<FeedbackSessionAttributes> getFeedbackSessionsWhichNeedOpenEmailsToBeSent() {
@@ -812,7 +849,7 @@ public final class FeedbackSessionsLogic {
                 sessionsToSendEmailsFor.add(session);
             }
         }
-        return sessionsToSendEmailsFor;
+        return withoutSessionsOfHiddenCourses(sessionsToSendEmailsFor);
     }
 
     public boolean isCreatorOfSession(String feedbackSessionName, String courseId, String userEmail) {
@@ -865,6 +902,93 @@ public final class FeedbackSessionsLogic {
         return allQuestions.isEmpty();
     }
 
+    /**
+     * Gets the students and instructors of the course who have not completed the session {@code fsa},
+     * i.e. those who have questions to answer but are not in the respondent lists of the session.
+     * This is equivalent to checking {@link #isFeedbackSessionCompletedByStudent(FeedbackSessionAttributes, String)}
+     * and {@link #isFeedbackSessionCompletedByInstructor(FeedbackSessionAttributes, String)} for every user
+     * of the course, but reads the questions of the session only once.
+     */
+    public FeedbackSessionNonRespondents getFeedbackSessionNonRespondents(FeedbackSessionAttributes fsa)
+            throws EntityDoesNotExistException {
+        String feedbackSessionName = fsa.getFeedbackSessionName();
+        String courseId = fsa.getCourseId();
+        List<FeedbackQuestionAttributes> allQuestions =
+                fqLogic.getFeedbackQuestionsForSession(feedbackSessionName, courseId);
+
+        FeedbackSessionNonRespondents nonRespondents = new FeedbackSessionNonRespondents();
+
+        if (!fqLogic.getFeedbackQuestionsForStudents(allQuestions).isEmpty()) {
+            for (StudentAttributes student : studentsLogic.getStudentsForCourse(courseId)) {
+                if (!fsa.getRespondingStudentList().contains(student.email)) {
+                    nonRespondents.getStudents().add(student);
+                }
+            }
+        }
+
+        boolean hasQuestionsForInstructors = !fqLogic.getFeedbackQuestionsForInstructor(allQuestions, false).isEmpty();
+        boolean hasQuestionsForCreator = !fqLogic.getFeedbackQuestionsForInstructor(allQuestions, true).isEmpty();
+        for (InstructorAttributes instructor : instructorsLogic.getInstructorsForCourse(courseId)) {
+            boolean hasQuestions = fsa.getCreatorEmail().equals(instructor.email)
+                                   ? hasQuestionsForCreator
+                                   : hasQuestionsForInstructors;
+            if (hasQuestions && !fsa.getRespondingInstructorList().contains(instructor.email)) {
+                nonRespondents.getInstructors().add(instructor);
+            }
+        }
+
+        return nonRespondents;
+    }
+
+    /**
+     * Gets the students of the course who have not fully completed the session {@code fsa}.
+     * This is equivalent to checking {@link #isFeedbackSessionFullyCompletedByStudent(String, String, String)}
+     * for every student of the course, but reads the questions and responses of the session only once.
+     */
+    public List<StudentAttributes> getStudentsWhoHaveNotFullyCompletedFeedbackSession(FeedbackSessionAttributes fsa)
+            throws EntityDoesNotExistException {
+        String feedbackSessionName = fsa.getFeedbackSessionName();
+        String courseId = fsa.getCourseId();
+        List<FeedbackQuestionAttributes> questions = fqLogic.getFeedbackQuestionsForStudents(
+                fqLogic.getFeedbackQuestionsForSession(feedbackSessionName, courseId));
+
+        List<StudentAttributes> studentsWithIncompleteSession = new ArrayList<>();
+        if (questions.isEmpty()) {
+            return studentsWithIncompleteSession;
+        }
+
+        // question ID -> giver email -> number of responses given
+        Map<String, Map<String, Integer>> numberOfResponsesGiven = new HashMap<>();
+        for (FeedbackResponseAttributes response : frLogic.getFeedbackResponsesForSession(feedbackSessionName, courseId)) {
+            numberOfResponsesGiven.computeIfAbsent(response.feedbackQuestionId, key -> new HashMap<>())
+                                  .merge(response.giver, 1, Integer::sum);
+        }
+
+        for (StudentAttributes student : studentsLogic.getStudentsForCourse(courseId)) {
+            for (FeedbackQuestionAttributes question : questions) {
+                Map<String, Integer> responsesGivenForQuestion =
+                        numberOfResponsesGiven.getOrDefault(question.getId(), new HashMap<>());
+                if (!isQuestionFullyAnsweredByStudent(question, student,
+                                                      responsesGivenForQuestion.getOrDefault(student.email, 0))) {
+                    studentsWithIncompleteSession.add(student);
+                    break;
+                }
+            }
+        }
+        return studentsWithIncompleteSession;
+    }
+
+    private boolean isQuestionFullyAnsweredByStudent(FeedbackQuestionAttributes question, StudentAttributes student,
+            int numberOfResponsesGiven) throws EntityDoesNotExistException {
+        int numberOfResponsesNeeded = question.numberOfEntitiesToGiveFeedbackTo;
+
+        if (numberOfResponsesNeeded == Const.MAX_POSSIBLE_RECIPIENTS) {
+            numberOfResponsesNeeded = fqLogic.getRecipientsForQuestion(question, student.email, null, student).size();
+        }
+
+        return numberOfResponsesGiven >= numberOfResponsesNeeded;
+    }
+
     public void updateFeedbackSession(FeedbackSessionAttributes newSession)
             throws InvalidParametersException, EntityDoesNotExistException {
 
@@ -966,6 +1090,7 @@ public final class FeedbackSessionsLogic {
 
         addInstructorRespondents(new ArrayList<>(respondingInstructorList), feedbackSessionName, courseId);
         addStudentRespondents(new ArrayList<>(respondingStudentList), feedbackSessionName, courseId);
+        refreshExpectedRespondentCount(fsa);
     }
 
     public void deleteInstructorFromRespondentsList(InstructorAttributes instructor) {
@@ -1103,6 +1228,27 @@ public final class FeedbackSessionsLogic {
         fsDb.deleteInstructorRespondent(email, sessionToUpdate);
     }
 
+    /**
+     * Removes the given instructors and students from the respondents of the session with a single write.
+     */
+    public void deleteRespondents(Collection<String> instructorEmails, Collection<String> studentEmails,
+            String feedbackSessionName, String courseId) throws EntityDoesNotExistException, InvalidParametersException {
+
+        Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, courseId);
+
+        if (instructorEmails.isEmpty() && studentEmails.isEmpty()) {
+            return;
+        }
+
+        FeedbackSessionAttributes sessionToUpdate = getFeedbackSession(feedbackSessionName, courseId);
+        if (sessionToUpdate == null) {
+            throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_FS_UPDATE + courseId + "/" + feedbackSessionName);
+        }
+
+        fsDb.deleteRespondents(instructorEmails, studentEmails, sessionToUpdate);
+    }
+
     public void deleteStudentFromRespondentList(String email, String feedbackSessionName, String courseId)
             throws EntityDoesNotExistException, InvalidParametersException {
 
@@ -1169,7 +1315,7 @@ public final class FeedbackSessionsLogic {
             }
         }
 
-        return requiredSessions;
+        return withoutSessionsOfHiddenCourses(requiredSessions);
     }
 
     /**
@@ -1187,7 +1333,22 @@ public final class FeedbackSessionsLogic {
                 requiredSessions.add(session);
             }
         }
-        return requiredSessions;
+        return withoutSessionsOfHiddenCourses(requiredSessions);
+    }
+
+    /**
+     * Leaves out the sessions of courses that are marked for deletion, or no longer exist,
+     * as no automated emails are sent for them.
+     */
+    private List<FeedbackSessionAttributes> withoutSessionsOfHiddenCourses(List<FeedbackSessionAttributes> sessions) {
+        Map<String, Boolean> isCoursePresentById = new HashMap<>();
+        List<FeedbackSessionAttributes> sessionsOfPresentCourses = new ArrayList<>();
+        for (FeedbackSessionAttributes session : sessions) {
+            if (isCoursePresentById.computeIfAbsent(session.getCourseId(), coursesLogic::isCoursePresent)) {
+                sessionsOfPresentCourses.add(session);
+            }
+        }
+        return sessionsOfPresentCourses;
     }
 
     /**
@@ -1213,6 +1374,16 @@ public final class FeedbackSessionsLogic {
         fsDb.deleteFeedbackSessionsForCourse(courseId);
     }
 
+    /**
+     * Deletes one page of the sessions of the course. This is a non-cascade delete.
+     *
+     * @param cursor the cursor returned for the previous page, or null for the first page
+     * @return the cursor at which the next page starts, or null if there are no more sessions
+     */
+    public String deleteFeedbackSessionsForCoursePage(String courseId, String cursor, int pageSize) {
+        return fsDb.deleteFeedbackSessionsForCoursePage(courseId, cursor, pageSize);
+    }
+
     /**
      * Deletes a specific feedback session, and all its question and responses.
      */
@@ -1232,6 +1403,122 @@ public final class FeedbackSessionsLogic {
 
     }
 
+    /**
+     * Starts recording the feedback sessions whose expected respondent count is computed, but not stored,
+     * by reads in the request being processed by the current thread.
+     */
+    public void startDeferringExpectedRespondentCountRefreshes() {
+        sessionsWithUnstoredRespondentCount.set(new LinkedHashMap<>());
+    }
+
+    /**
+     * Stops recording the feedback sessions started by {@link #startDeferringExpectedRespondentCountRefreshes()}.
+     *
+     * @return the sessions whose expected respondent count should be refreshed
+     */
+    public List<FeedbackSessionAttributes> stopDeferringExpectedRespondentCountRefreshes() {
+        Map<String, FeedbackSessionAttributes> sessions = sessionsWithUnstoredRespondentCount.get();
+        sessionsWithUnstoredRespondentCount.remove();
+        return sessions == null ? new ArrayList<>() : new ArrayList<>(sessions.values());
+    }
+
+    /**
+     * Returns the number of respondents expected for a standard feedback session.
+     * The count stored with the session is used if available; otherwise it is computed from
+     * the course roster and the questions of the session. A computed count is not stored, as this is
+     * used by read-only pages; the session is recorded instead so that the count can be refreshed later.
+     */
+    private int getExpectedRespondentCount(FeedbackSessionAttributes fsa) throws EntityDoesNotExistException {
+        if (fsa.getExpectedRespondentCount() != null) {
+            return fsa.getExpectedRespondentCount();
+        }
+
+        int expectedRespondentCount = computeExpectedRespondentCount(fsa);
+        fsa.setExpectedRespondentCount(expectedRespondentCount);
+
+        Map<String, FeedbackSessionAttributes> sessionsToRefresh = sessionsWithUnstoredRespondentCount.get();
+        if (sessionsToRefresh != null) {
+            sessionsToRefresh.put(fsa.getIdentificationString(), fsa);
+        }
+        return expectedRespondentCount;
+    }
+
+    /**
+     * Recomputes the number of respondents expected for the feedback session and stores it with the session.
+     * The count is not stored if it is marked as stale again while being recomputed, as it may then be outdated;
+     * the change that marked it will have the count recomputed.
+     *
+     * @return the recomputed count
+     */
+    public int refreshExpectedRespondentCount(FeedbackSessionAttributes fsa) throws EntityDoesNotExistException {
+        long version = fsDb.getExpectedRespondentCountVersion(fsa.getFeedbackSessionName(), fsa.getCourseId());
+        int expectedRespondentCount = computeExpectedRespondentCount(fsa);
+        if (!fsDb.updateExpectedRespondentCount(
+                fsa.getFeedbackSessionName(), fsa.getCourseId(), expectedRespondentCount, version)) {
+            log.info("Expected respondent count of " + fsa.getIdentificationString()
+                    + " changed while being recomputed, not storing the recomputed count");
+        }
+        fsa.setExpectedRespondentCount(expectedRespondentCount);
+        return expectedRespondentCount;
+    }
+
+    private int computeExpectedRespondentCount(FeedbackSessionAttributes fsa) throws EntityDoesNotExistException {
+        CourseRoster roster = CourseRosterCache.getCourseRoster(fsa.getCourseId());
+        List<FeedbackQuestionAttributes> questions =
+                fqLogic.getFeedbackQuestionsForSession(fsa.getFeedbackSessionName(), fsa.getCourseId());
+        List<FeedbackQuestionAttributes> studentQns = fqLogic.getFeedbackQuestionsForStudents(questions);
+
+        int expectedRespondentCount = 0;
+        if (!studentQns.isEmpty()) {
+            expectedRespondentCount += roster.getStudents().size();
+        }
+
+        for (InstructorAttributes instructor : roster.getInstructors()) {
+            List<FeedbackQuestionAttributes> instructorQns =
+                    fqLogic.getFeedbackQuestionsForInstructor(questions, fsa.isCreator(instructor.email));
+            if (!instructorQns.isEmpty()) {
+                expectedRespondentCount += 1;
+            }
+        }
+        return expectedRespondentCount;
+    }
+
+    /**
+     * Marks the stored expected respondent count of the feedback session as stale,
+     * e.g. after its questions have changed. Silently fails if the session does not exist.
+     */
+    public void clearExpectedRespondentCount(String feedbackSessionName, String courseId) {
+        try {
+            fsDb.clearExpectedRespondentCount(feedbackSessionName, courseId);
+        } catch (EntityDoesNotExistException e) {
+            // the session has been deleted, so there is no count to clear
+        }
+    }
+
+    /**
+     * Marks the stored expected respondent counts of all feedback sessions in the course as stale,
+     * e.g. after students or instructors have been added to or removed from the course.
+     */
+    public void clearExpectedRespondentCountsForCourse(String courseId) {
+        fsDb.clearExpectedRespondentCountsForCourse(courseId);
+    }
+
+    /**
+     * Returns the sessions whose stored response rate counters should be recomputed periodically,
+     * i.e. standard sessions that are open or have closed recently, to repair any drift caused by
+     * changes that did not update the counters.
+     */
+    public List<FeedbackSessionAttributes> getFeedbackSessionsForResponseRateReconciliation() {
+        Date endTimeLowerBound = TimeHelper.getDateOffsetToCurrentTime(-RESPONSE_RATE_RECONCILIATION_PERIOD_IN_DAYS);
+        List<FeedbackSessionAttributes> sessions = new ArrayList<>();
+        for (FeedbackSessionAttributes session : fsDb.getFeedbackSessionsEndingAfter(endTimeLowerBound)) {
+            if (session.getFeedbackSessionType() == FeedbackSessionType.STANDARD) {
+                sessions.add(session);
+            }
+        }
+        return sessions;
+    }
+
     public FeedbackSessionDetailsBundle getFeedbackSessionDetails(
             FeedbackSessionAttributes fsa) throws EntityDoesNotExistException {
 
@@ -1243,24 +1530,7 @@ public final class FeedbackSessionsLogic {
 
         switch (fsa.getFeedbackSessionType()) {
         case STANDARD:
-            List<StudentAttributes> students = studentsLogic.getStudentsForCourse(fsa.getCourseId());
-            List<InstructorAttributes> instructors = instructorsLogic.getInstructorsForCourse(fsa.getCourseId());
-            List<FeedbackQuestionAttributes> questions =
-                    fqLogic.getFeedbackQuestionsForSession(fsa.getFeedbackSessionName(), fsa.getCourseId());
-            List<FeedbackQuestionAttributes> studentQns = fqLogic.getFeedbackQuestionsForStudents(questions);
-
-            if (!studentQns.isEmpty()) {
-                details.stats.expectedTotal += students.size();
-            }
-
-            for (InstructorAttributes instructor : instructors) {
-                List<FeedbackQuestionAttributes> instructorQns =
-                        fqLogic.getFeedbackQuestionsForInstructor(questions, fsa.isCreator(instructor.email));
-                if (!instructorQns.isEmpty()) {
-                    details.stats.expectedTotal += 1;
-                }
-            }
-
+            details.stats.expectedTotal = getExpectedRespondentCount(fsa);
             details.stats.submittedTotal += fsa.getRespondingStudentList().size() + fsa.getRespondingInstructorList().size();
 
             break;
@@ -1298,9 +1568,7 @@ public final class FeedbackSessionsLogic {
         // Load details of students and instructors once and pass it to callee
         // methods
         // (rather than loading them many times).
-        CourseRoster roster = new CourseRoster(
-                studentsLogic.getStudentsForCourse(courseId),
-                instructorsLogic.getInstructorsForCourse(courseId));
+        CourseRoster roster = CourseRosterCache.getCourseRoster(courseId);
 
         return getFeedbackSessionResultsForUserInSectionByQuestions(
                 feedbackSessionName, courseId, userEmail, role, section, roster);
@@ -1343,20 +1611,30 @@ public final class FeedbackSessionsLogic {
 
         List<FeedbackQuestionAttributes> allQuestions = fqLogic.getFeedbackQuestionsForSession(
                                                                     feedbackSessionName, courseId);
+
+        StudentAttributes student = null;
+        Set<String> studentsEmailInTeam = new HashSet<>();
+        if (isStudent(role)) {
+            student = roster.getStudentForEmail(userEmail);
+            studentsEmailInTeam = getTeammateEmails(roster, student);
+        }
+
+        // load all responses of the session at once and distribute them to their questions in memory,
+        // instead of querying the responses viewable by the user question by question
+        Map<String, List<FeedbackResponseAttributes>> responsesByQuestion =
+                groupResponsesByQuestion(frLogic.getFeedbackResponsesForSession(feedbackSessionName, courseId));
+
+        boolean isPrivateSessionCreatedByThisUser = session
+                .isCreator(userEmail) && session.isPrivateSession();
         Map<String, FeedbackResponseAttributes> relevantResponse = new HashMap<>();
         for (FeedbackQuestionAttributes question : allQuestions) {
 
-            List<FeedbackResponseAttributes> responsesForThisQn;
+            List<FeedbackResponseAttributes> responsesForThisQn =
+                    responsesByQuestion.getOrDefault(question.getId(), new ArrayList<>());
 
-            boolean isPrivateSessionCreatedByThisUser = session
-                    .isCreator(userEmail) && session.isPrivateSession();
-            if (isPrivateSessionCreatedByThisUser) {
-                responsesForThisQn = frLogic
-                        .getFeedbackResponsesForQuestion(question.getId());
-            } else {
-                responsesForThisQn = frLogic
-                        .getViewableFeedbackResponsesForQuestionInSection(
-                                question, userEmail, role, section);
+            if (!isPrivateSessionCreatedByThisUser) {
+                responsesForThisQn = frLogic.getViewableFeedbackResponsesForQuestionInSection(
+                        question, responsesForThisQn, userEmail, role, section, student, studentsEmailInTeam);
             }
 
             boolean hasResponses = !responsesForThisQn.isEmpty();
@@ -1365,29 +1643,12 @@ public final class FeedbackSessionsLogic {
                 responses.addAll(responsesForThisQn);
                 for (FeedbackResponseAttributes response : responsesForThisQn) {
                     relevantResponse.put(response.getId(), response);
-                    addEmailNamePairsToTable(emailNameTable, response,
-                            question, roster);
-                    addEmailLastNamePairsToTable(emailLastNameTable, response,
-                            question, roster);
-                    addEmailTeamNamePairsToTable(emailTeamNameTable, response,
-                            question, roster);
-                    addVisibilityToTable(visibilityTable, question, response,
-                            userEmail, role, roster);
+                    addResponseToTables(emailNameTable, emailLastNameTable, emailTeamNameTable, visibilityTable,
+                            response, question, userEmail, role, roster);
                 }
             }
         }
 
-        StudentAttributes student = null;
-        Set<String> studentsEmailInTeam = new HashSet<>();
-        if (isStudent(role)) {
-            student = studentsLogic.getStudentForEmail(courseId, userEmail);
-            List<StudentAttributes> studentsInTeam = studentsLogic
-                    .getStudentsForTeam(student.team, courseId);
-            for (StudentAttributes teammates : studentsInTeam) {
-                studentsEmailInTeam.add(teammates.email);
-            }
-        }
-
         List<FeedbackResponseCommentAttributes> allResponseComments =
                 frcLogic.getFeedbackResponseCommentForSession(courseId,
                         feedbackSessionName);
@@ -1427,14 +1688,36 @@ public final class FeedbackSessionsLogic {
             UserRole role, CourseRoster roster, FeedbackSessionResultParameters params)
             throws EntityDoesNotExistException {
 
-        FeedbackSessionAttributes session = fsDb.getFeedbackSession(courseId, feedbackSessionName);
+        boolean isIncludeResponseStatus = params.isIncludeResposeStatus;
+
+        String section = params.section;
+        String questionId = params.questionId;
+
+        // start all independent reads at once and only wait for each of them when its result is needed
+        ConcurrentFetcher fetcher = new ConcurrentFetcher(
+                "results of " + courseId + "/" + feedbackSessionName, Config.RESULTS_FETCH_CONCURRENCY);
+        ConcurrentFetcher.Fetch<FeedbackSessionAttributes> sessionFetch = fetcher.start("session",
+                () -> fsDb.getFeedbackSessionAsync(courseId, feedbackSessionName));
+        ConcurrentFetcher.Fetch<List<FeedbackQuestionAttributes>> questionsFetch = fetcher.start("questions",
+                () -> fqLogic.getFeedbackQuestionsForSessionAsync(feedbackSessionName, courseId));
+        ConcurrentFetcher.Fetch<List<FeedbackResponseCommentAttributes>> commentsFetch = null;
+        ConcurrentFetcher.Fetch<QueryPage<FeedbackResponseAttributes>> responsesFetch = null;
+        if (questionId == null) {
+            // comments are started first as paged responses are read right away
+            commentsFetch = fetcher.start("comments",
+                    () -> frcLogic.getFeedbackResponseCommentForSessionInSectionAsync(
+                            courseId, feedbackSessionName, section));
+            responsesFetch = fetcher.start("responses",
+                    () -> getAllResponsesAsync(feedbackSessionName, courseId, params));
+        }
+
+        FeedbackSessionAttributes session = sessionFetch.join();
 
         if (session == null) {
             throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_FS_VIEW + courseId + "/" + feedbackSessionName);
         }
 
-        List<FeedbackQuestionAttributes> allQuestions =
-                fqLogic.getFeedbackQuestionsForSession(feedbackSessionName, courseId);
+        List<FeedbackQuestionAttributes> allQuestions = questionsFetch.join();
 
         //Show all questions even if no responses, unless is an ajax request for a specific question.
         Map<String, FeedbackQuestionAttributes> relevantQuestions = getAllQuestions(role, params, allQuestions);
@@ -1445,12 +1728,8 @@ public final class FeedbackSessionsLogic {
             return new FeedbackSessionResultsBundle(session, relevantQuestions, roster);
         }
 
-        boolean isIncludeResponseStatus = params.isIncludeResposeStatus;
-
-        String section = params.section;
-        String questionId = params.questionId;
-
         if (questionId != null) {
+            fetcher.logTimings();
             return getFeedbackSessionResultsForQuestionId(feedbackSessionName, courseId, userEmail, role, roster, session,
                     allQuestions, relevantQuestions, isIncludeResponseStatus, section, questionId);
         }
@@ -1458,7 +1737,10 @@ public final class FeedbackSessionsLogic {
         Map<String, FeedbackQuestionAttributes> allQuestionsMap = new HashMap<>();
         putQuestionsIntoMap(allQuestions, allQuestionsMap);
 
-        List<FeedbackResponseAttributes> allResponses = getAllResponses(feedbackSessionName, courseId, params);
+        QueryPage<FeedbackResponseAttributes> responsesPage = responsesFetch.join();
+        List<FeedbackResponseAttributes> allResponses = responsesPage.getItems();
+        List<FeedbackResponseCommentAttributes> allResponseComments = commentsFetch.join();
+        fetcher.logTimings();
 
         String rangeString = params.range;
         boolean isComplete = rangeString == null || allResponses.size() <= Integer.parseInt(rangeString);
@@ -1493,23 +1775,60 @@ public final class FeedbackSessionsLogic {
                     responses.add(response);
                     relevantResponse.put(response.getId(), response);
                     relevantQuestions.put(relatedQuestion.getId(), relatedQuestion);
-                    addEmailNamePairsToTable(emailNameTable, response, relatedQuestion, roster);
-                    addEmailLastNamePairsToTable(emailLastNameTable, response, relatedQuestion, roster);
-                    addEmailTeamNamePairsToTable(emailTeamNameTable, response, relatedQuestion, roster);
-                    addVisibilityToTable(visibilityTable, relatedQuestion, response, userEmail, role, roster);
+                    addResponseToTables(emailNameTable, emailLastNameTable, emailTeamNameTable, visibilityTable,
+                            response, relatedQuestion, userEmail, role, roster);
                 }
             }
         }
         Map<String, List<FeedbackResponseCommentAttributes>> responseComments = getResponseComments(
-                feedbackSessionName, courseId, userEmail, role, roster, relevantQuestions, section, student,
-                studentsEmailInTeam, relevantResponse);
+                userEmail, role, roster, relevantQuestions, student, studentsEmailInTeam, relevantResponse,
+                allResponseComments);
 
         addSectionTeamNamesToTable(sectionTeamNameTable, roster, courseId, userEmail, role, feedbackSessionName, section);
 
-        return new FeedbackSessionResultsBundle(
+        FeedbackSessionResultsBundle results = new FeedbackSessionResultsBundle(
                 session, responses, relevantQuestions, emailNameTable,
                 emailLastNameTable, emailTeamNameTable, sectionTeamNameTable,
                 visibilityTable, responseStatus, roster, responseComments, isComplete);
+        if (params.pageSize > 0) {
+            setPageBounds(results, params, responsesPage);
+        }
+        return results;
+    }
+
+    /**
+     * Sets the participants covered by a page of results and the token to get the next page with.
+     * The token holds the last participant of the page besides the cursor, so that the next page
+     * knows where its participants start even if some participants in between have no responses.
+     */
+    private void setPageBounds(FeedbackSessionResultsBundle results, FeedbackSessionResultParameters params,
+            QueryPage<FeedbackResponseAttributes> page) {
+        results.pageStartAfterParticipant = getParticipantOfPageToken(params.cursor);
+        if (!page.hasNextPage()) {
+            return;
+        }
+
+        List<FeedbackResponseAttributes> responses = page.getItems();
+        FeedbackResponseAttributes lastResponse = responses.get(responses.size() - 1);
+        String lastParticipant = params.fromSection ? lastResponse.giver : lastResponse.recipient;
+        results.pageEndParticipant = lastParticipant;
+        results.nextCursor = page.getNextCursor() + PAGE_TOKEN_SEPARATOR + lastParticipant;
+    }
+
+    private String getCursorOfPageToken(String pageToken) {
+        if (pageToken == null) {
+            return null;
+        }
+        int separatorIndex = pageToken.indexOf(PAGE_TOKEN_SEPARATOR);
+        return separatorIndex < 0 ? pageToken : pageToken.substring(0, separatorIndex);
+    }
+
+    private String getParticipantOfPageToken(String pageToken) {
+        if (pageToken == null) {
+            return null;
+        }
+        int separatorIndex = pageToken.indexOf(PAGE_TOKEN_SEPARATOR);
+        return separatorIndex < 0 ? null : pageToken.substring(separatorIndex + 1);
     }
 
     private Map<String, List<FeedbackResponseCommentAttributes>> getResponseComments(
@@ -1517,9 +1836,19 @@ public final class FeedbackSessionsLogic {
             Map<String, FeedbackQuestionAttributes> relevantQuestions, String section, StudentAttributes student,
             Set<String> studentsEmailInTeam, Map<String, FeedbackResponseAttributes> relevantResponse) {
 
-        Map<String, List<FeedbackResponseCommentAttributes>> responseComments = new HashMap<>();
         List<FeedbackResponseCommentAttributes> allResponseComments =
                 frcLogic.getFeedbackResponseCommentForSessionInSection(courseId, feedbackSessionName, section);
+        return getResponseComments(userEmail, role, roster, relevantQuestions, student, studentsEmailInTeam,
+                relevantResponse, allResponseComments);
+    }
+
+    private Map<String, List<FeedbackResponseCommentAttributes>> getResponseComments(
+            String userEmail, UserRole role, CourseRoster roster,
+            Map<String, FeedbackQuestionAttributes> relevantQuestions, StudentAttributes student,
+            Set<String> studentsEmailInTeam, Map<String, FeedbackResponseAttributes> relevantResponse,
+            List<FeedbackResponseCommentAttributes> allResponseComments) {
+
+        Map<String, List<FeedbackResponseCommentAttributes>> responseComments = new HashMap<>();
         for (FeedbackResponseCommentAttributes frc : allResponseComments) {
             FeedbackResponseAttributes relatedResponse = relevantResponse.get(frc.feedbackResponseId);
             FeedbackQuestionAttributes relatedQuestion = relevantQuestions.get(frc.feedbackQuestionId);
@@ -1555,7 +1884,10 @@ public final class FeedbackSessionsLogic {
 
     private InstructorAttributes getInstructor(String courseId, String userEmail, UserRole role) {
         if (isInstructor(role)) {
-            return instructorsLogic.getInstructorForEmail(courseId, userEmail);
+            CourseRoster roster = CourseRosterCache.getCachedCourseRoster(courseId);
+            return roster == null
+                   ? instructorsLogic.getInstructorForEmail(courseId, userEmail)
+                   : roster.getInstructorForEmail(userEmail);
         }
         return null;
     }
@@ -1564,6 +1896,10 @@ public final class FeedbackSessionsLogic {
     * Gets emails of student's teammates if student is not null, else returns an empty Set<String>
     */
     private Set<String> getTeammateEmails(String courseId, StudentAttributes student) {
+        CourseRoster roster = CourseRosterCache.getCachedCourseRoster(courseId);
+        if (roster != null) {
+            return getTeammateEmails(roster, student);
+        }
         Set<String> studentsEmailInTeam = new HashSet<>();
         if (student != null) {
             List<StudentAttributes> studentsInTeam = studentsLogic.getStudentsForTeam(student.team, courseId);
@@ -1574,9 +1910,25 @@ public final class FeedbackSessionsLogic {
         return studentsEmailInTeam;
     }
 
+    /*
+    * Gets emails of student's teammates from the roster if student is not null, else returns an empty Set<String>
+    */
+    private Set<String> getTeammateEmails(CourseRoster roster, StudentAttributes student) {
+        Set<String> studentsEmailInTeam = new HashSet<>();
+        if (student != null) {
+            for (StudentAttributes teammate : roster.getTeamMembers(student.team)) {
+                studentsEmailInTeam.add(teammate.email);
+            }
+        }
+        return studentsEmailInTeam;
+    }
+
     private StudentAttributes getStudent(String courseId, String userEmail, UserRole role) {
         if (isStudent(role)) {
-            return studentsLogic.getStudentForEmail(courseId, userEmail);
+            CourseRoster roster = CourseRosterCache.getCachedCourseRoster(courseId);
+            return roster == null
+                   ? studentsLogic.getStudentForEmail(courseId, userEmail)
+                   : roster.getStudentForEmail(userEmail);
         }
         return null;
     }
@@ -1619,19 +1971,17 @@ public final class FeedbackSessionsLogic {
                 Set<String> studentsEmailInTeam = getTeammateEmails(courseId, student);
                 boolean hasResponses = !responsesForThisQn.isEmpty();
                 if (hasResponses) {
+                    InstructorAttributes instructor = getInstructor(courseId, userEmail, role);
                     Map<String, FeedbackResponseAttributes> relevantResponse = new HashMap<>();
                     for (FeedbackResponseAttributes response : responsesForThisQn) {
-                        InstructorAttributes instructor = getInstructor(courseId, userEmail, role);
                         boolean isVisibleResponse = isResponseVisibleForUser(userEmail, role, null, null, response,
                                                                              question, instructor);
                         if (isVisibleResponse) {
                             relevantResponse.put(response.getId(), response);
                             relevantQuestions.put(question.getId(), question);
                             responses.add(response);
-                            addEmailNamePairsToTable(emailNameTable, response, question, roster);
-                            addEmailLastNamePairsToTable(emailLastNameTable, response, question, roster);
-                            addEmailTeamNamePairsToTable(emailTeamNameTable, response, question, roster);
-                            addVisibilityToTable(visibilityTable, question, response, userEmail, role, roster);
+                            addResponseToTables(emailNameTable, emailLastNameTable, emailTeamNameTable,
+                                    visibilityTable, response, question, userEmail, role, roster);
                         }
                     }
                     responseComments = getResponseComments(
@@ -1669,62 +2019,69 @@ public final class FeedbackSessionsLogic {
         return role == UserRole.INSTRUCTOR;
     }
 
-    private List<FeedbackResponseAttributes> getAllResponses(String feedbackSessionName, String courseId,
-            FeedbackSessionResultParameters params) {
-        boolean isInSection = params.inSection;
-        boolean isToSection = params.toSection;
-        boolean isFromSection = params.fromSection;
+    private Supplier<QueryPage<FeedbackResponseAttributes>> getAllResponsesAsync(String feedbackSessionName,
+            String courseId, FeedbackSessionResultParameters params) {
+        if (params.pageSize > 0) {
+            // pages are read by iterating over a query, so they are read right away
+            QueryPage<FeedbackResponseAttributes> page =
+                    getResponsePage(feedbackSessionName, courseId, params, getCursorOfPageToken(params.cursor));
+            return () -> page;
+        }
 
-        if (params.range == null) {
-            if (isInSection) {
-                return frLogic.getFeedbackResponsesForSessionInSection(feedbackSessionName, courseId, params.section);
-            } else if (isFromSection) {
-                return frLogic.getFeedbackResponsesForSessionFromSection(feedbackSessionName, courseId, params.section);
-            } else if (isToSection) {
-                return frLogic.getFeedbackResponsesForSessionToSection(feedbackSessionName, courseId, params.section);
-            } else {
-                Assumption.fail(ASSUMPTION_FAIL_RESPONSE_ORIGIN);
-            }
+        int range = params.range == null ? -1 : Integer.parseInt(params.range);
+        Supplier<List<FeedbackResponseAttributes>> pendingResponses;
+
+        if (params.inSection) {
+            pendingResponses = frLogic.getFeedbackResponsesForSessionInSectionWithinRangeAsync(
+                    feedbackSessionName, courseId, params.section, range);
+        } else if (params.fromSection) {
+            pendingResponses = frLogic.getFeedbackResponsesForSessionFromSectionWithinRangeAsync(
+                    feedbackSessionName, courseId, params.section, range);
+        } else if (params.toSection) {
+            pendingResponses = frLogic.getFeedbackResponsesForSessionToSectionWithinRangeAsync(
+                    feedbackSessionName, courseId, params.section, range);
         } else {
-            int range = Integer.parseInt(params.range);
-            if (isInSection) {
-                return frLogic.getFeedbackResponsesForSessionInSectionWithinRange(
-                        feedbackSessionName, courseId, params.section, range);
-            } else if (isFromSection) {
-                return frLogic.getFeedbackResponsesForSessionFromSectionWithinRange(
-                        feedbackSessionName, courseId, params.section, range);
-            } else if (isToSection) {
-                return frLogic.getFeedbackResponsesForSessionToSectionWithinRange(
-                        feedbackSessionName, courseId, params.section, range);
-            } else {
-                Assumption.fail(ASSUMPTION_FAIL_RESPONSE_ORIGIN);
-            }
+            Assumption.fail(ASSUMPTION_FAIL_RESPONSE_ORIGIN);
+            return null;
         }
-        return new ArrayList<>();
+        return () -> new QueryPage<>(pendingResponses.get(), null);
+    }
+
+    private QueryPage<FeedbackResponseAttributes> getResponsePage(String feedbackSessionName, String courseId,
+            FeedbackSessionResultParameters params, String cursor) {
+        if (params.fromSection) {
+            return frLogic.getFeedbackResponsesForSessionFromSectionPage(
+                    feedbackSessionName, courseId, params.section, cursor, params.pageSize);
+        } else if (params.toSection) {
+            return frLogic.getFeedbackResponsesForSessionToSectionPage(
+                    feedbackSessionName, courseId, params.section, cursor, params.pageSize);
+        }
+        // responses in a section come from two queries, which cannot be continued with a single cursor
+        Assumption.fail(ASSUMPTION_FAIL_RESPONSE_PAGE_ORIGIN);
+        return null;
     }
 
     private void addSectionTeamNamesToTable(Map<String, Set<String>> sectionTeamNameTable,
                                     CourseRoster roster, String courseId, String userEmail, UserRole role,
                                     String feedbackSessionName, String sectionToView) {
         InstructorAttributes instructor = getInstructor(courseId, userEmail, role);
-        if (instructor != null) {
-            for (StudentAttributes student : roster.getStudents()) {
-                boolean isVisibleResponse =
-                        instructor.isAllowedForPrivilege(
-                                           student.section,
-                                           feedbackSessionName,
-                                           Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS);
-                boolean isStudentInSelectedSection = student.section.equals(sectionToView);
-                boolean isViewingAllSections = sectionToView == null;
-
-                if (isVisibleResponse && (isViewingAllSections
-                                          || isStudentInSelectedSection)) {
-                    String section = student.section;
-
-                    sectionTeamNameTable.computeIfAbsent(section, key -> new HashSet<>())
-                                        .add(student.team);
+        if (instructor == null) {
+            return;
+        }
+        // privileges are per section, so check them once per section rather than once per student
+        for (Map.Entry<String, Set<String>> teamsInSection : roster.getTeamsBySection().entrySet()) {
+            String section = teamsInSection.getKey();
+            boolean isViewingAllSections = sectionToView == null;
+            boolean isSelectedSection = section.equals(sectionToView);
+            if (!isViewingAllSections && !isSelectedSection) {
+                continue;
+            }
 
-                }
+            boolean isVisibleResponse = instructor.isAllowedForPrivilege(
+                    section, feedbackSessionName, Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS);
+            if (isVisibleResponse) {
+                sectionTeamNameTable.computeIfAbsent(section, key -> new HashSet<>())
+                                    .addAll(teamsInSection.getValue());
             }
         }
     }
@@ -1783,67 +2140,35 @@ public final class FeedbackSessionsLogic {
         responseCommentList.sort(Comparator.comparing(responseComment -> responseComment.createdAt));
     }
 
-    private void addVisibilityToTable(Map<String, boolean[]> visibilityTable,
-            FeedbackQuestionAttributes question,
+    /**
+     * Adds the participants of {@code response} to the name, last name and team name tables
+     * and its name visibility to the visibility table in a single pass.
+     */
+    private void addResponseToTables(Map<String, String> emailNameTable,
+            Map<String, String> emailLastNameTable,
+            Map<String, String> emailTeamNameTable,
+            Map<String, boolean[]> visibilityTable,
             FeedbackResponseAttributes response,
+            FeedbackQuestionAttributes question,
             String userEmail,
             UserRole role,
             CourseRoster roster) {
-        boolean[] visibility = new boolean[2];
-        visibility[Const.VISIBILITY_TABLE_GIVER] = frLogic.isNameVisibleToUser(
-                question, response, userEmail, role, true, roster);
-        visibility[Const.VISIBILITY_TABLE_RECIPIENT] = frLogic.isNameVisibleToUser(
-                question, response, userEmail, role, false, roster);
-        visibilityTable.put(response.getId(), visibility);
-    }
-
-    private void addEmailNamePairsToTable(Map<String, String> emailNameTable,
-            FeedbackResponseAttributes response,
-            FeedbackQuestionAttributes question, CourseRoster roster) {
-        // keys of emailNameTable are participantIdentifiers,
+        // keys of the name tables are participantIdentifiers,
         // which consists of students' email, instructors' email, team names, or %GENERAL%.
         // participants identifiers of anonymous responses are not anonymised in the tables
-        addEmailNamePairsToTable(emailNameTable, response, question, roster,
-                EMAIL_NAME_PAIR);
-    }
-
-    private void addEmailLastNamePairsToTable(Map<String, String> emailLastNameTable,
-            FeedbackResponseAttributes response,
-            FeedbackQuestionAttributes question, CourseRoster roster) {
-        addEmailNamePairsToTable(emailLastNameTable, response, question, roster,
-                EMAIL_LASTNAME_PAIR);
-    }
-
-    private void addEmailTeamNamePairsToTable(
-            Map<String, String> emailTeamNameTable,
-            FeedbackResponseAttributes response,
-            FeedbackQuestionAttributes question, CourseRoster roster) {
-        addEmailNamePairsToTable(emailTeamNameTable, response, question,
-                roster, EMAIL_TEAMNAME_PAIR);
-    }
-
-    private void addEmailNamePairsToTable(Map<String, String> emailNameTable,
-            FeedbackResponseAttributes response,
-            FeedbackQuestionAttributes question, CourseRoster roster,
-            int pairType) {
         if (question.giverType == FeedbackParticipantType.TEAMS
                 && roster.isStudentInCourse(response.giver)) {
-            emailNameTable.putIfAbsent(
-                        response.giver + Const.TEAM_OF_EMAIL_OWNER,
-                        getNameTeamNamePairForEmail(question.giverType,
-                                response.giver, roster)[pairType]);
+            addNameTeamNamePairToTables(emailNameTable, emailLastNameTable, emailTeamNameTable,
+                    response.giver + Const.TEAM_OF_EMAIL_OWNER, question.giverType, response.giver, roster);
 
             StudentAttributes studentGiver = roster.getStudentForEmail(response.giver);
             if (studentGiver != null) {
-                emailNameTable.putIfAbsent(studentGiver.team, getNameTeamNamePairForEmail(
-                        question.giverType,
-                        response.giver, roster)[pairType]);
+                addNameTeamNamePairToTables(emailNameTable, emailLastNameTable, emailTeamNameTable,
+                        studentGiver.team, question.giverType, response.giver, roster);
             }
         } else {
-            emailNameTable.putIfAbsent(
-                    response.giver,
-                    getNameTeamNamePairForEmail(question.giverType,
-                            response.giver, roster)[pairType]);
+            addNameTeamNamePairToTables(emailNameTable, emailLastNameTable, emailTeamNameTable,
+                    response.giver, question.giverType, response.giver, roster);
         }
 
         FeedbackParticipantType recipientType = null;
@@ -1853,10 +2178,42 @@ public final class FeedbackSessionsLogic {
             recipientType = question.recipientType;
         }
 
-        emailNameTable.putIfAbsent(
-                    response.recipient,
-                    getNameTeamNamePairForEmail(recipientType,
-                                                response.recipient, roster)[pairType]);
+        addNameTeamNamePairToTables(emailNameTable, emailLastNameTable, emailTeamNameTable,
+                response.recipient, recipientType, response.recipient, roster);
+
+        boolean[] visibility = new boolean[2];
+        visibility[Const.VISIBILITY_TABLE_GIVER] = frLogic.isNameVisibleToUser(
+                question, response, userEmail, role, true, roster);
+        visibility[Const.VISIBILITY_TABLE_RECIPIENT] = frLogic.isNameVisibleToUser(
+                question, response, userEmail, role, false, roster);
+        visibilityTable.put(response.getId(), visibility);
+    }
+
+    private void addNameTeamNamePairToTables(Map<String, String> emailNameTable,
+            Map<String, String> emailLastNameTable,
+            Map<String, String> emailTeamNameTable,
+            String participantIdentifier, FeedbackParticipantType type, String email, CourseRoster roster) {
+        boolean isAlreadyInTables = emailNameTable.containsKey(participantIdentifier)
+                && emailLastNameTable.containsKey(participantIdentifier)
+                && emailTeamNameTable.containsKey(participantIdentifier);
+        if (isAlreadyInTables) {
+            return;
+        }
+
+        String[] nameTeamNamePair = getNameTeamNamePairForEmail(type, email, roster);
+        emailNameTable.putIfAbsent(participantIdentifier, nameTeamNamePair[EMAIL_NAME_PAIR]);
+        emailLastNameTable.putIfAbsent(participantIdentifier, nameTeamNamePair[EMAIL_LASTNAME_PAIR]);
+        emailTeamNameTable.putIfAbsent(participantIdentifier, nameTeamNamePair[EMAIL_TEAMNAME_PAIR]);
+    }
+
+    private Map<String, List<FeedbackResponseAttributes>> groupResponsesByQuestion(
+            List<FeedbackResponseAttributes> responses) {
+        Map<String, List<FeedbackResponseAttributes>> responsesByQuestion = new HashMap<>();
+        for (FeedbackResponseAttributes response : responses) {
+            responsesByQuestion.computeIfAbsent(response.feedbackQuestionId, key -> new ArrayList<>())
+                               .add(response);
+        }
+        return responsesByQuestion;
     }
 
     private List<FeedbackSessionDetailsBundle> getFeedbackSessionDetailsForCourse(
@@ -2139,11 +2496,116 @@ public final class FeedbackSessionsLogic {
             FeedbackSessionIdentification feedbackSessionIdentification)
             throws EntityDoesNotExistException, ExceedingRangeException {
 
+        if (feedbackSessionIdentification.questionId == null) {
+            // written one question at a time, so that the responses of the whole session are never held at once
+            StringWriter writer = new StringWriter();
+            try {
+                writeFeedbackSessionResultsSummaryAsCsv(feedbackSessionIdentification, writer);
+            } catch (IOException e) {
+                Assumption.fail("Writing to a string should not fail: " + TeammatesException.toStringWithStackTrace(e));
+            }
+            return writer.toString();
+        }
+
         FeedbackSessionResultsBundle resultsBundle = getSortedFeedbackSessionResultsBundle(feedbackSessionIdentification);
         String results = csvUtils.getFeedbackSessionResultsSummaryInSectionAsCsv(resultsBundle);
 
         return results;
     }
 
+    /**
+     * Writes the results of a feedback session in CSV format to {@code writer}.
+     *
+     * <p>Unlike {@link #getFeedbackSessionResultsSummaryAsCsv(FeedbackSessionIdentification)}, responses are
+     * loaded and written one question at a time, so there is no limit on the number of responses and
+     * only the responses of a single question are held in memory at any point.
+     */
+    public void writeFeedbackSessionResultsSummaryAsCsv(
+            FeedbackSessionIdentification feedbackSessionIdentification, Writer writer)
+            throws EntityDoesNotExistException, IOException {
+
+        String feedbackSessionName = feedbackSessionIdentification.feedbackSessionName;
+        String courseId = feedbackSessionIdentification.courseId;
+        String userEmail = feedbackSessionIdentification.userEmail;
+        String section = feedbackSessionIdentification.section;
+
+        FeedbackSessionAttributes session = fsDb.getFeedbackSession(courseId, feedbackSessionName);
+
+        if (session == null) {
+            throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_FS_VIEW + courseId + "/" + feedbackSessionName);
+        }
+
+        writer.write(csvUtils.getFeedbackSessionResultsHeaderAsCsv(session, section));
+
+        if (feedbackSessionIdentification.questionId != null) {
+            // results for a single question are not range-limited, so they can be written in one go
+            FeedbackSessionResultsBundle results = getFeedbackSessionResultsBundle(feedbackSessionIdentification);
+            results.addIdentificationFactors(feedbackSessionIdentification);
+            writer.write(csvUtils.getFeedbackSessionResultsForQuestionsAsCsv(results));
+            return;
+        }
+
+        CourseRoster roster = CourseRosterCache.getCourseRoster(courseId);
+        InstructorAttributes instructor = getInstructor(courseId, userEmail, UserRole.INSTRUCTOR);
+        boolean isPrivateSessionNotCreatedByThisUser = session.isPrivateSession() && !session.isCreator(userEmail);
+
+        Map<String, List<FeedbackResponseCommentAttributes>> commentsByQuestion = isPrivateSessionNotCreatedByThisUser
+                ? new HashMap<String, List<FeedbackResponseCommentAttributes>>()
+                : groupResponseCommentsByQuestion(
+                        frcLogic.getFeedbackResponseCommentForSessionInSection(courseId, feedbackSessionName, section));
+
+        // name tables are bounded by the roster and are shared by all questions
+        Map<String, String> emailNameTable = new HashMap<>();
+        Map<String, String> emailLastNameTable = new HashMap<>();
+        Map<String, String> emailTeamNameTable = new HashMap<>();
+        Map<String, Set<String>> sectionTeamNameTable = new HashMap<>();
+        addSectionTeamNamesToTable(
+                sectionTeamNameTable, roster, courseId, userEmail, UserRole.INSTRUCTOR, feedbackSessionName, section);
+
+        for (FeedbackQuestionAttributes question : fqLogic.getFeedbackQuestionsForSession(feedbackSessionName, courseId)) {
+            Map<String, FeedbackQuestionAttributes> relevantQuestions = new HashMap<>();
+            relevantQuestions.put(question.getId(), question);
+
+            List<FeedbackResponseAttributes> responses = new ArrayList<>();
+            Map<String, FeedbackResponseAttributes> relevantResponse = new HashMap<>();
+            Map<String, boolean[]> visibilityTable = new HashMap<>();
+
+            if (!isPrivateSessionNotCreatedByThisUser) {
+                for (FeedbackResponseAttributes response
+                        : frLogic.getFeedbackResponsesForQuestionFromSection(question.getId(), section)) {
+                    boolean isVisibleResponse = isResponseVisibleForUser(
+                            userEmail, UserRole.INSTRUCTOR, null, null, response, question, instructor);
+                    if (isVisibleResponse) {
+                        responses.add(response);
+                        relevantResponse.put(response.getId(), response);
+                        addResponseToTables(emailNameTable, emailLastNameTable, emailTeamNameTable, visibilityTable,
+                                response, question, userEmail, UserRole.INSTRUCTOR, roster);
+                    }
+                }
+            }
+
+            Map<String, List<FeedbackResponseCommentAttributes>> responseComments = getResponseComments(
+                    userEmail, UserRole.INSTRUCTOR, roster, relevantQuestions, null, new HashSet<String>(),
+                    relevantResponse, commentsByQuestion.getOrDefault(question.getId(), new ArrayList<>()));
+
+            FeedbackSessionResultsBundle results = new FeedbackSessionResultsBundle(
+                    session, responses, relevantQuestions, emailNameTable,
+                    emailLastNameTable, emailTeamNameTable, sectionTeamNameTable,
+                    visibilityTable, null, roster, responseComments, true);
+            results.addIdentificationFactors(feedbackSessionIdentification);
+
+            writer.write(csvUtils.getFeedbackSessionResultsForQuestionsAsCsv(results));
+        }
+    }
+
+    private Map<String, List<FeedbackResponseCommentAttributes>> groupResponseCommentsByQuestion(
+            List<FeedbackResponseCommentAttributes> comments) {
+        Map<String, List<FeedbackResponseCommentAttributes>> commentsByQuestion = new HashMap<>();
+        for (FeedbackResponseCommentAttributes comment : comments) {
+            commentsByQuestion.computeIfAbsent(comment.feedbackQuestionId, key -> new ArrayList<>()).add(comment);
+        }
+        return commentsByQuestion;
+    }
+
 
 }
@@ -83,7 +83,10 @@ public final class InstructorsLogic {
 
         log.info("going to create instructor :\n" + instructorToAdd.toString());
 
-        return instructorsDb.createInstructor(instructorToAdd);
+        InstructorAttributes createdInstructor = instructorsDb.createInstructor(instructorToAdd);
+        CourseRosterCache.invalidate(instructorToAdd.courseId);
+        fsLogic.clearExpectedRespondentCountsForCourse(instructorToAdd.courseId);
+        return createdInstructor;
     }
 
     public void setArchiveStatusOfInstructor(String googleId, String courseId, boolean archiveStatus)
@@ -92,6 +95,7 @@ public final class InstructorsLogic {
         InstructorAttributes instructor = instructorsDb.getInstructorForGoogleId(courseId, googleId);
         instructor.isArchived = archiveStatus;
         instructorsDb.updateInstructorByGoogleId(instructor);
+        CourseRosterCache.invalidate(courseId);
     }
 
     public InstructorAttributes getInstructorForEmail(String courseId, String email) {
@@ -109,6 +113,10 @@ public final class InstructorsLogic {
         return instructorsDb.getInstructorForRegistrationKey(encryptedKey);
     }
 
+    public List<InstructorAttributes> getInstructorsForEmails(String courseId, List<String> emails) {
+        return instructorsDb.getInstructorsForEmails(courseId, emails);
+    }
+
     public List<InstructorAttributes> getInstructorsForCourse(String courseId) {
         List<InstructorAttributes> instructorReturnList = instructorsDb.getInstructorsForCourse(courseId);
         instructorReturnList.sort(InstructorAttributes.compareByName);
@@ -192,6 +200,7 @@ public final class InstructorsLogic {
         checkForUpdatingRespondents(instructor);
 
         instructorsDb.updateInstructorByGoogleId(instructor);
+        CourseRosterCache.invalidate(instructor.courseId);
     }
 
     private void checkForUpdatingRespondents(InstructorAttributes instructor)
@@ -230,6 +239,7 @@ public final class InstructorsLogic {
         verifyIsEmailOfInstructorOfCourse(email, instructor.courseId);
 
         instructorsDb.updateInstructorByEmail(instructor);
+        CourseRosterCache.invalidate(instructor.courseId);
     }
 
     public List<String> getInvalidityInfoForNewInstructorData(String name,
@@ -261,6 +271,8 @@ public final class InstructorsLogic {
     public void deleteInstructorCascade(String courseId, String email) {
         fsLogic.deleteInstructorFromRespondentsList(getInstructorForEmail(courseId, email));
         instructorsDb.deleteInstructor(courseId, email);
+        CourseRosterCache.invalidate(courseId);
+        fsLogic.clearExpectedRespondentCountsForCourse(courseId);
     }
 
     public void deleteInstructorsForGoogleIdAndCascade(String googleId) {
@@ -277,6 +289,19 @@ public final class InstructorsLogic {
     public void deleteInstructorsForCourse(String courseId) {
 
         instructorsDb.deleteInstructorsForCourse(courseId);
+        CourseRosterCache.invalidate(courseId);
+    }
+
+    /**
+     * Deletes one page of the instructors of the course.
+     *
+     * @param cursor the cursor returned for the previous page, or null for the first page
+     * @return the cursor at which the next page starts, or null if there are no more instructors
+     */
+    public String deleteInstructorsForCoursePage(String courseId, String cursor, int pageSize) {
+        String nextCursor = instructorsDb.deleteInstructorsForCoursePage(courseId, cursor, pageSize);
+        CourseRosterCache.invalidate(courseId);
+        return nextCursor;
     }
 
     public List<InstructorAttributes> getCoOwnersForCourse(String courseId) {
@@ -1,6 +1,11 @@
 package teammates.logic.core;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import javax.ws.rs.core.MediaType;
 
@@ -10,9 +15,11 @@ import com.sun.jersey.api.client.WebResource;
 import com.sun.jersey.api.client.filter.HTTPBasicAuthFilter;
 import com.sun.jersey.multipart.FormDataMultiPart;
 
+import teammates.common.exception.EmailSendingException;
 import teammates.common.exception.TeammatesException;
 import teammates.common.util.Config;
 import teammates.common.util.EmailWrapper;
+import teammates.common.util.JsonUtils;
 import teammates.common.util.Logger;
 
 /**
@@ -25,11 +32,25 @@ public class MailgunService extends EmailSenderService {
 
     private static final Logger log = Logger.getLogger();
 
+    /** The maximum number of recipients Mailgun accepts in one batch sending request. */
+    private static final int MAX_RECIPIENTS_PER_REQUEST = 1000;
+
+    private Client client;
+
     /**
      * {@inheritDoc}
      */
     @Override
     public FormDataMultiPart parseToEmail(EmailWrapper wrapper) {
+        return parseToBulkEmail(Collections.singletonList(wrapper));
+    }
+
+    /**
+     * Parses {@code wrappers}, which differ only in their recipients, to one Mailgun batch sending request.
+     * Each recipient is given recipient variables, so that each of them gets a message addressed only to them.
+     */
+    public FormDataMultiPart parseToBulkEmail(List<EmailWrapper> wrappers) {
+        EmailWrapper wrapper = wrappers.get(0);
         FormDataMultiPart formData = new FormDataMultiPart();
 
         String sender = wrapper.getSenderName() == null || wrapper.getSenderName().isEmpty()
@@ -37,7 +58,14 @@ public class MailgunService extends EmailSenderService {
                         : wrapper.getSenderName() + " <" + wrapper.getSenderEmail() + ">";
         formData.field("from", sender);
 
-        formData.field("to", wrapper.getRecipient());
+        Map<String, Map<String, String>> recipientVariables = new LinkedHashMap<>();
+        for (EmailWrapper recipientWrapper : wrappers) {
+            formData.field("to", recipientWrapper.getRecipient());
+            recipientVariables.put(recipientWrapper.getRecipient(), new HashMap<>());
+        }
+        if (wrappers.size() > 1) {
+            formData.field("recipient-variables", JsonUtils.toJson(recipientVariables));
+        }
 
         if (wrapper.getBcc() != null && !wrapper.getBcc().isEmpty()) {
             formData.field("bcc", wrapper.getBcc());
@@ -53,14 +81,7 @@ public class MailgunService extends EmailSenderService {
     @Override
     protected void sendEmailWithService(EmailWrapper wrapper) {
         try (FormDataMultiPart email = parseToEmail(wrapper)) {
-            Client client = Client.create();
-            client.addFilter(new HTTPBasicAuthFilter("api", Config.MAILGUN_APIKEY));
-            WebResource webResource =
-                    client.resource("https://api.mailgun.net/v3/" + Config.MAILGUN_DOMAINNAME + "/messages");
-
-            ClientResponse response = webResource.type(MediaType.MULTIPART_FORM_DATA_TYPE)
-                    .post(ClientResponse.class, email);
-
+            ClientResponse response = send(email);
             if (isNotSuccessStatus(response.getStatus())) {
                 log.severe("Email failed to send: " + response.getStatusInfo().getReasonPhrase());
             }
@@ -69,4 +90,40 @@ public class MailgunService extends EmailSenderService {
         }
     }
 
+    @Override
+    protected void sendEmailsWithService(List<EmailWrapper> wrappers) throws EmailSendingException {
+        try (FormDataMultiPart email = parseToBulkEmail(wrappers)) {
+            ClientResponse response = send(email);
+            if (isNotSuccessStatus(response.getStatus())) {
+                throw new EmailSendingException("Emails failed to send: "
+                                                + response.getStatusInfo().getReasonPhrase());
+            }
+        } catch (IOException e) {
+            log.warning("Could not clean up resources after sending emails: "
+                        + TeammatesException.toStringWithStackTrace(e));
+        }
+    }
+
+    @Override
+    protected int getMaxEmailsPerBatch() {
+        return MAX_RECIPIENTS_PER_REQUEST;
+    }
+
+    private ClientResponse send(FormDataMultiPart email) {
+        WebResource webResource =
+                getClient().resource("https://api.mailgun.net/v3/" + Config.MAILGUN_DOMAINNAME + "/messages");
+
+        return webResource.type(MediaType.MULTIPART_FORM_DATA_TYPE).post(ClientResponse.class, email);
+    }
+
+    private synchronized Client getClient() {
+        // the client, and thus its HTTP connections, is reused for all emails sent by this service,
+        // which is shared by the requests served by this instance
+        if (client == null) {
+            client = Client.create();
+            client.addFilter(new HTTPBasicAuthFilter("api", Config.MAILGUN_APIKEY));
+        }
+        return client;
+    }
+
 }
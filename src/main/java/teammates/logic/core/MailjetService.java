@@ -1,5 +1,7 @@
 package teammates.logic.core;
 
+import java.util.List;
+
 import org.json.JSONArray;
 import org.json.JSONObject;
 import org.jsoup.Jsoup;
@@ -11,6 +13,7 @@ import com.mailjet.client.errors.MailjetException;
 import com.mailjet.client.errors.MailjetSocketTimeoutException;
 import com.mailjet.client.resource.Email;
 
+import teammates.common.exception.EmailSendingException;
 import teammates.common.util.Config;
 import teammates.common.util.EmailWrapper;
 import teammates.common.util.Logger;
@@ -27,6 +30,11 @@ public class MailjetService extends EmailSenderService {
 
     private static final Logger log = Logger.getLogger();
 
+    /** The maximum number of messages Mailjet accepts in one send request. */
+    private static final int MAX_MESSAGES_PER_REQUEST = 50;
+
+    private MailjetClient mailjet;
+
     /**
      * {@inheritDoc}
      */
@@ -50,14 +58,53 @@ public class MailjetService extends EmailSenderService {
         return request;
     }
 
+    /**
+     * Parses {@code wrappers} to one Mailjet send request holding a message for each of them.
+     */
+    public MailjetRequest parseToBulkEmail(List<EmailWrapper> wrappers) {
+        JSONArray messages = new JSONArray();
+        for (EmailWrapper wrapper : wrappers) {
+            messages.put(new JSONObject(parseToEmail(wrapper).getBody()));
+        }
+        return new MailjetRequest(Email.resource).property("Messages", messages);
+    }
+
     @Override
     protected void sendEmailWithService(EmailWrapper wrapper) throws MailjetException, MailjetSocketTimeoutException {
         MailjetRequest email = parseToEmail(wrapper);
-        MailjetClient mailjet = new MailjetClient(Config.MAILJET_APIKEY, Config.MAILJET_SECRETKEY);
-        MailjetResponse response = mailjet.post(email);
+        MailjetResponse response = getClient().post(email);
         if (isNotSuccessStatus(response.getStatus())) {
             log.severe("Email failed to send: " + response.getData().toString());
         }
     }
 
+    @Override
+    protected void sendEmailsWithService(List<EmailWrapper> wrappers)
+            throws MailjetException, MailjetSocketTimeoutException, EmailSendingException {
+        MailjetResponse response = getClient().post(parseToBulkEmail(wrappers));
+        if (isNotSuccessStatus(response.getStatus())) {
+            throw new EmailSendingException("Emails failed to send: " + response.getData().toString());
+        }
+    }
+
+    @Override
+    protected int getMaxEmailsPerBatch() {
+        return MAX_MESSAGES_PER_REQUEST;
+    }
+
+    @Override
+    protected List<List<EmailWrapper>> getBatches(List<EmailWrapper> wrappers) {
+        // each message of a request is sent as it is, so any emails can be sent together
+        return getBatchesInOrder(wrappers);
+    }
+
+    private synchronized MailjetClient getClient() {
+        // the client, and thus its HTTP connections, is reused for all emails sent by this service,
+        // which is shared by the requests served by this instance
+        if (mailjet == null) {
+            mailjet = new MailjetClient(Config.MAILJET_APIKEY, Config.MAILJET_SECRETKEY);
+        }
+        return mailjet;
+    }
+
 }
@@ -0,0 +1,51 @@
+package teammates.logic.core;
+
+import java.util.List;
+
+import teammates.common.datatransfer.SearchDocumentUpdates;
+import teammates.common.util.Assumption;
+import teammates.storage.api.SearchDocumentsDb;
+
+/**
+ * Handles operations related to deferred writes to the search indices.
+ *
+ * @see SearchDocumentsDb
+ */
+public final class SearchDocumentsLogic {
+
+    private static SearchDocumentsLogic instance = new SearchDocumentsLogic();
+
+    private static final SearchDocumentsDb searchDocumentsDb = new SearchDocumentsDb();
+
+    private SearchDocumentsLogic() {
+        // prevent initialization
+    }
+
+    public static SearchDocumentsLogic inst() {
+        return instance;
+    }
+
+    /**
+     * Starts deferring the search document writes of the current thread.
+     */
+    public void startBuffering() {
+        searchDocumentsDb.startBuffering();
+    }
+
+    /**
+     * Stops deferring the search document writes of the current thread.
+     * @return the deferred writes, in batches to be given to {@link #writeDocuments(SearchDocumentUpdates)}
+     */
+    public List<SearchDocumentUpdates> stopBuffering() {
+        return searchDocumentsDb.stopBuffering();
+    }
+
+    /**
+     * Writes a batch of deferred search document writes to the index.
+     */
+    public void writeDocuments(SearchDocumentUpdates updates) {
+        Assumption.assertNotNull(updates);
+        searchDocumentsDb.writeDocuments(updates);
+    }
+
+}
@@ -1,6 +1,8 @@
 package teammates.logic.core;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
 
 import org.jsoup.Jsoup;
 
@@ -13,6 +15,7 @@ import com.sendgrid.Request;
 import com.sendgrid.Response;
 import com.sendgrid.SendGrid;
 
+import teammates.common.exception.EmailSendingException;
 import teammates.common.util.Config;
 import teammates.common.util.EmailWrapper;
 import teammates.common.util.Logger;
@@ -27,11 +30,25 @@ public class SendgridService extends EmailSenderService {
 
     private static final Logger log = Logger.getLogger();
 
+    /** The maximum number of personalizations SendGrid accepts in one request. */
+    private static final int MAX_PERSONALIZATIONS_PER_REQUEST = 1000;
+
+    private SendGrid sendgrid;
+
     /**
      * {@inheritDoc}
      */
     @Override
     public Mail parseToEmail(EmailWrapper wrapper) {
+        return parseToBulkEmail(Collections.singletonList(wrapper));
+    }
+
+    /**
+     * Parses {@code wrappers}, which differ only in their recipients, to one SendGrid email object
+     * with a personalization for each recipient.
+     */
+    public Mail parseToBulkEmail(List<EmailWrapper> wrappers) {
+        EmailWrapper wrapper = wrappers.get(0);
         Mail email = new Mail();
         Email sender;
         if (wrapper.getSenderName() == null || wrapper.getSenderName().isEmpty()) {
@@ -41,12 +58,14 @@ public class SendgridService extends EmailSenderService {
         }
         email.setFrom(sender);
         email.setReplyTo(new Email(wrapper.getReplyTo()));
-        Personalization personalization = new Personalization();
-        personalization.addTo(new Email(wrapper.getRecipient()));
-        if (wrapper.getBcc() != null && !wrapper.getBcc().isEmpty()) {
-            personalization.addBcc(new Email(wrapper.getBcc()));
+        for (EmailWrapper recipientWrapper : wrappers) {
+            Personalization personalization = new Personalization();
+            personalization.addTo(new Email(recipientWrapper.getRecipient()));
+            if (recipientWrapper.getBcc() != null && !recipientWrapper.getBcc().isEmpty()) {
+                personalization.addBcc(new Email(recipientWrapper.getBcc()));
+            }
+            email.addPersonalization(personalization);
         }
-        email.addPersonalization(personalization);
         email.setSubject(wrapper.getSubject());
         email.addContent(new Content("text/plain", Jsoup.parse(wrapper.getContent()).text()));
         email.addContent(new Content("text/html", wrapper.getContent()));
@@ -55,16 +74,40 @@ public class SendgridService extends EmailSenderService {
 
     @Override
     protected void sendEmailWithService(EmailWrapper wrapper) throws IOException {
-        Mail email = parseToEmail(wrapper);
-        SendGrid sendgrid = new SendGrid(Config.SENDGRID_APIKEY);
+        Response response = send(parseToEmail(wrapper));
+        if (isNotSuccessStatus(response.getStatusCode())) {
+            log.severe("Email failed to send: " + response.getBody());
+        }
+    }
+
+    @Override
+    protected void sendEmailsWithService(List<EmailWrapper> wrappers) throws IOException, EmailSendingException {
+        Response response = send(parseToBulkEmail(wrappers));
+        if (isNotSuccessStatus(response.getStatusCode())) {
+            throw new EmailSendingException("Emails failed to send: " + response.getBody());
+        }
+    }
+
+    @Override
+    protected int getMaxEmailsPerBatch() {
+        return MAX_PERSONALIZATIONS_PER_REQUEST;
+    }
+
+    private Response send(Mail email) throws IOException {
         Request request = new Request();
         request.setMethod(Method.POST);
         request.setEndpoint("mail/send");
         request.setBody(email.build());
-        Response response = sendgrid.api(request);
-        if (isNotSuccessStatus(response.getStatusCode())) {
-            log.severe("Email failed to send: " + response.getBody());
+        return getClient().api(request);
+    }
+
+    private synchronized SendGrid getClient() {
+        // the client, and thus its HTTP connections, is reused for all emails sent by this service,
+        // which is shared by the requests served by this instance
+        if (sendgrid == null) {
+            sendgrid = new SendGrid(Config.SENDGRID_APIKEY);
         }
+        return sendgrid;
     }
 
 }
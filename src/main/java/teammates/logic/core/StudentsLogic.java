@@ -1,7 +1,14 @@
 package teammates.logic.core;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import teammates.common.datatransfer.CourseEnrollmentResult;
 import teammates.common.datatransfer.StudentAttributesFactory;
@@ -9,7 +16,6 @@ import teammates.common.datatransfer.StudentEnrollDetails;
 import teammates.common.datatransfer.StudentSearchResultBundle;
 import teammates.common.datatransfer.StudentUpdateStatus;
 import teammates.common.datatransfer.TeamDetailsBundle;
-import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.datatransfer.attributes.StudentProfileAttributes;
@@ -17,6 +23,7 @@ import teammates.common.exception.EnrollException;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
+import teammates.common.exception.TeammatesException;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const;
 import teammates.common.util.FieldValidator;
@@ -65,7 +72,14 @@ public final class StudentsLogic {
 
     public void createStudentCascade(StudentAttributes studentData, boolean hasDocument)
             throws InvalidParametersException, EntityAlreadyExistsException, EntityDoesNotExistException {
+        if (studentData.course != null && studentData.email != null
+                && studentsDb.isEmailOfResponsesToMove(studentData.course, studentData.email)) {
+            throw new InvalidParametersException(
+                    String.format(Const.StatusMessages.STUDENT_EMAIL_RESPONSES_BEING_MOVED, studentData.email));
+        }
         studentsDb.createStudent(studentData, hasDocument);
+        CourseRosterCache.invalidate(studentData.course);
+        fsLogic.clearExpectedRespondentCountsForCourse(studentData.course);
 
         if (!coursesLogic.isCoursePresent(studentData.course)) {
             throw new EntityDoesNotExistException(
@@ -94,6 +108,10 @@ public final class StudentsLogic {
         return studentsDb.getStudentsForCourse(courseId);
     }
 
+    public List<StudentAttributes> getStudentsForEmails(String courseId, List<String> emails) {
+        return studentsDb.getStudentsForEmails(courseId, emails);
+    }
+
     public List<StudentAttributes> getStudentsForTeam(String teamName, String courseId) {
         return studentsDb.getStudentsForTeam(teamName, courseId);
     }
@@ -187,19 +205,37 @@ public final class StudentsLogic {
 
     public void updateStudentCascade(String originalEmail, StudentAttributes student, boolean hasDocument)
             throws InvalidParametersException, EntityDoesNotExistException {
+        updateStudentCascade(originalEmail, student, hasDocument, false);
+    }
+
+    /**
+     * Updates the student as {@link #updateStudentCascade(String, StudentAttributes)} does, except that
+     * the responses given by or to the student are left under {@code originalEmail}. They are to be moved to
+     * the new email in batches with {@link FeedbackResponsesLogic#updateFeedbackResponsesBatchForChangingEmail}.
+     */
+    public void updateStudentCascadeWithResponsesEmailChangeDeferred(String originalEmail, StudentAttributes student)
+            throws InvalidParametersException, EntityDoesNotExistException {
+        updateStudentCascade(originalEmail, student, true, true);
+    }
+
+    private void updateStudentCascade(String originalEmail, StudentAttributes student, boolean hasDocument,
+            boolean isResponsesEmailChangeDeferred) throws InvalidParametersException, EntityDoesNotExistException {
         StudentAttributes originalStudent = getStudentForEmail(student.course, originalEmail);
-        updateStudentCascadeWithSubmissionAdjustmentScheduled(originalEmail, student, hasDocument);
+        updateStudentCascadeWithSubmissionAdjustmentScheduled(originalEmail, student, hasDocument,
+                isResponsesEmailChangeDeferred);
 
         /* finalEmail is the string to be used to represent a student's email.
          * This is because:
-         *  - originalEmail cannot be used when student's email is being updated with a new valid email
+         *  - originalEmail cannot be used when student's email is being updated with a new valid email,
+         *    unless the responses of the student are yet to be moved to the new email
          *  - student.email cannot be used always because it is null when non-email attributes
          *    of a student are being updated or when the new email to be updated is invalid
          */
         FieldValidator validator = new FieldValidator();
         //Untested case: The deletion is not persisted immediately (i.e. persistence delay)
         //       Reason: Difficult to reproduce a persistence delay during testing
-        String finalEmail = student.email == null
+        String finalEmail = isResponsesEmailChangeDeferred
+                                || student.email == null
                                 || !validator.getInvalidityInfoForEmail(student.email).isEmpty()
                             ? originalEmail
                             : student.email;
@@ -220,6 +256,12 @@ public final class StudentsLogic {
     public void updateStudentCascadeWithSubmissionAdjustmentScheduled(String originalEmail,
             StudentAttributes student, boolean hasDocument)
             throws EntityDoesNotExistException, InvalidParametersException {
+        updateStudentCascadeWithSubmissionAdjustmentScheduled(originalEmail, student, hasDocument, false);
+    }
+
+    private void updateStudentCascadeWithSubmissionAdjustmentScheduled(String originalEmail,
+            StudentAttributes student, boolean hasDocument, boolean isResponsesEmailChangeDeferred)
+            throws EntityDoesNotExistException, InvalidParametersException {
         // Edit student uses KeepOriginal policy, where unchanged fields are set
         // as null. Hence, we can't do isValid() for student here.
         // After updateWithReferenceToExistingStudentRecord method called,
@@ -237,16 +279,76 @@ public final class StudentsLogic {
             throw new InvalidParametersException(student.getInvalidityInfo());
         }
 
+        boolean isEmailChanged = !originalEmail.equals(student.email);
+        if (isEmailChanged) {
+            verifyNoResponsesToMove(student.course, originalEmail, student.email);
+        }
+
+        // if the responses are moved later, the original email stays taken until they are all moved
         studentsDb.updateStudent(student.course, originalEmail, student.name, student.team, student.section,
-                                 student.email, student.googleId, student.comments, hasDocument, false);
+                                 student.email, student.googleId, student.comments, hasDocument, false,
+                                 isResponsesEmailChangeDeferred);
+        CourseRosterCache.invalidate(student.course);
 
         // cascade email change, if any
-        if (!originalEmail.equals(student.email)) {
-            frLogic.updateFeedbackResponsesForChangingEmail(student.course, originalEmail, student.email);
+        if (isEmailChanged) {
+            if (!isResponsesEmailChangeDeferred) {
+                frLogic.updateFeedbackResponsesForChangingEmail(student.course, originalEmail, student.email);
+            }
             fsLogic.updateRespondentsForStudent(originalEmail, student.email, student.course);
         }
     }
 
+    /**
+     * Verifies that the email of a student can be changed, i.e. that neither the responses of the student nor
+     * any responses under the new email are still being moved from an earlier email change.
+     * Otherwise, the responses being moved could end up with the wrong email.
+     */
+    private void verifyNoResponsesToMove(String courseId, String originalEmail, String newEmail)
+            throws InvalidParametersException, EntityDoesNotExistException {
+        if (studentsDb.getEmailOfResponsesToMove(courseId, originalEmail) != null) {
+            throw new InvalidParametersException(Const.StatusMessages.STUDENT_EMAIL_CHANGE_IN_PROGRESS);
+        }
+        if (studentsDb.isEmailOfResponsesToMove(courseId, newEmail)) {
+            throw new InvalidParametersException(
+                    String.format(Const.StatusMessages.STUDENT_EMAIL_RESPONSES_BEING_MOVED, newEmail));
+        }
+    }
+
+    /**
+     * Moves one batch of the responses given by or to {@code oldEmail} in the course to {@code newEmail},
+     * if the student with {@code newEmail} is still waiting for the responses of {@code oldEmail}.
+     * Once all of them are moved, {@code oldEmail} can be used again.
+     *
+     * @return true if there may be more responses of {@code oldEmail} left to be moved
+     * @throws EntityDoesNotExistException if there is no student with {@code newEmail} while responses are still
+     *         left under {@code oldEmail}, in which case the move is to be tried again later
+     */
+    public boolean updateFeedbackResponsesBatchForChangedEmail(String courseId, String oldEmail, String newEmail)
+            throws InvalidParametersException, EntityDoesNotExistException {
+        String emailOfResponsesToMove;
+        try {
+            emailOfResponsesToMove = studentsDb.getEmailOfResponsesToMove(courseId, newEmail);
+        } catch (EntityDoesNotExistException e) {
+            // a deleted student is deleted together with the responses left under oldEmail
+            if (frLogic.hasFeedbackResponsesForEmailInCourse(courseId, oldEmail)) {
+                throw e;
+            }
+            return false;
+        }
+        if (!oldEmail.equals(emailOfResponsesToMove)) {
+            // the move is completed
+            return false;
+        }
+
+        boolean hasRemainingResponses =
+                frLogic.updateFeedbackResponsesBatchForChangingEmail(courseId, oldEmail, newEmail);
+        if (!hasRemainingResponses) {
+            studentsDb.clearEmailOfResponsesToMove(courseId, newEmail);
+        }
+        return hasRemainingResponses;
+    }
+
     public void resetStudentGoogleId(String originalEmail, String courseId, boolean hasDocument)
             throws EntityDoesNotExistException, InvalidParametersException {
         // Edit student uses KeepOriginal policy, where unchanged fields are set
@@ -264,6 +366,7 @@ public final class StudentsLogic {
         studentsDb.updateStudent(originalStudent.course, originalEmail, originalStudent.name,
                                  originalStudent.team, originalStudent.section, originalStudent.email,
                                  originalStudent.googleId, originalStudent.comments, hasDocument, false);
+        CourseRosterCache.invalidate(courseId);
     }
 
     public CourseEnrollmentResult enrollStudents(String enrollLines, String courseId)
@@ -293,24 +396,52 @@ public final class StudentsLogic {
         ArrayList<StudentEnrollDetails> enrollmentList = new ArrayList<>();
 
         verifyIsWithinSizeLimitPerEnrollment(studentList);
-        validateSectionsAndTeams(studentList, courseId);
 
-        // TODO: can we use a batch persist operation here?
-        // enroll all students
+        // load the existing roster once and diff the enrollment against it
+        List<StudentAttributes> studentsInCourse = getStudentsForCourse(courseId);
+        validateSectionsAndTeams(studentList, studentsInCourse);
+
+        Map<String, StudentAttributes> studentsInCourseByEmail = new HashMap<>();
+        for (StudentAttributes student : studentsInCourse) {
+            studentsInCourseByEmail.put(student.email, student);
+        }
+
+        List<StudentAttributes> newStudents = new ArrayList<>();
+        List<StudentAttributes> modifiedStudents = new ArrayList<>();
+        Set<String> enrolledEmails = new HashSet<>();
         for (StudentAttributes student : studentList) {
-            StudentEnrollDetails enrollmentDetails;
+            StudentAttributes originalStudent = studentsInCourseByEmail.get(student.email);
+            StudentEnrollDetails enrollmentDetails = getEnrollmentDetails(student, originalStudent);
 
-            enrollmentDetails = enrollStudent(student, hasDocument);
+            if (enrollmentDetails.updateStatus == StudentUpdateStatus.NEW) {
+                newStudents.add(student);
+            } else if (enrollmentDetails.updateStatus == StudentUpdateStatus.MODIFIED) {
+                student.updateWithExistingRecord(originalStudent);
+                if (!student.isValid()) {
+                    throw new InvalidParametersException(student.getInvalidityInfo());
+                }
+                modifiedStudents.add(student);
+            }
             student.updateStatus = enrollmentDetails.updateStatus;
 
             enrollmentList.add(enrollmentDetails);
             returnList.add(student);
+            enrolledEmails.add(student.email.toLowerCase());
+        }
+
+        if (!newStudents.isEmpty()) {
+            verifyNoResponsesToMoveForNewStudents(courseId, newStudents);
+        }
+
+        studentsDb.enrollStudents(newStudents, modifiedStudents, hasDocument);
+        CourseRosterCache.invalidate(courseId);
+        if (!newStudents.isEmpty()) {
+            fsLogic.clearExpectedRespondentCountsForCourse(courseId);
         }
 
         // add to return list students not included in the enroll list.
-        List<StudentAttributes> studentsInCourse = getStudentsForCourse(courseId);
         for (StudentAttributes student : studentsInCourse) {
-            if (!isInEnrollList(student, returnList)) {
+            if (!enrolledEmails.contains(student.email.toLowerCase())) {
                 student.updateStatus = StudentUpdateStatus.NOT_IN_ENROLL_LIST;
                 returnList.add(student);
             }
@@ -319,6 +450,26 @@ public final class StudentsLogic {
         return new CourseEnrollmentResult(returnList, enrollmentList);
     }
 
+    /**
+     * Verifies that no new student takes an email whose responses are still being moved to another student,
+     * as the responses of the new student would be moved too.
+     */
+    private void verifyNoResponsesToMoveForNewStudents(String courseId, List<StudentAttributes> newStudents)
+            throws EnrollException {
+        Set<String> emailsOfResponsesToMove = studentsDb.getEmailsOfResponsesToMove(courseId);
+        StringBuilder errorMessage = new StringBuilder();
+        for (StudentAttributes student : newStudents) {
+            if (emailsOfResponsesToMove.contains(student.email)) {
+                errorMessage.append(String.format(Const.StatusMessages.STUDENT_EMAIL_RESPONSES_BEING_MOVED,
+                                                  student.email))
+                            .append("<br>");
+            }
+        }
+        if (errorMessage.length() > 0) {
+            throw new EnrollException(errorMessage.toString());
+        }
+    }
+
     private void verifyIsWithinSizeLimitPerEnrollment(List<StudentAttributes> students) throws EnrollException {
         if (students.size() > Const.SIZE_LIMIT_PER_ENROLLMENT) {
             throw new EnrollException(Const.StatusMessages.QUOTA_PER_ENROLLMENT_EXCEED);
@@ -329,8 +480,13 @@ public final class StudentsLogic {
      * Validates sections for any limit violations and teams for any team name violations.
      */
     public void validateSectionsAndTeams(List<StudentAttributes> studentList, String courseId) throws EnrollException {
+        validateSectionsAndTeams(studentList, getStudentsForCourse(courseId));
+    }
+
+    private void validateSectionsAndTeams(List<StudentAttributes> studentList, List<StudentAttributes> studentsInCourse)
+            throws EnrollException {
 
-        List<StudentAttributes> mergedList = getMergedList(studentList, courseId);
+        List<StudentAttributes> mergedList = getMergedList(studentList, studentsInCourse);
 
         if (mergedList.size() < 2) { // no conflicts
             return;
@@ -349,7 +505,7 @@ public final class StudentsLogic {
      */
     public void validateTeams(List<StudentAttributes> studentList, String courseId) throws EnrollException {
 
-        List<StudentAttributes> mergedList = getMergedList(studentList, courseId);
+        List<StudentAttributes> mergedList = getMergedList(studentList, getStudentsForCourse(courseId));
 
         if (mergedList.size() < 2) { // no conflicts
             return;
@@ -363,17 +519,19 @@ public final class StudentsLogic {
 
     }
 
-    private List<StudentAttributes> getMergedList(List<StudentAttributes> studentList, String courseId) {
+    private List<StudentAttributes> getMergedList(List<StudentAttributes> studentList,
+            List<StudentAttributes> studentsInCourse) {
 
         List<StudentAttributes> mergedList = new ArrayList<>();
-        List<StudentAttributes> studentsInCourse = getStudentsForCourse(courseId);
+        Set<String> mergedEmails = new HashSet<>();
 
         for (StudentAttributes student : studentList) {
             mergedList.add(student);
+            mergedEmails.add(student.email.toLowerCase());
         }
 
         for (StudentAttributes student : studentsInCourse) {
-            if (!isInEnrollList(student, mergedList)) {
+            if (mergedEmails.add(student.email.toLowerCase())) {
                 mergedList.add(student);
             }
         }
@@ -466,14 +624,27 @@ public final class StudentsLogic {
     public void deleteStudentCascade(String courseId, String studentEmail, boolean hasDocument) {
         // delete responses before deleting the student as we need to know the student's team.
         frLogic.deleteFeedbackResponsesForStudentAndCascade(courseId, studentEmail);
+        // including the responses that are still to be moved from the previous email of the student
+        try {
+            String emailOfResponsesToMove = studentsDb.getEmailOfResponsesToMove(courseId, studentEmail);
+            if (emailOfResponsesToMove != null) {
+                frLogic.deleteFeedbackResponsesForStudentAndCascade(courseId, emailOfResponsesToMove);
+            }
+        } catch (EntityDoesNotExistException e) {
+            // the student is already deleted
+        }
         fsLogic.deleteStudentFromRespondentsList(getStudentForEmail(courseId, studentEmail));
         studentsDb.deleteStudent(courseId, studentEmail, hasDocument);
+        CourseRosterCache.invalidate(courseId);
+        fsLogic.clearExpectedRespondentCountsForCourse(courseId);
     }
 
     public void deleteStudentsForGoogleId(String googleId) {
         List<StudentAttributes> students = studentsDb.getStudentsForGoogleId(googleId);
         for (StudentAttributes student : students) {
             fsLogic.deleteStudentFromRespondentsList(student);
+            CourseRosterCache.invalidate(student.course);
+            fsLogic.clearExpectedRespondentCountsForCourse(student.course);
         }
         studentsDb.deleteStudentsForGoogleId(googleId);
     }
@@ -482,6 +653,8 @@ public final class StudentsLogic {
         List<StudentAttributes> students = studentsDb.getStudentsForGoogleId(googleId);
         for (StudentAttributes student : students) {
             fsLogic.deleteStudentFromRespondentsList(student);
+            CourseRosterCache.invalidate(student.course);
+            fsLogic.clearExpectedRespondentCountsForCourse(student.course);
         }
         studentsDb.deleteStudentsForGoogleIdWithoutDocument(googleId);
     }
@@ -497,29 +670,34 @@ public final class StudentsLogic {
 
     public void deleteStudentsForCourse(String courseId) {
         studentsDb.deleteStudentsForCourse(courseId);
+        CourseRosterCache.invalidate(courseId);
+    }
+
+    /**
+     * Deletes one page of the students of the course.
+     *
+     * @param cursor the cursor returned for the previous page, or null for the first page
+     * @return the cursor at which the next page starts, or null if there are no more students
+     */
+    public String deleteStudentsForCoursePage(String courseId, String cursor, int pageSize) {
+        String nextCursor = studentsDb.deleteStudentsForCoursePage(courseId, cursor, pageSize);
+        CourseRosterCache.invalidate(courseId);
+        return nextCursor;
     }
 
     public void deleteStudentsForCourseWithoutDocument(String courseId) {
         studentsDb.deleteStudentsForCourseWithoutDocument(courseId);
+        CourseRosterCache.invalidate(courseId);
     }
 
-    public void adjustFeedbackResponseForEnrollments(
-            List<StudentEnrollDetails> enrollmentList,
-            FeedbackResponseAttributes response) throws InvalidParametersException, EntityDoesNotExistException {
-        for (StudentEnrollDetails enrollment : enrollmentList) {
-            if (enrollment.updateStatus != StudentUpdateStatus.MODIFIED) {
-                continue;
-            }
-
-            boolean isResponseDeleted = false;
-            if (isTeamChanged(enrollment.oldTeam, enrollment.newTeam)) {
-                isResponseDeleted = frLogic.updateFeedbackResponseForChangingTeam(enrollment, response);
-            }
-
-            if (!isResponseDeleted && isSectionChanged(enrollment.oldSection, enrollment.newSection)) {
-                frLogic.updateFeedbackResponseForChangingSection(enrollment, response);
-            }
-        }
+    /**
+     * Adjusts the responses in the session for the changes in the enrollment of students,
+     * reading only the responses given by or to the students whose team or section is changed.
+     */
+    public void adjustFeedbackResponsesForEnrollments(List<StudentEnrollDetails> enrollmentList,
+            String feedbackSessionName, String courseId)
+            throws InvalidParametersException, EntityDoesNotExistException {
+        frLogic.updateFeedbackResponsesForChangingEnrollments(feedbackSessionName, courseId, enrollmentList);
     }
 
     /**
@@ -529,11 +707,12 @@ public final class StudentsLogic {
         studentsDb.putDocuments(students);
     }
 
-    private StudentEnrollDetails enrollStudent(StudentAttributes validStudentAttributes, Boolean hasDocument)
-            throws InvalidParametersException, EntityDoesNotExistException, EntityAlreadyExistsException {
-        StudentAttributes originalStudentAttributes = getStudentForEmail(
-                validStudentAttributes.course, validStudentAttributes.email);
-
+    /**
+     * Compares {@code validStudentAttributes} against the existing record of the student, if any,
+     * and returns the resulting enrollment details. Nothing is persisted.
+     */
+    private StudentEnrollDetails getEnrollmentDetails(StudentAttributes validStudentAttributes,
+            StudentAttributes originalStudentAttributes) {
         StudentEnrollDetails enrollmentDetails = new StudentEnrollDetails();
         enrollmentDetails.course = validStudentAttributes.course;
         enrollmentDetails.email = validStudentAttributes.email;
@@ -544,8 +723,6 @@ public final class StudentsLogic {
         if (validStudentAttributes.isEnrollInfoSameAs(originalStudentAttributes)) {
             enrollmentDetails.updateStatus = StudentUpdateStatus.UNMODIFIED;
         } else if (isModifyingExistingStudent) {
-            updateStudentCascadeWithSubmissionAdjustmentScheduled(originalStudentAttributes.email,
-                                                                  validStudentAttributes, true);
             enrollmentDetails.updateStatus = StudentUpdateStatus.MODIFIED;
 
             if (!originalStudentAttributes.team.equals(validStudentAttributes.team)) {
@@ -555,7 +732,6 @@ public final class StudentsLogic {
                 enrollmentDetails.oldSection = originalStudentAttributes.section;
             }
         } else {
-            createStudentCascade(validStudentAttributes, hasDocument);
             enrollmentDetails.updateStatus = StudentUpdateStatus.NEW;
         }
 
@@ -563,8 +739,8 @@ public final class StudentsLogic {
     }
 
     /**
-     * Builds {@code studentList} from user input {@code lines}. All empty lines or lines with only white spaces will
-     * be skipped.
+     * Builds {@code studentList} from user input {@code lines} in a single pass. All empty lines or lines with only
+     * white spaces will be skipped.
      *
      * @param lines the enrollment lines entered by the instructor.
      * @throws EnrollException if some of the student instances created are invalid. The exception message contains
@@ -572,33 +748,40 @@ public final class StudentsLogic {
      */
     public List<StudentAttributes> createStudents(String lines, String courseId) throws EnrollException {
         List<String> invalidityInfo = new ArrayList<>();
-        String[] linesArray = lines.split(System.lineSeparator());
         List<StudentAttributes> studentList = new ArrayList<>();
+        // the first line in which each email appears, to detect duplicate emails without rescanning studentList
+        Map<String, String> firstLineForEmail = new HashMap<>();
 
-        StudentAttributesFactory saf = new StudentAttributesFactory(linesArray[0]);
+        BufferedReader reader = new BufferedReader(new StringReader(lines));
+        try {
+            String headerLine = reader.readLine();
+            StudentAttributesFactory saf = new StudentAttributesFactory(headerLine == null ? "" : headerLine);
 
-        for (int i = 1; i < linesArray.length; i++) {
-            String line = linesArray[i];
-            String sanitizedLine = SanitizationHelper.sanitizeForHtml(line);
-            if (StringHelper.isWhiteSpace(line)) {
-                continue;
-            }
-            try {
-                StudentAttributes student = saf.makeStudent(line, courseId);
-
-                if (!student.isValid()) {
-                    invalidityInfo.add(invalidStudentInfo(sanitizedLine, student));
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                if (StringHelper.isWhiteSpace(line)) {
+                    continue;
                 }
-
-                int duplicateEmailIndex = getDuplicateEmailIndex(student.email, studentList);
-                if (duplicateEmailIndex != -1) {
-                    invalidityInfo.add(duplicateEmailInfo(sanitizedLine, linesArray[duplicateEmailIndex + 1]));
+                try {
+                    StudentAttributes student = saf.makeStudent(line, courseId);
+
+                    if (!student.isValid()) {
+                        invalidityInfo.add(invalidStudentInfo(SanitizationHelper.sanitizeForHtml(line), student));
+                    }
+
+                    String duplicateEmailLine = firstLineForEmail.putIfAbsent(student.email, line);
+                    if (duplicateEmailLine != null) {
+                        invalidityInfo.add(duplicateEmailInfo(SanitizationHelper.sanitizeForHtml(line),
+                                                              SanitizationHelper.sanitizeForHtml(duplicateEmailLine)));
+                    }
+
+                    studentList.add(student);
+                } catch (EnrollException e) {
+                    invalidityInfo.add(enrollExceptionInfo(SanitizationHelper.sanitizeForHtml(line), e.getMessage()));
                 }
-
-                studentList.add(student);
-            } catch (EnrollException e) {
-                invalidityInfo.add(enrollExceptionInfo(sanitizedLine, e.getMessage()));
             }
+        } catch (IOException e) {
+            Assumption.fail("Reading from an in-memory string should not fail: "
+                            + TeammatesException.toStringWithStackTrace(e));
         }
 
         if (!invalidityInfo.isEmpty()) {
@@ -618,19 +801,6 @@ public final class StudentsLogic {
         return String.format(Const.StatusMessages.ENROLL_LINES_PROBLEM, userInput, info);
     }
 
-    /**
-     * Returns the index of the first occurrence of the duplicate {@code email} in
-     * {@code studentList}, or -1 if {@code email} is not a duplicate in {@code studentList}.
-     */
-    private int getDuplicateEmailIndex(String email, List<StudentAttributes> studentList) {
-        for (int index = 0; index < studentList.size(); index++) {
-            if (studentList.get(index).email.equals(email)) {
-                return index;
-            }
-        }
-        return -1;
-    }
-
     /**
      * Returns a {@code String} containing the duplicate email information in {@code duplicateEmailInfo} and
      * the corresponding sanitized invalid {@code userInput}.
@@ -650,22 +820,18 @@ public final class StudentsLogic {
         return String.format(Const.StatusMessages.ENROLL_LINES_PROBLEM, userInput, errorMessage);
     }
 
-    private boolean isInEnrollList(StudentAttributes student,
-            List<StudentAttributes> studentInfoList) {
-        for (StudentAttributes studentInfo : studentInfoList) {
-            if (studentInfo.email.equalsIgnoreCase(student.email)) {
-                return true;
-            }
-        }
-        return false;
-    }
-
-    private boolean isTeamChanged(String originalTeam, String newTeam) {
+    /**
+     * Returns true if the team is changed, i.e. both teams are known and they differ.
+     */
+    static boolean isTeamChanged(String originalTeam, String newTeam) {
         return newTeam != null && originalTeam != null
                 && !originalTeam.equals(newTeam);
     }
 
-    private boolean isSectionChanged(String originalSection, String newSection) {
+    /**
+     * Returns true if the section is changed, i.e. both sections are known and they differ.
+     */
+    static boolean isSectionChanged(String originalSection, String newSection) {
         return newSection != null && originalSection != null
                 && !originalSection.equals(newSection);
     }
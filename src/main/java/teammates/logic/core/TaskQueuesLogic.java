@@ -1,18 +1,33 @@
 package teammates.logic.core;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import com.google.appengine.api.taskqueue.Queue;
+import com.google.appengine.api.taskqueue.QueueConstants;
 import com.google.appengine.api.taskqueue.QueueFactory;
+import com.google.appengine.api.taskqueue.TaskAlreadyExistsException;
 import com.google.appengine.api.taskqueue.TaskOptions;
+import com.google.appengine.api.taskqueue.TransientFailureException;
 
+import teammates.common.exception.TeammatesException;
+import teammates.common.util.Logger;
 import teammates.common.util.TaskWrapper;
+import teammates.common.util.retry.MaximumRetriesExceededException;
+import teammates.common.util.retry.RetryManager;
+import teammates.common.util.retry.RetryableTask;
 
 /**
  * Handles operations related to task queues.
  */
 public class TaskQueuesLogic {
 
+    private static final Logger log = Logger.getLogger();
+
+    private static final RetryManager RM = new RetryManager(4);
+
     /**
      * Adds the given task to the specified queue.
      *
@@ -30,10 +45,83 @@ public class TaskQueuesLogic {
      */
     public void addDeferredTask(TaskWrapper task, long countdownTime) {
         Queue requiredQueue = QueueFactory.getQueue(task.getQueueName());
+        requiredQueue.add(toTaskOptions(task, countdownTime));
+    }
+
+    /**
+     * Adds the given tasks, each to its own queue and after its own countdown time.
+     *
+     * <p>The tasks of each queue are added in chunks of the maximum number of tasks the queue
+     * accepts per call. A chunk that fails transiently is retried on its own, so that a failure
+     * does not affect the chunks already added. A chunk that cannot be added is logged and the
+     * remaining chunks are still added, before the failure is reported to the caller.
+     *
+     * <p>Named tasks that have been added before are skipped, so a list of named tasks can be added again
+     * to complete an earlier call that failed part way.
+     *
+     * @param tasks the task objects containing the details of tasks to be added
+     * @throws IllegalStateException if any chunk could not be added
+     */
+    public void addTasks(List<TaskWrapper> tasks) {
+        Map<String, List<TaskOptions>> tasksPerQueue = new LinkedHashMap<>();
+        for (TaskWrapper task : tasks) {
+            tasksPerQueue.computeIfAbsent(task.getQueueName(), k -> new ArrayList<>())
+                    .add(toTaskOptions(task, task.getCountdownTime()));
+        }
+
+        int maxTasksPerAdd = QueueConstants.maxTasksPerAdd();
+        int numberOfFailedTasks = 0;
+        RuntimeException firstFailure = null;
+        for (Map.Entry<String, List<TaskOptions>> entry : tasksPerQueue.entrySet()) {
+            String queueName = entry.getKey();
+            List<TaskOptions> tasksOfQueue = entry.getValue();
+            for (int i = 0; i < tasksOfQueue.size(); i += maxTasksPerAdd) {
+                List<TaskOptions> chunk = tasksOfQueue.subList(i, Math.min(i + maxTasksPerAdd, tasksOfQueue.size()));
+                try {
+                    addTasksWithRetry(QueueFactory.getQueue(queueName), chunk);
+                } catch (RuntimeException e) {
+                    log.severe("Failed to add tasks " + i + " to " + (i + chunk.size() - 1) + " of the "
+                               + tasksOfQueue.size() + " tasks for " + queueName + ": "
+                               + TeammatesException.toStringWithStackTrace(e));
+                    numberOfFailedTasks += chunk.size();
+                    if (firstFailure == null) {
+                        firstFailure = e;
+                    }
+                }
+            }
+        }
+
+        if (firstFailure != null) {
+            throw new IllegalStateException(
+                    numberOfFailedTasks + " of " + tasks.size() + " tasks could not be added", firstFailure);
+        }
+    }
+
+    private void addTasksWithRetry(Queue queue, List<TaskOptions> tasks) {
+        try {
+            RM.runUntilNoRecognizedException(new RetryableTask("Add tasks to " + queue.getQueueName()) {
+                @Override
+                public void run() {
+                    queue.add(tasks);
+                }
+            }, TransientFailureException.class);
+        } catch (TaskAlreadyExistsException e) {
+            // the other tasks of the chunk are still added
+            log.info("Skipped " + e.getTaskNames().size() + " tasks for " + queue.getQueueName()
+                     + " that have been added before");
+        } catch (MaximumRetriesExceededException e) {
+            throw new IllegalStateException("Still failing after maximum retries", e);
+        }
+    }
+
+    private TaskOptions toTaskOptions(TaskWrapper task, long countdownTime) {
         TaskOptions taskToBeAdded = TaskOptions.Builder.withUrl(task.getWorkerUrl());
         if (countdownTime > 0) {
             taskToBeAdded.countdownMillis(countdownTime);
         }
+        if (task.getName() != null) {
+            taskToBeAdded.taskName(task.getName());
+        }
 
         for (Map.Entry<String, String[]> entry : task.getParamMap().entrySet()) {
             String name = entry.getKey();
@@ -44,7 +132,7 @@ public class TaskQueuesLogic {
             }
         }
 
-        requiredQueue.add(taskToBeAdded);
+        return taskToBeAdded;
     }
 
 }
@@ -50,7 +50,7 @@ public class CoursesDb extends EntitiesDb<Course, CourseAttributes> {
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
-     * @return Null if not found.
+     * @return Null if not found or if the course is marked for deletion.
      */
     public CourseAttributes getCourse(String courseId) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
@@ -58,6 +58,9 @@ public class CoursesDb extends EntitiesDb<Course, CourseAttributes> {
         return makeAttributesOrNull(getCourseEntity(courseId));
     }
 
+    /**
+     * Gets the courses with the given IDs, leaving out the courses that are marked for deletion.
+     */
     public List<CourseAttributes> getCourses(List<String> courseIds) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseIds);
 
@@ -71,7 +74,7 @@ public class CoursesDb extends EntitiesDb<Course, CourseAttributes> {
      */
     @Deprecated
     public List<CourseAttributes> getAllCourses() {
-        return makeAttributes(load().list());
+        return makeAttributes(withoutCoursesMarkedForDeletion(load().list()));
     }
 
     /**
@@ -102,6 +105,34 @@ public class CoursesDb extends EntitiesDb<Course, CourseAttributes> {
         saveEntity(courseEntityToUpdate, courseToUpdate);
     }
 
+    /**
+     * Marks the course for deletion. From then on the course is treated as non-existent by all the other
+     * methods of this class, while the course ID stays taken until the course is deleted.<br>
+     *   <br> Fails silently if there is no such course.
+     */
+    public void markCourseForDeletion(String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        Course course = load().id(courseId).now();
+        if (course == null || course.isMarkedForDeletion()) {
+            return;
+        }
+
+        course.setMarkedForDeletion(true);
+        saveEntity(course);
+    }
+
+    /**
+     * Gets the IDs of all the courses that are marked for deletion but not completely deleted yet.
+     */
+    public List<String> getIdsOfCoursesMarkedForDeletion() {
+        List<String> courseIds = new ArrayList<>();
+        for (Key<Course> key : load().filter("isMarkedForDeletion =", true).keys()) {
+            courseIds.add(key.getName());
+        }
+        return courseIds;
+    }
+
     /**
      * Note: This is a non-cascade delete.<br>
      *   <br> Fails silently if there is no such object.
@@ -134,7 +165,8 @@ public class CoursesDb extends EntitiesDb<Course, CourseAttributes> {
     }
 
     private Course getCourseEntity(String courseId) {
-        return load().id(courseId).now();
+        Course course = load().id(courseId).now();
+        return course == null || course.isMarkedForDeletion() ? null : course;
     }
 
     private List<Course> getCourseEntities(List<String> courseIds) {
@@ -142,8 +174,17 @@ public class CoursesDb extends EntitiesDb<Course, CourseAttributes> {
             return new ArrayList<>();
         }
 
-        return new ArrayList<>(
-                load().ids(courseIds).values());
+        return withoutCoursesMarkedForDeletion(load().ids(courseIds).values());
+    }
+
+    private List<Course> withoutCoursesMarkedForDeletion(Collection<Course> courses) {
+        List<Course> coursesNotMarkedForDeletion = new ArrayList<>();
+        for (Course course : courses) {
+            if (!course.isMarkedForDeletion()) {
+                coursesNotMarkedForDeletion.add(course);
+            }
+        }
+        return coursesNotMarkedForDeletion;
     }
 
     @Override
@@ -8,14 +8,19 @@ import java.util.LinkedList;
 import java.util.List;
 
 import com.google.appengine.api.blobstore.BlobKey;
+import com.google.appengine.api.datastore.Cursor;
+import com.google.appengine.api.datastore.QueryResultIterator;
 import com.google.appengine.api.search.Document;
 import com.google.appengine.api.search.Results;
 import com.google.appengine.api.search.ScoredDocument;
 import com.google.appengine.api.search.SearchQueryException;
 import com.googlecode.objectify.Key;
+import com.googlecode.objectify.Result;
 import com.googlecode.objectify.cmd.LoadType;
+import com.googlecode.objectify.cmd.Query;
 import com.googlecode.objectify.cmd.QueryKeys;
 
+import teammates.common.datatransfer.QueryPage;
 import teammates.common.datatransfer.attributes.EntityAttributes;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.InvalidParametersException;
@@ -50,6 +55,11 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
     public static final String ERROR_TRYING_TO_MAKE_NON_EXISTENT_ACCOUNT_AN_INSTRUCTOR =
             "Trying to make an non-existent account an Instructor :";
 
+    /**
+     * Maximum number of entities that can be deleted in one request (limit imposed by GAE Datastore).
+     */
+    protected static final int MAX_KEYS_PER_DELETE = 500;
+
     protected static final Logger log = Logger.getLogger();
 
     /**
@@ -217,20 +227,92 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
         log.info(entityToDelete.getBackupIdentifier());
     }
 
+    /**
+     * Note: This is a non-cascade delete.<br>
+     * The keys-only queries for all the entities are started before any of them is waited on.<br>
+     *   <br> Fails silently if there is no such object.
+     */
     public void deleteEntities(Collection<A> entitiesToDelete) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, entitiesToDelete);
 
+        List<List<Key<E>>> keysForEntities = new ArrayList<>();
+        for (A entityToDelete : entitiesToDelete) {
+            keysForEntities.add(getEntityQueryKeys(entityToDelete).list());
+        }
+
         List<Key<E>> keysToDelete = new ArrayList<>();
+        int i = 0;
         for (A entityToDelete : entitiesToDelete) {
-            Key<E> keyToDelete = getEntityQueryKeys(entityToDelete).first().now();
-            if (keyToDelete == null) {
+            List<Key<E>> keys = keysForEntities.get(i++);
+            if (keys.isEmpty()) {
                 continue;
             }
-            keysToDelete.add(keyToDelete);
+            keysToDelete.addAll(keys);
             log.info(entityToDelete.getBackupIdentifier());
         }
 
-        ofy().delete().keys(keysToDelete).now();
+        deleteEntitiesByKeys(keysToDelete);
+    }
+
+    /**
+     * Deletes the entities with the given keys in chunks of at most {@link #MAX_KEYS_PER_DELETE} keys.
+     * All the chunks are sent before any of them is waited on.<br>
+     * Note: This is a non-cascade delete.
+     */
+    protected void deleteEntitiesByKeys(List<Key<E>> keysToDelete) {
+        List<Result<Void>> results = new ArrayList<>();
+        for (int i = 0; i < keysToDelete.size(); i += MAX_KEYS_PER_DELETE) {
+            List<Key<E>> chunk = keysToDelete.subList(i, Math.min(i + MAX_KEYS_PER_DELETE, keysToDelete.size()));
+            results.add(ofy().delete().keys(chunk));
+        }
+        for (Result<Void> result : results) {
+            result.now();
+        }
+    }
+
+    /**
+     * Deletes one page of the entities matched by {@code query}, found with a keys-only query.<br>
+     * Note: This is a non-cascade delete.
+     *
+     * @param cursor the cursor returned for the previous page, or null for the first page
+     * @return the cursor at which the next page starts, or null if there are no more entities
+     */
+    protected String deleteEntitiesPage(Query<E> query, String cursor, int pageSize) {
+        QueryPage<Key<E>> page = getPage(getPageQuery(query, cursor, pageSize).keys().iterator(), pageSize);
+        deleteEntitiesByKeys(page.getItems());
+        return page.getNextCursor();
+    }
+
+    /**
+     * Returns one page of the entities matched by {@code query}.
+     *
+     * @param cursor the {@link QueryPage#getNextCursor() cursor} of the previous page, or null for the first page
+     */
+    protected QueryPage<E> getEntitiesPage(Query<E> query, String cursor, int pageSize) {
+        return getPage(getPageQuery(query, cursor, pageSize).iterator(), pageSize);
+    }
+
+    private Query<E> getPageQuery(Query<E> query, String cursor, int pageSize) {
+        Assumption.assertTrue("pageSize must be positive", pageSize > 0);
+
+        // one extra result is requested to find out whether there is a next page
+        Query<E> pageQuery = query.limit(pageSize + 1);
+        if (cursor != null) {
+            pageQuery = pageQuery.startAt(Cursor.fromWebSafeString(cursor));
+        }
+        return pageQuery;
+    }
+
+    private <T> QueryPage<T> getPage(QueryResultIterator<T> iterator, int pageSize) {
+        List<T> results = new ArrayList<>();
+        while (results.size() < pageSize && iterator.hasNext()) {
+            results.add(iterator.next());
+        }
+
+        // the cursor must be taken before looking ahead, so that the next page starts after the last returned result
+        Cursor endOfPage = iterator.getCursor();
+        String nextCursor = iterator.hasNext() ? endOfPage.toWebSafeString() : null;
+        return new QueryPage<>(results, nextCursor);
     }
 
     protected void deleteEntityDirect(E entityToDelete) {
@@ -316,6 +398,9 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
 
     //the followings APIs are used by Teammates' search engine
     protected void putDocument(String indexName, SearchDocument document) {
+        if (SearchDocumentsDb.bufferWrite(indexName, document.getDocumentId(), true)) {
+            return;
+        }
         try {
             SearchManager.putDocument(indexName, document.build());
         } catch (Exception e) {
@@ -326,7 +411,12 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
     protected void putDocuments(String indexName, List<SearchDocument> documents) {
         List<Document> searchDocuments = new ArrayList<>();
         for (SearchDocument document : documents) {
-            searchDocuments.add(document.build());
+            if (!SearchDocumentsDb.bufferWrite(indexName, document.getDocumentId(), true)) {
+                searchDocuments.add(document.build());
+            }
+        }
+        if (searchDocuments.isEmpty()) {
+            return;
         }
         try {
             SearchManager.putDocuments(indexName, searchDocuments);
@@ -348,6 +438,9 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
     }
 
     protected void deleteDocument(String indexName, String documentId) {
+        if (SearchDocumentsDb.bufferWrite(indexName, documentId, false)) {
+            return;
+        }
         try {
             SearchManager.deleteDocument(indexName, documentId);
         } catch (Exception e) {
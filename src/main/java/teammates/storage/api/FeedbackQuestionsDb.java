@@ -5,6 +5,7 @@ import static com.googlecode.objectify.ObjectifyService.ofy;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Supplier;
 
 import com.googlecode.objectify.Key;
 import com.googlecode.objectify.cmd.LoadType;
@@ -88,6 +89,22 @@ public class FeedbackQuestionsDb extends EntitiesDb<FeedbackQuestion, FeedbackQu
         return makeAttributes(getFeedbackQuestionEntitiesForSession(feedbackSessionName, courseId));
     }
 
+    /**
+     * Starts the query for the questions of the session without waiting for the datastore.
+     * The questions are collected when {@link Supplier#get()} is called on the returned value.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public Supplier<List<FeedbackQuestionAttributes>> getFeedbackQuestionsForSessionAsync(
+            String feedbackSessionName, String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        List<FeedbackQuestion> questions = getFeedbackQuestionEntitiesForSession(feedbackSessionName, courseId);
+        return () -> makeAttributes(questions);
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -165,6 +182,33 @@ public class FeedbackQuestionsDb extends EntitiesDb<FeedbackQuestion, FeedbackQu
         deleteFeedbackQuestionsForCourses(Arrays.asList(courseId));
     }
 
+    /**
+     * Deletes the questions of the session with a keys-only query and batch deletes.<br>
+     * Note: This is a non-cascade delete.
+     */
+    public void deleteFeedbackQuestionsForSession(String feedbackSessionName, String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        deleteEntitiesByKeys(load()
+                .filter("feedbackSessionName =", feedbackSessionName)
+                .filter("courseId =", courseId)
+                .keys().list());
+    }
+
+    /**
+     * Deletes one page of the questions in the course, found with a keys-only query.<br>
+     * Note: This is a non-cascade delete.
+     *
+     * @param cursor the cursor returned for the previous page, or null for the first page
+     * @return the cursor at which the next page starts, or null if there are no more questions
+     */
+    public String deleteFeedbackQuestionsForCoursePage(String courseId, String cursor, int pageSize) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        return deleteEntitiesPage(load().filter("courseId =", courseId), cursor, pageSize);
+    }
+
     public void deleteFeedbackQuestionsForCourses(List<String> courseIds) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseIds);
 
@@ -9,6 +9,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import com.google.appengine.api.search.Results;
 import com.google.appengine.api.search.ScoredDocument;
@@ -18,6 +19,7 @@ import com.googlecode.objectify.cmd.Query;
 import com.googlecode.objectify.cmd.QueryKeys;
 
 import teammates.common.datatransfer.FeedbackResponseCommentSearchResultBundle;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.exception.EntityAlreadyExistsException;
@@ -145,6 +147,57 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
         return makeAttributes(getFeedbackResponseCommentEntitiesForResponse(feedbackResponseId));
     }
 
+    /**
+     * Updates the giver and receiver sections of the comments of each of the responses to those of the response,
+     * in a single batch write.
+     * The queries for the comments of each response are all started before any of them is waited on.
+     */
+    public void updateSectionsOfFeedbackResponseComments(List<FeedbackResponseAttributes> responses) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, responses);
+
+        List<List<FeedbackResponseComment>> commentsForResponses = new ArrayList<>();
+        for (FeedbackResponseAttributes response : responses) {
+            commentsForResponses.add(getFeedbackResponseCommentEntitiesForResponse(response.getId()));
+        }
+
+        List<FeedbackResponseComment> commentsToSave = new ArrayList<>();
+        for (int i = 0; i < responses.size(); i++) {
+            for (FeedbackResponseComment comment : commentsForResponses.get(i)) {
+                comment.setGiverSection(responses.get(i).giverSection);
+                comment.setReceiverSection(responses.get(i).recipientSection);
+                commentsToSave.add(comment);
+            }
+        }
+        if (!commentsToSave.isEmpty()) {
+            saveEntities(commentsToSave);
+        }
+    }
+
+    /**
+     * Moves the comments of each response whose ID is a key of {@code newResponseIds} to the response
+     * with the mapped ID, in a single batch write.
+     * The queries for the comments of each response are all started before any of them is waited on.
+     */
+    public void updateFeedbackResponseIdsForResponses(Map<String, String> newResponseIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, newResponseIds);
+
+        Map<String, List<FeedbackResponseComment>> commentsForResponses = new HashMap<>();
+        for (String oldResponseId : newResponseIds.keySet()) {
+            commentsForResponses.put(oldResponseId, getFeedbackResponseCommentEntitiesForResponse(oldResponseId));
+        }
+
+        List<FeedbackResponseComment> commentsToSave = new ArrayList<>();
+        for (Map.Entry<String, List<FeedbackResponseComment>> entry : commentsForResponses.entrySet()) {
+            for (FeedbackResponseComment comment : entry.getValue()) {
+                comment.setFeedbackResponseId(newResponseIds.get(entry.getKey()));
+                commentsToSave.add(comment);
+            }
+        }
+        if (!commentsToSave.isEmpty()) {
+            saveEntities(commentsToSave);
+        }
+    }
+
     /*
      * Remove response comments for the response Id
      */
@@ -154,6 +207,61 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
         ofy().delete().keys(getFeedbackResponseCommentsForResponseQuery(responseId).keys()).now();
     }
 
+    /**
+     * Deletes the comments of all the given responses in a single batch write.
+     * The keys-only queries for the comments of each response are all started before any of them is waited on.
+     */
+    public void deleteFeedbackResponseCommentsForResponses(Collection<String> responseIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, responseIds);
+
+        List<List<Key<FeedbackResponseComment>>> keysForResponses = new ArrayList<>();
+        for (String responseId : responseIds) {
+            keysForResponses.add(getFeedbackResponseCommentsForResponseQuery(responseId).keys().list());
+        }
+
+        List<Key<FeedbackResponseComment>> keysToDelete = new ArrayList<>();
+        for (List<Key<FeedbackResponseComment>> keys : keysForResponses) {
+            keysToDelete.addAll(keys);
+        }
+        deleteEntitiesByKeys(keysToDelete);
+    }
+
+    /**
+     * Finds the IDs of the comments in a session within a given range with a keys-only query.
+     *
+     * @return An empty list if no such comments are found.
+     */
+    public List<Long> getFeedbackResponseCommentIdsForSessionWithinRange(
+            String courseId, String feedbackSessionName, int range) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+
+        List<Key<FeedbackResponseComment>> keys = load()
+                .filter("courseId =", courseId)
+                .filter("feedbackSessionName =", feedbackSessionName)
+                .limit(range + 1).keys().list();
+
+        List<Long> ids = new ArrayList<>();
+        for (Key<FeedbackResponseComment> key : keys) {
+            ids.add(key.getId());
+        }
+        return ids;
+    }
+
+    /**
+     * Deletes the comments with the given IDs by their keys, in chunks of at most 500 comments.<br>
+     * Note: This is a non-cascade delete and the search documents of the comments are not removed.
+     */
+    public void deleteFeedbackResponseCommentsByIds(Collection<Long> commentIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, commentIds);
+
+        List<Key<FeedbackResponseComment>> keysToDelete = new ArrayList<>();
+        for (Long commentId : commentIds) {
+            keysToDelete.add(Key.create(FeedbackResponseComment.class, commentId));
+        }
+        deleteEntitiesByKeys(keysToDelete);
+    }
+
     /*
      * Remove response comments for the course Ids
      */
@@ -163,6 +271,19 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
         ofy().delete().keys(getFeedbackResponseCommentsForCoursesQuery(courseIds).keys()).now();
     }
 
+    /**
+     * Deletes one page of the comments in the course, found with a keys-only query.<br>
+     * Note: This is a non-cascade delete and the search documents of the comments are not removed.
+     *
+     * @param cursor the cursor returned for the previous page, or null for the first page
+     * @return the cursor at which the next page starts, or null if there are no more comments
+     */
+    public String deleteFeedbackResponseCommentsForCoursePage(String courseId, String cursor, int pageSize) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        return deleteEntitiesPage(load().filter("courseId =", courseId), cursor, pageSize);
+    }
+
     public void deleteFeedbackResponseCommentsForCourse(String courseId) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
 
@@ -198,6 +319,34 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
         return makeAttributes(getFeedbackResponseCommentEntitiesForSessionInSection(courseId, feedbackSessionName, section));
     }
 
+    /**
+     * Starts the queries for the comments of the session without waiting for the datastore.
+     * If {@code section} is not null, only comments on responses given by or to the section are queried.
+     * The comments are collected when {@link Supplier#get()} is called on the returned value.
+     *
+     * <p>Preconditions: <br>
+     * * {@code courseId} and {@code feedbackSessionName} are non-null.
+     */
+    public Supplier<List<FeedbackResponseCommentAttributes>> getFeedbackResponseCommentsForSessionInSectionAsync(
+            String courseId, String feedbackSessionName, String section) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+
+        if (section == null) {
+            List<FeedbackResponseComment> comments =
+                    getFeedbackResponseCommentEntitiesForSession(courseId, feedbackSessionName);
+            return () -> makeAttributes(comments);
+        }
+
+        List<FeedbackResponseComment> commentsFromSection =
+                getFeedbackResponseCommentsForSessionQuery(courseId, feedbackSessionName, "giverSection =", section)
+                        .list();
+        List<FeedbackResponseComment> commentsToSection =
+                getFeedbackResponseCommentsForSessionQuery(courseId, feedbackSessionName, "receiverSection =", section)
+                        .list();
+        return () -> makeAttributes(mergeFeedbackResponseCommentEntities(commentsFromSection, commentsToSection));
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -391,24 +540,33 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
 
     private Collection<FeedbackResponseComment> getFeedbackResponseCommentEntitiesForSessionInSection(
             String courseId, String feedbackSessionName, String section) {
-        Map<Long, FeedbackResponseComment> comments = new HashMap<>();
+        List<FeedbackResponseComment> firstQueryResponseComments =
+                getFeedbackResponseCommentsForSessionQuery(courseId, feedbackSessionName, "giverSection =", section)
+                        .list();
+        List<FeedbackResponseComment> secondQueryResponseComments =
+                getFeedbackResponseCommentsForSessionQuery(courseId, feedbackSessionName, "receiverSection =", section)
+                        .list();
+
+        return mergeFeedbackResponseCommentEntities(firstQueryResponseComments, secondQueryResponseComments);
+    }
 
-        List<FeedbackResponseComment> firstQueryResponseComments = load()
+    private Query<FeedbackResponseComment> getFeedbackResponseCommentsForSessionQuery(
+            String courseId, String feedbackSessionName, String sectionCondition, String section) {
+        return load()
                 .filter("courseId =", courseId)
                 .filter("feedbackSessionName =", feedbackSessionName)
-                .filter("giverSection =", section)
-                .list();
+                .filter(sectionCondition, section);
+    }
+
+    private Collection<FeedbackResponseComment> mergeFeedbackResponseCommentEntities(
+            List<FeedbackResponseComment> firstQueryResponseComments,
+            List<FeedbackResponseComment> secondQueryResponseComments) {
+        Map<Long, FeedbackResponseComment> comments = new HashMap<>();
 
         for (FeedbackResponseComment comment : firstQueryResponseComments) {
             comments.put(comment.getFeedbackResponseCommentId(), comment);
         }
 
-        List<FeedbackResponseComment> secondQueryResponseComments = load()
-                .filter("courseId =", courseId)
-                .filter("feedbackSessionName =", feedbackSessionName)
-                .filter("receiverSection =", section)
-                .list();
-
         for (FeedbackResponseComment comment : secondQueryResponseComments) {
             comments.put(comment.getFeedbackResponseCommentId(), comment);
         }
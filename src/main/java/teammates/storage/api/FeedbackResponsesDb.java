@@ -6,14 +6,21 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
 
+import com.google.appengine.api.datastore.Cursor;
+import com.google.appengine.api.datastore.QueryResultIterator;
 import com.googlecode.objectify.Key;
 import com.googlecode.objectify.cmd.LoadType;
 import com.googlecode.objectify.cmd.Query;
 import com.googlecode.objectify.cmd.QueryKeys;
 
+import teammates.common.datatransfer.QueryPage;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
@@ -101,6 +108,19 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         return fr;
     }
 
+    /**
+     * Gets the feedback response entities with the given IDs in a single batch read.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     * @return the entities found, mapped by their IDs. IDs that are not found are left out.
+     */
+    public Map<String, FeedbackResponse> getFeedbackResponseEntities(Collection<String> feedbackResponseIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackResponseIds);
+
+        return load().ids(feedbackResponseIds);
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -123,6 +143,19 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         return makeAttributes(getFeedbackResponseEntitiesForQuestionInSection(feedbackQuestionId, section));
     }
 
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     * @return An empty list if no responses given from the section are found.
+     */
+    public List<FeedbackResponseAttributes> getFeedbackResponsesForQuestionFromSection(
+            String feedbackQuestionId, String section) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, section);
+
+        return makeAttributes(getFeedbackResponseEntitiesForQuestionFromSection(feedbackQuestionId, section));
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -147,6 +180,57 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         return makeAttributes(getFeedbackResponseEntitiesForQuestionWithinRange(feedbackQuestionId, range));
     }
 
+    /**
+     * Finds the IDs of the responses for a specified question with a keys-only query.
+     *
+     * @return An empty list if no such responses are found.
+     */
+    public List<String> getFeedbackResponseIdsForQuestion(String feedbackQuestionId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionId);
+
+        return getIds(load().filter("feedbackQuestionId =", feedbackQuestionId).keys().list());
+    }
+
+    /**
+     * Finds the IDs of the responses in a session within a given range with a keys-only query.
+     *
+     * @return An empty list if no such responses are found.
+     */
+    public List<String> getFeedbackResponseIdsForSessionWithinRange(
+            String feedbackSessionName, String courseId, int range) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        return getIds(getFeedbackResponsesForSessionQuery(feedbackSessionName, courseId)
+                .limit(range + 1).keys().list());
+    }
+
+    /**
+     * Returns the emails among {@code giverEmails} that have given at least one response in the session.
+     * The keys-only queries for all the givers are started before any of them is waited on.
+     */
+    public Set<String> getGiverEmailsWithResponsesForSession(
+            Collection<String> giverEmails, String feedbackSessionName, String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, giverEmails);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        Map<String, List<Key<FeedbackResponse>>> keysForGivers = new HashMap<>();
+        for (String giverEmail : giverEmails) {
+            keysForGivers.put(giverEmail, getFeedbackResponsesForSessionQuery(feedbackSessionName, courseId)
+                    .filter("giverEmail =", giverEmail)
+                    .limit(1).keys().list());
+        }
+
+        Set<String> giverEmailsWithResponses = new HashSet<>();
+        for (Map.Entry<String, List<Key<FeedbackResponse>>> keysForGiver : keysForGivers.entrySet()) {
+            if (!keysForGiver.getValue().isEmpty()) {
+                giverEmailsWithResponses.add(keysForGiver.getKey());
+            }
+        }
+        return giverEmailsWithResponses;
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -263,6 +347,159 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
                         feedbackSessionName, courseId, section, range));
     }
 
+    /**
+     * Starts the queries for the responses of the session without waiting for the datastore.
+     * The responses are collected when {@link Supplier#get()} is called on the returned value.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null. A {@code range} of -1 loads all responses.
+     */
+    public Supplier<List<FeedbackResponseAttributes>> getFeedbackResponsesForSessionWithinRangeAsync(
+            String feedbackSessionName, String courseId, int range) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        List<FeedbackResponse> responses =
+                getFeedbackResponseEntitiesForSessionWithinRange(feedbackSessionName, courseId, range);
+        return () -> makeAttributes(responses);
+    }
+
+    /**
+     * Starts the queries for the responses of the session given by or to the section
+     * without waiting for the datastore. The responses are collected when {@link Supplier#get()}
+     * is called on the returned value.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null. A {@code range} of -1 loads all responses.
+     */
+    public Supplier<List<FeedbackResponseAttributes>> getFeedbackResponsesForSessionInSectionWithinRangeAsync(
+            String feedbackSessionName, String courseId, String section, int range) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, section);
+
+        List<FeedbackResponse> responsesFromSection =
+                getFeedbackResponseEntitiesForSessionFromSectionWithinRange(feedbackSessionName, courseId, section, range);
+        List<FeedbackResponse> responsesToSection =
+                getFeedbackResponseEntitiesForSessionToSectionWithinRange(feedbackSessionName, courseId, section, range);
+        return () -> makeAttributes(mergeFeedbackResponseEntities(responsesFromSection, responsesToSection));
+    }
+
+    /**
+     * Starts the query for the responses of the session given by the section without waiting
+     * for the datastore. The responses are collected when {@link Supplier#get()} is called
+     * on the returned value.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null. A {@code range} of -1 loads all responses.
+     */
+    public Supplier<List<FeedbackResponseAttributes>> getFeedbackResponsesForSessionFromSectionWithinRangeAsync(
+            String feedbackSessionName, String courseId, String section, int range) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, section);
+
+        List<FeedbackResponse> responses =
+                getFeedbackResponseEntitiesForSessionFromSectionWithinRange(feedbackSessionName, courseId, section, range);
+        return () -> makeAttributes(responses);
+    }
+
+    /**
+     * Starts the query for the responses of the session given to the section without waiting
+     * for the datastore. The responses are collected when {@link Supplier#get()} is called
+     * on the returned value.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null. A {@code range} of -1 loads all responses.
+     */
+    public Supplier<List<FeedbackResponseAttributes>> getFeedbackResponsesForSessionToSectionWithinRangeAsync(
+            String feedbackSessionName, String courseId, String section, int range) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, section);
+
+        List<FeedbackResponse> responses =
+                getFeedbackResponseEntitiesForSessionToSectionWithinRange(feedbackSessionName, courseId, section, range);
+        return () -> makeAttributes(responses);
+    }
+
+    /**
+     * Gets a page of the responses of the session. Every page continues the query where the previous page ended,
+     * so a session of any size can be read page by page.
+     *
+     * <p>Responses are ordered by giver and a page never splits the responses of a giver, so a page holds
+     * {@code pageSize} responses, plus the remaining responses of the giver of its last response.
+     *
+     * <p>Preconditions: <br>
+     * * {@code feedbackSessionName} and {@code courseId} are non-null.
+     * @param cursor the {@link QueryPage#getNextCursor() cursor} of the previous page, or null for the first page
+     */
+    public QueryPage<FeedbackResponseAttributes> getFeedbackResponsesForSessionPage(
+            String feedbackSessionName, String courseId, String cursor, int pageSize) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        return getFeedbackResponsesPage(
+                getFeedbackResponsesForSessionQuery(feedbackSessionName, courseId), true, cursor, pageSize);
+    }
+
+    /**
+     * Gets a page of the responses of the session, ordered by recipient instead of by giver.
+     * A page never splits the responses to a recipient.
+     *
+     * <p>Preconditions: <br>
+     * * {@code feedbackSessionName} and {@code courseId} are non-null.
+     * @param cursor the {@link QueryPage#getNextCursor() cursor} of the previous page, or null for the first page
+     * @see #getFeedbackResponsesForSessionPage(String, String, String, int)
+     */
+    public QueryPage<FeedbackResponseAttributes> getFeedbackResponsesForSessionByRecipientPage(
+            String feedbackSessionName, String courseId, String cursor, int pageSize) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        return getFeedbackResponsesPage(
+                getFeedbackResponsesForSessionQuery(feedbackSessionName, courseId), false, cursor, pageSize);
+    }
+
+    /**
+     * Gets a page of the responses of the session given by the section.
+     *
+     * <p>Preconditions: <br>
+     * * {@code feedbackSessionName}, {@code courseId} and {@code section} are non-null.
+     * @param cursor the {@link QueryPage#getNextCursor() cursor} of the previous page, or null for the first page
+     * @see #getFeedbackResponsesForSessionPage(String, String, String, int)
+     */
+    public QueryPage<FeedbackResponseAttributes> getFeedbackResponsesForSessionFromSectionPage(
+            String feedbackSessionName, String courseId, String section, String cursor, int pageSize) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, section);
+
+        return getFeedbackResponsesPage(
+                getFeedbackResponsesForSessionQuery(feedbackSessionName, courseId).filter("giverSection =", section),
+                true, cursor, pageSize);
+    }
+
+    /**
+     * Gets a page of the responses of the session given to the section, ordered by recipient.
+     * A page never splits the responses to a recipient.
+     *
+     * <p>Preconditions: <br>
+     * * {@code feedbackSessionName}, {@code courseId} and {@code section} are non-null.
+     * @param cursor the {@link QueryPage#getNextCursor() cursor} of the previous page, or null for the first page
+     * @see #getFeedbackResponsesForSessionPage(String, String, String, int)
+     */
+    public QueryPage<FeedbackResponseAttributes> getFeedbackResponsesForSessionToSectionPage(
+            String feedbackSessionName, String courseId, String section, String cursor, int pageSize) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, section);
+
+        return getFeedbackResponsesPage(
+                getFeedbackResponsesForSessionQuery(feedbackSessionName, courseId).filter("receiverSection =", section),
+                false, cursor, pageSize);
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -360,6 +597,68 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         return makeAttributes(getFeedbackResponseEntitiesFromGiverForCourse(courseId, giverEmail));
     }
 
+    /**
+     * Gets the responses in the session that are given by or to any of the given users.
+     * The queries for all the users are started before any of them is waited on,
+     * and a response given by one of the users to another is returned once.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     * @return An empty list if no such responses are found.
+     */
+    public List<FeedbackResponse> getFeedbackResponseEntitiesFromOrToUsersForSession(
+            Collection<String> userEmails, String feedbackSessionName, String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, userEmails);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        List<List<FeedbackResponse>> responsesOfUsers = new ArrayList<>();
+        for (String userEmail : userEmails) {
+            responsesOfUsers.add(getFeedbackResponseEntitiesFromGiverForSessionWithinRange(
+                    userEmail, feedbackSessionName, courseId, -1));
+            responsesOfUsers.add(getFeedbackResponseEntitiesForReceiverForSession(
+                    userEmail, feedbackSessionName, courseId));
+        }
+
+        Map<String, FeedbackResponse> responses = new LinkedHashMap<>();
+        for (List<FeedbackResponse> responsesOfUser : responsesOfUsers) {
+            for (FeedbackResponse response : responsesOfUser) {
+                responses.put(response.getId(), response);
+            }
+        }
+        return new ArrayList<>(responses.values());
+    }
+
+    /**
+     * Finds at most {@code range + 1} responses given to the specified recipient in the course.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     * @return An empty list if no such responses are found.
+     */
+    public List<FeedbackResponseAttributes> getFeedbackResponsesForReceiverForCourseWithinRange(
+            String courseId, String receiver, int range) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, receiver);
+
+        return makeAttributes(getFeedbackResponseEntitiesForReceiverForCourseWithinRange(courseId, receiver, range));
+    }
+
+    /**
+     * Finds at most {@code range + 1} responses given by the specified giver in the course.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     * @return An empty list if no such responses are found.
+     */
+    public List<FeedbackResponseAttributes> getFeedbackResponsesFromGiverForCourseWithinRange(
+            String courseId, String giverEmail, int range) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, giverEmail);
+
+        return makeAttributes(getFeedbackResponseEntitiesFromGiverForCourseWithinRange(courseId, giverEmail, range));
+    }
+
     /**
      * Updates the feedback response identified by {@code newAttributes.getId()} and
      *   changes the {@code updatedAt} timestamp to be the time of update.
@@ -431,22 +730,156 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         updateFeedbackResponseOptimized(newAttributes, fr, false);
     }
 
+    /**
+     * Batch version of {@link #updateFeedbackResponseOptimized(FeedbackResponseAttributes, FeedbackResponse)}.
+     * Each entity in {@code frs} is the existing entity of the response at the same position in
+     * {@code newAttributes}. All the entities are saved in a single batch write,
+     *   and none of them is saved if any of {@code newAttributes} is invalid.<br>
+     * Preconditions: <br>
+     * * All parameters are non-null and of the same size.
+     */
+    public void updateFeedbackResponsesOptimized(List<FeedbackResponseAttributes> newAttributes,
+            List<FeedbackResponse> frs) throws InvalidParametersException {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, newAttributes);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, frs);
+        Assumption.assertEquals(newAttributes.size(), frs.size());
+
+        List<String> invalidityInfo = new ArrayList<>();
+        for (FeedbackResponseAttributes attributes : newAttributes) {
+            invalidityInfo.addAll(attributes.getInvalidityInfo());
+        }
+        if (!invalidityInfo.isEmpty()) {
+            throw new InvalidParametersException(invalidityInfo);
+        }
+
+        for (int i = 0; i < frs.size(); i++) {
+            FeedbackResponseAttributes attributes = newAttributes.get(i);
+            FeedbackResponse fr = frs.get(i);
+            fr.keepUpdateTimestamp = false;
+            fr.setAnswer(attributes.responseMetaData);
+            fr.setRecipientEmail(attributes.recipient);
+            fr.setGiverSection(attributes.giverSection);
+            fr.setRecipientSection(attributes.recipientSection);
+        }
+
+        saveEntities(frs, newAttributes);
+    }
+
+    /**
+     * Deletes the feedback responses in a single batch write.
+     * Responses with a known ID are deleted by their keys without being queried first.<br>
+     * Note: This is a non-cascade delete.<br>
+     *   <br> Fails silently if there is no such response.
+     */
+    public void deleteFeedbackResponses(Collection<FeedbackResponseAttributes> responsesToDelete) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, responsesToDelete);
+
+        List<Key<FeedbackResponse>> keysToDelete = new ArrayList<>();
+        for (FeedbackResponseAttributes response : responsesToDelete) {
+            Key<FeedbackResponse> keyToDelete = response.getId() == null
+                    ? getEntityQueryKeys(response).first().now()
+                    : Key.create(FeedbackResponse.class, response.getId());
+            if (keyToDelete == null) {
+                continue;
+            }
+            keysToDelete.add(keyToDelete);
+            log.info(response.getBackupIdentifier());
+        }
+
+        deleteEntitiesByKeys(keysToDelete);
+    }
+
+    /**
+     * Deletes the feedback responses with the given IDs by their keys, in chunks of at most 500 responses.<br>
+     * Note: This is a non-cascade delete.<br>
+     *   <br> Fails silently if there is no such response.
+     */
+    public void deleteFeedbackResponsesByIds(Collection<String> responseIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, responseIds);
+
+        List<Key<FeedbackResponse>> keysToDelete = new ArrayList<>();
+        for (String responseId : responseIds) {
+            keysToDelete.add(Key.create(FeedbackResponse.class, responseId));
+        }
+        log.info("Deleting " + keysToDelete.size() + " feedback responses: " + responseIds);
+
+        deleteEntitiesByKeys(keysToDelete);
+    }
+
     public void deleteFeedbackResponsesForCourse(String courseId) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
 
         deleteFeedbackResponsesForCourses(Arrays.asList(courseId));
     }
 
+    /**
+     * Deletes one page of the responses in the course, found with a keys-only query.<br>
+     * Note: This is a non-cascade delete.
+     *
+     * @param cursor the cursor returned for the previous page, or null for the first page
+     * @return the cursor at which the next page starts, or null if there are no more responses
+     */
+    public String deleteFeedbackResponsesForCoursePage(String courseId, String cursor, int pageSize) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        return deleteEntitiesPage(load().filter("courseId =", courseId), cursor, pageSize);
+    }
+
     public void deleteFeedbackResponsesForCourses(List<String> courseIds) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseIds);
 
         ofy().delete().keys(getFeedbackResponsesForCoursesQuery(courseIds).keys()).now();
     }
 
+    private Query<FeedbackResponse> getFeedbackResponsesForSessionQuery(String feedbackSessionName, String courseId) {
+        return load()
+                .filter("feedbackSessionName =", feedbackSessionName)
+                .filter("courseId =", courseId);
+    }
+
+    /**
+     * Reads a page of responses ordered by giver (or by recipient if {@code isByGiver} is false).
+     * The page is extended past {@code pageSize} responses until the giver (or recipient) changes.
+     */
+    private QueryPage<FeedbackResponseAttributes> getFeedbackResponsesPage(
+            Query<FeedbackResponse> query, boolean isByGiver, String cursor, int pageSize) {
+        Assumption.assertTrue("pageSize must be positive", pageSize > 0);
+
+        Query<FeedbackResponse> pageQuery = query.order(isByGiver ? "giverEmail" : "receiver").chunk(pageSize + 1);
+        if (cursor != null) {
+            pageQuery = pageQuery.startAt(Cursor.fromWebSafeString(cursor));
+        }
+
+        QueryResultIterator<FeedbackResponse> iterator = pageQuery.iterator();
+        List<FeedbackResponse> responses = new ArrayList<>();
+        String lastParticipant = null;
+        Cursor endOfPage = iterator.getCursor();
+        while (iterator.hasNext()) {
+            FeedbackResponse response = iterator.next();
+            String participant = isByGiver ? response.getGiverEmail() : response.getRecipientEmail();
+            if (responses.size() >= pageSize && !participant.equals(lastParticipant)) {
+                // the next page starts at the first response of this participant
+                return new QueryPage<>(makeAttributes(responses), endOfPage.toWebSafeString());
+            }
+            responses.add(response);
+            lastParticipant = participant;
+            endOfPage = iterator.getCursor();
+        }
+        return new QueryPage<>(makeAttributes(responses), null);
+    }
+
     private Query<FeedbackResponse> getFeedbackResponsesForCoursesQuery(List<String> courseIds) {
         return load().filter("courseId in", courseIds);
     }
 
+    private List<String> getIds(List<Key<FeedbackResponse>> keys) {
+        List<String> ids = new ArrayList<>();
+        for (Key<FeedbackResponse> key : keys) {
+            ids.add(key.getName());
+        }
+        return ids;
+    }
+
     /**
      * Returns true if there are existing responses in any feedback session in the course.
      */
@@ -497,6 +930,14 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         return feedbackResponses;
     }
 
+    private List<FeedbackResponse> getFeedbackResponseEntitiesForQuestionFromSection(
+            String feedbackQuestionId, String section) {
+        return load()
+                .filter("feedbackQuestionId =", feedbackQuestionId)
+                .filter("giverSection =", section)
+                .list();
+    }
+
     private List<FeedbackResponse> getFeedbackResponseEntitiesForQuestion(String feedbackQuestionId) {
         return getFeedbackResponseEntitiesForQuestionWithinRange(feedbackQuestionId, -1);
     }
@@ -522,19 +963,9 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
 
     private Collection<FeedbackResponse> getFeedbackResponseEntitiesForSessionInSection(
             String feedbackSessionName, String courseId, String section) {
-        Map<String, FeedbackResponse> feedbackResponses = new HashMap<>();
-
-        for (FeedbackResponse result : getFeedbackResponseEntitiesForSessionFromSection(
-                feedbackSessionName, courseId, section)) {
-            feedbackResponses.put(result.getId(), result);
-        }
-
-        for (FeedbackResponse result : getFeedbackResponseEntitiesForSessionToSection(
-                feedbackSessionName, courseId, section)) {
-            feedbackResponses.put(result.getId(), result);
-        }
-
-        return feedbackResponses.values();
+        return mergeFeedbackResponseEntities(
+                getFeedbackResponseEntitiesForSessionFromSection(feedbackSessionName, courseId, section),
+                getFeedbackResponseEntitiesForSessionToSection(feedbackSessionName, courseId, section));
     }
 
     private List<FeedbackResponse> getFeedbackResponseEntitiesForSessionFromSection(
@@ -549,15 +980,20 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
 
     private Collection<FeedbackResponse> getFeedbackResponseEntitiesForSessionInSectionWithinRange(
             String feedbackSessionName, String courseId, String section, int range) {
+        return mergeFeedbackResponseEntities(
+                getFeedbackResponseEntitiesForSessionFromSectionWithinRange(feedbackSessionName, courseId, section, range),
+                getFeedbackResponseEntitiesForSessionToSectionWithinRange(feedbackSessionName, courseId, section, range));
+    }
+
+    private Collection<FeedbackResponse> mergeFeedbackResponseEntities(
+            List<FeedbackResponse> responsesFromSection, List<FeedbackResponse> responsesToSection) {
         Map<String, FeedbackResponse> feedbackResponses = new HashMap<>();
 
-        for (FeedbackResponse result : getFeedbackResponseEntitiesForSessionFromSectionWithinRange(
-                feedbackSessionName, courseId, section, range)) {
+        for (FeedbackResponse result : responsesFromSection) {
             feedbackResponses.put(result.getId(), result);
         }
 
-        for (FeedbackResponse result : getFeedbackResponseEntitiesForSessionToSectionWithinRange(
-                feedbackSessionName, courseId, section, range)) {
+        for (FeedbackResponse result : responsesToSection) {
             feedbackResponses.put(result.getId(), result);
         }
 
@@ -661,20 +1097,39 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
                 .limit(range + 1).list();
     }
 
+    private List<FeedbackResponse> getFeedbackResponseEntitiesForReceiverForSession(
+            String receiver, String feedbackSessionName, String courseId) {
+        return load()
+                .filter("receiver =", receiver)
+                .filter("feedbackSessionName =", feedbackSessionName)
+                .filter("courseId =", courseId)
+                .list();
+    }
+
     private List<FeedbackResponse> getFeedbackResponseEntitiesForReceiverForCourse(
             String courseId, String receiver) {
+        return getFeedbackResponseEntitiesForReceiverForCourseWithinRange(courseId, receiver, -1);
+    }
+
+    private List<FeedbackResponse> getFeedbackResponseEntitiesForReceiverForCourseWithinRange(
+            String courseId, String receiver, int range) {
         return load()
                 .filter("courseId =", courseId)
                 .filter("receiver =", receiver)
-                .list();
+                .limit(range + 1).list();
     }
 
     private List<FeedbackResponse> getFeedbackResponseEntitiesFromGiverForCourse(
             String courseId, String giverEmail) {
+        return getFeedbackResponseEntitiesFromGiverForCourseWithinRange(courseId, giverEmail, -1);
+    }
+
+    private List<FeedbackResponse> getFeedbackResponseEntitiesFromGiverForCourseWithinRange(
+            String courseId, String giverEmail, int range) {
         return load()
                 .filter("courseId =", courseId)
                 .filter("giverEmail =", giverEmail)
-                .list();
+                .limit(range + 1).list();
     }
 
     @Override
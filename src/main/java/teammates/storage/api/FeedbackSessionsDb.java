@@ -6,11 +6,15 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.Date;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.function.Supplier;
 
+import com.googlecode.objectify.LoadResult;
 import com.googlecode.objectify.VoidWork;
+import com.googlecode.objectify.Work;
 import com.googlecode.objectify.cmd.LoadType;
 import com.googlecode.objectify.cmd.QueryKeys;
 
@@ -96,6 +100,23 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
                 "Trying to get non-existent Session: " + feedbackSessionName + "/" + courseId);
     }
 
+    /**
+     * Starts loading the session without waiting for the datastore. The load completes
+     * when {@link Supplier#get()} is called on the returned value.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     * @return A supplier of the session, which supplies null if not found.
+     */
+    public Supplier<FeedbackSessionAttributes> getFeedbackSessionAsync(String courseId, String feedbackSessionName) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        LoadResult<FeedbackSession> session = load().id(feedbackSessionName + "%" + courseId);
+        return () -> makeAttributesOrNull(session.now(),
+                "Trying to get non-existent Session: " + feedbackSessionName + "/" + courseId);
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -135,6 +156,15 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
         return makeAttributes(getFeedbackSessionEntitiesPossiblyNeedingPublishedEmail());
     }
 
+    /**
+     * Returns An empty list if no sessions are found that end after {@code endTimeLowerBound}.
+     */
+    public List<FeedbackSessionAttributes> getFeedbackSessionsEndingAfter(Date endTimeLowerBound) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, endTimeLowerBound);
+
+        return makeAttributes(load().filter("endTime >", endTimeLowerBound).list());
+    }
+
     /**
      * Updates the feedback session identified by {@code newAttributes.feedbackSesionName}
      * and {@code newAttributes.courseId}.
@@ -179,6 +209,117 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
         saveEntity(fs, newAttributes);
     }
 
+    /**
+     * Returns the version of the stored expected respondent count of the feedback session,
+     * to be passed to {@link #updateExpectedRespondentCount(String, String, int, long)}.
+     */
+    public long getExpectedRespondentCountVersion(String feedbackSessionName, String courseId)
+            throws EntityDoesNotExistException {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        FeedbackSession fs = getFeedbackSessionEntity(feedbackSessionName, courseId);
+        if (fs == null) {
+            throw new EntityDoesNotExistException(ERROR_UPDATE_NON_EXISTENT + feedbackSessionName + "/" + courseId);
+        }
+        return fs.getExpectedRespondentCountVersion();
+    }
+
+    /**
+     * Stores the number of respondents expected for the feedback session, unless the stored count
+     * has been marked as stale since {@code version} was read, in which case {@code count} may be outdated.
+     *
+     * @return whether the count was stored
+     */
+    // The objectify library does not support throwing checked exceptions inside transactions
+    @SuppressWarnings("PMD.AvoidThrowingRawExceptionTypes")
+    public boolean updateExpectedRespondentCount(String feedbackSessionName, String courseId, int count, long version)
+            throws EntityDoesNotExistException {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        try {
+            return ofy().transact(new Work<Boolean>() {
+                @Override
+                public Boolean run() {
+                    FeedbackSession fs = getFeedbackSessionEntity(feedbackSessionName, courseId);
+                    if (fs == null) {
+                        throw new RuntimeException(new EntityDoesNotExistException(
+                                ERROR_UPDATE_NON_EXISTENT + feedbackSessionName + "/" + courseId));
+                    }
+                    if (fs.getExpectedRespondentCountVersion() != version) {
+                        return false;
+                    }
+
+                    fs.setExpectedRespondentCount(count);
+
+                    saveEntity(fs);
+                    return true;
+                }
+            });
+        } catch (RuntimeException e) {
+            if (e.getCause() instanceof EntityDoesNotExistException) {
+                throw (EntityDoesNotExistException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Marks the stored expected respondent count of the feedback session as stale.
+     */
+    // The objectify library does not support throwing checked exceptions inside transactions
+    @SuppressWarnings("PMD.AvoidThrowingRawExceptionTypes")
+    public void clearExpectedRespondentCount(String feedbackSessionName, String courseId)
+            throws EntityDoesNotExistException {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        try {
+            ofy().transact(new VoidWork() {
+                @Override
+                public void vrun() {
+                    FeedbackSession fs = getFeedbackSessionEntity(feedbackSessionName, courseId);
+                    if (fs == null) {
+                        throw new RuntimeException(new EntityDoesNotExistException(
+                                ERROR_UPDATE_NON_EXISTENT + feedbackSessionName + "/" + courseId));
+                    }
+
+                    markExpectedRespondentCountAsStale(fs);
+
+                    saveEntity(fs);
+                }
+            });
+        } catch (RuntimeException e) {
+            if (e.getCause() instanceof EntityDoesNotExistException) {
+                throw (EntityDoesNotExistException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Marks the stored expected respondent counts of all feedback sessions in the course as stale.
+     */
+    public void clearExpectedRespondentCountsForCourse(String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        List<FeedbackSession> sessionsToUpdate = getFeedbackSessionEntitiesForCourse(courseId);
+        for (FeedbackSession fs : sessionsToUpdate) {
+            markExpectedRespondentCountAsStale(fs);
+        }
+
+        if (!sessionsToUpdate.isEmpty()) {
+            saveEntities(sessionsToUpdate);
+        }
+    }
+
+    private void markExpectedRespondentCountAsStale(FeedbackSession fs) {
+        fs.setExpectedRespondentCount(null);
+        // the version is bumped even if the count is already stale, as a recomputation may be in progress
+        fs.setExpectedRespondentCountVersion(fs.getExpectedRespondentCountVersion() + 1);
+    }
+
     public void addInstructorRespondent(String email, FeedbackSessionAttributes feedbackSession)
             throws InvalidParametersException, EntityDoesNotExistException {
         List<String> emails = new ArrayList<>();
@@ -427,12 +568,66 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
         }
     }
 
+    /**
+     * Removes the given instructors and students from the respondents of the session with a single write.
+     */
+    // The objectify library does not support throwing checked exceptions inside transactions
+    @SuppressWarnings("PMD.AvoidThrowingRawExceptionTypes")
+    public void deleteRespondents(Collection<String> instructorEmails, Collection<String> studentEmails,
+            FeedbackSessionAttributes feedbackSession) throws EntityDoesNotExistException, InvalidParametersException {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, instructorEmails);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, studentEmails);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSession);
+
+        feedbackSession.sanitizeForSaving();
+
+        if (!feedbackSession.isValid()) {
+            throw new InvalidParametersException(feedbackSession.getInvalidityInfo());
+        }
+
+        try {
+            ofy().transact(new VoidWork() {
+                @Override
+                public void vrun() {
+                    FeedbackSession fs = getEntity(feedbackSession);
+                    if (fs == null) {
+                        throw new RuntimeException(new EntityDoesNotExistException(
+                                ERROR_UPDATE_NON_EXISTENT + feedbackSession.toString()));
+                    }
+
+                    fs.getRespondingInstructorList().removeAll(instructorEmails);
+                    fs.getRespondingStudentList().removeAll(studentEmails);
+
+                    saveEntity(fs, feedbackSession);
+                }
+            });
+        } catch (RuntimeException e) {
+            if (e.getCause() instanceof EntityDoesNotExistException) {
+                throw (EntityDoesNotExistException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
     public void deleteFeedbackSessionsForCourse(String courseId) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
 
         deleteFeedbackSessionsForCourses(Arrays.asList(courseId));
     }
 
+    /**
+     * Deletes one page of the sessions in the course, found with a keys-only query.<br>
+     * Note: This is a non-cascade delete.
+     *
+     * @param cursor the cursor returned for the previous page, or null for the first page
+     * @return the cursor at which the next page starts, or null if there are no more sessions
+     */
+    public String deleteFeedbackSessionsForCoursePage(String courseId, String cursor, int pageSize) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        return deleteEntitiesPage(load().filter("courseId =", courseId), cursor, pageSize);
+    }
+
     public void deleteFeedbackSessionsForCourses(List<String> courseIds) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseIds);
 
@@ -7,10 +7,13 @@ import java.util.List;
 
 import com.google.appengine.api.search.Results;
 import com.google.appengine.api.search.ScoredDocument;
+import com.googlecode.objectify.LoadResult;
 import com.googlecode.objectify.cmd.LoadType;
+import com.googlecode.objectify.cmd.Query;
 import com.googlecode.objectify.cmd.QueryKeys;
 
 import teammates.common.datatransfer.InstructorSearchResultBundle;
+import teammates.common.datatransfer.QueryPage;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
@@ -120,6 +123,32 @@ public class InstructorsDb extends EntitiesDb<Instructor, InstructorAttributes>
                 "Trying to get non-existent Instructor: " + courseId + "/" + email);
     }
 
+    /**
+     * Preconditions: <br>
+     *  * All parameters are non-null.
+     *
+     * @return the instructors of the course in the order of {@code emails}, skipping the emails without an instructor.
+     */
+    public List<InstructorAttributes> getInstructorsForEmails(String courseId, List<String> emails) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, emails);
+
+        // the queries are all started before any of their results is waited for
+        List<LoadResult<Instructor>> results = new ArrayList<>();
+        for (String email : emails) {
+            results.add(getInstructorForEmailQuery(courseId, email).first());
+        }
+
+        List<Instructor> instructors = new ArrayList<>();
+        for (LoadResult<Instructor> result : results) {
+            Instructor instructor = result.now();
+            if (instructor != null) {
+                instructors.add(instructor);
+            }
+        }
+        return makeAttributes(instructors);
+    }
+
     /**
      * Returns null if no matching objects.
      */
@@ -289,6 +318,21 @@ public class InstructorsDb extends EntitiesDb<Instructor, InstructorAttributes>
         deleteInstructors(getInstructorEntitiesForCourse(courseId));
     }
 
+    /**
+     * Deletes one page of the instructors in the course together with their search documents.
+     * The instructors are read in full as their documents are identified by their registration keys.
+     *
+     * @param cursor the cursor returned for the previous page, or null for the first page
+     * @return the cursor at which the next page starts, or null if there are no more instructors
+     */
+    public String deleteInstructorsForCoursePage(String courseId, String cursor, int pageSize) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        QueryPage<Instructor> page = getEntitiesPage(load().filter("courseId =", courseId), cursor, pageSize);
+        deleteInstructors(page.getItems());
+        return page.getNextCursor();
+    }
+
     private void deleteInstructors(List<Instructor> instructors) {
         for (Instructor instructor : instructors) {
             deleteDocument(makeAttributes(instructor));
@@ -303,11 +347,14 @@ public class InstructorsDb extends EntitiesDb<Instructor, InstructorAttributes>
                 .first().now();
     }
 
-    private Instructor getInstructorEntityForEmail(String courseId, String email) {
+    private Query<Instructor> getInstructorForEmailQuery(String courseId, String email) {
         return load()
                 .filter("courseId =", courseId)
-                .filter("email =", email)
-                .first().now();
+                .filter("email =", email);
+    }
+
+    private Instructor getInstructorEntityForEmail(String courseId, String email) {
+        return getInstructorForEmailQuery(courseId, email).first().now();
     }
 
     private List<Instructor> getInstructorEntitiesForCourses(List<String> courseIds) {
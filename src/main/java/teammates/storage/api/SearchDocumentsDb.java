@@ -0,0 +1,134 @@
+package teammates.storage.api;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.appengine.api.search.Document;
+
+import teammates.common.datatransfer.SearchDocumentUpdates;
+import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+import teammates.common.util.Logger;
+import teammates.common.util.StringHelper;
+import teammates.storage.search.FeedbackResponseCommentSearchDocument;
+import teammates.storage.search.InstructorSearchDocument;
+import teammates.storage.search.SearchDocument;
+import teammates.storage.search.SearchManager;
+import teammates.storage.search.StudentSearchDocument;
+
+/**
+ * Handles deferred writes to the search indices.
+ *
+ * <p>Between {@link #startBuffering()} and {@link #stopBuffering()}, search documents that are put or deleted
+ * on the current thread are not written to the index. Only their IDs are recorded, once per document
+ * with the latest operation winning, so that the documents can be written later in batches by
+ * {@link #writeDocuments(SearchDocumentUpdates)}. Documents are rebuilt from the datastore when they are written.
+ */
+public class SearchDocumentsDb {
+
+    private static final Logger log = Logger.getLogger();
+
+    /** Maps index name to document ID to whether the document is to be put (or deleted otherwise). */
+    private static final ThreadLocal<Map<String, Map<String, Boolean>>> pendingDocuments = new ThreadLocal<>();
+
+    private static final StudentsDb studentsDb = new StudentsDb();
+    private static final InstructorsDb instructorsDb = new InstructorsDb();
+    private static final FeedbackResponseCommentsDb frcDb = new FeedbackResponseCommentsDb();
+
+    /**
+     * Starts buffering search document writes on the current thread.
+     */
+    public void startBuffering() {
+        pendingDocuments.set(new LinkedHashMap<>());
+    }
+
+    /**
+     * Stops buffering search document writes on the current thread.
+     * @return the buffered writes, in batches of at most {@value SearchManager#MAX_DOCUMENTS_PER_BATCH} documents
+     *         of the same index
+     */
+    public List<SearchDocumentUpdates> stopBuffering() {
+        Map<String, Map<String, Boolean>> pendingDocumentsPerIndex = pendingDocuments.get();
+        pendingDocuments.remove();
+
+        List<SearchDocumentUpdates> updates = new ArrayList<>();
+        if (pendingDocumentsPerIndex == null) {
+            return updates;
+        }
+        pendingDocumentsPerIndex.forEach((indexName, documents) -> {
+            SearchDocumentUpdates batch = null;
+            for (Map.Entry<String, Boolean> document : documents.entrySet()) {
+                if (batch == null || batch.size() == SearchManager.MAX_DOCUMENTS_PER_BATCH) {
+                    batch = new SearchDocumentUpdates(indexName);
+                    updates.add(batch);
+                }
+                if (document.getValue()) {
+                    batch.getDocumentIdsToPut().add(document.getKey());
+                } else {
+                    batch.getDocumentIdsToDelete().add(document.getKey());
+                }
+            }
+        });
+        return updates;
+    }
+
+    /**
+     * Records a put or delete of a document if writes are being buffered on the current thread.
+     * @return true if the write is buffered, false if it has to be done right away
+     */
+    static boolean bufferWrite(String indexName, String documentId, boolean isPut) {
+        Map<String, Map<String, Boolean>> pendingDocumentsPerIndex = pendingDocuments.get();
+        if (pendingDocumentsPerIndex == null || documentId == null) {
+            return false;
+        }
+        Map<String, Boolean> documents = pendingDocumentsPerIndex.computeIfAbsent(indexName, k -> new LinkedHashMap<>());
+        // re-insert so that the document is ordered by its latest write
+        documents.remove(documentId);
+        documents.put(documentId, isPut);
+        return true;
+    }
+
+    /**
+     * Builds the documents to be put from the current data in the datastore and writes them to the index,
+     * then deletes the documents to be deleted. Documents whose data no longer exists are skipped.
+     */
+    public void writeDocuments(SearchDocumentUpdates updates) {
+        String indexName = updates.getIndexName();
+
+        List<Document> documents = new ArrayList<>();
+        for (String documentId : updates.getDocumentIdsToPut()) {
+            SearchDocument document = getSearchDocument(indexName, documentId);
+            if (document == null) {
+                log.info("Skipped indexing document " + documentId + " in " + indexName + " as its data is gone");
+                continue;
+            }
+            documents.add(document.build());
+        }
+
+        SearchManager.putDocuments(indexName, documents);
+        SearchManager.deleteDocuments(indexName, updates.getDocumentIdsToDelete());
+    }
+
+    private SearchDocument getSearchDocument(String indexName, String documentId) {
+        switch (indexName) {
+        case Const.SearchIndex.STUDENT:
+            StudentAttributes student = studentsDb.getStudentForRegistrationKey(StringHelper.encrypt(documentId));
+            return student == null ? null : new StudentSearchDocument(student);
+        case Const.SearchIndex.INSTRUCTOR:
+            InstructorAttributes instructor = instructorsDb.getInstructorForRegistrationKey(documentId);
+            return instructor == null ? null : new InstructorSearchDocument(instructor);
+        case Const.SearchIndex.FEEDBACK_RESPONSE_COMMENT:
+            FeedbackResponseCommentAttributes comment = frcDb.getFeedbackResponseComment(Long.valueOf(documentId));
+            return comment == null ? null : new FeedbackResponseCommentSearchDocument(comment);
+        default:
+            Assumption.fail("Unknown search index: " + indexName);
+            return null;
+        }
+    }
+
+}
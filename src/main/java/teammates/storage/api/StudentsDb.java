@@ -3,9 +3,11 @@ package teammates.storage.api;
 import static com.googlecode.objectify.ObjectifyService.ofy;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import com.google.appengine.api.search.Results;
 import com.google.appengine.api.search.ScoredDocument;
@@ -13,6 +15,7 @@ import com.googlecode.objectify.cmd.LoadType;
 import com.googlecode.objectify.cmd.Query;
 import com.googlecode.objectify.cmd.QueryKeys;
 
+import teammates.common.datatransfer.QueryPage;
 import teammates.common.datatransfer.StudentSearchResultBundle;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
@@ -114,6 +117,49 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
         }
     }
 
+    /**
+     * Creates {@code newStudents} and updates the name, comments, team and section of {@code modifiedStudents}
+     * with a single batch write, followed by a single batch update of search documents if {@code hasDocument}.
+     * Preconditions: <br>
+     * * All parameters are non-null. <br>
+     * * {@code newStudents} do not exist yet and {@code modifiedStudents} exist.
+     */
+    public void enrollStudents(List<StudentAttributes> newStudents, List<StudentAttributes> modifiedStudents,
+            boolean hasDocument) throws InvalidParametersException {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, newStudents);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, modifiedStudents);
+
+        List<CourseStudent> createdStudents = createEntitiesDeferred(newStudents);
+
+        List<String> modifiedStudentIds = new ArrayList<>();
+        for (StudentAttributes student : modifiedStudents) {
+            modifiedStudentIds.add(student.getId());
+        }
+        Map<String, CourseStudent> existingStudents = load().ids(modifiedStudentIds);
+
+        List<CourseStudent> updatedStudents = new ArrayList<>();
+        for (StudentAttributes student : modifiedStudents) {
+            CourseStudent courseStudent = existingStudents.get(student.getId());
+            Assumption.assertNotNull(ERROR_UPDATE_NON_EXISTENT_STUDENT + student.course + "/" + student.email,
+                                     courseStudent);
+
+            courseStudent.setName(student.name);
+            courseStudent.setComments(student.comments);
+            courseStudent.setTeamName(student.team);
+            courseStudent.setSectionName(student.section);
+            updatedStudents.add(courseStudent);
+        }
+        saveEntitiesDeferred(updatedStudents);
+
+        flush();
+
+        List<StudentAttributes> enrolledStudents = makeAttributes(createdStudents);
+        enrolledStudents.addAll(makeAttributes(updatedStudents));
+        if (hasDocument && !enrolledStudents.isEmpty()) {
+            putDocuments(enrolledStudents);
+        }
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -181,6 +227,32 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
         return makeAttributes(getCourseStudentEntitiesForGoogleId(googleId));
     }
 
+    /**
+     * Gets the students of a course with the given emails, loading them by key.
+     * Preconditions: <br>
+     *  * All parameters are non-null.
+     * @return the students in the order of {@code emails}, skipping the emails without a student.
+     */
+    public List<StudentAttributes> getStudentsForEmails(String courseId, List<String> emails) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, emails);
+
+        List<String> studentIds = new ArrayList<>();
+        for (String email : emails) {
+            studentIds.add(email + "%" + courseId);
+        }
+        Map<String, CourseStudent> courseStudents = load().ids(studentIds);
+
+        List<CourseStudent> students = new ArrayList<>();
+        for (String studentId : studentIds) {
+            CourseStudent courseStudent = courseStudents.get(studentId);
+            if (courseStudent != null) {
+                students.add(courseStudent);
+            }
+        }
+        return makeAttributes(students);
+    }
+
     /**
      * Preconditions: <br>
      *  * All parameters are non-null.
@@ -316,6 +388,19 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
             String newTeamName, String newSectionName, String newEmail, String newGoogleId,
             String newComments, boolean hasDocument, boolean keepUpdateTimestamp)
             throws InvalidParametersException, EntityDoesNotExistException {
+        updateStudent(courseId, email, newName, newTeamName, newSectionName, newEmail, newGoogleId,
+                      newComments, hasDocument, keepUpdateTimestamp, false);
+    }
+
+    /**
+     * Updates the student as {@link #updateStudent(String, String, String, String, String, String, String, String,
+     * boolean, boolean)} does. If {@code isOriginalEmailReserved} and the email is changed, the original email
+     * is recorded as the email of the responses to move to the new email, in the same write as the new email.
+     */
+    public void updateStudent(String courseId, String email, String newName,
+            String newTeamName, String newSectionName, String newEmail, String newGoogleId,
+            String newComments, boolean hasDocument, boolean keepUpdateTimestamp, boolean isOriginalEmailReserved)
+            throws InvalidParametersException, EntityDoesNotExistException {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, email);
 
@@ -330,6 +415,9 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
             if (isEmailChanged) {
                 CourseStudent newCourseStudent = new CourseStudent(newEmail, newName, newGoogleId, newComments,
                                                                    courseId, newTeamName, newSectionName);
+                if (isOriginalEmailReserved) {
+                    newCourseStudent.setEmailOfResponsesToMove(email);
+                }
                 recreateStudentWithNewEmail(newCourseStudent, lastName, courseStudent, hasDocument,
                                             keepUpdateTimestamp, courseId, email);
             } else {
@@ -339,7 +427,6 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
         }
     }
 
-    @SuppressWarnings("PMD.PreserveStackTrace")
     private void recreateStudentWithNewEmail(
             CourseStudent newCourseStudent, String lastName, CourseStudent courseStudent,
             boolean hasDocument, boolean keepUpdateTimestamp, String courseId, String email)
@@ -351,14 +438,24 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
         }
 
         StudentAttributes newCourseStudentAttributes = makeAttributes(newCourseStudent);
-        try {
-            createStudent(newCourseStudentAttributes, hasDocument);
-        } catch (EntityAlreadyExistsException e) {
+        newCourseStudentAttributes.sanitizeForSaving();
+        if (!newCourseStudentAttributes.isValid()) {
+            throw new InvalidParametersException(newCourseStudentAttributes.getInvalidityInfo());
+        }
+        if (hasEntity(newCourseStudentAttributes)) {
             CourseStudent existingStudent = getEntity(newCourseStudentAttributes);
             String error = ERROR_UPDATE_EMAIL_ALREADY_USED + existingStudent.getName() + "/" + existingStudent.getEmail();
             throw new InvalidParametersException(error);
         }
 
+        // the email of the responses to move goes out in the same write as the new email
+        CourseStudent newCourseStudentToSave = newCourseStudentAttributes.toEntity();
+        newCourseStudentToSave.setEmailOfResponsesToMove(newCourseStudent.getEmailOfResponsesToMove());
+        saveEntity(newCourseStudentToSave, newCourseStudentAttributes);
+        if (hasDocument) {
+            putDocument(makeAttributes(newCourseStudentToSave));
+        }
+
         deleteStudent(courseId, email);
     }
 
@@ -385,6 +482,80 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
 
     //TODO: add an updateStudent(StudentAttributes) version and make the above private
 
+    /**
+     * Clears the previous email of the student whose responses are all moved to the student's current email.
+     * Fails silently if there is no such student.<br>
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public void clearEmailOfResponsesToMove(String courseId, String email) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, email);
+
+        CourseStudent courseStudent = getCourseStudentEntityForId(courseId, email);
+        if (courseStudent == null || courseStudent.getEmailOfResponsesToMove() == null) {
+            return;
+        }
+        courseStudent.setEmailOfResponsesToMove(null);
+        courseStudent.keepUpdateTimestamp = true;
+        saveEntity(courseStudent, makeAttributes(courseStudent));
+    }
+
+    /**
+     * Gets the previous email of the student whose responses are still to be moved to the student's current email.
+     * The student is read by key, so that a student whose email has just been changed is found.<br>
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @return null if all the responses of the student are under the student's current email
+     * @throws EntityDoesNotExistException if there is no such student
+     */
+    public String getEmailOfResponsesToMove(String courseId, String email) throws EntityDoesNotExistException {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, email);
+
+        CourseStudent courseStudent = getCourseStudentEntityForId(courseId, email);
+        if (courseStudent == null) {
+            throw new EntityDoesNotExistException(ERROR_UPDATE_NON_EXISTENT_STUDENT + courseId + "/" + email);
+        }
+        return courseStudent.getEmailOfResponsesToMove();
+    }
+
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @return true if the responses under {@code email} are still being moved to another student of the course
+     */
+    public boolean isEmailOfResponsesToMove(String courseId, String email) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, email);
+
+        return load()
+                .filter("courseId =", courseId)
+                .filter("emailOfResponsesToMove =", email)
+                .keys().first().now() != null;
+    }
+
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @return the previous emails of the students of the course whose responses are still being moved
+     */
+    public Set<String> getEmailsOfResponsesToMove(String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        Set<String> emailsOfResponsesToMove = new HashSet<>();
+        for (CourseStudent courseStudent : load()
+                .filter("courseId =", courseId)
+                .filter("emailOfResponsesToMove >", "")
+                .list()) {
+            emailsOfResponsesToMove.add(courseStudent.getEmailOfResponsesToMove());
+        }
+        return emailsOfResponsesToMove;
+    }
+
     /**
      * Fails silently if no such student. <br>
      * Preconditions: <br>
@@ -466,6 +637,21 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
         }
     }
 
+    /**
+     * Deletes one page of the students in the course together with their search documents.
+     * The students are read in full as their documents are identified by their registration keys.
+     *
+     * @param cursor the cursor returned for the previous page, or null for the first page
+     * @return the cursor at which the next page starts, or null if there are no more students
+     */
+    public String deleteStudentsForCoursePage(String courseId, String cursor, int pageSize) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        QueryPage<CourseStudent> page = getEntitiesPage(getCourseStudentsForCourseQuery(courseId), cursor, pageSize);
+        deleteStudentsCascadeDocuments(page.getItems());
+        return page.getNextCursor();
+    }
+
     public void deleteStudentsForCourses(List<String> courseIds) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseIds);
 
@@ -495,6 +681,10 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
         return getCourseStudentForEmailQuery(courseId, email).first().now();
     }
 
+    private CourseStudent getCourseStudentEntityForId(String courseId, String email) {
+        return load().id(email + "%" + courseId).now();
+    }
+
     private CourseStudent getCourseStudentEntityForRegistrationKey(String registrationKey) {
         List<CourseStudent> studentList = load().filter("registrationKey =", registrationKey).list();
 
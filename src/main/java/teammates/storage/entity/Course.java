@@ -27,6 +27,10 @@ public class Course extends BaseEntity {
 
     private String timeZone;
 
+    // a course marked for deletion is hidden while its entities are being deleted in the background;
+    // indexed so that a deletion that has stopped halfway can be found and resumed
+    private boolean isMarkedForDeletion;
+
     @SuppressWarnings("unused")
     private Course() {
         // required by Objectify
@@ -78,4 +82,12 @@ public class Course extends BaseEntity {
     public void setTimeZone(String timeZone) {
         this.timeZone = timeZone;
     }
+
+    public boolean isMarkedForDeletion() {
+        return isMarkedForDeletion;
+    }
+
+    public void setMarkedForDeletion(boolean isMarkedForDeletion) {
+        this.isMarkedForDeletion = isMarkedForDeletion;
+    }
 }
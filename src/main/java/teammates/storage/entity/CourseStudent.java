@@ -79,6 +79,12 @@ public class CourseStudent extends BaseEntity {
     @SerializedName("sectionname")
     private String sectionName;
 
+    /**
+     * The previous email of the student, while the responses given by or to the student are still being moved
+     * from it to the current email. Null otherwise.
+     */
+    private String emailOfResponsesToMove;
+
     @SuppressWarnings("unused")
     private CourseStudent() {
         // required by Objectify
@@ -202,6 +208,14 @@ public class CourseStudent extends BaseEntity {
         this.sectionName = sectionName == null ? null : sectionName.trim();
     }
 
+    public String getEmailOfResponsesToMove() {
+        return emailOfResponsesToMove;
+    }
+
+    public void setEmailOfResponsesToMove(String emailOfResponsesToMove) {
+        this.emailOfResponsesToMove = emailOfResponsesToMove;
+    }
+
     @OnSave
     public void updateLastUpdateTimestamp() {
         this.setLastUpdate(Instant.now());
@@ -9,6 +9,7 @@ import com.googlecode.objectify.annotation.Id;
 import com.googlecode.objectify.annotation.Ignore;
 import com.googlecode.objectify.annotation.Index;
 import com.googlecode.objectify.annotation.OnSave;
+import com.googlecode.objectify.annotation.Unindex;
 
 import teammates.common.datatransfer.questions.FeedbackQuestionType;
 import teammates.common.util.Const;
@@ -41,6 +42,7 @@ public class FeedbackResponse extends BaseEntity {
 
     private String feedbackQuestionId;
 
+    @Unindex
     private FeedbackQuestionType feedbackQuestionType;
 
     private String giverEmail;
@@ -51,10 +53,13 @@ public class FeedbackResponse extends BaseEntity {
 
     private String receiverSection;
 
+    @Unindex
     private Text answer; //TODO: rename to responseMetaData, will require database conversion
 
+    @Unindex
     private Date createdAt;
 
+    @Unindex
     private Date updatedAt;
 
     @SuppressWarnings("unused")
@@ -34,6 +34,7 @@ public class FeedbackResponseComment extends BaseEntity {
     private String feedbackSessionName;
 
     /** The foreign key to locate the FeedbackQuestion object. */
+    @Unindex
     private String feedbackQuestionId;
 
     /** The course-specific email used by the giver of the comment. */
@@ -48,10 +49,13 @@ public class FeedbackResponseComment extends BaseEntity {
     /** Response receiver section. */
     private String receiverSection;
 
+    @Unindex
     private List<FeedbackParticipantType> showCommentTo = new ArrayList<>();
 
+    @Unindex
     private List<FeedbackParticipantType> showGiverNameTo = new ArrayList<>();
 
+    @Unindex
     private Boolean isVisibilityFollowingFeedbackQuestion;
 
     /** The creation time of this comment. */
@@ -65,6 +69,7 @@ public class FeedbackResponseComment extends BaseEntity {
     private String lastEditorEmail;
 
     /** The time in which the comment is last edited. */
+    @Unindex
     private Date lastEditedAt;
 
     @SuppressWarnings("unused")
@@ -43,6 +43,20 @@ public class FeedbackSession extends BaseEntity {
     @Unindex
     private Set<String> respondingStudentList = new HashSet<>();
 
+    /**
+     * Number of respondents expected to respond to this session, kept so that the response rate
+     * can be read without scanning the course roster. {@code null} when it needs to be recomputed.
+     */
+    @Unindex
+    private Integer expectedRespondentCount;
+
+    /**
+     * Incremented whenever {@link #expectedRespondentCount} is marked as stale, so that a recomputation
+     * that started before the change does not store its outdated result.
+     */
+    @Unindex
+    private long expectedRespondentCountVersion;
+
     @Unindex
     private Text instructions;
 
@@ -361,6 +375,22 @@ public class FeedbackSession extends BaseEntity {
         this.respondingStudentList = studentList;
     }
 
+    public Integer getExpectedRespondentCount() {
+        return expectedRespondentCount;
+    }
+
+    public void setExpectedRespondentCount(Integer expectedRespondentCount) {
+        this.expectedRespondentCount = expectedRespondentCount;
+    }
+
+    public long getExpectedRespondentCountVersion() {
+        return expectedRespondentCountVersion;
+    }
+
+    public void setExpectedRespondentCountVersion(long expectedRespondentCountVersion) {
+        this.expectedRespondentCountVersion = expectedRespondentCountVersion;
+    }
+
     @Override
     public String toString() {
         return "FeedbackSession [feedbackSessionName=" + feedbackSessionName
@@ -46,6 +46,11 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
         this.comment = comment;
     }
 
+    @Override
+    public String getDocumentId() {
+        return comment == null || comment.getId() == null ? null : comment.getId().toString();
+    }
+
     @Override
     protected void prepareData() {
         if (comment == null) {
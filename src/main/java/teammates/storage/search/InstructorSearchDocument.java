@@ -27,6 +27,11 @@ public class InstructorSearchDocument extends SearchDocument {
         this.instructor = instructor;
     }
 
+    @Override
+    public String getDocumentId() {
+        return instructor == null || instructor.key == null ? null : StringHelper.encrypt(instructor.key);
+    }
+
     @Override
     protected void prepareData() {
         if (instructor == null) {
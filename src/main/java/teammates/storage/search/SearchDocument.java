@@ -40,6 +40,12 @@ public abstract class SearchDocument {
         return toDocument();
     }
 
+    /**
+     * Returns the ID the document is stored with in its index, or {@code null} if it is not known
+     * without building the document.
+     */
+    public abstract String getDocumentId();
+
     protected abstract void prepareData();
 
     protected abstract Document toDocument();
@@ -5,6 +5,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import com.google.appengine.api.search.DeleteException;
 import com.google.appengine.api.search.Document;
 import com.google.appengine.api.search.Index;
 import com.google.appengine.api.search.IndexSpec;
@@ -30,10 +31,17 @@ import teammates.common.util.retry.RetryableTaskThrows;
  */
 public final class SearchManager {
 
+    /** The maximum number of documents the Search API accepts in a single put or delete. */
+    public static final int MAX_DOCUMENTS_PER_BATCH = 200;
+
     private static final String ERROR_NON_TRANSIENT_BACKEND_ISSUE =
             "Failed to put document(s) %s into search index %s due to non-transient backend issue: ";
     private static final String ERROR_MAXIMUM_RETRIES_EXCEEDED =
             "Failed to put document(s) %s into search index %s after maximum retries: %s: ";
+    private static final String ERROR_DELETE_NON_TRANSIENT_BACKEND_ISSUE =
+            "Failed to delete document(s) %s from search index %s due to non-transient backend issue: ";
+    private static final String ERROR_DELETE_MAXIMUM_RETRIES_EXCEEDED =
+            "Failed to delete document(s) %s from search index %s after maximum retries: %s: ";
     private static final Logger log = Logger.getLogger();
     private static final ThreadLocal<Map<String, Index>> PER_THREAD_INDICES_TABLE = new ThreadLocal<>();
 
@@ -112,17 +120,21 @@ public final class SearchManager {
 
     /**
      * Batch creates or updates the search documents for the given documents and index.
+     * The documents are put in batches of at most {@value #MAX_DOCUMENTS_PER_BATCH}.
      */
     public static void putDocuments(String indexName, List<Document> documents) {
-        try {
-            putDocumentsWithRetry(indexName, documents);
-        } catch (PutException e) {
-            log.severe(String.format(ERROR_NON_TRANSIENT_BACKEND_ISSUE, documents, indexName)
-                    + TeammatesException.toStringWithStackTrace(e));
-        } catch (MaximumRetriesExceededException e) {
-            Object failedDocuments = e.finalData;
-            log.severe(String.format(ERROR_MAXIMUM_RETRIES_EXCEEDED, failedDocuments, indexName, e.finalMessage)
-                    + TeammatesException.toStringWithStackTrace(e));
+        for (int from = 0; from < documents.size(); from += MAX_DOCUMENTS_PER_BATCH) {
+            List<Document> batch = documents.subList(from, Math.min(from + MAX_DOCUMENTS_PER_BATCH, documents.size()));
+            try {
+                putDocumentsWithRetry(indexName, batch);
+            } catch (PutException e) {
+                log.severe(String.format(ERROR_NON_TRANSIENT_BACKEND_ISSUE, batch, indexName)
+                        + TeammatesException.toStringWithStackTrace(e));
+            } catch (MaximumRetriesExceededException e) {
+                Object failedDocuments = e.finalData;
+                log.severe(String.format(ERROR_MAXIMUM_RETRIES_EXCEEDED, failedDocuments, indexName, e.finalMessage)
+                        + TeammatesException.toStringWithStackTrace(e));
+            }
         }
     }
 
@@ -213,6 +225,101 @@ public final class SearchManager {
         getIndex(indexName).deleteAsync(documentId);
     }
 
+    /**
+     * Deletes documents by documentId, in batches of at most {@value #MAX_DOCUMENTS_PER_BATCH}.
+     */
+    public static void deleteDocuments(String indexName, List<String> documentIds) {
+        for (int from = 0; from < documentIds.size(); from += MAX_DOCUMENTS_PER_BATCH) {
+            List<String> batch = documentIds.subList(from, Math.min(from + MAX_DOCUMENTS_PER_BATCH, documentIds.size()));
+            try {
+                deleteDocumentsWithRetry(indexName, batch);
+            } catch (DeleteException e) {
+                log.severe(String.format(ERROR_DELETE_NON_TRANSIENT_BACKEND_ISSUE, batch, indexName)
+                        + TeammatesException.toStringWithStackTrace(e));
+            } catch (MaximumRetriesExceededException e) {
+                Object failedDocumentIds = e.finalData;
+                log.severe(String.format(ERROR_DELETE_MAXIMUM_RETRIES_EXCEEDED, failedDocumentIds, indexName,
+                                         e.finalMessage)
+                        + TeammatesException.toStringWithStackTrace(e));
+            }
+        }
+    }
+
+    /**
+     * Tries deleting multiple documents, handling transient errors by retrying with exponential backoff.
+     *
+     * @throws DeleteException when only non-transient errors are encountered.
+     * @throws MaximumRetriesExceededException with list of IDs of the documents that failed to be deleted
+     *         as final data and final {@link OperationResult}'s message as final message,
+     *         if operation fails after maximum retries.
+     */
+    private static void deleteDocumentsWithRetry(String indexName, final List<String> documentIds)
+            throws DeleteException, MaximumRetriesExceededException {
+        final Index index = getIndex(indexName);
+
+        /*
+         * The GAE Search API signals a failure to delete some of the documents by throwing a DeleteException
+         * with an OperationResult for each document. As with putting documents, each retry deletes only
+         * the documents that failed with a transient error in the previous try.
+         */
+        RM.runUntilSuccessful(new RetryableTaskThrows<DeleteException>("Delete documents") {
+
+            private List<String> documentIdsToDelete = documentIds;
+            private DeleteException lastException;
+
+            @Override
+            public void run() {
+                try {
+                    index.delete(documentIdsToDelete);
+                    lastException = null;
+                } catch (DeleteException e) {
+                    lastException = e;
+                }
+            }
+
+            @Override
+            public boolean isSuccessful() throws DeleteException {
+                if (lastException == null) {
+                    return true;
+                }
+
+                List<OperationResult> lastResults = lastException.getResults();
+                boolean hasResultPerDocument = lastResults != null && lastResults.size() == documentIdsToDelete.size();
+                boolean hasTransientError = false;
+
+                List<String> failedDocumentIds = new ArrayList<>();
+                for (int i = 0; i < documentIdsToDelete.size(); i++) {
+                    // without a result per document, the overall result applies to every document
+                    OperationResult result = hasResultPerDocument ? lastResults.get(i) : lastException.getOperationResult();
+                    StatusCode code = result.getCode();
+                    if (!StatusCode.OK.equals(code)) {
+                        failedDocumentIds.add(documentIdsToDelete.get(i));
+                        if (StatusCode.TRANSIENT_ERROR.equals(code)) {
+                            hasTransientError = true;
+                        }
+                    }
+                }
+
+                // Update the list of documents to be deleted during the next retry
+                documentIdsToDelete = failedDocumentIds;
+
+                // Update the final message and data to be shown if the task fails after maximum retries
+                finalMessage = lastException.getOperationResult().getMessage();
+                finalData = documentIdsToDelete;
+
+                if (documentIdsToDelete.isEmpty()) {
+                    return true;
+                } else if (hasTransientError) {
+                    // If there is at least one transient error, continue retrying
+                    return false;
+                } else {
+                    // If all errors are non-transient, do not continue retrying
+                    throw lastException;
+                }
+            }
+        });
+    }
+
     private static Index getIndex(String indexName) {
         Map<String, Index> indicesTable = getIndicesTable();
         Index index = indicesTable.get(indexName);
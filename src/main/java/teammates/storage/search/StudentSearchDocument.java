@@ -28,6 +28,11 @@ public class StudentSearchDocument extends SearchDocument {
         this.student = student;
     }
 
+    @Override
+    public String getDocumentId() {
+        return student == null ? null : student.key;
+    }
+
     @Override
     protected void prepareData() {
         if (student == null) {
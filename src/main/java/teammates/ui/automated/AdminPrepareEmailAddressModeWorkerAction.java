@@ -47,10 +47,8 @@ public class AdminPrepareEmailAddressModeWorkerAction extends AutomatedAction {
             addressList.add(addressReceiverListString);
         }
 
-        for (String emailAddress : addressList) {
-            taskQueuer.scheduleAdminEmailForSending(emailId, emailAddress, adminEmail.getSubject(),
-                                                    adminEmail.getContentValue());
-        }
+        taskQueuer.scheduleAdminEmailsForSending(emailId, addressList, adminEmail.getSubject(),
+                                                 adminEmail.getContentValue());
     }
 
 }
@@ -1,15 +1,19 @@
 package teammates.ui.automated;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 
 import com.google.appengine.api.blobstore.BlobKey;
 import com.google.apphosting.api.ApiProxy;
 
+import teammates.common.datatransfer.GroupReceiverListChunk;
 import teammates.common.datatransfer.attributes.AdminEmailAttributes;
 import teammates.common.exception.TeammatesException;
 import teammates.common.util.Assumption;
+import teammates.common.util.Const;
 import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.FieldValidator;
 import teammates.common.util.GoogleCloudStorageHelper;
 import teammates.common.util.Logger;
 
@@ -41,22 +45,13 @@ public class AdminPrepareEmailGroupModeWorkerAction extends AutomatedAction {
         String groupReceiverListFileKey = getRequestParamValue(ParamsNames.ADMIN_EMAIL_GROUP_RECEIVER_LIST_FILE_KEY);
         Assumption.assertPostParamNotNull(ParamsNames.ADMIN_EMAIL_GROUP_RECEIVER_LIST_FILE_KEY, groupReceiverListFileKey);
 
-        String indexOfEmailListToResumeAsString =
-                getRequestParamValue(ParamsNames.ADMIN_GROUP_RECEIVER_EMAIL_LIST_INDEX);
-        String indexOfEmailToResumeAsString = getRequestParamValue(ParamsNames.ADMIN_GROUP_RECEIVER_EMAIL_INDEX);
-
-        int indexOfEmailListToResume = indexOfEmailListToResumeAsString == null
-                                       ? 0
-                                       : Integer.parseInt(indexOfEmailListToResumeAsString);
-        int indexOfEmailToResume = indexOfEmailToResumeAsString == null
-                                   ? 0
-                                   : Integer.parseInt(indexOfEmailToResumeAsString);
+        String byteOffsetToResumeAsString = getRequestParamValue(ParamsNames.ADMIN_GROUP_RECEIVER_BYTE_OFFSET);
+        long byteOffsetToResume = byteOffsetToResumeAsString == null
+                                  ? 0
+                                  : Long.parseLong(byteOffsetToResumeAsString);
 
         try {
-            List<List<String>> processedReceiverEmails =
-                    GoogleCloudStorageHelper.getGroupReceiverList(new BlobKey(groupReceiverListFileKey));
-            addAdminEmailToTaskQueue(emailId, groupReceiverListFileKey, processedReceiverEmails,
-                                     indexOfEmailListToResume, indexOfEmailToResume);
+            addAdminEmailToTaskQueue(emailId, groupReceiverListFileKey, byteOffsetToResume);
         } catch (IOException e) {
             log.severe("Unexpected error while adding admin email tasks: "
                        + TeammatesException.toStringWithStackTrace(e));
@@ -68,38 +63,53 @@ public class AdminPrepareEmailGroupModeWorkerAction extends AutomatedAction {
         return timeLeftInMillis / 1000 < 100;
     }
 
-    private void addAdminEmailToTaskQueue(String emailId, String groupReceiverListFileKey,
-            List<List<String>> processedReceiverEmails,
-            int indexOfEmailListToResume, int indexOfEmailToResume) {
+    private void addAdminEmailToTaskQueue(String emailId, String groupReceiverListFileKey, long byteOffsetToResume)
+            throws IOException {
         AdminEmailAttributes adminEmail = logic.getAdminEmailById(emailId);
         Assumption.assertNotNull(adminEmail);
 
-        log.info("Resume adding group mail tasks for mail with id " + emailId + " from list index: "
-                 + indexOfEmailListToResume + " and email index: " + indexOfEmailToResume);
-
-        int indexOfLastEmailList = 0;
-        int indexOfLastEmail = 0;
-
-        for (int i = indexOfEmailListToResume; i < processedReceiverEmails.size(); i++) {
-            List<String> currentEmailList = processedReceiverEmails.get(i);
-            for (int j = indexOfEmailToResume; j < currentEmailList.size(); j++) {
-                String receiverEmail = currentEmailList.get(j);
-                taskQueuer.scheduleAdminEmailForSending(emailId, receiverEmail, adminEmail.getSubject(),
-                                                        adminEmail.getContentValue());
-                if (isNearDeadline()) {
-                    taskQueuer.scheduleAdminEmailPreparationInGroupMode(emailId, groupReceiverListFileKey, i, j);
-                    log.info("Adding group mail tasks for mail with id " + emailId
-                             + " have been paused with list index: " + i + " and email index: " + j);
-                    return;
-                }
-                indexOfLastEmail = j;
+        log.info("Resume adding group mail tasks for mail with id " + emailId + " from byte offset: "
+                 + byteOffsetToResume);
+
+        // only the remaining part of the receiver list is read, a chunk at a time,
+        // and the deadline is checked between chunks
+        BlobKey groupReceiverListKey = new BlobKey(groupReceiverListFileKey);
+        long byteOffset = byteOffsetToResume;
+        GroupReceiverListChunk chunk;
+        do {
+            chunk = GoogleCloudStorageHelper.getGroupReceiverListChunk(groupReceiverListKey, byteOffset,
+                    Const.SystemParams.GROUP_RECEIVER_LIST_CHUNK_SIZE);
+            taskQueuer.scheduleAdminEmailsForSending(emailId, getValidEmails(chunk.getEmails()),
+                                                     adminEmail.getSubject(), adminEmail.getContentValue());
+            byteOffset = chunk.getNextOffset();
+
+            if (!chunk.isLastChunk() && isNearDeadline()) {
+                taskQueuer.scheduleAdminEmailPreparationInGroupMode(emailId, groupReceiverListFileKey, byteOffset);
+                log.info("Adding group mail tasks for mail with id " + emailId
+                         + " have been paused with byte offset: " + byteOffset);
+                return;
             }
-            indexOfLastEmailList = i;
-        }
+        } while (!chunk.isLastChunk());
 
         log.info("Adding group mail tasks for mail with id " + emailId
-                 + "was complete with last reached list index: " + indexOfLastEmailList
-                 + " and last reached email index: " + indexOfLastEmail);
+                 + " was complete with last reached byte offset: " + byteOffset);
+    }
+
+    /**
+     * Returns the valid email addresses of a chunk. The receiver list is validated when it is uploaded and
+     * when the email is sent, so any invalid address left is only logged and skipped.
+     */
+    private List<String> getValidEmails(List<String> emails) {
+        FieldValidator validator = new FieldValidator();
+        List<String> validEmails = new ArrayList<>();
+        for (String email : emails) {
+            if (validator.getInvalidityInfoForEmail(email).isEmpty()) {
+                validEmails.add(email);
+            } else {
+                log.warning("Skipped invalid email address in group receiver list: " + email);
+            }
+        }
+        return validEmails;
     }
 
 }
@@ -1,15 +1,20 @@
 package teammates.ui.automated;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import teammates.common.datatransfer.attributes.AdminEmailAttributes;
 import teammates.common.exception.TeammatesException;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.EmailSendingResult;
 import teammates.common.util.EmailWrapper;
 import teammates.common.util.Logger;
 import teammates.logic.api.EmailGenerator;
 
 /**
- * Task queue worker action: sends queued admin email.
+ * Task queue worker action: sends queued admin email to a group of receivers,
+ * in as few calls to the email service as it allows.
  */
 public class AdminSendEmailWorkerAction extends AutomatedAction {
 
@@ -27,8 +32,7 @@ public class AdminSendEmailWorkerAction extends AutomatedAction {
 
     @Override
     public void execute() {
-        String receiverEmail = getRequestParamValue(ParamsNames.ADMIN_EMAIL_RECEIVER);
-        Assumption.assertPostParamNotNull(ParamsNames.ADMIN_EMAIL_RECEIVER, receiverEmail);
+        String[] receiverEmails = getNonNullRequestParamValues(ParamsNames.ADMIN_EMAIL_RECEIVER);
 
         String emailContent = getRequestParamValue(ParamsNames.ADMIN_EMAIL_CONTENT);
         String emailSubject = getRequestParamValue(ParamsNames.ADMIN_EMAIL_SUBJECT);
@@ -49,10 +53,24 @@ public class AdminSendEmailWorkerAction extends AutomatedAction {
         Assumption.assertNotNull(emailSubject);
 
         try {
-            EmailWrapper email =
-                    new EmailGenerator().generateAdminEmail(emailContent, emailSubject, receiverEmail);
-            emailSender.sendEmail(email);
-            log.info("Email sent to " + receiverEmail);
+            EmailGenerator emailGenerator = new EmailGenerator();
+            List<EmailWrapper> emails = new ArrayList<>();
+            for (String receiverEmail : receiverEmails) {
+                emails.add(emailGenerator.generateAdminEmail(emailContent, emailSubject, receiverEmail));
+            }
+
+            // each result is logged by the email sender
+            int numberOfEmailsSent = 0;
+            for (EmailSendingResult result : emailSender.sendEmails(emails)) {
+                if (result.isSuccessful()) {
+                    numberOfEmailsSent++;
+                }
+            }
+            if (numberOfEmailsSent < emails.size()) {
+                log.severe("Admin email failed to be sent to " + (emails.size() - numberOfEmailsSent)
+                           + " of " + emails.size() + " receivers");
+            }
+            log.info("Email sent to " + numberOfEmailsSent + " receivers");
         } catch (Exception e) {
             log.severe("Unexpected error while sending admin emails: " + TeammatesException.toStringWithStackTrace(e));
         }
@@ -26,19 +26,29 @@ public class AutomatedActionFactory {
         map(ActionURIs.AUTOMATED_FEEDBACK_CLOSED_REMINDERS, FeedbackSessionClosedRemindersAction.class);
         map(ActionURIs.AUTOMATED_FEEDBACK_CLOSING_REMINDERS, FeedbackSessionClosingRemindersAction.class);
         map(ActionURIs.AUTOMATED_FEEDBACK_PUBLISHED_REMINDERS, FeedbackSessionPublishedRemindersAction.class);
+        map(ActionURIs.AUTOMATED_FEEDBACK_RESPONSE_RATE_RECONCILIATION,
+                FeedbackSessionResponseRateReconciliationAction.class);
+        map(ActionURIs.AUTOMATED_COURSE_DELETION_RESUMPTION, CourseDeletionResumptionAction.class);
 
         // Task queue workers
         map(TaskQueue.ADMIN_PREPARE_EMAIL_ADDRESS_MODE_WORKER_URL, AdminPrepareEmailAddressModeWorkerAction.class);
         map(TaskQueue.ADMIN_PREPARE_EMAIL_GROUP_MODE_WORKER_URL, AdminPrepareEmailGroupModeWorkerAction.class);
         map(TaskQueue.ADMIN_SEND_EMAIL_WORKER_URL, AdminSendEmailWorkerAction.class);
+        map(TaskQueue.COURSE_DELETION_WORKER_URL, CourseDeletionWorkerAction.class);
         map(TaskQueue.FEEDBACK_RESPONSE_ADJUSTMENT_WORKER_URL, FeedbackResponseAdjustmentWorkerAction.class);
+        map(TaskQueue.FEEDBACK_RESPONSE_EMAIL_UPDATE_WORKER_URL, FeedbackResponseEmailUpdateWorkerAction.class);
+        map(TaskQueue.FEEDBACK_SESSION_EMAIL_FAN_OUT_WORKER_URL, FeedbackSessionEmailFanOutWorkerAction.class);
+        map(TaskQueue.FEEDBACK_SESSION_EMAIL_SHARD_WORKER_URL, FeedbackSessionEmailShardWorkerAction.class);
         map(TaskQueue.FEEDBACK_SESSION_PUBLISHED_EMAIL_WORKER_URL, FeedbackSessionPublishedEmailWorkerAction.class);
         map(TaskQueue.FEEDBACK_SESSION_REMIND_EMAIL_WORKER_URL, FeedbackSessionRemindEmailWorkerAction.class);
         map(TaskQueue.FEEDBACK_SESSION_REMIND_PARTICULAR_USERS_EMAIL_WORKER_URL,
                 FeedbackSessionRemindParticularUsersEmailWorkerAction.class);
+        map(TaskQueue.FEEDBACK_SESSION_RESPONSE_RATE_REFRESH_WORKER_URL,
+                FeedbackSessionResponseRateRefreshWorkerAction.class);
         map(TaskQueue.FEEDBACK_SESSION_UNPUBLISHED_EMAIL_WORKER_URL, FeedbackSessionUnpublishedEmailWorkerAction.class);
         map(TaskQueue.FEEDBACK_SESSION_UPDATE_RESPONDENT_WORKER_URL, FeedbackSessionUpdateRespondentWorkerAction.class);
         map(TaskQueue.INSTRUCTOR_COURSE_JOIN_EMAIL_WORKER_URL, InstructorCourseJoinEmailWorkerAction.class);
+        map(TaskQueue.SEARCH_DOCUMENTS_UPDATE_WORKER_URL, SearchDocumentsUpdateWorkerAction.class);
         map(TaskQueue.SEND_EMAIL_WORKER_URL, SendEmailWorkerAction.class);
         map(TaskQueue.STUDENT_COURSE_JOIN_EMAIL_WORKER_URL, StudentCourseJoinEmailWorkerAction.class);
     }
@@ -0,0 +1,40 @@
+package teammates.ui.automated;
+
+import java.util.List;
+
+import teammates.common.datatransfer.CourseDeletionProgress;
+import teammates.common.util.Logger;
+
+/**
+ * Cron job: restarts the deletion of the courses that are still marked for deletion.
+ *
+ * <p>A deletion task that keeps failing is given up after the retry limit of its queue, leaving its course
+ * hidden and half-deleted with the course ID taken. The deletion is restarted from the first stage, as the
+ * batches that are already done find nothing more to delete. If the deletion of a course is still running,
+ * the two runs only delete the same entities by key, and neither touches a new course that takes the ID later.
+ */
+public class CourseDeletionResumptionAction extends AutomatedAction {
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    protected String getActionDescription() {
+        return "resume course deletions";
+    }
+
+    @Override
+    protected String getActionMessage() {
+        return "Resuming the deletion of courses marked for deletion.";
+    }
+
+    @Override
+    public void execute() {
+        List<String> courseIds = logic.getIdsOfCoursesMarkedForDeletion();
+
+        for (String courseId : courseIds) {
+            log.info("Resuming the deletion of course " + courseId);
+            taskQueuer.scheduleCourseDeletion(courseId, CourseDeletionProgress.start());
+        }
+    }
+
+}
@@ -0,0 +1,45 @@
+package teammates.ui.automated;
+
+import teammates.common.datatransfer.CourseDeletionProgress;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.Logger;
+
+/**
+ * Task queue worker action: deletes one batch of the data of a course that is marked for deletion,
+ * and schedules the next batch if there are more.
+ *
+ * <p>Every batch continues from the stage and cursor reached by the previous one. The entities of a batch
+ * are deleted by key, so a retried task only deletes again the entities that are already gone.
+ */
+public class CourseDeletionWorkerAction extends AutomatedAction {
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    protected String getActionDescription() {
+        return null;
+    }
+
+    @Override
+    protected String getActionMessage() {
+        return null;
+    }
+
+    @Override
+    public void execute() {
+        String courseId = getNonNullRequestParamValue(ParamsNames.COURSE_ID);
+        String stage = getNonNullRequestParamValue(ParamsNames.COURSE_DELETION_STAGE);
+        String cursor = getRequestParamValue(ParamsNames.COURSE_DELETION_CURSOR);
+
+        CourseDeletionProgress progress =
+                new CourseDeletionProgress(CourseDeletionProgress.Stage.valueOf(stage), cursor);
+        CourseDeletionProgress nextProgress = logic.deleteCourseCascadeBatch(courseId, progress);
+
+        if (nextProgress == null) {
+            log.info("Deleted course " + courseId);
+        } else {
+            taskQueuer.scheduleCourseDeletion(courseId, nextProgress);
+        }
+    }
+
+}
@@ -6,7 +6,6 @@ import java.util.Map;
 import com.google.gson.reflect.TypeToken;
 
 import teammates.common.datatransfer.StudentEnrollDetails;
-import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const.ParamsNames;
@@ -56,23 +55,18 @@ public class FeedbackResponseAdjustmentWorkerAction extends AutomatedAction {
             return;
         }
 
-        List<FeedbackResponseAttributes> allResponses =
-                logic.getFeedbackResponsesForSession(feedbackSession.getFeedbackSessionName(),
-                                                     feedbackSession.getCourseId());
         List<StudentEnrollDetails> enrollmentList =
                 JsonUtils.fromJson(enrollmentDetails, new TypeToken<List<StudentEnrollDetails>>(){}.getType());
-        for (FeedbackResponseAttributes response : allResponses) {
-            try {
-                logic.adjustFeedbackResponseForEnrollments(enrollmentList, response);
-            } catch (Exception e) {
-                String url = HttpRequestHelper.getRequestedUrl(request);
-                Map<String, String[]> params = HttpRequestHelper.getParameterMap(request);
-                // no logged-in user for worker
-                String logMessage = new LogMessageGenerator().generateActionFailureLogMessage(url, params, e, null);
-                log.severe(String.format(errorString, sessionName, courseId, e.getMessage(), logMessage));
-                setForRetry();
-                return;
-            }
+        try {
+            logic.adjustFeedbackResponsesForEnrollments(enrollmentList, feedbackSession.getFeedbackSessionName(),
+                                                        feedbackSession.getCourseId());
+        } catch (Exception e) {
+            String url = HttpRequestHelper.getRequestedUrl(request);
+            Map<String, String[]> params = HttpRequestHelper.getParameterMap(request);
+            // no logged-in user for worker
+            String logMessage = new LogMessageGenerator().generateActionFailureLogMessage(url, params, e, null);
+            log.severe(String.format(errorString, sessionName, courseId, e.getMessage(), logMessage));
+            setForRetry();
         }
     }
 
@@ -0,0 +1,57 @@
+package teammates.ui.automated;
+
+import teammates.common.exception.EntityDoesNotExistException;
+import teammates.common.exception.InvalidParametersException;
+import teammates.common.exception.TeammatesException;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.Logger;
+
+/**
+ * Task queue worker action: moves one batch of the responses given by or to a student to the student's new email,
+ * and schedules the next batch if there are more.
+ *
+ * <p>Moved responses no longer match the original email, so every task simply continues with the responses
+ * that are left. A retried task does not create the responses that it has already moved again.
+ * The original email stays reserved for the student until the last batch is moved, so that no other student
+ * can take it, and the email of the student cannot be changed again, in the meantime.
+ */
+public class FeedbackResponseEmailUpdateWorkerAction extends AutomatedAction {
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    protected String getActionDescription() {
+        return null;
+    }
+
+    @Override
+    protected String getActionMessage() {
+        return null;
+    }
+
+    @Override
+    public void execute() {
+        String courseId = getNonNullRequestParamValue(ParamsNames.COURSE_ID);
+        String oldEmail = getNonNullRequestParamValue(ParamsNames.STUDENT_EMAIL);
+        String newEmail = getNonNullRequestParamValue(ParamsNames.NEW_STUDENT_EMAIL);
+
+        try {
+            if (logic.updateFeedbackResponsesBatchForChangingEmail(courseId, oldEmail, newEmail)) {
+                taskQueuer.scheduleFeedbackResponseEmailUpdate(courseId, oldEmail, newEmail);
+            } else {
+                log.info("Moved all responses of " + oldEmail + " in course " + courseId + " to " + newEmail);
+            }
+        } catch (InvalidParametersException e) {
+            // retrying does not help as the new email is invalid
+            log.severe("Responses of " + oldEmail + " in course " + courseId + " could not be moved to " + newEmail
+                       + ": " + TeammatesException.toStringWithStackTrace(e));
+        } catch (EntityDoesNotExistException e) {
+            // the task fails so that it is retried, as the responses would otherwise be left under an email
+            // that no student has
+            Assumption.fail("Responses of " + oldEmail + " in course " + courseId + " could not be moved to "
+                            + newEmail + ": " + TeammatesException.toStringWithStackTrace(e));
+        }
+    }
+
+}
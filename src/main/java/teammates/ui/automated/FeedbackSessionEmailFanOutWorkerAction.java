@@ -0,0 +1,89 @@
+package teammates.ui.automated;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.EmailType;
+import teammates.common.util.Logger;
+import teammates.logic.api.EmailGenerator;
+
+/**
+ * Task queue worker action: splits the recipients of the emails of a feedback session into shards
+ * and schedules a task to render and queue the emails of each shard.
+ *
+ * <p>A retried task splits the recipients as they are at the time of the retry, so after a change to the
+ * course roster the same shard index can refer to different recipients. This does not matter, as the shards
+ * do not record their progress by index: the email to a recipient is queued at most once per fan-out,
+ * so every current recipient is emailed and no recipient is emailed twice.
+ */
+public class FeedbackSessionEmailFanOutWorkerAction extends AutomatedAction {
+
+    /** Maximum number of recipients whose emails are rendered by one shard task. */
+    public static final int MAX_RECIPIENTS_PER_SHARD = 100;
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    protected String getActionDescription() {
+        return null;
+    }
+
+    @Override
+    protected String getActionMessage() {
+        return null;
+    }
+
+    @Override
+    public void execute() {
+        String courseId = getNonNullRequestParamValue(ParamsNames.EMAIL_COURSE);
+        String feedbackSessionName = getNonNullRequestParamValue(ParamsNames.EMAIL_FEEDBACK);
+        EmailType emailType = EmailType.valueOf(getNonNullRequestParamValue(ParamsNames.EMAIL_TYPE));
+        String runId = getNonNullRequestParamValue(ParamsNames.EMAIL_RUN_ID);
+
+        FeedbackSessionAttributes session = logic.getFeedbackSession(feedbackSessionName, courseId);
+        if (session == null) {
+            log.severe("Feedback session object for feedback session name: " + feedbackSessionName
+                       + " for course: " + courseId + " could not be fetched.");
+            return;
+        }
+
+        EmailGenerator emailGenerator = new EmailGenerator();
+        List<String> recipientStudents = new ArrayList<>();
+        for (StudentAttributes student : emailGenerator.getFeedbackSessionEmailStudentRecipients(session, emailType)) {
+            recipientStudents.add(student.email);
+        }
+        List<String> recipientInstructors = new ArrayList<>();
+        for (InstructorAttributes instructor
+                : emailGenerator.getFeedbackSessionEmailInstructorRecipients(session, emailType)) {
+            recipientInstructors.add(instructor.email);
+        }
+
+        int numberOfRecipients = recipientStudents.size() + recipientInstructors.size();
+        int shardIndex = 0;
+        for (int from = 0; from < numberOfRecipients; from += MAX_RECIPIENTS_PER_SHARD) {
+            int to = Math.min(from + MAX_RECIPIENTS_PER_SHARD, numberOfRecipients);
+            // the shard offset lets the shard delay its emails by their positions in the whole fan-out,
+            // so that the emails of all shards together are spread out over the sending period
+            taskQueuer.scheduleFeedbackSessionEmailShard(courseId, feedbackSessionName, emailType, runId,
+                    numberOfRecipients, shardIndex, from, getShard(recipientStudents, from, to),
+                    getShard(recipientInstructors, from - recipientStudents.size(), to - recipientStudents.size()));
+            shardIndex++;
+        }
+        log.info("Split " + numberOfRecipients + " " + emailType + " emails for " + courseId + "/"
+                 + feedbackSessionName + " into " + shardIndex + " shards");
+    }
+
+    /**
+     * Returns the elements of {@code list} within the range {@code [from, to)}, clipped to the bounds of the list.
+     */
+    private List<String> getShard(List<String> list, int from, int to) {
+        int clippedFrom = Math.max(0, Math.min(from, list.size()));
+        int clippedTo = Math.max(0, Math.min(to, list.size()));
+        return new ArrayList<>(list.subList(clippedFrom, clippedTo));
+    }
+
+}
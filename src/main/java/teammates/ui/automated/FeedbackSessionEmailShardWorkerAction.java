@@ -0,0 +1,82 @@
+package teammates.ui.automated;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.gson.reflect.TypeToken;
+
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.EmailType;
+import teammates.common.util.EmailWrapper;
+import teammates.common.util.JsonUtils;
+import teammates.common.util.Logger;
+import teammates.logic.api.EmailGenerator;
+
+/**
+ * Task queue worker action: renders the emails of a feedback session for one shard of its recipients
+ * and queues them for sending.
+ *
+ * <p>The emails are sent one per task by the send-email queue, which limits the sending rate and retries
+ * each email on its own. The send-email tasks are named after the fan-out and the recipient, so that
+ * a retried task, or a shard of a retried fan-out, does not queue an email to the same recipient again.
+ * The emails are delayed by their positions in the whole fan-out, so that the emails of all shards
+ * are spread out over the sending period together.
+ */
+public class FeedbackSessionEmailShardWorkerAction extends AutomatedAction {
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    protected String getActionDescription() {
+        return null;
+    }
+
+    @Override
+    protected String getActionMessage() {
+        return null;
+    }
+
+    @Override
+    public void execute() {
+        String courseId = getNonNullRequestParamValue(ParamsNames.EMAIL_COURSE);
+        String feedbackSessionName = getNonNullRequestParamValue(ParamsNames.EMAIL_FEEDBACK);
+        EmailType emailType = EmailType.valueOf(getNonNullRequestParamValue(ParamsNames.EMAIL_TYPE));
+        String runId = getNonNullRequestParamValue(ParamsNames.EMAIL_RUN_ID);
+        int runSize = Integer.parseInt(getNonNullRequestParamValue(ParamsNames.EMAIL_RUN_SIZE));
+        int shardIndex = Integer.parseInt(getNonNullRequestParamValue(ParamsNames.EMAIL_SHARD_INDEX));
+        int shardOffset = Integer.parseInt(getNonNullRequestParamValue(ParamsNames.EMAIL_SHARD_OFFSET));
+        List<String> studentEmails = JsonUtils.fromJson(
+                getNonNullRequestParamValue(ParamsNames.EMAIL_SHARD_STUDENTS),
+                new TypeToken<ArrayList<String>>(){}.getType());
+        List<String> instructorEmails = JsonUtils.fromJson(
+                getNonNullRequestParamValue(ParamsNames.EMAIL_SHARD_INSTRUCTORS),
+                new TypeToken<ArrayList<String>>(){}.getType());
+
+        FeedbackSessionAttributes session = logic.getFeedbackSession(feedbackSessionName, courseId);
+        if (session == null) {
+            log.severe("Feedback session object for feedback session name: " + feedbackSessionName
+                       + " for course: " + courseId + " could not be fetched.");
+            return;
+        }
+
+        List<StudentAttributes> students = logic.getStudentsForEmails(courseId, studentEmails);
+        List<InstructorAttributes> instructors = logic.getInstructorsForEmails(courseId, instructorEmails);
+
+        // students and instructors are queued separately, as the same person can be both
+        EmailGenerator emailGenerator = new EmailGenerator();
+        List<EmailWrapper> studentEmailsToSend = emailGenerator.generateFeedbackSessionEmails(
+                session, emailType, students, new ArrayList<InstructorAttributes>());
+        taskQueuer.scheduleEmailsForSendingOnce(studentEmailsToSend, runId + "-s", shardOffset, runSize);
+        List<EmailWrapper> instructorEmailsToSend = emailGenerator.generateFeedbackSessionEmails(
+                session, emailType, new ArrayList<StudentAttributes>(), instructors);
+        taskQueuer.scheduleEmailsForSendingOnce(instructorEmailsToSend, runId + "-i",
+                shardOffset + studentEmails.size(), runSize);
+
+        log.info("Queued " + (studentEmailsToSend.size() + instructorEmailsToSend.size()) + " " + emailType
+                 + " emails of shard " + shardIndex + " for " + courseId + "/" + feedbackSessionName);
+    }
+
+}
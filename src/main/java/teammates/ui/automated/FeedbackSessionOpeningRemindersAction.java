@@ -4,9 +4,8 @@ import java.util.List;
 
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.exception.TeammatesException;
-import teammates.common.util.EmailWrapper;
+import teammates.common.util.EmailType;
 import teammates.common.util.Logger;
-import teammates.logic.api.EmailGenerator;
 
 /**
  * Cron job: schedules feedback session opening emails to be sent.
@@ -30,9 +29,9 @@ public class FeedbackSessionOpeningRemindersAction extends AutomatedAction {
         List<FeedbackSessionAttributes> sessions = logic.getFeedbackSessionsWhichNeedOpenEmailsToBeSent();
 
         for (FeedbackSessionAttributes session : sessions) {
-            List<EmailWrapper> emailsToBeSent = new EmailGenerator().generateFeedbackSessionOpeningEmails(session);
             try {
-                taskQueuer.scheduleEmailsForSending(emailsToBeSent);
+                taskQueuer.scheduleFeedbackSessionEmailFanOut(session.getCourseId(), session.getFeedbackSessionName(),
+                        EmailType.FEEDBACK_OPENING);
                 session.setSentOpenEmail(true);
                 logic.updateFeedbackSession(session);
             } catch (Exception e) {
@@ -1,14 +1,11 @@
 package teammates.ui.automated;
 
-import java.util.List;
-
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.exception.TeammatesException;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const.ParamsNames;
-import teammates.common.util.EmailWrapper;
+import teammates.common.util.EmailType;
 import teammates.common.util.Logger;
-import teammates.logic.api.EmailGenerator;
 
 /**
  * Task queue worker action: prepares session published reminder for a particular session to be sent.
@@ -41,10 +38,8 @@ public class FeedbackSessionPublishedEmailWorkerAction extends AutomatedAction {
                        + " for course: " + courseId + " could not be fetched.");
             return;
         }
-        List<EmailWrapper> emailsToBeSent =
-                new EmailGenerator().generateFeedbackSessionPublishedEmails(session);
         try {
-            taskQueuer.scheduleEmailsForSending(emailsToBeSent);
+            taskQueuer.scheduleFeedbackSessionEmailFanOut(courseId, feedbackSessionName, EmailType.FEEDBACK_PUBLISHED);
             session.setSentPublishedEmail(true);
             logic.updateFeedbackSession(session);
         } catch (Exception e) {
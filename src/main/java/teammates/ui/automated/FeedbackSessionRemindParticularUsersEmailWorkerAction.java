@@ -1,7 +1,10 @@
 package teammates.ui.automated;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
@@ -43,14 +46,15 @@ public class FeedbackSessionRemindParticularUsersEmailWorkerAction extends Autom
             InstructorAttributes instructorToNotify =
                     logic.getInstructorForGoogleId(courseId, googleIdOfInstructorToNotify);
 
-            for (String userEmail : usersToRemind) {
-                StudentAttributes student = logic.getStudentForEmail(courseId, userEmail);
-                if (student != null) {
+            // look up the users in the course roster read once, rather than reading each user separately
+            Set<String> userEmailsToRemind = new HashSet<>(Arrays.asList(usersToRemind));
+            for (StudentAttributes student : logic.getStudentsForCourse(courseId)) {
+                if (userEmailsToRemind.contains(student.email)) {
                     studentsToRemindList.add(student);
                 }
-
-                InstructorAttributes instructor = logic.getInstructorForEmail(courseId, userEmail);
-                if (instructor != null) {
+            }
+            for (InstructorAttributes instructor : logic.getInstructorsForCourse(courseId)) {
+                if (userEmailsToRemind.contains(instructor.email)) {
                     instructorsToRemindList.add(instructor);
                 }
             }
@@ -0,0 +1,29 @@
+package teammates.ui.automated;
+
+import java.util.List;
+
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+
+/**
+ * Cron job: schedules the stored response rate counters of open and recently closed feedback sessions
+ * to be recomputed, one task per session.
+ */
+public class FeedbackSessionResponseRateReconciliationAction extends AutomatedAction {
+
+    @Override
+    protected String getActionDescription() {
+        return "reconcile response rates";
+    }
+
+    @Override
+    protected String getActionMessage() {
+        return "Reconciling response rate counters of feedback sessions.";
+    }
+
+    @Override
+    public void execute() {
+        List<FeedbackSessionAttributes> sessions = logic.getFeedbackSessionsForResponseRateReconciliation();
+        taskQueuer.scheduleFeedbackSessionResponseRateRefreshes(sessions);
+    }
+
+}
@@ -0,0 +1,41 @@
+package teammates.ui.automated;
+
+import teammates.common.exception.EntityDoesNotExistException;
+import teammates.common.exception.TeammatesException;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.Logger;
+
+/**
+ * Task queue worker action: recomputes and stores the expected respondent count of a feedback session.
+ */
+public class FeedbackSessionResponseRateRefreshWorkerAction extends AutomatedAction {
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    protected String getActionDescription() {
+        return null;
+    }
+
+    @Override
+    protected String getActionMessage() {
+        return null;
+    }
+
+    @Override
+    public void execute() {
+        String courseId = getRequestParamValue(ParamsNames.COURSE_ID);
+        Assumption.assertPostParamNotNull(ParamsNames.COURSE_ID, courseId);
+        String feedbackSessionName = getRequestParamValue(ParamsNames.FEEDBACK_SESSION_NAME);
+        Assumption.assertPostParamNotNull(ParamsNames.FEEDBACK_SESSION_NAME, feedbackSessionName);
+
+        try {
+            logic.refreshExpectedRespondentCount(feedbackSessionName, courseId);
+        } catch (EntityDoesNotExistException e) {
+            // the session has been deleted since the task was scheduled; there is nothing to retry
+            log.warning(TeammatesException.toStringWithStackTrace(e));
+        }
+    }
+
+}
@@ -0,0 +1,32 @@
+package teammates.ui.automated;
+
+import teammates.common.datatransfer.SearchDocumentUpdates;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.JsonUtils;
+
+/**
+ * Task queue worker action: writes a batch of search documents deferred by an earlier request.
+ */
+public class SearchDocumentsUpdateWorkerAction extends AutomatedAction {
+
+    @Override
+    protected String getActionDescription() {
+        return null;
+    }
+
+    @Override
+    protected String getActionMessage() {
+        return null;
+    }
+
+    @Override
+    public void execute() {
+        String updatesJson = getRequestParamValue(ParamsNames.SEARCH_DOCUMENT_UPDATES);
+        Assumption.assertPostParamNotNull(ParamsNames.SEARCH_DOCUMENT_UPDATES, updatesJson);
+
+        SearchDocumentUpdates updates = JsonUtils.fromJson(updatesJson, SearchDocumentUpdates.class);
+        logic.writeSearchDocuments(updates);
+    }
+
+}
@@ -1,5 +1,6 @@
 package teammates.ui.controller;
 
+import java.io.IOException;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
@@ -50,7 +51,10 @@ public class AdminEmailComposeSendAction extends Action {
         if (isGroupModeOn) {
             try {
                 groupReceiver.add(groupReceiverListFileKey);
-                GoogleCloudStorageHelper.getGroupReceiverList(new BlobKey(groupReceiverListFileKey));
+                checkGroupReceiverListFile(groupReceiverListFileKey);
+            } catch (InvalidParametersException e) {
+                isError = true;
+                setStatusForException(e);
             } catch (Exception e) {
                 isError = true;
                 setStatusForException(e, "An error occurred when retrieving receiver list, please try again");
@@ -115,11 +119,25 @@ public class AdminEmailComposeSendAction extends Action {
 
     }
 
+    private void checkGroupReceiverListFile(String groupReceiverListFileKey)
+            throws IOException, InvalidParametersException {
+        // all chunks of the file are checked, as the emails are prepared from every chunk
+        List<String> invalidEmails =
+                GoogleCloudStorageHelper.getInvalidGroupReceiverEmails(new BlobKey(groupReceiverListFileKey));
+        if (!invalidEmails.isEmpty()) {
+            FieldValidator validator = new FieldValidator();
+            statusToUser.add(new StatusMessage(validator.getInvalidityInfoForEmail(invalidEmails.get(0)),
+                                               StatusMessageColor.DANGER));
+            throw new InvalidParametersException("<strong>Email Format Error</strong> in " + invalidEmails.size()
+                                                 + " addresses of the group receiver list");
+        }
+    }
+
     private void moveJobToGroupModeTaskQueue() {
         if (!isGroupModeOn) {
             return;
         }
-        taskQueuer.scheduleAdminEmailPreparationInGroupMode(emailId, groupReceiverListFileKey, 0, 0);
+        taskQueuer.scheduleAdminEmailPreparationInGroupMode(emailId, groupReceiverListFileKey, 0);
 
         statusToAdmin += "<br/>" + "Group receiver's list " + groupReceiverListFileKey;
         statusToUser.add(new StatusMessage("Email will be sent within an hour to uploaded group receiver's list.",
@@ -18,6 +18,8 @@ public class AdminEmailGroupReceiverListUploadAction extends Action {
 
     private static final Logger log = Logger.getLogger();
 
+    private static final int MAX_INVALID_EMAILS_SHOWN = 10;
+
     private AdminEmailComposePageData data;
 
     @Override
@@ -37,19 +39,11 @@ public class AdminEmailGroupReceiverListUploadAction extends Action {
             return createAjaxResult(data);
         }
 
+        List<String> invalidEmails;
         try {
-            List<List<String>> groupReceiverList =
-                    GoogleCloudStorageHelper.getGroupReceiverList(blobInfo.getBlobKey());
-
-            // log all email addresses retrieved from the txt file
-            int i = 0;
-
-            for (List<String> list : groupReceiverList) {
-                for (String str : list) {
-                    log.info(str + " - " + i + " \n");
-                    i++;
-                }
-            }
+            // every chunk of the file is read, so that any address that cannot be sent to is reported now
+            // rather than when the emails are prepared
+            invalidEmails = GoogleCloudStorageHelper.getInvalidGroupReceiverEmails(blobInfo.getBlobKey());
         } catch (IOException e) {
             data.isFileUploaded = false;
             data.fileSrcUrl = null;
@@ -63,6 +57,21 @@ public class AdminEmailGroupReceiverListUploadAction extends Action {
             return createAjaxResult(data);
         }
 
+        if (!invalidEmails.isEmpty()) {
+            data.isFileUploaded = false;
+            data.fileSrcUrl = null;
+
+            log.info("Group Receiver List Upload Failed: " + invalidEmails.size() + " invalid email addresses");
+            statusToAdmin = "Group Receiver List Upload Failed: " + invalidEmails.size() + " invalid email addresses";
+            List<String> invalidEmailsShown =
+                    invalidEmails.subList(0, Math.min(invalidEmails.size(), MAX_INVALID_EMAILS_SHOWN));
+            data.ajaxStatus = "Group receiver list upload failed: the txt file contains " + invalidEmails.size()
+                              + " invalid email addresses, e.g. " + String.join(", ", invalidEmailsShown)
+                              + ". Please correct them and upload the file again";
+            deleteGroupReceiverListFile(blobInfo.getBlobKey());
+            return createAjaxResult(data);
+        }
+
         BlobKey blobKey = blobInfo.getBlobKey();
 
         data.groupReceiverListFileKey = blobKey.getKeyString();
@@ -29,6 +29,7 @@ import teammates.common.util.StatusMessageColor;
 import teammates.common.util.TimeHelper;
 import teammates.common.util.Url;
 import teammates.logic.api.GateKeeper;
+import teammates.logic.api.Logic;
 
 /**
  * Receives requests from the Browser, executes the matching action and sends
@@ -59,6 +60,10 @@ public class ControllerServlet extends HttpServlet {
         String url = HttpRequestHelper.getRequestedUrl(req);
         Map<String, String[]> params = HttpRequestHelper.getParameterMap(req);
 
+        // data cached for this request (e.g. course rosters) must not outlive it
+        Logic logic = new Logic();
+        logic.startRequestScope();
+
         try {
             /* We are using the Template Method Design Pattern here.
              * This method contains the high level logic of the request processing.
@@ -154,6 +159,8 @@ public class ControllerServlet extends HttpServlet {
                         + TeammatesException.toStringWithStackTrace(t));
             cleanUpStatusMessageInSession(req);
             resp.sendRedirect(appendParamsToErrorPageUrl(Const.ViewURIs.ERROR_PAGE, params, url));
+        } finally {
+            logic.endRequestScope();
         }
 
     }
@@ -19,7 +19,6 @@ import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
 import teammates.common.datatransfer.questions.FeedbackQuestionType;
 import teammates.common.datatransfer.questions.FeedbackResponseDetails;
 import teammates.common.exception.EmailSendingException;
-import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.exception.TeammatesException;
@@ -275,20 +274,23 @@ public abstract class FeedbackSubmissionEditSaveAction extends Action {
     }
 
     private void deleteResponses(List<FeedbackResponseAttributes> responsesToDelete) {
-        for (FeedbackResponseAttributes response : responsesToDelete) {
-            logic.deleteFeedbackResponse(response);
+        if (responsesToDelete.isEmpty()) {
+            return;
         }
+        logic.deleteFeedbackResponses(responsesToDelete);
     }
 
     private void updateResponses(List<FeedbackResponseAttributes> responsesToUpdate)
             throws EntityDoesNotExistException {
-        for (FeedbackResponseAttributes response : responsesToUpdate) {
-            try {
-                logic.updateFeedbackResponse(response);
-                hasValidResponse = true;
-            } catch (EntityAlreadyExistsException | InvalidParametersException e) {
-                setStatusForException(e);
-            }
+        if (responsesToUpdate.isEmpty()) {
+            return;
+        }
+        List<TeammatesException> exceptions = logic.updateFeedbackResponses(responsesToUpdate);
+        for (TeammatesException e : exceptions) {
+            setStatusForException(e);
+        }
+        if (exceptions.size() < responsesToUpdate.size()) {
+            hasValidResponse = true;
         }
     }
 
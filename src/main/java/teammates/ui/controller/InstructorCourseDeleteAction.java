@@ -1,5 +1,6 @@
 package teammates.ui.controller;
 
+import teammates.common.datatransfer.CourseDeletionProgress;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const;
 import teammates.common.util.StatusMessage;
@@ -20,8 +21,9 @@ public class InstructorCourseDeleteAction extends Action {
                                     logic.getCourse(idOfCourseToDelete),
                                     Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_COURSE);
 
-        /* Delete the course and setup status to be shown to user and admin */
-        logic.deleteCourse(idOfCourseToDelete);
+        /* Hide the course, delete its data in the background and setup status to be shown to user and admin */
+        logic.markCourseForDeletion(idOfCourseToDelete);
+        taskQueuer.scheduleCourseDeletion(idOfCourseToDelete, CourseDeletionProgress.start());
         String statusMessage = String.format(Const.StatusMessages.COURSE_DELETED, idOfCourseToDelete);
         statusToUser.add(new StatusMessage(statusMessage, StatusMessageColor.SUCCESS));
         statusToAdmin = "Course deleted: " + idOfCourseToDelete;
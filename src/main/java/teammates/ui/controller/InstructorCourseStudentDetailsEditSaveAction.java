@@ -71,10 +71,12 @@ public class InstructorCourseStudentDetailsEditSaveAction extends Action {
                 logic.validateTeams(Arrays.asList(student), courseId);
             }
 
-            logic.updateStudent(studentEmail, student);
+            // the responses of the student can be too many to be moved to a new email within this request
+            logic.updateStudentWithResponsesEmailChangeDeferred(studentEmail, student);
 
             boolean isSessionSummarySendEmail = getRequestParamAsBoolean(Const.ParamsNames.SESSION_SUMMARY_EMAIL_SEND_CHECK);
             if (isEmailChanged) {
+                taskQueuer.scheduleFeedbackResponseEmailUpdate(courseId, studentEmail, student.email);
                 logic.resetStudentGoogleId(student.email, courseId);
                 if (isSessionSummarySendEmail) {
                     try {
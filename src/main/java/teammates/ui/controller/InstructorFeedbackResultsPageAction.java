@@ -78,6 +78,7 @@ public class InstructorFeedbackResultsPageAction extends Action {
 
         String questionId = getRequestParamValue(Const.ParamsNames.FEEDBACK_QUESTION_ID);
         String isTestingAjax = getRequestParamValue(Const.ParamsNames.FEEDBACK_RESULTS_NEED_AJAX);
+        String cursor = getRequestParamValue(Const.ParamsNames.FEEDBACK_RESULTS_CURSOR);
 
         if (ALL_SECTION_OPTION.equals(selectedSection) && questionId == null
                 && !Const.FeedbackSessionResults.QUESTION_SORT_TYPE.equals(sortType)) {
@@ -93,17 +94,17 @@ public class InstructorFeedbackResultsPageAction extends Action {
         } else if (Const.FeedbackSessionResults.GQR_SORT_TYPE.equals(sortType)
                 || Const.FeedbackSessionResults.GRQ_SORT_TYPE.equals(sortType)) {
             data.setBundle(logic
-                    .getFeedbackSessionResultsForInstructorFromSectionWithinRange(feedbackSessionName, courseId,
-                                                                                  instructor.email,
-                                                                                  selectedSection,
-                                                                                  DEFAULT_SECTION_QUERY_RANGE));
+                    .getFeedbackSessionResultsForInstructorFromSectionPage(feedbackSessionName, courseId,
+                                                                           instructor.email,
+                                                                           selectedSection, cursor,
+                                                                           DEFAULT_SECTION_QUERY_RANGE));
         } else if (Const.FeedbackSessionResults.RQG_SORT_TYPE.equals(sortType)
                 || Const.FeedbackSessionResults.RGQ_SORT_TYPE.equals(sortType)) {
             data.setBundle(logic
-                    .getFeedbackSessionResultsForInstructorToSectionWithinRange(feedbackSessionName, courseId,
-                                                                                instructor.email,
-                                                                                selectedSection,
-                                                                                DEFAULT_SECTION_QUERY_RANGE));
+                    .getFeedbackSessionResultsForInstructorToSectionPage(feedbackSessionName, courseId,
+                                                                         instructor.email,
+                                                                         selectedSection, cursor,
+                                                                         DEFAULT_SECTION_QUERY_RANGE));
         }
 
         if (data.getBundle() == null) {
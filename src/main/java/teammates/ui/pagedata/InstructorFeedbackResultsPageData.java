@@ -232,6 +232,19 @@ public class InstructorFeedbackResultsPageData extends PageData {
             break;
         }
 
+        if (bundle.hasNextPage()) {
+            // shown within the section body, which is all that is kept of the page when the section is loaded by ajax
+            sectionPanels.get(selectedSection).setNextPageLink(getNextPageLink());
+        }
+    }
+
+    private String getNextPageLink() {
+        String link = getInstructorFeedbackSessionResultsLink();
+        link = Url.addParamToUrl(link, Const.ParamsNames.FEEDBACK_RESULTS_GROUPBYSECTION, selectedSection);
+        link = Url.addParamToUrl(link, Const.ParamsNames.FEEDBACK_RESULTS_SORTTYPE, sortType);
+        link = Url.addParamToUrl(link, Const.ParamsNames.FEEDBACK_RESULTS_GROUPBYTEAM, groupByTeam);
+        link = Url.addParamToUrl(link, Const.ParamsNames.FEEDBACK_RESULTS_CURSOR, bundle.getNextCursor());
+        return link;
     }
 
     private void buildSectionPanelForViewByParticipantParticipantQuestion(
@@ -732,6 +745,10 @@ public class InstructorFeedbackResultsPageData extends PageData {
                                                              InstructorFeedbackResultsSectionPanel sectionPanel,
                                                              String teamName, List<String> teamMembers) {
         for (String teamMember : teamMembers) {
+            if (!bundle.isParticipantOnPage(teamMember)) {
+                // shown with the page of responses that covers the participant
+                continue;
+            }
             InstructorFeedbackResultsModerationButton moderationButton =
                     buildModerationButtonForGiver(null, teamMember, "btn btn-default btn-xs",
                                                   MODERATE_RESPONSES_FOR_GIVER);
@@ -762,6 +779,10 @@ public class InstructorFeedbackResultsPageData extends PageData {
                                     InstructorFeedbackResultsSectionPanel sectionPanel,
                                     String teamName, List<String> teamMembers) {
         for (String teamMember : teamMembers) {
+            if (!bundle.isParticipantOnPage(teamMember)) {
+                // shown with the page of responses that covers the participant
+                continue;
+            }
 
             InstructorFeedbackResultsParticipantPanel giverPanel;
 
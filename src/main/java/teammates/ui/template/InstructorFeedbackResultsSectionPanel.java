@@ -17,6 +17,9 @@ public class InstructorFeedbackResultsSectionPanel {
     private String sectionName;
     private String sectionNameForDisplay;
 
+    // link to the next page of responses of the section, null if all the responses are shown
+    private String nextPageLink;
+
     private String statisticsHeaderText;
     private String detailedResponsesHeaderText;
 
@@ -161,6 +164,14 @@ public class InstructorFeedbackResultsSectionPanel {
         this.isAbleToLoadResponses = isUnableToLoadResponses;
     }
 
+    public String getNextPageLink() {
+        return nextPageLink;
+    }
+
+    public void setNextPageLink(String nextPageLink) {
+        this.nextPageLink = nextPageLink;
+    }
+
     public List<InstructorFeedbackResultsParticipantPanel> getParticipantPanelsInSortedOrder() {
         List<InstructorFeedbackResultsParticipantPanel> sortedPanels = new ArrayList<>();
         for (Collection<InstructorFeedbackResultsParticipantPanel> participantsPanels : participantPanels.values()) {
@@ -50,6 +50,10 @@ public class InstructorCourseDeleteActionTest extends BaseActionTest {
         assertFalse(redirectResult.isError);
         assertEquals("The course idOfTypicalCourse1 has been deleted.", redirectResult.getStatusMessage());
 
+        // the course is hidden right away while its data is deleted in the background
+        assertNull(CoursesLogic.inst().getCourse(instructor1OfCourse1.courseId));
+        verifySpecifiedTasksAdded(deleteAction, Const.TaskQueue.COURSE_DELETION_QUEUE_NAME, 1);
+
         List<CourseAttributes> courseList = CoursesLogic.inst().getCoursesForInstructor(instructorId);
         assertEquals(1, courseList.size());
         assertEquals("icdct.tpa.id1", courseList.get(0).getId());
@@ -136,6 +140,8 @@ public class InstructorCourseDeleteActionTest extends BaseActionTest {
         verifyAccessibleForInstructorsOfTheSameCourse(submissionParams);
 
         /* Test access for admin in masquerade mode */
+        // the action only hides the course, so its deletion is completed before the course ID is taken again
+        CoursesLogic.inst().deleteCourseCascade("icdat.owncourse");
         CoursesLogic.inst().createCourseAndInstructor(
                 typicalBundle.instructors.get("instructor1OfCourse1").googleId,
                 "icdat.owncourse", "New course", "UTC");
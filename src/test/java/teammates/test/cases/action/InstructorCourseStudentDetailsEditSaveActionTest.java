@@ -12,6 +12,7 @@ import teammates.common.util.FieldValidator;
 import teammates.common.util.Url;
 import teammates.logic.core.AccountsLogic;
 import teammates.logic.core.CoursesLogic;
+import teammates.logic.core.StudentsLogic;
 import teammates.test.driver.AssertHelper;
 import teammates.test.driver.StringHelperExtension;
 import teammates.ui.controller.InstructorCourseStudentDetailsEditSaveAction;
@@ -24,6 +25,7 @@ import teammates.ui.controller.ShowPageResult;
 public class InstructorCourseStudentDetailsEditSaveActionTest extends BaseActionTest {
 
     private static final CoursesLogic coursesLogic = CoursesLogic.inst();
+    private static final StudentsLogic studentsLogic = StudentsLogic.inst();
 
     @Override
     protected String getActionUri() {
@@ -86,6 +88,7 @@ public class InstructorCourseStudentDetailsEditSaveActionTest extends BaseAction
         assertEquals(Const.StatusMessages.STUDENT_EDITED_AND_EMAIL_SENT, r.getStatusMessage());
 
         verifyNumberOfEmailsSent(a, 1);
+        verifySpecifiedTasksAdded(a, Const.TaskQueue.FEEDBACK_RESPONSE_EMAIL_UPDATE_QUEUE_NAME, 1);
 
         EmailWrapper email = getEmailsSent(a).get(0);
         String courseName = coursesLogic.getCourse(instructor1OfCourse1.courseId).getName();
@@ -191,11 +194,35 @@ public class InstructorCourseStudentDetailsEditSaveActionTest extends BaseAction
 
         AssertHelper.assertLogMessageEquals(expectedLogMessage, a.getLogMessage());
 
-        ______TS("Error case, invalid email parameter (email already taken by others)");
+        ______TS("Error case, email changed again before the responses are moved to the new email");
 
         StudentAttributes student2InCourse1 = typicalBundle.students.get("student2InCourse1");
         String takenStudentEmail = student2InCourse1.email;
 
+        submissionParams = new String[] {
+                Const.ParamsNames.COURSE_ID, instructor1OfCourse1.courseId,
+                Const.ParamsNames.STUDENT_EMAIL, newStudentEmail,
+                Const.ParamsNames.STUDENT_NAME, student1InCourse1.name,
+                Const.ParamsNames.NEW_STUDENT_EMAIL, takenStudentEmail,
+                Const.ParamsNames.COMMENTS, student1InCourse1.comments,
+                Const.ParamsNames.TEAM_NAME, student1InCourse1.team
+        };
+
+        a = getAction(submissionParams);
+        result = getShowPageResult(a);
+
+        assertTrue(result.isError);
+        assertEquals(Const.StatusMessages.STUDENT_EMAIL_CHANGE_IN_PROGRESS, result.getStatusMessage());
+        verifyNoTasksAdded(a);
+
+        // moves the responses as the queued tasks would
+        while (studentsLogic.updateFeedbackResponsesBatchForChangedEmail(
+                instructor1OfCourse1.courseId, student1InCourse1.email, newStudentEmail)) {
+            // continue with the next batch
+        }
+
+        ______TS("Error case, invalid email parameter (email already taken by others)");
+
         submissionParams = new String[] {
                 Const.ParamsNames.COURSE_ID, instructor1OfCourse1.courseId,
                 Const.ParamsNames.STUDENT_EMAIL, newStudentEmail, //Use the new email as the previous email have been changed
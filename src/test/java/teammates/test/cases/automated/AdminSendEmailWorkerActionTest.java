@@ -0,0 +1,69 @@
+package teammates.test.cases.automated;
+
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.EmailWrapper;
+import teammates.ui.automated.AdminSendEmailWorkerAction;
+
+/**
+ * SUT: {@link AdminSendEmailWorkerAction}.
+ */
+public class AdminSendEmailWorkerActionTest extends BaseAutomatedActionTest {
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.ADMIN_SEND_EMAIL_WORKER_URL;
+    }
+
+    @Test
+    public void allTests() {
+
+        ______TS("typical case: the email is sent to every receiver of the task together");
+
+        String[] submissionParams = new String[] {
+                ParamsNames.ADMIN_EMAIL_RECEIVER, "receiver1@example.com",
+                ParamsNames.ADMIN_EMAIL_RECEIVER, "receiver2@example.com",
+                ParamsNames.ADMIN_EMAIL_RECEIVER, "receiver3@example.com",
+                ParamsNames.ADMIN_EMAIL_SUBJECT, "Admin email subject",
+                ParamsNames.ADMIN_EMAIL_CONTENT, "<p>Admin email content</p>"
+        };
+
+        AdminSendEmailWorkerAction action = getAction(submissionParams);
+        action.execute();
+
+        verifyNumberOfEmailsSent(action, 3);
+
+        List<EmailWrapper> emailsSent = action.getEmailSender().getEmailsSent();
+        assertEquals("receiver1@example.com", emailsSent.get(0).getRecipient());
+        assertEquals("receiver2@example.com", emailsSent.get(1).getRecipient());
+        assertEquals("receiver3@example.com", emailsSent.get(2).getRecipient());
+        for (EmailWrapper email : emailsSent) {
+            assertEquals("Admin email subject", email.getSubject());
+            assertEquals("<p>Admin email content</p>", email.getContent());
+        }
+
+        ______TS("one receiver: the email is sent to the receiver");
+
+        submissionParams = new String[] {
+                ParamsNames.ADMIN_EMAIL_RECEIVER, "receiver1@example.com",
+                ParamsNames.ADMIN_EMAIL_SUBJECT, "Admin email subject",
+                ParamsNames.ADMIN_EMAIL_CONTENT, "<p>Admin email content</p>"
+        };
+
+        action = getAction(submissionParams);
+        action.execute();
+
+        verifyNumberOfEmailsSent(action, 1);
+        assertEquals("receiver1@example.com", action.getEmailSender().getEmailsSent().get(0).getRecipient());
+    }
+
+    @Override
+    protected AdminSendEmailWorkerAction getAction(String... params) {
+        return (AdminSendEmailWorkerAction) gaeSimulation.getAutomatedActionObject(getActionUri(), params);
+    }
+
+}
@@ -0,0 +1,67 @@
+package teammates.test.cases.automated;
+
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.CourseDeletionProgress;
+import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.logic.core.CoursesLogic;
+import teammates.ui.automated.CourseDeletionResumptionAction;
+
+/**
+ * SUT: {@link CourseDeletionResumptionAction}.
+ */
+public class CourseDeletionResumptionActionTest extends BaseAutomatedActionTest {
+
+    private static final CoursesLogic coursesLogic = CoursesLogic.inst();
+
+    @Override
+    protected String getActionUri() {
+        return Const.ActionURIs.AUTOMATED_COURSE_DELETION_RESUMPTION;
+    }
+
+    @Test
+    public void allTests() {
+
+        ______TS("default state of typical data bundle: no courses marked for deletion");
+
+        CourseDeletionResumptionAction action = getAction();
+        action.execute();
+
+        verifyNoTasksAdded(action);
+
+        ______TS("1 course marked for deletion: its deletion is restarted from the first stage");
+
+        CourseAttributes course = dataBundle.courses.get("typicalCourse1");
+        coursesLogic.markCourseForDeletion(course.getId());
+
+        action = getAction();
+        action.execute();
+
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.COURSE_DELETION_QUEUE_NAME, 1);
+
+        Map<String, String[]> paramMap = action.getTaskQueuer().getTasksAdded().get(0).getParamMap();
+        assertEquals(course.getId(), paramMap.get(ParamsNames.COURSE_ID)[0]);
+        assertEquals(CourseDeletionProgress.start().getStage().name(),
+                     paramMap.get(ParamsNames.COURSE_DELETION_STAGE)[0]);
+        assertNull(paramMap.get(ParamsNames.COURSE_DELETION_CURSOR));
+
+        ______TS("course completely deleted: nothing to resume");
+
+        coursesLogic.deleteCourseCascade(course.getId());
+
+        action = getAction();
+        action.execute();
+
+        verifyNoTasksAdded(action);
+    }
+
+    @Override
+    protected CourseDeletionResumptionAction getAction(String... params) {
+        return (CourseDeletionResumptionAction) gaeSimulation.getAutomatedActionObject(getActionUri());
+    }
+
+}
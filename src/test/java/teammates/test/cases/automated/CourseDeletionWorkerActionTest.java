@@ -0,0 +1,127 @@
+package teammates.test.cases.automated;
+
+import java.util.List;
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.CourseDeletionProgress;
+import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.exception.EntityAlreadyExistsException;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.TaskWrapper;
+import teammates.logic.core.CoursesLogic;
+import teammates.logic.core.FeedbackSessionsLogic;
+import teammates.logic.core.InstructorsLogic;
+import teammates.logic.core.StudentsLogic;
+import teammates.ui.automated.CourseDeletionWorkerAction;
+
+/**
+ * SUT: {@link CourseDeletionWorkerAction}.
+ */
+public class CourseDeletionWorkerActionTest extends BaseAutomatedActionTest {
+
+    private static final CoursesLogic coursesLogic = CoursesLogic.inst();
+    private static final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
+    private static final InstructorsLogic instructorsLogic = InstructorsLogic.inst();
+    private static final StudentsLogic studentsLogic = StudentsLogic.inst();
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.COURSE_DELETION_WORKER_URL;
+    }
+
+    @Test
+    public void allTests() throws Exception {
+
+        ______TS("typical case: course deleted one batch after another");
+
+        CourseAttributes course = dataBundle.courses.get("typicalCourse1");
+        InstructorAttributes instructor = dataBundle.instructors.get("instructor1OfCourse1");
+
+        assertFalse(studentsLogic.getStudentsForCourse(course.getId()).isEmpty());
+        assertFalse(fsLogic.getFeedbackSessionsForCourse(course.getId()).isEmpty());
+
+        coursesLogic.markCourseForDeletion(course.getId());
+        assertNull(coursesLogic.getCourse(course.getId()));
+
+        ______TS("course marked for deletion: ID cannot be taken yet");
+
+        try {
+            coursesLogic.createCourseAndInstructor(instructor.googleId, course.getId(), "New course", "UTC");
+            signalFailureToDetectException();
+        } catch (EntityAlreadyExistsException e) {
+            ignoreExpectedException();
+        }
+
+        ______TS("typical case: each batch schedules the next one until the course is gone");
+
+        String[] submissionParams = new String[] {
+                ParamsNames.COURSE_ID, course.getId(),
+                ParamsNames.COURSE_DELETION_STAGE, CourseDeletionProgress.Stage.INSTRUCTORS.name()
+        };
+
+        int numberOfBatches = 0;
+        while (submissionParams != null) {
+            CourseDeletionWorkerAction action = getAction(submissionParams);
+            action.execute();
+            numberOfBatches++;
+
+            List<TaskWrapper> tasksAdded = action.getTaskQueuer().getTasksAdded();
+            if (tasksAdded.isEmpty()) {
+                submissionParams = null;
+            } else {
+                verifySpecifiedTasksAdded(action, Const.TaskQueue.COURSE_DELETION_QUEUE_NAME, 1);
+                submissionParams = getSubmissionParams(tasksAdded.get(0).getParamMap());
+            }
+        }
+
+        // the entities of each kind in the typical course fit in 1 batch
+        assertEquals(CourseDeletionProgress.Stage.values().length, numberOfBatches);
+
+        assertTrue(instructorsLogic.getInstructorsForCourse(course.getId()).isEmpty());
+        assertTrue(studentsLogic.getStudentsForCourse(course.getId()).isEmpty());
+        assertTrue(fsLogic.getFeedbackSessionsForCourse(course.getId()).isEmpty());
+
+        ______TS("course completely deleted: ID can be taken again");
+
+        coursesLogic.createCourseAndInstructor(instructor.googleId, course.getId(), "New course", "UTC");
+        assertNotNull(coursesLogic.getCourse(course.getId()));
+
+        ______TS("deletion of the old course run again: the new course with the same ID is kept");
+
+        CourseDeletionWorkerAction action = getAction(
+                ParamsNames.COURSE_ID, course.getId(),
+                ParamsNames.COURSE_DELETION_STAGE, CourseDeletionProgress.Stage.INSTRUCTORS.name());
+        action.execute();
+
+        verifyNoTasksAdded(action);
+        assertNotNull(coursesLogic.getCourse(course.getId()));
+        assertFalse(instructorsLogic.getInstructorsForCourse(course.getId()).isEmpty());
+    }
+
+    private String[] getSubmissionParams(Map<String, String[]> paramMap) {
+        String cursor = paramMap.containsKey(ParamsNames.COURSE_DELETION_CURSOR)
+                ? paramMap.get(ParamsNames.COURSE_DELETION_CURSOR)[0]
+                : null;
+        if (cursor == null) {
+            return new String[] {
+                    ParamsNames.COURSE_ID, paramMap.get(ParamsNames.COURSE_ID)[0],
+                    ParamsNames.COURSE_DELETION_STAGE, paramMap.get(ParamsNames.COURSE_DELETION_STAGE)[0]
+            };
+        }
+        return new String[] {
+                ParamsNames.COURSE_ID, paramMap.get(ParamsNames.COURSE_ID)[0],
+                ParamsNames.COURSE_DELETION_STAGE, paramMap.get(ParamsNames.COURSE_DELETION_STAGE)[0],
+                ParamsNames.COURSE_DELETION_CURSOR, cursor
+        };
+    }
+
+    @Override
+    protected CourseDeletionWorkerAction getAction(String... params) {
+        return (CourseDeletionWorkerAction) gaeSimulation.getAutomatedActionObject(getActionUri(), params);
+    }
+
+}
@@ -10,12 +10,14 @@ import teammates.common.datatransfer.StudentEnrollDetails;
 import teammates.common.datatransfer.StudentUpdateStatus;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.util.Const;
 import teammates.common.util.Const.ParamsNames;
 import teammates.common.util.JsonUtils;
 import teammates.logic.core.FeedbackQuestionsLogic;
+import teammates.logic.core.FeedbackResponseCommentsLogic;
 import teammates.logic.core.FeedbackResponsesLogic;
 import teammates.logic.core.StudentsLogic;
 import teammates.ui.automated.FeedbackResponseAdjustmentWorkerAction;
@@ -26,6 +28,7 @@ import teammates.ui.automated.FeedbackResponseAdjustmentWorkerAction;
 public class FeedbackResponseAdjustmentWorkerActionTest extends BaseAutomatedActionTest {
 
     private static final FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
+    private static final FeedbackResponseCommentsLogic frcLogic = FeedbackResponseCommentsLogic.inst();
     private static final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
     private static final StudentsLogic studentsLogic = StudentsLogic.inst();
 
@@ -76,6 +79,65 @@ public class FeedbackResponseAdjustmentWorkerActionTest extends BaseAutomatedAct
                 getAllResponsesForStudentForSession(student, session.getFeedbackSessionName());
         assertTrue(newResponsesForSession.isEmpty());
 
+        ______TS("typical case : existing student changes section only");
+
+        session = dataBundle.feedbackSessions.get("session1InCourse1");
+        student = dataBundle.students.get("student2InCourse1");
+        oldSection = student.section;
+        newSection = "Section 2";
+
+        List<FeedbackResponseAttributes> responsesFromStudent = getResponsesFromStudentForSession(student, session);
+        List<FeedbackResponseAttributes> responsesToStudent = getResponsesToStudentForSession(student, session);
+        assertFalse(responsesFromStudent.isEmpty());
+        assertFalse(responsesToStudent.isEmpty());
+
+        enrollDetails = new StudentEnrollDetails(StudentUpdateStatus.MODIFIED, student.course, student.email,
+                                                 student.team, student.team, oldSection, newSection);
+        enrollList = new ArrayList<>();
+        enrollList.add(enrollDetails);
+
+        submissionParams = new String[] {
+                ParamsNames.COURSE_ID, student.course,
+                ParamsNames.FEEDBACK_SESSION_NAME, session.getFeedbackSessionName(),
+                ParamsNames.ENROLLMENT_DETAILS, JsonUtils.toJson(enrollList)
+        };
+
+        action = getAction(submissionParams);
+        action.execute();
+
+        // no response is deleted as the team is not changed
+        assertEquals(responsesFromStudent.size(), getResponsesFromStudentForSession(student, session).size());
+        assertEquals(responsesToStudent.size(), getResponsesToStudentForSession(student, session).size());
+
+        for (FeedbackResponseAttributes response : getResponsesFromStudentForSession(student, session)) {
+            assertEquals(newSection, response.giverSection);
+            for (FeedbackResponseCommentAttributes comment
+                    : frcLogic.getFeedbackResponseCommentForResponse(response.getId())) {
+                assertEquals(newSection, comment.giverSection);
+            }
+        }
+        for (FeedbackResponseAttributes response : getResponsesToStudentForSession(student, session)) {
+            assertEquals(newSection, response.recipientSection);
+        }
+
+    }
+
+    private List<FeedbackResponseAttributes> getResponsesFromStudentForSession(StudentAttributes student,
+            FeedbackSessionAttributes session) {
+        return frLogic.getFeedbackResponsesFromGiverForSessionWithinRange(student.email,
+                session.getFeedbackSessionName(), session.getCourseId(), -1);
+    }
+
+    private List<FeedbackResponseAttributes> getResponsesToStudentForSession(StudentAttributes student,
+            FeedbackSessionAttributes session) {
+        List<FeedbackResponseAttributes> returnList = new ArrayList<>();
+        for (FeedbackResponseAttributes response
+                : frLogic.getFeedbackResponsesForReceiverForCourse(student.course, student.email)) {
+            if (response.feedbackSessionName.equals(session.getFeedbackSessionName())) {
+                returnList.add(response);
+            }
+        }
+        return returnList;
     }
 
     @Override
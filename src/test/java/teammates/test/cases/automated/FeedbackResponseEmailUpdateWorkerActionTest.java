@@ -0,0 +1,201 @@
+package teammates.test.cases.automated;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.exception.EnrollException;
+import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.logic.core.FeedbackResponseCommentsLogic;
+import teammates.logic.core.FeedbackResponsesLogic;
+import teammates.logic.core.StudentsLogic;
+import teammates.storage.api.StudentsDb;
+import teammates.test.driver.AssertHelper;
+import teammates.ui.automated.FeedbackResponseEmailUpdateWorkerAction;
+
+/**
+ * SUT: {@link FeedbackResponseEmailUpdateWorkerAction}.
+ */
+public class FeedbackResponseEmailUpdateWorkerActionTest extends BaseAutomatedActionTest {
+
+    private static final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
+    private static final FeedbackResponseCommentsLogic frcLogic = FeedbackResponseCommentsLogic.inst();
+    private static final StudentsLogic studentsLogic = StudentsLogic.inst();
+    private static final StudentsDb studentsDb = new StudentsDb();
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.FEEDBACK_RESPONSE_EMAIL_UPDATE_WORKER_URL;
+    }
+
+    @Test
+    public void allTests() throws Exception {
+
+        ______TS("typical case: responses moved to the new email in batches together with their comments");
+
+        StudentAttributes student = dataBundle.students.get("student1InCourse1");
+        String newEmail = "new.email.of.student1@gmail.tmt";
+
+        List<FeedbackResponseAttributes> responsesFromStudent =
+                frLogic.getFeedbackResponsesFromGiverForCourse(student.course, student.email);
+        List<FeedbackResponseAttributes> responsesToStudent =
+                frLogic.getFeedbackResponsesForReceiverForCourse(student.course, student.email);
+        assertFalse(responsesFromStudent.isEmpty());
+        assertFalse(responsesToStudent.isEmpty());
+
+        int numberOfComments = getNumberOfComments(responsesFromStudent, responsesToStudent);
+        assertTrue(numberOfComments > 0);
+
+        // gives the student more responses than fit in one batch, but fewer than fit in two
+        List<FeedbackResponseAttributes> extraResponses = new ArrayList<>();
+        for (int i = 0; i < FeedbackResponsesLogic.MAX_RESPONSES_PER_EMAIL_CHANGE_BATCH + 50; i++) {
+            FeedbackResponseAttributes extraResponse = new FeedbackResponseAttributes(responsesFromStudent.get(0));
+            extraResponse.setId(null);
+            extraResponse.recipient = "extra.recipient." + i + "@gmail.tmt";
+            extraResponses.add(extraResponse);
+        }
+        frLogic.createFeedbackResponses(extraResponses);
+        responsesFromStudent = frLogic.getFeedbackResponsesFromGiverForCourse(student.course, student.email);
+        assertTrue(responsesFromStudent.size() > FeedbackResponsesLogic.MAX_RESPONSES_PER_EMAIL_CHANGE_BATCH);
+
+        StudentAttributes updatedStudent = studentsLogic.getStudentForEmail(student.course, student.email);
+        updatedStudent.email = newEmail;
+        studentsLogic.updateStudentCascadeWithResponsesEmailChangeDeferred(student.email, updatedStudent);
+
+        // the original email is reserved by the same write that changes the email
+        assertEquals(student.email, studentsDb.getEmailOfResponsesToMove(student.course, newEmail));
+
+        String[] submissionParams = new String[] {
+                ParamsNames.COURSE_ID, student.course,
+                ParamsNames.STUDENT_EMAIL, student.email,
+                ParamsNames.NEW_STUDENT_EMAIL, newEmail
+        };
+
+        FeedbackResponseEmailUpdateWorkerAction action = getAction(submissionParams);
+        action.execute();
+
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.FEEDBACK_RESPONSE_EMAIL_UPDATE_QUEUE_NAME, 1);
+        // responses that the student gave to themselves may also be moved with the responses to the student
+        int numberOfResponsesLeft = frLogic.getFeedbackResponsesFromGiverForCourse(student.course, student.email).size();
+        assertTrue(numberOfResponsesLeft > 0);
+        assertTrue(numberOfResponsesLeft
+                   <= responsesFromStudent.size() - FeedbackResponsesLogic.MAX_RESPONSES_PER_EMAIL_CHANGE_BATCH);
+
+        ______TS("responses still being moved: email cannot be changed again or taken by another student");
+
+        StudentAttributes studentToEdit = studentsLogic.getStudentForEmail(student.course, newEmail);
+        studentToEdit.email = "another.email.of.student1@gmail.tmt";
+        try {
+            studentsLogic.updateStudentCascadeWithResponsesEmailChangeDeferred(newEmail, studentToEdit);
+            signalFailureToDetectException();
+        } catch (InvalidParametersException e) {
+            assertEquals(Const.StatusMessages.STUDENT_EMAIL_CHANGE_IN_PROGRESS, e.getMessage());
+        }
+
+        StudentAttributes student2 = dataBundle.students.get("student2InCourse1");
+        studentToEdit = studentsLogic.getStudentForEmail(student2.course, student2.email);
+        studentToEdit.email = student.email;
+        try {
+            studentsLogic.updateStudentCascade(student2.email, studentToEdit);
+            signalFailureToDetectException();
+        } catch (InvalidParametersException e) {
+            assertEquals(String.format(Const.StatusMessages.STUDENT_EMAIL_RESPONSES_BEING_MOVED, student.email),
+                         e.getMessage());
+        }
+
+        String enrollLines = "section | team | name | email | comment" + System.lineSeparator()
+                + student.section + " | Team of New Student | New Student | " + student.email + " | ";
+        try {
+            studentsLogic.enrollStudentsWithoutDocument(enrollLines, student.course);
+            signalFailureToDetectException();
+        } catch (EnrollException e) {
+            AssertHelper.assertContains(
+                    String.format(Const.StatusMessages.STUDENT_EMAIL_RESPONSES_BEING_MOVED, student.email),
+                    e.getMessage());
+        }
+
+        ______TS("typical case: next batch moves the remaining responses and frees the original email");
+
+        action = getAction(submissionParams);
+        action.execute();
+
+        verifyNoTasksAdded(action);
+
+        assertTrue(frLogic.getFeedbackResponsesFromGiverForCourse(student.course, student.email).isEmpty());
+        assertTrue(frLogic.getFeedbackResponsesForReceiverForCourse(student.course, student.email).isEmpty());
+
+        List<FeedbackResponseAttributes> responsesFromNewEmail =
+                frLogic.getFeedbackResponsesFromGiverForCourse(student.course, newEmail);
+        List<FeedbackResponseAttributes> responsesToNewEmail =
+                frLogic.getFeedbackResponsesForReceiverForCourse(student.course, newEmail);
+        assertEquals(responsesFromStudent.size(), responsesFromNewEmail.size());
+        assertEquals(responsesToStudent.size(), responsesToNewEmail.size());
+
+        assertEquals(numberOfComments, getNumberOfComments(responsesFromNewEmail, responsesToNewEmail));
+
+        ______TS("original email freed: taken by a new student, whose responses are not moved by a retried task");
+
+        studentsLogic.enrollStudentsWithoutDocument(enrollLines, student.course);
+        FeedbackResponseAttributes responseOfNewStudent = new FeedbackResponseAttributes(responsesFromStudent.get(0));
+        responseOfNewStudent.setId(null);
+        responseOfNewStudent.giver = student.email;
+        responseOfNewStudent.recipient = "recipient.of.new.student@gmail.tmt";
+        frLogic.createFeedbackResponse(responseOfNewStudent);
+
+        action = getAction(submissionParams);
+        action.execute();
+
+        verifyNoTasksAdded(action);
+        assertEquals(1, frLogic.getFeedbackResponsesFromGiverForCourse(student.course, student.email).size());
+        assertEquals(responsesFromStudent.size(),
+                frLogic.getFeedbackResponsesFromGiverForCourse(student.course, newEmail).size());
+
+        ______TS("failure case: student with the new email not found while responses are left, task to be retried");
+
+        action = getAction(
+                ParamsNames.COURSE_ID, student.course,
+                ParamsNames.STUDENT_EMAIL, student.email,
+                ParamsNames.NEW_STUDENT_EMAIL, "non.existent.student@gmail.tmt");
+        try {
+            action.execute();
+            signalFailureToDetectException();
+        } catch (AssertionError e) {
+            AssertHelper.assertContains("non.existent.student@gmail.tmt", e.getMessage());
+        }
+
+        verifyNoTasksAdded(action);
+        assertEquals(1, frLogic.getFeedbackResponsesFromGiverForCourse(student.course, student.email).size());
+    }
+
+    private int getNumberOfComments(List<FeedbackResponseAttributes> responsesFromUser,
+            List<FeedbackResponseAttributes> responsesToUser) {
+        // responses that the user gave to themselves are in both lists
+        Set<String> responseIds = new HashSet<>();
+        for (FeedbackResponseAttributes response : responsesFromUser) {
+            responseIds.add(response.getId());
+        }
+        for (FeedbackResponseAttributes response : responsesToUser) {
+            responseIds.add(response.getId());
+        }
+
+        int numberOfComments = 0;
+        for (String responseId : responseIds) {
+            numberOfComments += frcLogic.getFeedbackResponseCommentForResponse(responseId).size();
+        }
+        return numberOfComments;
+    }
+
+    @Override
+    protected FeedbackResponseEmailUpdateWorkerAction getAction(String... params) {
+        return (FeedbackResponseEmailUpdateWorkerAction)
+                gaeSimulation.getAutomatedActionObject(getActionUri(), params);
+    }
+
+}
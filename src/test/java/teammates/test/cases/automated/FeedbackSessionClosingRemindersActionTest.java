@@ -1,7 +1,6 @@
 package teammates.test.cases.automated;
 
 import java.time.ZoneId;
-import java.util.List;
 import java.util.Map;
 
 import org.testng.annotations.Test;
@@ -10,7 +9,6 @@ import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.util.Const;
 import teammates.common.util.Const.ParamsNames;
 import teammates.common.util.EmailType;
-import teammates.common.util.TaskWrapper;
 import teammates.common.util.TimeHelper;
 import teammates.logic.core.CoursesLogic;
 import teammates.logic.core.FeedbackSessionsLogic;
@@ -22,7 +20,6 @@ import teammates.ui.automated.FeedbackSessionClosingRemindersAction;
  */
 public class FeedbackSessionClosingRemindersActionTest extends BaseAutomatedActionTest {
 
-    private static final CoursesLogic coursesLogic = CoursesLogic.inst();
     private static final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
 
     @Override
@@ -74,17 +71,13 @@ public class FeedbackSessionClosingRemindersActionTest extends BaseAutomatedActi
         action = getAction();
         action.execute();
 
-        // 5 students and 5 instructors in course1, 2 students have completed the feedback session
-        verifySpecifiedTasksAdded(action, Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 8);
+        // the emails of the session are generated by a fan-out task
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.FEEDBACK_SESSION_EMAIL_FAN_OUT_QUEUE_NAME, 1);
 
-        String courseName = coursesLogic.getCourse(session1.getCourseId()).getName();
-        List<TaskWrapper> tasksAdded = action.getTaskQueuer().getTasksAdded();
-        for (TaskWrapper task : tasksAdded) {
-            Map<String, String[]> paramMap = task.getParamMap();
-            assertEquals(String.format(EmailType.FEEDBACK_CLOSING.getSubject(), courseName,
-                                       session1.getSessionName()),
-                         paramMap.get(ParamsNames.EMAIL_SUBJECT)[0]);
-        }
+        Map<String, String[]> paramMap = action.getTaskQueuer().getTasksAdded().get(0).getParamMap();
+        assertEquals(session1.getCourseId(), paramMap.get(ParamsNames.EMAIL_COURSE)[0]);
+        assertEquals(session1.getFeedbackSessionName(), paramMap.get(ParamsNames.EMAIL_FEEDBACK)[0]);
+        assertEquals(EmailType.FEEDBACK_CLOSING.name(), paramMap.get(ParamsNames.EMAIL_TYPE)[0]);
 
         ______TS("1 session closing soon with emails sent");
 
@@ -96,6 +89,17 @@ public class FeedbackSessionClosingRemindersActionTest extends BaseAutomatedActi
 
         verifyNoTasksAdded(action);
 
+        ______TS("1 session closing soon in a course marked for deletion");
+
+        session1.setSentClosingEmail(false);
+        fsLogic.updateFeedbackSession(session1);
+        CoursesLogic.inst().markCourseForDeletion(session1.getCourseId());
+
+        action = getAction();
+        action.execute();
+
+        verifyNoTasksAdded(action);
+
     }
 
     @Override
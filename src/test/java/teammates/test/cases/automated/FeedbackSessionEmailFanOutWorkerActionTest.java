@@ -0,0 +1,160 @@
+package teammates.test.cases.automated;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import com.google.gson.reflect.TypeToken;
+
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.EmailType;
+import teammates.common.util.JsonUtils;
+import teammates.common.util.TaskWrapper;
+import teammates.logic.core.InstructorsLogic;
+import teammates.logic.core.StudentsLogic;
+import teammates.test.driver.AssertHelper;
+import teammates.ui.automated.FeedbackSessionEmailFanOutWorkerAction;
+
+/**
+ * SUT: {@link FeedbackSessionEmailFanOutWorkerAction}.
+ */
+public class FeedbackSessionEmailFanOutWorkerActionTest extends BaseAutomatedActionTest {
+
+    private static final InstructorsLogic instructorsLogic = InstructorsLogic.inst();
+    private static final StudentsLogic studentsLogic = StudentsLogic.inst();
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.FEEDBACK_SESSION_EMAIL_FAN_OUT_WORKER_URL;
+    }
+
+    @Test
+    public void allTests() throws Exception {
+
+        ______TS("Split the recipients of the opening emails of a session into shards");
+
+        FeedbackSessionAttributes session1 = dataBundle.feedbackSessions.get("session1InCourse1");
+
+        String[] submissionParams = new String[] {
+                ParamsNames.EMAIL_COURSE, session1.getCourseId(),
+                ParamsNames.EMAIL_FEEDBACK, session1.getFeedbackSessionName(),
+                ParamsNames.EMAIL_TYPE, EmailType.FEEDBACK_OPENING.name(),
+                ParamsNames.EMAIL_RUN_ID, "1"
+        };
+
+        FeedbackSessionEmailFanOutWorkerAction action = getAction(submissionParams);
+        action.execute();
+
+        // 5 students and 5 instructors in course1 fit in 1 shard
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.FEEDBACK_SESSION_EMAIL_SHARD_QUEUE_NAME, 1);
+
+        Map<String, String[]> paramMap = action.getTaskQueuer().getTasksAdded().get(0).getParamMap();
+        assertEquals(EmailType.FEEDBACK_OPENING.name(), paramMap.get(ParamsNames.EMAIL_TYPE)[0]);
+        assertEquals("1", paramMap.get(ParamsNames.EMAIL_RUN_ID)[0]);
+        assertEquals("0", paramMap.get(ParamsNames.EMAIL_SHARD_INDEX)[0]);
+        assertEquals("0", paramMap.get(ParamsNames.EMAIL_SHARD_OFFSET)[0]);
+
+        List<String> expectedStudentEmails = new ArrayList<>();
+        for (StudentAttributes student : studentsLogic.getStudentsForCourse(session1.getCourseId())) {
+            expectedStudentEmails.add(student.email);
+        }
+        List<String> expectedInstructorEmails = new ArrayList<>();
+        for (InstructorAttributes instructor : instructorsLogic.getInstructorsForCourse(session1.getCourseId())) {
+            expectedInstructorEmails.add(instructor.email);
+        }
+        AssertHelper.assertSameContentIgnoreOrder(expectedStudentEmails,
+                JsonUtils.fromJson(paramMap.get(ParamsNames.EMAIL_SHARD_STUDENTS)[0],
+                        new TypeToken<List<String>>(){}.getType()));
+        AssertHelper.assertSameContentIgnoreOrder(expectedInstructorEmails,
+                JsonUtils.fromJson(paramMap.get(ParamsNames.EMAIL_SHARD_INSTRUCTORS)[0],
+                        new TypeToken<List<String>>(){}.getType()));
+        assertEquals(String.valueOf(expectedStudentEmails.size() + expectedInstructorEmails.size()),
+                     paramMap.get(ParamsNames.EMAIL_RUN_SIZE)[0]);
+
+        ______TS("Recipients of more than one shard: each recipient in exactly one shard");
+
+        int numberOfSections = 4;
+        int studentsPerSection = 49;
+        StringBuilder enrollLines = new StringBuilder("section | team | name | email | comment");
+        for (int i = 0; i < numberOfSections; i++) {
+            for (int j = 0; j < studentsPerSection; j++) {
+                enrollLines.append(System.lineSeparator()).append("Shard Section ").append(i)
+                           .append(" | Shard Team ").append(i).append(" | Shard Student ").append(j)
+                           .append(" | shard.student.").append(i).append('.').append(j).append("@gmail.tmt | ");
+            }
+        }
+        studentsLogic.enrollStudentsWithoutDocument(enrollLines.toString(), session1.getCourseId());
+
+        expectedStudentEmails.clear();
+        for (StudentAttributes student : studentsLogic.getStudentsForCourse(session1.getCourseId())) {
+            expectedStudentEmails.add(student.email);
+        }
+
+        action = getAction(submissionParams);
+        action.execute();
+
+        int numberOfRecipients = expectedStudentEmails.size() + expectedInstructorEmails.size();
+        int numberOfShards = (numberOfRecipients + FeedbackSessionEmailFanOutWorkerAction.MAX_RECIPIENTS_PER_SHARD - 1)
+                / FeedbackSessionEmailFanOutWorkerAction.MAX_RECIPIENTS_PER_SHARD;
+        assertTrue(numberOfShards > 2);
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.FEEDBACK_SESSION_EMAIL_SHARD_QUEUE_NAME, numberOfShards);
+
+        List<String> actualStudentEmails = new ArrayList<>();
+        List<String> actualInstructorEmails = new ArrayList<>();
+        List<TaskWrapper> tasksAdded = action.getTaskQueuer().getTasksAdded();
+        for (int i = 0; i < numberOfShards; i++) {
+            paramMap = tasksAdded.get(i).getParamMap();
+            assertEquals(String.valueOf(i), paramMap.get(ParamsNames.EMAIL_SHARD_INDEX)[0]);
+            // the emails of each shard are delayed by their positions in the whole fan-out
+            assertEquals(String.valueOf(numberOfRecipients), paramMap.get(ParamsNames.EMAIL_RUN_SIZE)[0]);
+            assertEquals(String.valueOf(i * FeedbackSessionEmailFanOutWorkerAction.MAX_RECIPIENTS_PER_SHARD),
+                         paramMap.get(ParamsNames.EMAIL_SHARD_OFFSET)[0]);
+
+            List<String> shardStudentEmails = JsonUtils.fromJson(paramMap.get(ParamsNames.EMAIL_SHARD_STUDENTS)[0],
+                    new TypeToken<List<String>>(){}.getType());
+            List<String> shardInstructorEmails = JsonUtils.fromJson(
+                    paramMap.get(ParamsNames.EMAIL_SHARD_INSTRUCTORS)[0], new TypeToken<List<String>>(){}.getType());
+            int shardSize = shardStudentEmails.size() + shardInstructorEmails.size();
+            if (i < numberOfShards - 1) {
+                // instructors come after all students, so they are only in the last shard here
+                assertEquals(FeedbackSessionEmailFanOutWorkerAction.MAX_RECIPIENTS_PER_SHARD, shardSize);
+                assertTrue(shardInstructorEmails.isEmpty());
+            } else {
+                assertEquals(numberOfRecipients
+                             - i * FeedbackSessionEmailFanOutWorkerAction.MAX_RECIPIENTS_PER_SHARD, shardSize);
+            }
+            actualStudentEmails.addAll(shardStudentEmails);
+            actualInstructorEmails.addAll(shardInstructorEmails);
+        }
+        // the lists are compared with duplicates, so no recipient is in more than one shard
+        AssertHelper.assertSameContentIgnoreOrder(expectedStudentEmails, actualStudentEmails);
+        AssertHelper.assertSameContentIgnoreOrder(expectedInstructorEmails, actualInstructorEmails);
+
+        ______TS("Non-existent session: no shards");
+
+        submissionParams = new String[] {
+                ParamsNames.EMAIL_COURSE, session1.getCourseId(),
+                ParamsNames.EMAIL_FEEDBACK, "non-existent session",
+                ParamsNames.EMAIL_TYPE, EmailType.FEEDBACK_OPENING.name(),
+                ParamsNames.EMAIL_RUN_ID, "1"
+        };
+
+        action = getAction(submissionParams);
+        action.execute();
+
+        verifyNoTasksAdded(action);
+    }
+
+    @Override
+    protected FeedbackSessionEmailFanOutWorkerAction getAction(String... params) {
+        return (FeedbackSessionEmailFanOutWorkerAction)
+                gaeSimulation.getAutomatedActionObject(getActionUri(), params);
+    }
+
+}
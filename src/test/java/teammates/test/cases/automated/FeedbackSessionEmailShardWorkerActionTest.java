@@ -0,0 +1,144 @@
+package teammates.test.cases.automated;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.EmailType;
+import teammates.common.util.JsonUtils;
+import teammates.common.util.TaskWrapper;
+import teammates.logic.core.CoursesLogic;
+import teammates.logic.core.StudentsLogic;
+import teammates.ui.automated.FeedbackSessionEmailFanOutWorkerAction;
+import teammates.ui.automated.FeedbackSessionEmailShardWorkerAction;
+
+/**
+ * SUT: {@link FeedbackSessionEmailShardWorkerAction}.
+ */
+public class FeedbackSessionEmailShardWorkerActionTest extends BaseAutomatedActionTest {
+
+    private static final CoursesLogic coursesLogic = CoursesLogic.inst();
+    private static final StudentsLogic studentsLogic = StudentsLogic.inst();
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.FEEDBACK_SESSION_EMAIL_SHARD_WORKER_URL;
+    }
+
+    @Test
+    public void allTests() {
+
+        FeedbackSessionAttributes session1 = dataBundle.feedbackSessions.get("session1InCourse1");
+        StudentAttributes student1 = dataBundle.students.get("student1InCourse1");
+        InstructorAttributes instructor1 = dataBundle.instructors.get("instructor1OfCourse1");
+
+        ______TS("Queue the emails of a shard");
+
+        FeedbackSessionEmailShardWorkerAction action = getAction(getShardParams(session1, "1", student1, instructor1));
+        action.execute();
+
+        // the emails are sent by the send-email queue, not by the shard
+        verifyNoEmailsSent(action);
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 2);
+
+        String courseName = coursesLogic.getCourse(session1.getCourseId()).getName();
+        for (TaskWrapper task : action.getTaskQueuer().getTasksAdded()) {
+            Map<String, String[]> paramMap = task.getParamMap();
+            assertEquals(String.format(EmailType.FEEDBACK_PUBLISHED.getSubject(), courseName,
+                                       session1.getSessionName()),
+                         paramMap.get(ParamsNames.EMAIL_SUBJECT)[0]);
+            String recipient = paramMap.get(ParamsNames.EMAIL_RECEIVER)[0];
+            assertTrue(recipient.equals(student1.email) || recipient.equals(instructor1.email));
+        }
+
+        ______TS("Retry of a shard: emails queued with the same task names, so that the queue skips them");
+
+        List<String> taskNames = getTaskNames(action);
+        assertEquals(2, new HashSet<>(taskNames).size());
+
+        action = getAction(getShardParams(session1, "1", student1, instructor1));
+        action.execute();
+
+        assertEquals(taskNames, getTaskNames(action));
+
+        ______TS("Same shard of a later run: emails queued with different task names");
+
+        action = getAction(getShardParams(session1, "2", student1, instructor1));
+        action.execute();
+
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 2);
+        for (String taskName : getTaskNames(action)) {
+            assertFalse(taskNames.contains(taskName));
+        }
+
+        ______TS("Recipient who left the course: no email queued");
+
+        StudentAttributes student2 = dataBundle.students.get("student2InCourse1");
+        studentsLogic.deleteStudentCascadeWithoutDocument(student2.course, student2.email);
+
+        action = getAction(getShardParams(session1, "3", student2, instructor1));
+        action.execute();
+
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 1);
+        assertEquals(instructor1.email,
+                     action.getTaskQueuer().getTasksAdded().get(0).getParamMap().get(ParamsNames.EMAIL_RECEIVER)[0]);
+
+        ______TS("Shard in the middle of a fan-out: emails delayed by their positions in the fan-out");
+
+        action = getAction(getShardParams(session1, "4", 720, 200, student1, instructor1));
+        action.execute();
+
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 2);
+        // 720 emails over 1 hour are sent 5 seconds apart; the student is at position 200, the instructor at 201
+        List<TaskWrapper> tasksAdded = action.getTaskQueuer().getTasksAdded();
+        assertEquals(student1.email, tasksAdded.get(0).getParamMap().get(ParamsNames.EMAIL_RECEIVER)[0]);
+        assertEquals(200 * 5000L, tasksAdded.get(0).getCountdownTime());
+        assertEquals(instructor1.email, tasksAdded.get(1).getParamMap().get(ParamsNames.EMAIL_RECEIVER)[0]);
+        assertEquals(201 * 5000L, tasksAdded.get(1).getCountdownTime());
+    }
+
+    private List<String> getTaskNames(FeedbackSessionEmailShardWorkerAction action) {
+        List<String> taskNames = new ArrayList<>();
+        for (TaskWrapper task : action.getTaskQueuer().getTasksAdded()) {
+            taskNames.add(task.getName());
+        }
+        return taskNames;
+    }
+
+    private String[] getShardParams(FeedbackSessionAttributes session, String runId,
+                                    StudentAttributes student, InstructorAttributes instructor) {
+        return getShardParams(session, runId, 2, 0, student, instructor);
+    }
+
+    private String[] getShardParams(FeedbackSessionAttributes session, String runId, int runSize, int shardOffset,
+                                    StudentAttributes student, InstructorAttributes instructor) {
+        return new String[] {
+                ParamsNames.EMAIL_COURSE, session.getCourseId(),
+                ParamsNames.EMAIL_FEEDBACK, session.getFeedbackSessionName(),
+                ParamsNames.EMAIL_TYPE, EmailType.FEEDBACK_PUBLISHED.name(),
+                ParamsNames.EMAIL_RUN_ID, runId,
+                ParamsNames.EMAIL_RUN_SIZE, String.valueOf(runSize),
+                ParamsNames.EMAIL_SHARD_INDEX,
+                String.valueOf(shardOffset / FeedbackSessionEmailFanOutWorkerAction.MAX_RECIPIENTS_PER_SHARD),
+                ParamsNames.EMAIL_SHARD_OFFSET, String.valueOf(shardOffset),
+                ParamsNames.EMAIL_SHARD_STUDENTS, JsonUtils.toJson(Arrays.asList(student.email)),
+                ParamsNames.EMAIL_SHARD_INSTRUCTORS, JsonUtils.toJson(Arrays.asList(instructor.email))
+        };
+    }
+
+    @Override
+    protected FeedbackSessionEmailShardWorkerAction getAction(String... params) {
+        return (FeedbackSessionEmailShardWorkerAction)
+                gaeSimulation.getAutomatedActionObject(getActionUri(), params);
+    }
+
+}
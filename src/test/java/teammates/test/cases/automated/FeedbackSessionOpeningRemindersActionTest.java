@@ -1,5 +1,7 @@
 package teammates.test.cases.automated;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -11,8 +13,8 @@ import teammates.common.util.Const.ParamsNames;
 import teammates.common.util.EmailType;
 import teammates.common.util.TaskWrapper;
 import teammates.common.util.TimeHelper;
-import teammates.logic.core.CoursesLogic;
 import teammates.logic.core.FeedbackSessionsLogic;
+import teammates.test.driver.AssertHelper;
 import teammates.test.driver.TimeHelperExtension;
 import teammates.ui.automated.FeedbackSessionOpeningRemindersAction;
 
@@ -21,7 +23,6 @@ import teammates.ui.automated.FeedbackSessionOpeningRemindersAction;
  */
 public class FeedbackSessionOpeningRemindersActionTest extends BaseAutomatedActionTest {
 
-    private static final CoursesLogic coursesLogic = CoursesLogic.inst();
     private static final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
 
     @Override
@@ -63,23 +64,19 @@ public class FeedbackSessionOpeningRemindersActionTest extends BaseAutomatedActi
         action = getAction();
         action.execute();
 
-        // 5 students and 5 instructors in course1
-        verifySpecifiedTasksAdded(action, Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 20);
+        // the emails of each session are generated by a fan-out task
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.FEEDBACK_SESSION_EMAIL_FAN_OUT_QUEUE_NAME, 2);
 
-        String courseName = coursesLogic.getCourse(session1.getCourseId()).getName();
+        List<String> sessionNames = new ArrayList<>();
         List<TaskWrapper> tasksAdded = action.getTaskQueuer().getTasksAdded();
         for (TaskWrapper task : tasksAdded) {
             Map<String, String[]> paramMap = task.getParamMap();
-            try {
-                assertEquals(String.format(EmailType.FEEDBACK_OPENING.getSubject(), courseName,
-                                           session1.getSessionName()),
-                             paramMap.get(ParamsNames.EMAIL_SUBJECT)[0]);
-            } catch (AssertionError ae) {
-                assertEquals(String.format(EmailType.FEEDBACK_OPENING.getSubject(), courseName,
-                                           session2.getSessionName()),
-                             paramMap.get(ParamsNames.EMAIL_SUBJECT)[0]);
-            }
+            assertEquals(session1.getCourseId(), paramMap.get(ParamsNames.EMAIL_COURSE)[0]);
+            assertEquals(EmailType.FEEDBACK_OPENING.name(), paramMap.get(ParamsNames.EMAIL_TYPE)[0]);
+            sessionNames.add(paramMap.get(ParamsNames.EMAIL_FEEDBACK)[0]);
         }
+        AssertHelper.assertSameContentIgnoreOrder(
+                Arrays.asList(session1.getFeedbackSessionName(), session2.getFeedbackSessionName()), sessionNames);
 
         ______TS("2 sessions opened with emails sent");
 
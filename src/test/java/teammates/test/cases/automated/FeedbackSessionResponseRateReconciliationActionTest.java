@@ -0,0 +1,54 @@
+package teammates.test.cases.automated;
+
+import java.util.List;
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.TaskWrapper;
+import teammates.logic.core.FeedbackSessionsLogic;
+import teammates.ui.automated.FeedbackSessionResponseRateReconciliationAction;
+
+/**
+ * SUT: {@link FeedbackSessionResponseRateReconciliationAction}.
+ */
+public class FeedbackSessionResponseRateReconciliationActionTest extends BaseAutomatedActionTest {
+
+    private static final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
+
+    @Override
+    protected String getActionUri() {
+        return Const.ActionURIs.AUTOMATED_FEEDBACK_RESPONSE_RATE_RECONCILIATION;
+    }
+
+    @Test
+    public void allTests() {
+
+        ______TS("typical case: 1 refresh task is scheduled per session to reconcile");
+
+        List<FeedbackSessionAttributes> sessions = fsLogic.getFeedbackSessionsForResponseRateReconciliation();
+        assertFalse(sessions.isEmpty());
+
+        FeedbackSessionResponseRateReconciliationAction action = getAction();
+        action.execute();
+
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.FEEDBACK_SESSION_RESPONSE_RATE_REFRESH_QUEUE_NAME,
+                                  sessions.size());
+
+        List<TaskWrapper> tasksAdded = action.getTaskQueuer().getTasksAdded();
+        for (int i = 0; i < sessions.size(); i++) {
+            Map<String, String[]> paramMap = tasksAdded.get(i).getParamMap();
+            assertEquals(sessions.get(i).getCourseId(), paramMap.get(ParamsNames.COURSE_ID)[0]);
+            assertEquals(sessions.get(i).getFeedbackSessionName(), paramMap.get(ParamsNames.FEEDBACK_SESSION_NAME)[0]);
+        }
+    }
+
+    @Override
+    protected FeedbackSessionResponseRateReconciliationAction getAction(String... params) {
+        return (FeedbackSessionResponseRateReconciliationAction) gaeSimulation.getAutomatedActionObject(getActionUri());
+    }
+
+}
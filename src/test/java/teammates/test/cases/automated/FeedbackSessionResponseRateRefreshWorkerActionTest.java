@@ -0,0 +1,67 @@
+package teammates.test.cases.automated;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.exception.EntityDoesNotExistException;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.logic.core.FeedbackSessionsLogic;
+import teammates.ui.automated.FeedbackSessionResponseRateRefreshWorkerAction;
+
+/**
+ * SUT: {@link FeedbackSessionResponseRateRefreshWorkerAction}.
+ */
+public class FeedbackSessionResponseRateRefreshWorkerActionTest extends BaseAutomatedActionTest {
+
+    private static final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.FEEDBACK_SESSION_RESPONSE_RATE_REFRESH_WORKER_URL;
+    }
+
+    @Test
+    public void allTests() throws EntityDoesNotExistException {
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get("session1InCourse1");
+        String sessionName = session.getFeedbackSessionName();
+        String courseId = session.getCourseId();
+
+        ______TS("typical case: stale expected respondent count is recomputed and stored");
+
+        fsLogic.clearExpectedRespondentCount(sessionName, courseId);
+        FeedbackSessionAttributes storedSession = fsLogic.getFeedbackSession(sessionName, courseId);
+        assertNull(storedSession.getExpectedRespondentCount());
+        int expectedRespondentCount = fsLogic.getFeedbackSessionDetails(storedSession).stats.expectedTotal;
+
+        String[] submissionParams = new String[] {
+                ParamsNames.COURSE_ID, courseId,
+                ParamsNames.FEEDBACK_SESSION_NAME, sessionName,
+        };
+
+        FeedbackSessionResponseRateRefreshWorkerAction action = getAction(submissionParams);
+        action.execute();
+
+        assertEquals(Integer.valueOf(expectedRespondentCount),
+                     fsLogic.getFeedbackSession(sessionName, courseId).getExpectedRespondentCount());
+
+        ______TS("session deleted since the task was scheduled: nothing to refresh");
+
+        submissionParams = new String[] {
+                ParamsNames.COURSE_ID, courseId,
+                ParamsNames.FEEDBACK_SESSION_NAME, "non-existent session",
+        };
+
+        action = getAction(submissionParams);
+        action.execute();
+
+        verifyNoTasksAdded(action);
+    }
+
+    @Override
+    protected FeedbackSessionResponseRateRefreshWorkerAction getAction(String... params) {
+        return (FeedbackSessionResponseRateRefreshWorkerAction)
+                gaeSimulation.getAutomatedActionObject(getActionUri(), params);
+    }
+
+}
@@ -0,0 +1,112 @@
+package teammates.test.cases.automated;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.FeedbackResponseCommentSearchResultBundle;
+import teammates.common.datatransfer.SearchDocumentUpdates;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.JsonUtils;
+import teammates.common.util.StringHelper;
+import teammates.storage.api.FeedbackResponseCommentsDb;
+import teammates.storage.api.InstructorsDb;
+import teammates.ui.automated.SearchDocumentsUpdateWorkerAction;
+
+/**
+ * SUT: {@link SearchDocumentsUpdateWorkerAction}.
+ */
+public class SearchDocumentsUpdateWorkerActionTest extends BaseAutomatedActionTest {
+
+    private static final InstructorsDb instructorsDb = new InstructorsDb();
+    private static final FeedbackResponseCommentsDb frcDb = new FeedbackResponseCommentsDb();
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.SEARCH_DOCUMENTS_UPDATE_WORKER_URL;
+    }
+
+    @Override
+    protected void prepareTestData() {
+        super.prepareTestData();
+        putDocuments(dataBundle);
+    }
+
+    @Test
+    public void allTests() {
+
+        InstructorAttributes typicalInstructor = dataBundle.instructors.get("instructor2OfCourse2");
+        InstructorAttributes instructor =
+                instructorsDb.getInstructorForEmail(typicalInstructor.courseId, typicalInstructor.email);
+
+        ______TS("put instructor document: rebuilt from the instructor found by its encrypted key");
+
+        instructorsDb.deleteDocument(instructor);
+        assertEquals(0, instructorsDb.searchInstructorsInWholeSystem(instructor.email).numberOfResults);
+
+        SearchDocumentUpdates updates = new SearchDocumentUpdates(Const.SearchIndex.INSTRUCTOR);
+        updates.getDocumentIdsToPut().add(StringHelper.encrypt(instructor.key));
+
+        SearchDocumentsUpdateWorkerAction action = getAction(updates);
+        action.execute();
+
+        verifyNoTasksAdded(action);
+        assertEquals(1, instructorsDb.searchInstructorsInWholeSystem(instructor.email).numberOfResults);
+
+        ______TS("delete instructor document");
+
+        updates = new SearchDocumentUpdates(Const.SearchIndex.INSTRUCTOR);
+        updates.getDocumentIdsToDelete().add(StringHelper.encrypt(instructor.key));
+
+        action = getAction(updates);
+        action.execute();
+
+        assertEquals(0, instructorsDb.searchInstructorsInWholeSystem(instructor.email).numberOfResults);
+
+        ______TS("put comment document: rebuilt from the comment found by its ID");
+
+        List<InstructorAttributes> instructors = Arrays.asList(dataBundle.instructors.get("instructor3OfCourse1"),
+                dataBundle.instructors.get("instructor3OfCourse2"));
+        String commentQuery = "\"Instructor 3 comment to instr1C2 response to student1C2\"";
+        FeedbackResponseCommentSearchResultBundle results = frcDb.search(commentQuery, instructors);
+        assertEquals(1, results.numberOfResults);
+        Long commentId = results.comments.values().iterator().next().get(0).getId();
+
+        frcDb.deleteDocumentByCommentId(commentId);
+        assertEquals(0, frcDb.search(commentQuery, instructors).numberOfResults);
+
+        updates = new SearchDocumentUpdates(Const.SearchIndex.FEEDBACK_RESPONSE_COMMENT);
+        updates.getDocumentIdsToPut().add(commentId.toString());
+
+        action = getAction(updates);
+        action.execute();
+
+        assertEquals(1, frcDb.search(commentQuery, instructors).numberOfResults);
+
+        ______TS("put document of data that is gone: skipped, other documents still written");
+
+        frcDb.deleteDocumentByCommentId(commentId);
+
+        updates = new SearchDocumentUpdates(Const.SearchIndex.FEEDBACK_RESPONSE_COMMENT);
+        updates.getDocumentIdsToPut().add(String.valueOf(Long.MAX_VALUE));
+        updates.getDocumentIdsToPut().add(commentId.toString());
+
+        action = getAction(updates);
+        action.execute();
+
+        assertEquals(1, frcDb.search(commentQuery, instructors).numberOfResults);
+    }
+
+    private SearchDocumentsUpdateWorkerAction getAction(SearchDocumentUpdates updates) {
+        return getAction(ParamsNames.SEARCH_DOCUMENT_UPDATES, JsonUtils.toJson(updates));
+    }
+
+    @Override
+    protected SearchDocumentsUpdateWorkerAction getAction(String... params) {
+        return (SearchDocumentsUpdateWorkerAction) gaeSimulation.getAutomatedActionObject(getActionUri(), params);
+    }
+
+}
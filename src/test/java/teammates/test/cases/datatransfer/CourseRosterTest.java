@@ -75,6 +75,59 @@ public class CourseRosterTest extends BaseTestCase {
         assertEquals(roster.getInstructorForEmail("ins2@email.com").email, "ins2@email.com");
         assertEquals(roster.getInstructorForEmail("ins2@email.com").name, "Jean");
 
+        ______TS("team and section indexes");
+
+        List<StudentAttributes> students = createStudentList("team 1", "s1@gmail.com",
+                                                             "team 1", "s2@gmail.com",
+                                                             "team 2", "s3@gmail.com",
+                                                             "team 3", "s4@gmail.com");
+        students.get(0).section = "section 1";
+        students.get(1).section = "section 1";
+        students.get(2).section = "section 1";
+        students.get(3).section = "section 2";
+        roster = new CourseRoster(students, null);
+
+        assertEquals(2, roster.getTeamMembers("team 1").size());
+        assertTrue(roster.isStudentInTeam(roster.getTeamMembers("team 2").get(0).email, "team 2"));
+        assertTrue(roster.getTeamMembers("non-existent team").isEmpty());
+
+        assertEquals(3, roster.getStudentsInSection("section 1").size());
+        assertEquals("s4@gmail.com", roster.getStudentsInSection("section 2").get(0).email);
+        assertTrue(roster.getStudentsInSection("non-existent section").isEmpty());
+
+        assertEquals(2, roster.getTeamsBySection().size());
+        assertEquals(2, roster.getTeamsInSection("section 1").size());
+        assertTrue(roster.getTeamsInSection("section 1").contains("team 2"));
+        assertTrue(roster.getTeamsInSection("non-existent section").isEmpty());
+        assertEquals(3, roster.getTeamNames().size());
+
+        ______TS("views of the roster are read-only");
+
+        try {
+            roster.getStudents().clear();
+            signalFailureToDetectException();
+        } catch (UnsupportedOperationException e) {
+            ignoreExpectedException();
+        }
+
+        try {
+            roster.getTeamMembers("team 1").clear();
+            signalFailureToDetectException();
+        } catch (UnsupportedOperationException e) {
+            ignoreExpectedException();
+        }
+
+        try {
+            roster.getTeamsInSection("section 1").add("team 4");
+            signalFailureToDetectException();
+        } catch (UnsupportedOperationException e) {
+            ignoreExpectedException();
+        }
+
+        assertEquals(4, roster.getStudents().size());
+        assertEquals(2, roster.getTeamMembers("team 1").size());
+        assertEquals(2, roster.getTeamsInSection("section 1").size());
+
     }
 
     private List<StudentAttributes> createStudentList(String... studentData) {
@@ -11,6 +11,7 @@ import com.google.appengine.api.datastore.Text;
 import teammates.common.datatransfer.DataBundle;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
 import teammates.common.datatransfer.questions.FeedbackQuestionType;
 import teammates.common.datatransfer.questions.FeedbackTextQuestionDetails;
 import teammates.common.util.Const;
@@ -196,6 +197,18 @@ public class FeedbackQuestionAttributesTest extends BaseTestCase {
 
         fq = typicalBundle.feedbackQuestions.get("qn2InSession1InCourse1");
         assertEquals(fq.getQuestionDetails().getQuestionText(), "Rate 1 other student's product");
+
+        ______TS("Repeated calls: details are parsed only once");
+
+        assertSame(fq.getQuestionDetails(), fq.getQuestionDetails());
+
+        ______TS("Metadata changed: details are parsed again");
+
+        FeedbackQuestionDetails parsedDetails = fq.getQuestionDetails();
+        fq.setQuestionDetails(new FeedbackTextQuestionDetails("Changed text question"));
+
+        assertNotSame(parsedDetails, fq.getQuestionDetails());
+        assertEquals("Changed text question", fq.getQuestionDetails().getQuestionText());
     }
 
     @Test
@@ -4,7 +4,12 @@ import java.time.Instant;
 
 import org.testng.annotations.Test;
 
+import com.google.appengine.api.datastore.Text;
+
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.questions.FeedbackQuestionType;
+import teammates.common.datatransfer.questions.FeedbackResponseDetails;
+import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
 import teammates.common.util.Const;
 import teammates.test.cases.BaseTestCase;
 
@@ -44,4 +49,29 @@ public class FeedbackResponseAttributesTest extends BaseTestCase {
         assertEquals(defaultTimeStamp, fra.getUpdatedAt());
     }
 
+    @Test
+    public void testGetResponseDetails() {
+        FeedbackResponseAttributes fra = new FeedbackResponseAttributes();
+        fra.feedbackQuestionType = FeedbackQuestionType.TEXT;
+
+        ______TS("Missing response: no details");
+
+        assertNull(fra.getResponseDetails());
+
+        ______TS("Repeated calls: details are parsed only once");
+
+        fra.responseMetaData = new Text("Text answer");
+        FeedbackResponseDetails parsedDetails = fra.getResponseDetails();
+
+        assertEquals("Text answer", parsedDetails.getAnswerString());
+        assertSame(parsedDetails, fra.getResponseDetails());
+
+        ______TS("Metadata changed: details are parsed again");
+
+        fra.setResponseDetails(new FeedbackTextResponseDetails("Changed answer"));
+
+        assertNotSame(parsedDetails, fra.getResponseDetails());
+        assertEquals("Changed answer", fra.getResponseDetails().getAnswerString());
+    }
+
 }
@@ -0,0 +1,68 @@
+package teammates.test.cases.logic;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.logic.core.CourseRosterCache;
+import teammates.logic.core.StudentsLogic;
+
+/**
+ * SUT: {@link CourseRosterCache}.
+ */
+public class CourseRosterCacheTest extends BaseLogicTest {
+
+    private static final StudentsLogic studentsLogic = StudentsLogic.inst();
+
+    @AfterMethod
+    public void endRequestScope() {
+        CourseRosterCache.endRequest();
+    }
+
+    @Test
+    public void testGetCourseRoster_outsideRequestScope_shouldLoadEveryTime() {
+        StudentAttributes student = dataBundle.students.get("student1InCourse1");
+
+        CourseRoster roster = CourseRosterCache.getCourseRoster(student.course);
+
+        assertEquals(student.email, roster.getStudentForEmail(student.email).email);
+        assertNotSame(roster, CourseRosterCache.getCourseRoster(student.course));
+        assertNull(CourseRosterCache.getCachedCourseRoster(student.course));
+    }
+
+    @Test
+    public void testGetCourseRoster_insideRequestScope_shouldLoadOncePerCourse() throws Exception {
+        StudentAttributes student = dataBundle.students.get("student1InCourse1");
+        InstructorAttributes instructor = dataBundle.instructors.get("instructor1OfCourse1");
+
+        CourseRosterCache.startRequest();
+
+        ______TS("roster is reused within the request");
+
+        CourseRoster roster = CourseRosterCache.getCourseRoster(student.course);
+        assertSame(roster, CourseRosterCache.getCourseRoster(student.course));
+        assertSame(roster, CourseRosterCache.getCachedCourseRoster(student.course));
+        assertEquals(instructor.email, roster.getInstructorForEmail(instructor.email).email);
+        assertNull(CourseRosterCache.getCachedCourseRoster("non-existent-course"));
+
+        ______TS("updating a student invalidates the roster of the course");
+
+        StudentAttributes studentToUpdate = studentsLogic.getStudentForEmail(student.course, student.email);
+        studentToUpdate.comments = "comments updated within the request";
+        studentsLogic.updateStudentCascadeWithoutDocument(student.email, studentToUpdate);
+
+        assertNull(CourseRosterCache.getCachedCourseRoster(student.course));
+        CourseRoster reloadedRoster = CourseRosterCache.getCourseRoster(student.course);
+        assertNotSame(roster, reloadedRoster);
+        assertEquals("comments updated within the request",
+                reloadedRoster.getStudentForEmail(student.email).comments);
+
+        ______TS("ending the request discards the cached rosters");
+
+        CourseRosterCache.endRequest();
+        assertNull(CourseRosterCache.getCachedCourseRoster(student.course));
+    }
+
+}
@@ -1,5 +1,8 @@
 package teammates.test.cases.logic;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import javax.mail.Message;
 import javax.mail.internet.InternetAddress;
 import javax.mail.internet.MimeMessage;
@@ -14,17 +17,21 @@ import com.mailjet.client.resource.Email;
 import com.sendgrid.Mail;
 import com.sun.jersey.multipart.FormDataMultiPart;
 
+import teammates.common.util.EmailSendingResult;
 import teammates.common.util.EmailWrapper;
+import teammates.logic.core.EmailSenderService;
 import teammates.logic.core.JavamailService;
 import teammates.logic.core.MailgunService;
 import teammates.logic.core.MailjetService;
 import teammates.logic.core.SendgridService;
+import teammates.test.driver.FakeEmailSenderService;
 
 /**
  * SUT: {@link JavamailService},
  *      {@link SendgridService},
  *      {@link MailgunService},
- *      {@link MailjetService}.
+ *      {@link MailjetService},
+ *      {@link EmailSenderService}.
  */
 public class EmailSenderTest extends BaseLogicTest {
 
@@ -116,4 +123,103 @@ public class EmailSenderTest extends BaseLogicTest {
         assertEquals(wrapper.getContent(), email.get(Email.HTMLPART));
     }
 
+    private List<EmailWrapper> getTypicalBulkEmailWrappers() {
+        List<EmailWrapper> wrappers = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            EmailWrapper wrapper = getTypicalEmailWrapper();
+            wrapper.setRecipient("recipient" + i + "@email.com");
+            wrapper.setBcc(null);
+            wrappers.add(wrapper);
+        }
+        return wrappers;
+    }
+
+    @Test
+    public void testConvertToBulkSendgrid() {
+        List<EmailWrapper> wrappers = getTypicalBulkEmailWrappers();
+        Mail email = new SendgridService().parseToBulkEmail(wrappers);
+
+        assertEquals(wrappers.size(), email.personalization.size());
+        for (int i = 0; i < wrappers.size(); i++) {
+            assertEquals(wrappers.get(i).getRecipient(), email.personalization.get(i).getTos().get(0).getEmail());
+        }
+        assertEquals(wrappers.get(0).getSubject(), email.getSubject());
+        assertEquals(wrappers.get(0).getContent(), email.getContent().get(1).getValue());
+    }
+
+    @Test
+    public void testConvertToBulkMailgun() throws Exception {
+        List<EmailWrapper> wrappers = getTypicalBulkEmailWrappers();
+        try (FormDataMultiPart formData = new MailgunService().parseToBulkEmail(wrappers)) {
+
+            assertEquals(wrappers.size(), formData.getFields("to").size());
+            for (int i = 0; i < wrappers.size(); i++) {
+                assertEquals(wrappers.get(i).getRecipient(), formData.getFields("to").get(i).getValue());
+            }
+            JSONObject recipientVariables = new JSONObject(formData.getField("recipient-variables").getValue());
+            assertEquals(wrappers.size(), recipientVariables.length());
+            assertEquals(wrappers.get(0).getSubject(), formData.getField("subject").getValue());
+        }
+    }
+
+    @Test
+    public void testConvertToBulkMailjet() {
+        List<EmailWrapper> wrappers = getTypicalBulkEmailWrappers();
+        wrappers.get(1).setContent("<p>This is another test content</p>");
+        MailjetRequest request = new MailjetService().parseToBulkEmail(wrappers);
+        JSONArray messages = new JSONObject(request.getBody()).getJSONArray("Messages");
+
+        assertEquals(wrappers.size(), messages.length());
+        for (int i = 0; i < wrappers.size(); i++) {
+            JSONObject message = messages.getJSONObject(i);
+            assertEquals(wrappers.get(i).getRecipient(),
+                         ((JSONArray) message.get(Email.RECIPIENTS)).getJSONObject(0).get("Email"));
+            assertEquals(wrappers.get(i).getContent(), message.get(Email.HTMLPART));
+        }
+    }
+
+    @Test
+    public void testSendEmails() {
+        FakeEmailSenderService service = new FakeEmailSenderService(2);
+
+        ______TS("emails differing only in recipients are sent together, up to the maximum per call");
+
+        List<EmailWrapper> wrappers = getTypicalBulkEmailWrappers();
+        EmailWrapper otherContentEmail = getTypicalEmailWrapper();
+        otherContentEmail.setBcc(null);
+        otherContentEmail.setContent("<p>This is another test content</p>");
+        wrappers.add(otherContentEmail);
+        EmailWrapper bccEmail = getTypicalEmailWrapper();
+        wrappers.add(bccEmail);
+
+        List<EmailSendingResult> results = service.sendEmails(wrappers);
+
+        // [recipient0, recipient1], [recipient2], [other content], [bcc]
+        assertEquals(4, service.getCalls().size());
+        assertEquals(2, service.getCalls().get(0).size());
+        assertEquals(wrappers.get(2), service.getCalls().get(1).get(0));
+        assertEquals(otherContentEmail, service.getCalls().get(2).get(0));
+        assertEquals(bccEmail, service.getCalls().get(3).get(0));
+
+        assertEquals(wrappers.size(), results.size());
+        for (int i = 0; i < wrappers.size(); i++) {
+            assertEquals(wrappers.get(i), results.get(i).getEmail());
+            assertTrue(results.get(i).isSuccessful());
+        }
+
+        ______TS("failure of a call is reported for each of its recipients only");
+
+        service = new FakeEmailSenderService(2);
+        service.failForRecipient("recipient1@email.com");
+
+        results = service.sendEmails(wrappers);
+
+        assertFalse(results.get(0).isSuccessful());
+        assertFalse(results.get(1).isSuccessful());
+        assertTrue(results.get(1).getError().getMessage().contains("recipient1@email.com"));
+        for (int i = 2; i < wrappers.size(); i++) {
+            assertTrue(results.get(i).isSuccessful());
+        }
+    }
+
 }
@@ -1,7 +1,10 @@
 package teammates.test.cases.logic;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
@@ -24,6 +27,7 @@ import teammates.common.datatransfer.questions.FeedbackQuestionType;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
+import teammates.common.exception.TeammatesException;
 import teammates.logic.core.FeedbackQuestionsLogic;
 import teammates.logic.core.FeedbackResponseCommentsLogic;
 import teammates.logic.core.FeedbackResponsesLogic;
@@ -56,7 +60,9 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
     public void allTests() throws Exception {
         testIsNameVisibleTo();
         testGetViewableResponsesForQuestionInSection();
+        testGetViewableResponsesForQuestionInSectionFromLoadedResponses();
         testUpdateFeedbackResponse();
+        testUpdateFeedbackResponsesForChangingEnrollments();
         testUpdateFeedbackResponsesForChangingTeam();
         testUpdateFeedbackResponsesForChangingTeam_deleteLastResponse_decreaseResponseRate();
         testUpdateFeedbackResponsesForChangingTeam_deleteNotLastResponse_sameResponseRate();
@@ -64,6 +70,9 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
         testDeleteFeedbackResponsesForStudent();
         testSpecialCharactersInTeamName();
         testDeleteFeedbackResponsesForCourse();
+        testUpdateAndDeleteFeedbackResponsesInBatch();
+        testDeleteFeedbackResponsesForQuestionAndCascade();
+        testDeleteFeedbackResponsesForSessionBatch();
     }
 
     private void testSpecialCharactersInTeamName() {
@@ -219,6 +228,63 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
         }
     }
 
+    private void testUpdateFeedbackResponsesForChangingEnrollments() throws Exception {
+
+        FeedbackResponseAttributes responseFromStudent4 = getResponseFromDatastore("response1ForQ2S2C1");
+        FeedbackResponseAttributes responseFromStudent1 = getResponseFromDatastore("response2ForQ2S2C1");
+        String sessionName = responseFromStudent4.feedbackSessionName;
+        String courseId = responseFromStudent4.courseId;
+        StudentAttributes student1InCourse1 = dataBundle.students.get("student1InCourse1");
+        StudentAttributes student2InCourse1 = dataBundle.students.get("student2InCourse1");
+
+        ______TS("unmodified status: no response is changed");
+
+        List<StudentEnrollDetails> enrollmentList = new ArrayList<>();
+        enrollmentList.add(new StudentEnrollDetails(StudentUpdateStatus.UNMODIFIED, courseId,
+                                                    student1InCourse1.email, student1InCourse1.team,
+                                                    student1InCourse1.team + "tmp", student1InCourse1.section,
+                                                    student1InCourse1.section + "tmp"));
+
+        frLogic.updateFeedbackResponsesForChangingEnrollments(sessionName, courseId, enrollmentList);
+
+        assertNotNull(getResponseFromDatastore("response1ForQ2S2C1"));
+        assertNotNull(getResponseFromDatastore("response2ForQ2S2C1"));
+
+        // the response from student 4 to student 2 is not given by or to student 1, so it is kept
+        ______TS("change of team: only the team responses of the student are deleted");
+
+        enrollmentList = new ArrayList<>();
+        enrollmentList.add(new StudentEnrollDetails(StudentUpdateStatus.MODIFIED, courseId,
+                                                    student1InCourse1.email, student1InCourse1.team,
+                                                    student1InCourse1.team + "tmp", student1InCourse1.section,
+                                                    student1InCourse1.section + "tmp"));
+
+        frLogic.updateFeedbackResponsesForChangingEnrollments(sessionName, courseId, enrollmentList);
+
+        FeedbackResponseAttributes responseAfter = getResponseFromDatastore("response1ForQ2S2C1");
+        assertEquals(responseFromStudent4.getId(), responseAfter.getId());
+        assertEquals(responseFromStudent4.giverSection, responseAfter.giverSection);
+        assertEquals(responseFromStudent4.recipientSection, responseAfter.recipientSection);
+        assertNull(getResponseFromDatastore("response2ForQ2S2C1"));
+
+        // the question's recipient type is own team members, so the response to student 2 is deleted
+        ______TS("change of team of the recipient: response deleted");
+
+        enrollmentList = new ArrayList<>();
+        enrollmentList.add(new StudentEnrollDetails(StudentUpdateStatus.MODIFIED, courseId,
+                                                    student2InCourse1.email, student2InCourse1.team,
+                                                    student2InCourse1.team + "tmp", student2InCourse1.section,
+                                                    student2InCourse1.section + "tmp"));
+
+        frLogic.updateFeedbackResponsesForChangingEnrollments(sessionName, courseId, enrollmentList);
+
+        assertNull(getResponseFromDatastore("response1ForQ2S2C1"));
+
+        // restore DataStore so other tests are unaffected
+        restoreStudentFeedbackResponseToDatastore(responseFromStudent4);
+        restoreStudentFeedbackResponseToDatastore(responseFromStudent1);
+    }
+
     private void testUpdateFeedbackResponsesForChangingTeam() throws Exception {
 
         ______TS("standard update team case");
@@ -508,6 +574,57 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
         }
     }
 
+    private void testGetViewableResponsesForQuestionInSectionFromLoadedResponses() {
+
+        ______TS("success: filtering loaded responses gives the same responses as querying - instructor");
+
+        InstructorAttributes instructor = dataBundle.instructors.get("instructor1OfCourse1");
+        for (String questionJsonId : new String[] { "qn1InSession1InCourse1", "qn2InSession1InCourse1",
+                                                    "qn3InSession1InCourse1", "qn4InSession1InCourse1" }) {
+            FeedbackQuestionAttributes fq = getQuestionFromDatastore(questionJsonId);
+            for (String section : new String[] { null, "Section 1", "Section 2" }) {
+                verifyViewableResponsesFromLoadedResponses(fq, instructor.email, UserRole.INSTRUCTOR, section);
+            }
+        }
+
+        ______TS("success: filtering loaded responses gives the same responses as querying - student");
+
+        for (String studentJsonId : new String[] { "student1InCourse1", "student2InCourse1", "student5InCourse1" }) {
+            StudentAttributes student = dataBundle.students.get(studentJsonId);
+            for (String questionJsonId : new String[] { "qn1InSession1InCourse1", "qn2InSession1InCourse1",
+                                                        "qn3InSession1InCourse1", "qn4InSession1InCourse1" }) {
+                FeedbackQuestionAttributes fq = getQuestionFromDatastore(questionJsonId);
+                verifyViewableResponsesFromLoadedResponses(fq, student.email, UserRole.STUDENT, null);
+            }
+        }
+    }
+
+    private void verifyViewableResponsesFromLoadedResponses(
+            FeedbackQuestionAttributes question, String userEmail, UserRole role, String section) {
+        StudentAttributes student = StudentsLogic.inst().getStudentForEmail(question.courseId, userEmail);
+        Set<String> studentsEmailInTeam = new HashSet<>();
+        if (student != null) {
+            for (StudentAttributes teammate : StudentsLogic.inst().getStudentsForTeam(student.team, student.course)) {
+                studentsEmailInTeam.add(teammate.email);
+            }
+        }
+
+        Set<String> expectedResponseIds = new HashSet<>();
+        for (FeedbackResponseAttributes response
+                : frLogic.getViewableFeedbackResponsesForQuestionInSection(question, userEmail, role, section)) {
+            expectedResponseIds.add(response.getId());
+        }
+
+        Set<String> actualResponseIds = new HashSet<>();
+        for (FeedbackResponseAttributes response : frLogic.getViewableFeedbackResponsesForQuestionInSection(
+                question, frLogic.getFeedbackResponsesForQuestion(question.getId()),
+                userEmail, role, section, student, studentsEmailInTeam)) {
+            actualResponseIds.add(response.getId());
+        }
+
+        assertEquals(expectedResponseIds, actualResponseIds);
+    }
+
     private void testIsNameVisibleTo() {
 
         ______TS("testIsNameVisibleTo");
@@ -657,6 +774,130 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
 
     }
 
+    private void testUpdateAndDeleteFeedbackResponsesInBatch() throws Exception {
+
+        ______TS("failure: no such response, the other responses are still updated");
+
+        FeedbackResponseAttributes responseToUpdate = getResponseFromDatastore("response1ForQ1S2C2");
+        responseToUpdate.responseMetaData = new Text("Updated Response in batch");
+        FeedbackResponseAttributes otherResponseToUpdate = getResponseFromDatastore("response1ForQ1S1C2");
+        otherResponseToUpdate.responseMetaData = new Text("Other Updated Response in batch");
+        otherResponseToUpdate.setId("invalidId");
+
+        try {
+            frLogic.updateFeedbackResponses(Arrays.asList(responseToUpdate, otherResponseToUpdate));
+            signalFailureToDetectException("Should have detected that this response does not exist");
+        } catch (EntityDoesNotExistException e) {
+            AssertHelper.assertContains(
+                        "Trying to update a feedback response that does not exist.",
+                        e.getMessage());
+        }
+        assertEquals("Updated Response in batch",
+                getResponseFromDatastore("response1ForQ1S2C2").responseMetaData.getValue());
+        assertFalse(getResponseFromDatastore("response1ForQ1S1C2").responseMetaData.getValue()
+                .equals("Other Updated Response in batch"));
+
+        ______TS("failure: one response cannot be updated, the valid responses beside it are still updated");
+
+        FeedbackResponseAttributes clashingResponse = getResponseFromDatastore("response1ForQ1S1C2");
+        FeedbackResponseAttributes existingResponse = new FeedbackResponseAttributes(clashingResponse);
+        existingResponse.setId(null);
+        existingResponse.recipient = "existing.recipient@gmail.tmt";
+        frLogic.createFeedbackResponse(existingResponse);
+        clashingResponse.recipient = existingResponse.recipient;
+        clashingResponse.responseMetaData = new Text("Clashing Updated Response in batch");
+
+        responseToUpdate.responseMetaData = new Text("Updated Response in batch again");
+
+        List<TeammatesException> exceptions =
+                frLogic.updateFeedbackResponses(Arrays.asList(clashingResponse, responseToUpdate));
+
+        assertEquals(1, exceptions.size());
+        assertTrue(exceptions.get(0) instanceof EntityAlreadyExistsException);
+        assertEquals("Updated Response in batch again",
+                getResponseFromDatastore("response1ForQ1S2C2").responseMetaData.getValue());
+        assertFalse(getResponseFromDatastore("response1ForQ1S1C2").responseMetaData.getValue()
+                .equals("Clashing Updated Response in batch"));
+        frLogic.deleteFeedbackResponsesAndCascade(
+                Arrays.asList(frLogic.getFeedbackResponse(existingResponse.feedbackQuestionId,
+                        existingResponse.giver, existingResponse.recipient)));
+
+        ______TS("success: responses updated together");
+
+        responseToUpdate.responseMetaData = new Text("Updated Response in batch");
+        otherResponseToUpdate.setId(getResponseFromDatastore("response1ForQ1S1C2").getId());
+
+        assertTrue(frLogic.updateFeedbackResponses(Arrays.asList(responseToUpdate, otherResponseToUpdate)).isEmpty());
+
+        assertEquals("Updated Response in batch",
+                getResponseFromDatastore("response1ForQ1S2C2").responseMetaData.getValue());
+        assertEquals("Other Updated Response in batch",
+                getResponseFromDatastore("response1ForQ1S1C2").responseMetaData.getValue());
+
+        ______TS("success: responses and their comments deleted together");
+
+        List<FeedbackResponseAttributes> responsesToDelete = Arrays.asList(responseToUpdate, otherResponseToUpdate);
+        assertFalse(getFeedbackResponseCommentsForResponsesFromDatastore(responsesToDelete).isEmpty());
+
+        frLogic.deleteFeedbackResponsesAndCascade(responsesToDelete);
+
+        assertNull(getResponseFromDatastore("response1ForQ1S2C2"));
+        assertNull(getResponseFromDatastore("response1ForQ1S1C2"));
+        assertTrue(getFeedbackResponseCommentsForResponsesFromDatastore(responsesToDelete).isEmpty());
+    }
+
+    private void testDeleteFeedbackResponsesForQuestionAndCascade() {
+
+        ______TS("givers left without responses are removed from the respondents");
+
+        FeedbackQuestionAttributes question = getQuestionFromDatastore(questionTypeBundle, "qn2InRANKSession");
+        String onlyRespondentOfQuestion = "student5InCourse1@gmail.tmt";
+        String otherRespondent = "student4InCourse1@gmail.tmt";
+
+        assertFalse(frLogic.getFeedbackResponsesForQuestion(question.getId()).isEmpty());
+        Set<String> respondents = fsLogic.getFeedbackSession(question.feedbackSessionName, question.courseId)
+                .getRespondingStudentList();
+        assertTrue(respondents.contains(onlyRespondentOfQuestion));
+        assertTrue(respondents.contains(otherRespondent));
+
+        frLogic.deleteFeedbackResponsesForQuestionAndCascade(question.getId(), true);
+
+        assertTrue(frLogic.getFeedbackResponsesForQuestion(question.getId()).isEmpty());
+        respondents = fsLogic.getFeedbackSession(question.feedbackSessionName, question.courseId)
+                .getRespondingStudentList();
+        assertFalse(respondents.contains(onlyRespondentOfQuestion));
+        assertTrue(respondents.contains(otherRespondent));
+
+        ______TS("no response rate update");
+
+        question = getQuestionFromDatastore(questionTypeBundle, "qn1InRANKSession");
+        assertFalse(frLogic.getFeedbackResponsesForQuestion(question.getId()).isEmpty());
+
+        frLogic.deleteFeedbackResponsesForQuestionAndCascade(question.getId(), false);
+
+        assertTrue(frLogic.getFeedbackResponsesForQuestion(question.getId()).isEmpty());
+        respondents = fsLogic.getFeedbackSession(question.feedbackSessionName, question.courseId)
+                .getRespondingStudentList();
+        assertTrue(respondents.contains(otherRespondent));
+    }
+
+    private void testDeleteFeedbackResponsesForSessionBatch() {
+
+        ______TS("all responses of a small session deleted in one batch");
+
+        FeedbackQuestionAttributes question = getQuestionFromDatastore(questionTypeBundle, "qn1InSession2InCourse1");
+        assertFalse(frLogic.getFeedbackResponsesForSession(question.feedbackSessionName, question.courseId).isEmpty());
+
+        assertFalse(frLogic.deleteFeedbackResponsesForSessionBatch(question.feedbackSessionName, question.courseId));
+
+        assertTrue(frLogic.getFeedbackResponsesForSession(question.feedbackSessionName, question.courseId).isEmpty());
+        assertTrue(frcLogic.getFeedbackResponseCommentForSession(question.courseId, question.feedbackSessionName)
+                .isEmpty());
+
+        // responses in other sessions are unaffected
+        assertFalse(frLogic.getFeedbackResponsesForSession("NUMSCALE Session", question.courseId).isEmpty());
+    }
+
     private FeedbackQuestionAttributes getQuestionFromDatastore(DataBundle dataBundle, String jsonId) {
         FeedbackQuestionAttributes questionToGet = dataBundle.feedbackQuestions.get(jsonId);
         questionToGet = fqLogic.getFeedbackQuestion(questionToGet.feedbackSessionName,
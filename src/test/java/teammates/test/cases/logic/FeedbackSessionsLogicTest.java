@@ -1,13 +1,16 @@
 package teammates.test.cases.logic;
 
+import java.io.StringWriter;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.apache.commons.lang3.StringUtils;
 import org.testng.annotations.Test;
@@ -33,6 +36,8 @@ import teammates.common.util.TimeHelper;
 import teammates.logic.core.FeedbackQuestionsLogic;
 import teammates.logic.core.FeedbackResponsesLogic;
 import teammates.logic.core.FeedbackSessionsLogic;
+import teammates.logic.core.InstructorsLogic;
+import teammates.logic.core.StudentsLogic;
 import teammates.test.driver.AssertHelper;
 import teammates.test.driver.TimeHelperExtension;
 
@@ -43,6 +48,8 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
     private static FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
     private static FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
     private static FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
+    private static StudentsLogic studentsLogic = StudentsLogic.inst();
+    private static InstructorsLogic instructorsLogic = InstructorsLogic.inst();
 
     @Override
     protected void prepareTestData() {
@@ -61,6 +68,7 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
         testGetFeedbackSessionDetailsForInstructor();
         testGetFeedbackSessionQuestionsForStudent();
         testGetFeedbackSessionQuestionsForInstructor();
+        testGetFeedbackSessionResultsForInstructorFromSectionPage();
         testGetFeedbackSessionResultsForUser();
         testGetFeedbackSessionResultsSummaryAsCsv();
         testIsFeedbackSessionViewableToStudents();
@@ -75,6 +83,8 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
         testIsFeedbackSessionCompletedByStudent();
         testIsFeedbackSessionCompletedByInstructor();
         testIsFeedbackSessionFullyCompletedByStudent();
+        testGetFeedbackSessionNonRespondents();
+        testGetStudentsWhoHaveNotFullyCompletedFeedbackSession();
 
         testDeleteFeedbackSessionsForCourse();
     }
@@ -504,6 +514,55 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
         assertEquals(0, stats.expectedTotal);
         assertEquals(0, stats.submittedTotal);
 
+        ______TS("expected respondent count computed by reads is not stored, but recorded for a refresh");
+
+        FeedbackSessionAttributes noResponsesSession = newDataBundle.feedbackSessions.get("no.responses.session");
+        fsLogic.clearExpectedRespondentCount(
+                noResponsesSession.getFeedbackSessionName(), noResponsesSession.getCourseId());
+        FeedbackSessionAttributes storedSession = fsLogic.getFeedbackSession(
+                noResponsesSession.getFeedbackSessionName(), noResponsesSession.getCourseId());
+        assertNull(storedSession.getExpectedRespondentCount());
+
+        fsLogic.startDeferringExpectedRespondentCountRefreshes();
+        assertEquals(2, fsLogic.getFeedbackSessionDetails(storedSession).stats.expectedTotal);
+        List<FeedbackSessionAttributes> sessionsToRefresh = fsLogic.stopDeferringExpectedRespondentCountRefreshes();
+        assertEquals(1, sessionsToRefresh.size());
+        assertEquals(storedSession.getIdentificationString(), sessionsToRefresh.get(0).getIdentificationString());
+        assertNull(fsLogic.getFeedbackSession(
+                noResponsesSession.getFeedbackSessionName(), noResponsesSession.getCourseId())
+                .getExpectedRespondentCount());
+        assertTrue(fsLogic.stopDeferringExpectedRespondentCountRefreshes().isEmpty());
+
+        ______TS("expected respondent count is stored by refreshing it and cleared when the roster changes");
+
+        assertEquals(2, fsLogic.refreshExpectedRespondentCount(storedSession));
+        assertEquals(Integer.valueOf(2), fsLogic.getFeedbackSession(
+                noResponsesSession.getFeedbackSessionName(), noResponsesSession.getCourseId())
+                .getExpectedRespondentCount());
+
+        StudentAttributes studentToDelete = newDataBundle.students.get("student1InCourse2");
+        studentsLogic.deleteStudentCascade(studentToDelete.course, studentToDelete.email);
+        storedSession = fsLogic.getFeedbackSession(
+                noResponsesSession.getFeedbackSessionName(), noResponsesSession.getCourseId());
+        assertNull(storedSession.getExpectedRespondentCount());
+
+        stats = fsLogic.getFeedbackSessionDetails(storedSession).stats;
+        // 1 instructor, no students
+        assertEquals(1, stats.expectedTotal);
+        assertNull(fsLogic.getFeedbackSession(
+                noResponsesSession.getFeedbackSessionName(), noResponsesSession.getCourseId())
+                .getExpectedRespondentCount());
+
+        ______TS("stale expected respondent count is repaired by refreshing it");
+
+        storedSession.setExpectedRespondentCount(100);
+        assertEquals(100, fsLogic.getFeedbackSessionDetails(storedSession).stats.expectedTotal);
+        assertEquals(1, fsLogic.refreshExpectedRespondentCount(storedSession));
+        assertEquals(1, fsLogic.getFeedbackSessionDetails(storedSession).stats.expectedTotal);
+        assertEquals(Integer.valueOf(1), fsLogic.getFeedbackSession(
+                noResponsesSession.getFeedbackSessionName(), noResponsesSession.getCourseId())
+                .getExpectedRespondentCount());
+
         ______TS("instructor does not exist");
 
         assertTrue(fsLogic.getFeedbackSessionDetailsForInstructor("non-existent.google.id").isEmpty());
@@ -749,6 +808,71 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
         }
     }
 
+    private void testGetFeedbackSessionResultsForInstructorFromSectionPage() throws Exception {
+
+        ______TS("more givers than the page size: read page by page, without splitting the responses of a giver");
+
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get("session1InCourse1");
+        InstructorAttributes instructor = dataBundle.instructors.get("instructor1OfCourse1");
+        String section = "Section 1";
+        int pageSize = 1;
+
+        FeedbackSessionResultsBundle allResults = fsLogic.getFeedbackSessionResultsForInstructorFromSection(
+                session.getFeedbackSessionName(), session.getCourseId(), instructor.email, section);
+        assertTrue(allResults.responses.size() > pageSize);
+
+        List<String> studentsInSection = new ArrayList<>();
+        for (StudentAttributes student : dataBundle.students.values()) {
+            if (student.course.equals(session.getCourseId()) && student.section.equals(section)) {
+                studentsInSection.add(student.email);
+            }
+        }
+        Map<String, Integer> numberOfPagesCoveringStudent = new HashMap<>();
+
+        List<String> responseIds = new ArrayList<>();
+        Set<String> giversOfPreviousPages = new HashSet<>();
+        String cursor = null;
+        int numberOfPages = 0;
+        do {
+            FeedbackSessionResultsBundle page = fsLogic.getFeedbackSessionResultsForInstructorFromSectionPage(
+                    session.getFeedbackSessionName(), session.getCourseId(), instructor.email, section,
+                    cursor, pageSize);
+            numberOfPages++;
+            cursor = page.getNextCursor();
+
+            // pages are complete for their givers, whether or not more pages follow
+            assertTrue(page.isComplete);
+            assertEquals(cursor != null, page.hasNextPage());
+
+            Set<String> giversOfPage = new HashSet<>();
+            for (FeedbackResponseAttributes response : page.responses) {
+                responseIds.add(response.getId());
+                giversOfPage.add(response.giver);
+                assertTrue(page.isParticipantOnPage(response.giver));
+            }
+            assertTrue(Collections.disjoint(giversOfPreviousPages, giversOfPage));
+            giversOfPreviousPages.addAll(giversOfPage);
+
+            for (String student : studentsInSection) {
+                if (page.isParticipantOnPage(student)) {
+                    numberOfPagesCoveringStudent.merge(student, 1, Integer::sum);
+                }
+            }
+        } while (cursor != null);
+
+        assertTrue(numberOfPages > 1);
+        assertEquals(allResults.responses.size(), responseIds.size());
+        assertEquals(responseIds.size(), new HashSet<>(responseIds).size());
+        for (FeedbackResponseAttributes response : allResults.responses) {
+            assertTrue(responseIds.contains(response.getId()));
+        }
+
+        // missing responses of every student are shown on exactly one page
+        for (String student : studentsInSection) {
+            assertEquals(Integer.valueOf(1), numberOfPagesCoveringStudent.get(student));
+        }
+    }
+
     private void testGetFeedbackSessionResultsForUser() throws Exception {
 
         // This file contains a session with a private session + a standard
@@ -1139,6 +1263,51 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
         session = testGetFeedbackSessionResultsSummaryAsCsvExpectingConstSumResults(newDataBundle);
         testGetFeedbackSessionResultsSummaryAsCsvWithoutPrivilege(newDataBundle, session);
         testGetFeedbackSessionResultsSummaryAsCsvWithContribVariation(newDataBundle);
+        testWriteFeedbackSessionResultsSummaryAsCsv(newDataBundle);
+    }
+
+    private void testWriteFeedbackSessionResultsSummaryAsCsv(DataBundle newDataBundle) throws Exception {
+        ______TS("streamed csv is identical to the csv built in memory");
+
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get("session1InCourse1");
+        InstructorAttributes instructor = dataBundle.instructors.get("instructor1OfCourse1");
+        String questionId = fqLogic.getFeedbackQuestion(session.getFeedbackSessionName(), session.getCourseId(), 2)
+                .getId();
+
+        verifyStreamedCsvIsIdentical(new FeedbackSessionIdentification(session.getFeedbackSessionName(),
+                session.getCourseId(), instructor.email, null, null, true, true));
+        verifyStreamedCsvIsIdentical(new FeedbackSessionIdentification(session.getFeedbackSessionName(),
+                session.getCourseId(), instructor.email, null, null, false, false));
+        verifyStreamedCsvIsIdentical(new FeedbackSessionIdentification(session.getFeedbackSessionName(),
+                session.getCourseId(), instructor.email, "Section 1", null, true, true));
+        verifyStreamedCsvIsIdentical(new FeedbackSessionIdentification(session.getFeedbackSessionName(),
+                session.getCourseId(), instructor.email, null, questionId, true, true));
+
+        instructor = newDataBundle.instructors.get("instructor1OfCourse1");
+        for (FeedbackSessionAttributes questionTypeSession : newDataBundle.feedbackSessions.values()) {
+            verifyStreamedCsvIsIdentical(new FeedbackSessionIdentification(questionTypeSession.getFeedbackSessionName(),
+                    questionTypeSession.getCourseId(), instructor.email, null, null, true, true));
+        }
+
+        ______TS("streaming csv for non-existent session");
+
+        try {
+            fsLogic.writeFeedbackSessionResultsSummaryAsCsv(new FeedbackSessionIdentification(
+                    "non.existent", "no course", instructor.email, null, null, true, true), new StringWriter());
+            signalFailureToDetectException("Failed to detect non-existent feedback session.");
+        } catch (EntityDoesNotExistException e) {
+            assertEquals("Trying to view a non-existent feedback session: no course/non.existent", e.getMessage());
+        }
+    }
+
+    private void verifyStreamedCsvIsIdentical(FeedbackSessionIdentification feedbackSessionIdentification)
+            throws Exception {
+        String expected = fsLogic.getFeedbackSessionResultsSummaryAsCsv(feedbackSessionIdentification);
+
+        StringWriter streamed = new StringWriter();
+        fsLogic.writeFeedbackSessionResultsSummaryAsCsv(feedbackSessionIdentification, streamed);
+
+        assertEquals(expected, streamed.toString());
     }
 
     private void testGetFeedbackSessionResultsSummaryAsCsvExpectingMSQResultsNoStatistics(DataBundle newDataBundle) throws EntityDoesNotExistException, ExceedingRangeException {
@@ -2173,6 +2342,77 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
                                                                      student3OfCourse1.email));
     }
 
+    private void testGetFeedbackSessionNonRespondents() throws Exception {
+
+        ______TS("success: same users as checking completion of each user of the course");
+
+        FeedbackSessionAttributes fs = dataBundle.feedbackSessions.get("session1InCourse1");
+        // re-read from Datastore to get the respondent lists
+        fs = fsLogic.getFeedbackSession(fs.getFeedbackSessionName(), fs.getCourseId());
+
+        List<StudentAttributes> expectedStudents = new ArrayList<>();
+        for (StudentAttributes student : studentsLogic.getStudentsForCourse(fs.getCourseId())) {
+            if (!fsLogic.isFeedbackSessionCompletedByStudent(fs, student.email)) {
+                expectedStudents.add(student);
+            }
+        }
+        List<InstructorAttributes> expectedInstructors = new ArrayList<>();
+        for (InstructorAttributes instructor : instructorsLogic.getInstructorsForCourse(fs.getCourseId())) {
+            if (!fsLogic.isFeedbackSessionCompletedByInstructor(fs, instructor.email)) {
+                expectedInstructors.add(instructor);
+            }
+        }
+
+        FeedbackSessionNonRespondents nonRespondents = fsLogic.getFeedbackSessionNonRespondents(fs);
+
+        assertFalse(nonRespondents.getStudents().isEmpty());
+        AssertHelper.assertSameContentIgnoreOrder(expectedStudents, nonRespondents.getStudents());
+        AssertHelper.assertSameContentIgnoreOrder(expectedInstructors, nonRespondents.getInstructors());
+
+        ______TS("success: empty session");
+
+        fs = dataBundle.feedbackSessions.get("empty.session");
+
+        nonRespondents = fsLogic.getFeedbackSessionNonRespondents(fs);
+
+        assertTrue(nonRespondents.getStudents().isEmpty());
+        assertTrue(nonRespondents.getInstructors().isEmpty());
+    }
+
+    private void testGetStudentsWhoHaveNotFullyCompletedFeedbackSession() throws Exception {
+
+        ______TS("success: same students as checking full completion of each student of the course");
+
+        FeedbackSessionAttributes fs = dataBundle.feedbackSessions.get("session1InCourse1");
+
+        List<StudentAttributes> expectedStudents = new ArrayList<>();
+        for (StudentAttributes student : studentsLogic.getStudentsForCourse(fs.getCourseId())) {
+            if (!fsLogic.isFeedbackSessionFullyCompletedByStudent(
+                    fs.getFeedbackSessionName(), fs.getCourseId(), student.email)) {
+                expectedStudents.add(student);
+            }
+        }
+
+        List<StudentAttributes> actualStudents = fsLogic.getStudentsWhoHaveNotFullyCompletedFeedbackSession(fs);
+
+        AssertHelper.assertSameContentIgnoreOrder(expectedStudents, actualStudents);
+        assertFalse(actualStudents.contains(
+                studentsLogic.getStudentForEmail(fs.getCourseId(), dataBundle.students.get("student1InCourse1").email)));
+        assertTrue(actualStudents.contains(
+                studentsLogic.getStudentForEmail(fs.getCourseId(), dataBundle.students.get("student3InCourse1").email)));
+
+        ______TS("failure: non-existent feedback session");
+
+        FeedbackSessionAttributes nonExistentFs = getNewFeedbackSession();
+
+        try {
+            fsLogic.getStudentsWhoHaveNotFullyCompletedFeedbackSession(nonExistentFs);
+            signalFailureToDetectException();
+        } catch (EntityDoesNotExistException edne) {
+            assertEquals("Trying to get questions for a feedback session that does not exist.", edne.getMessage());
+        }
+    }
+
     private FeedbackSessionAttributes getNewFeedbackSession() {
         return FeedbackSessionAttributes.builder("fsTest1", "testCourse", "valid@email.tmt")
                 .withFeedbackSessionType(FeedbackSessionType.STANDARD)
@@ -0,0 +1,123 @@
+package teammates.test.cases.logic;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.SearchDocumentUpdates;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.JsonUtils;
+import teammates.common.util.StringHelper;
+import teammates.common.util.TaskWrapper;
+import teammates.logic.api.Logic;
+import teammates.logic.core.SearchDocumentsLogic;
+import teammates.test.driver.MockTaskQueuer;
+
+/**
+ * SUT: {@link SearchDocumentsLogic},
+ *      {@link Logic#startRequestScope()},
+ *      {@link Logic#endRequestScope(teammates.logic.api.TaskQueuer)}.
+ */
+public class SearchDocumentsLogicTest extends BaseLogicTest {
+
+    private static final Logic logic = new Logic();
+
+    @Override
+    protected void prepareTestData() {
+        super.prepareTestData();
+        putDocuments(dataBundle);
+    }
+
+    @AfterMethod
+    public void endRequestScope() {
+        logic.endRequestScope(new MockTaskQueuer());
+    }
+
+    @Test
+    public void testEndRequestScope_deferredWrites_shouldBeScheduled() throws Exception {
+        InstructorAttributes instructor = getInstructor("instructor1OfCourse1");
+        String displayedName = "Displayed Name Scheduled For Indexing";
+
+        logic.startRequestScope();
+        instructor.displayedName = displayedName;
+        logic.updateInstructorByEmail(instructor.email, instructor);
+
+        ______TS("write within the request: deferred");
+
+        assertEquals(0, logic.searchInstructorsInWholeSystem(displayedName).numberOfResults);
+
+        ______TS("end of the request: one task scheduled with the deferred writes");
+
+        MockTaskQueuer taskQueuer = new MockTaskQueuer();
+        logic.endRequestScope(taskQueuer);
+
+        List<SearchDocumentUpdates> scheduledUpdates = getScheduledUpdates(taskQueuer);
+        assertEquals(1, scheduledUpdates.size());
+        SearchDocumentUpdates updates = scheduledUpdates.get(0);
+        assertEquals(Const.SearchIndex.INSTRUCTOR, updates.getIndexName());
+        assertTrue(updates.getDocumentIdsToPut().contains(StringHelper.encrypt(instructor.key)));
+        assertTrue(updates.getDocumentIdsToDelete().isEmpty());
+        assertEquals(0, logic.searchInstructorsInWholeSystem(displayedName).numberOfResults);
+
+        ______TS("scheduled task run: documents written");
+
+        logic.writeSearchDocuments(updates);
+        assertEquals(1, logic.searchInstructorsInWholeSystem(displayedName).numberOfResults);
+    }
+
+    @Test
+    public void testEndRequestScope_schedulingFails_shouldWriteRightAway() throws Exception {
+        InstructorAttributes instructor = getInstructor("instructor2OfCourse1");
+        String displayedName = "Displayed Name Written Right Away";
+
+        logic.startRequestScope();
+        instructor.displayedName = displayedName;
+        logic.updateInstructorByEmail(instructor.email, instructor);
+        assertEquals(0, logic.searchInstructorsInWholeSystem(displayedName).numberOfResults);
+
+        MockTaskQueuer failingTaskQueuer = new MockTaskQueuer() {
+            @Override
+            protected void addDeferredTask(String queueName, String workerUrl, Map<String, String> paramMap,
+                                           long countdownTime) {
+                throw new IllegalStateException("Task queue unavailable");
+            }
+        };
+        logic.endRequestScope(failingTaskQueuer);
+
+        assertTrue(getScheduledUpdates(failingTaskQueuer).isEmpty());
+        assertEquals(1, logic.searchInstructorsInWholeSystem(displayedName).numberOfResults);
+    }
+
+    @Test
+    public void testWrite_outsideRequestScope_shouldWriteRightAway() throws Exception {
+        InstructorAttributes instructor = getInstructor("helperOfCourse1");
+        String displayedName = "Displayed Name Written Outside Request";
+
+        instructor.displayedName = displayedName;
+        logic.updateInstructorByEmail(instructor.email, instructor);
+
+        assertEquals(1, logic.searchInstructorsInWholeSystem(displayedName).numberOfResults);
+    }
+
+    private InstructorAttributes getInstructor(String instructorKey) {
+        InstructorAttributes typicalInstructor = dataBundle.instructors.get(instructorKey);
+        return logic.getInstructorForEmail(typicalInstructor.courseId, typicalInstructor.email);
+    }
+
+    private List<SearchDocumentUpdates> getScheduledUpdates(MockTaskQueuer taskQueuer) {
+        List<SearchDocumentUpdates> scheduledUpdates = new ArrayList<>();
+        for (TaskWrapper task : taskQueuer.getTasksAdded()) {
+            if (Const.TaskQueue.SEARCH_DOCUMENTS_UPDATE_QUEUE_NAME.equals(task.getQueueName())) {
+                scheduledUpdates.add(JsonUtils.fromJson(task.getParamMap().get(ParamsNames.SEARCH_DOCUMENT_UPDATES)[0],
+                                                        SearchDocumentUpdates.class));
+            }
+        }
+        return scheduledUpdates;
+    }
+
+}
@@ -20,8 +20,6 @@ import teammates.common.datatransfer.StudentUpdateStatus;
 import teammates.common.datatransfer.TeamDetailsBundle;
 import teammates.common.datatransfer.attributes.AccountAttributes;
 import teammates.common.datatransfer.attributes.CourseAttributes;
-import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
-import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.datatransfer.attributes.StudentProfileAttributes;
@@ -35,8 +33,6 @@ import teammates.common.util.SanitizationHelper;
 import teammates.common.util.StringHelper;
 import teammates.logic.core.AccountsLogic;
 import teammates.logic.core.CoursesLogic;
-import teammates.logic.core.FeedbackQuestionsLogic;
-import teammates.logic.core.FeedbackResponsesLogic;
 import teammates.logic.core.FeedbackSessionsLogic;
 import teammates.logic.core.StudentsLogic;
 import teammates.storage.api.StudentsDb;
@@ -71,7 +67,6 @@ public class StudentsLogicTest extends BaseLogicTest {
         testGetTeamForStudent();
 
         testEnrollStudent();
-        testAdjustFeedbackResponseForEnrollments();
 
         testValidateSections();
         testupdateStudentCascadeWithoutDocument();
@@ -356,90 +351,6 @@ public class StudentsLogicTest extends BaseLogicTest {
 
     }
 
-    private void testAdjustFeedbackResponseForEnrollments() throws Exception {
-
-        // the case below will not cause the response to be deleted
-        // because the studentEnrollDetails'email is not the same as giver or recipient
-        ______TS("adjust feedback response: no change of team");
-
-        String course1Id = dataBundle.courses.get("typicalCourse1").getId();
-        StudentAttributes student1InCourse1 = dataBundle.students.get("student1InCourse1");
-        StudentAttributes student2InCourse1 = dataBundle.students.get("student2InCourse1");
-        ArrayList<StudentEnrollDetails> enrollmentList = new ArrayList<>();
-        StudentEnrollDetails studentDetails1 =
-                new StudentEnrollDetails(StudentUpdateStatus.MODIFIED,
-                                         course1Id, student1InCourse1.email, student1InCourse1.team,
-                                         student1InCourse1.team + "tmp", student1InCourse1.section,
-                                         student1InCourse1.section + "tmp");
-        enrollmentList.add(studentDetails1);
-
-        FeedbackResponseAttributes feedbackResponse1InBundle = dataBundle.feedbackResponses.get("response1ForQ2S2C1");
-        FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
-        FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
-        FeedbackQuestionAttributes feedbackQuestionInDb =
-                fqLogic.getFeedbackQuestion(feedbackResponse1InBundle.feedbackSessionName,
-                                            feedbackResponse1InBundle.courseId,
-                                            Integer.parseInt(feedbackResponse1InBundle.feedbackQuestionId));
-        FeedbackResponseAttributes responseBefore =
-                frLogic.getFeedbackResponse(feedbackQuestionInDb.getId(),
-                                            feedbackResponse1InBundle.giver,
-                                            feedbackResponse1InBundle.recipient);
-
-        studentsLogic.adjustFeedbackResponseForEnrollments(enrollmentList, responseBefore);
-
-        FeedbackResponseAttributes responseAfter = frLogic.getFeedbackResponse(feedbackQuestionInDb.getId(),
-                feedbackResponse1InBundle.giver, feedbackResponse1InBundle.recipient);
-        assertEquals(responseBefore.getId(), responseAfter.getId());
-
-        // the case below will not cause the response to be deleted
-        // because the studentEnrollDetails'email is not the same as giver or recipient
-        ______TS("adjust feedback response: unmodified status");
-
-        enrollmentList = new ArrayList<>();
-        studentDetails1 =
-                new StudentEnrollDetails(StudentUpdateStatus.UNMODIFIED, course1Id,
-                                         student1InCourse1.email, student1InCourse1.team,
-                                         student1InCourse1.team + "tmp", student1InCourse1.section,
-                                         student1InCourse1.section + "tmp");
-        enrollmentList.add(studentDetails1);
-
-        feedbackQuestionInDb = fqLogic.getFeedbackQuestion(feedbackResponse1InBundle.feedbackSessionName,
-                feedbackResponse1InBundle.courseId, Integer.parseInt(feedbackResponse1InBundle.feedbackQuestionId));
-        responseBefore = frLogic.getFeedbackResponse(feedbackQuestionInDb.getId(),
-                feedbackResponse1InBundle.giver, feedbackResponse1InBundle.recipient);
-
-        studentsLogic.adjustFeedbackResponseForEnrollments(enrollmentList, responseBefore);
-
-        responseAfter = frLogic.getFeedbackResponse(feedbackQuestionInDb.getId(),
-                feedbackResponse1InBundle.giver, feedbackResponse1InBundle.recipient);
-        assertEquals(responseBefore.getId(), responseAfter.getId());
-
-        // the code below will cause the feedback to be deleted because
-        // recipient's e-mail is the same as the one in studentEnrollDetails
-        // and the question's recipient's type is own team members
-        ______TS("adjust feedback response: delete after adjustment");
-
-        studentDetails1 =
-                new StudentEnrollDetails(StudentUpdateStatus.MODIFIED, course1Id,
-                                         student2InCourse1.email, student1InCourse1.team,
-                                         student1InCourse1.team + "tmp", student1InCourse1.section,
-                                         student1InCourse1.section + "tmp");
-        enrollmentList = new ArrayList<>();
-        enrollmentList.add(studentDetails1);
-
-        feedbackQuestionInDb = fqLogic.getFeedbackQuestion(feedbackResponse1InBundle.feedbackSessionName,
-                feedbackResponse1InBundle.courseId, Integer.parseInt(feedbackResponse1InBundle.feedbackQuestionId));
-        responseBefore = frLogic.getFeedbackResponse(feedbackQuestionInDb.getId(),
-                feedbackResponse1InBundle.giver, feedbackResponse1InBundle.recipient);
-
-        studentsLogic.adjustFeedbackResponseForEnrollments(enrollmentList, responseBefore);
-
-        responseAfter = frLogic.getFeedbackResponse(feedbackQuestionInDb.getId(),
-                feedbackResponse1InBundle.giver, feedbackResponse1InBundle.recipient);
-        assertNull(responseAfter);
-
-    }
-
     private void testEnrollLinesChecking() throws Exception {
         String info;
         String enrollLines;
@@ -595,6 +506,43 @@ public class StudentsLogicTest extends BaseLogicTest {
         expectedInvalidInfoString = "Same email address as the student in line \"" + lineWithCorrectInput + "\"";
         AssertHelper.assertContains(expectedInvalidInfoString, invalidInfoString);
 
+        ______TS("enrollLines with duplicate emails separated by blank and invalid lines");
+
+        enrollLines = headerLine + System.lineSeparator()
+                + lineWithCorrectInputWithComment + System.lineSeparator()
+                + "   " + System.lineSeparator()
+                + lineWithNoEmailInput + System.lineSeparator()
+                + lineWithCorrectInput + System.lineSeparator()
+                + lineWithCorrectInput;
+
+        invalidInfoString = getExceptionMessageOnCreatingStudentsList(enrollLines, courseId);
+
+        expectedInvalidInfoList.clear();
+        expectedInvalidInfoList.add(String.format(Const.StatusMessages.ENROLL_LINES_PROBLEM, lineWithNoEmailInput,
+                StudentAttributesFactory.ERROR_ENROLL_LINE_TOOFEWPARTS));
+        expectedInvalidInfoList.add(String.format(Const.StatusMessages.ENROLL_LINES_PROBLEM, lineWithCorrectInput,
+                Const.StatusMessages.DUPLICATE_EMAIL_INFO + " \"" + lineWithCorrectInput + "\""
+                + "<br>" + Const.StatusMessages.ENROLL_LINES_PROBLEM_DETAIL_PREFIX + " "));
+        assertEquals(StringHelper.toString(expectedInvalidInfoList, "<br>"), invalidInfoString);
+
+        ______TS("enrollLines with a large number of lines");
+
+        int numberOfLines = 10000;
+        StringBuilder largeEnrollLines = new StringBuilder(headerLine);
+        for (int i = 0; i < numberOfLines; i++) {
+            largeEnrollLines.append(System.lineSeparator())
+                            .append("Team ").append(i % 100).append(" | Student ").append(i)
+                            .append(" | student").append(i).append("@email.tmt");
+        }
+        assertEquals(numberOfLines, studentsLogic.createStudents(largeEnrollLines.toString(), courseId).size());
+
+        String firstLargeEnrollLine = "Team 0 | Student 0 | student0@email.tmt";
+        largeEnrollLines.append(System.lineSeparator()).append(firstLargeEnrollLine);
+        invalidInfoString = getExceptionMessageOnCreatingStudentsList(largeEnrollLines.toString(), courseId);
+        assertEquals(String.format(Const.StatusMessages.ENROLL_LINES_PROBLEM, firstLargeEnrollLine,
+                Const.StatusMessages.DUPLICATE_EMAIL_INFO + " \"" + firstLargeEnrollLine + "\""
+                + "<br>" + Const.StatusMessages.ENROLL_LINES_PROBLEM_DETAIL_PREFIX + " "), invalidInfoString);
+
         ______TS("enrollLines with a mix of all above cases");
         enrollLines = headerLine + System.lineSeparator()
                 + lineWithInvalidTeamName + System.lineSeparator()
@@ -748,6 +696,11 @@ public class StudentsLogicTest extends BaseLogicTest {
         assertEquals(StudentUpdateStatus.NOT_IN_ENROLL_LIST,
                      enrollResults.studentList.get(5).updateStatus);
 
+        StudentAttributes modifiedStudent = studentsLogic.getStudentForEmail(courseIdForEnrollTest, "e3@g");
+        assertEquals("modified name", modifiedStudent.name);
+        assertEquals("t3", modifiedStudent.team);
+        assertNotNull(studentsLogic.getStudentForEmail(courseIdForEnrollTest, "e6@g"));
+
         ______TS("includes an incorrect line");
 
         // no changes should be done to the database
@@ -0,0 +1,96 @@
+package teammates.test.cases.logic;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import com.google.appengine.api.taskqueue.QueueConstants;
+import com.google.appengine.api.taskqueue.dev.LocalTaskQueue;
+import com.google.appengine.tools.development.testing.LocalTaskQueueTestConfig;
+
+import teammates.common.util.Const;
+import teammates.common.util.TaskWrapper;
+import teammates.logic.core.TaskQueuesLogic;
+import teammates.test.cases.BaseComponentTestCase;
+
+/**
+ * SUT: {@link TaskQueuesLogic}.
+ */
+public class TaskQueuesLogicTest extends BaseComponentTestCase {
+
+    private static final TaskQueuesLogic taskQueuesLogic = new TaskQueuesLogic();
+
+    private static final String QUEUE_NAME = Const.TaskQueue.SEND_EMAIL_QUEUE_NAME;
+
+    @AfterMethod
+    public void flushQueue() {
+        getLocalTaskQueue().flushQueue(QUEUE_NAME);
+    }
+
+    @Test
+    public void testAddTasks_moreTasksThanAcceptedPerCall_shouldAddAllTasks() {
+        int numberOfTasks = 2 * QueueConstants.maxTasksPerAdd() + 1;
+
+        taskQueuesLogic.addTasks(getTasks(QUEUE_NAME, numberOfTasks));
+
+        assertEquals(numberOfTasks, getNumberOfTasksInQueue());
+    }
+
+    @Test
+    public void testAddTasks_oneChunkFails_shouldAddOtherChunksAndThrow() {
+        int numberOfTasks = QueueConstants.maxTasksPerAdd() + 1;
+        // the chunk for the unknown queue fails before any chunk of the known queue is added
+        List<TaskWrapper> tasks = getTasks("unknown-queue", 1);
+        tasks.addAll(getTasks(QUEUE_NAME, numberOfTasks));
+
+        try {
+            taskQueuesLogic.addTasks(tasks);
+            signalFailureToDetectException();
+        } catch (IllegalStateException e) {
+            assertEquals("1 of " + tasks.size() + " tasks could not be added", e.getMessage());
+        }
+
+        assertEquals(numberOfTasks, getNumberOfTasksInQueue());
+    }
+
+    @Test
+    public void testAddTasks_namedTasksAddedBefore_shouldSkipThem() {
+        List<TaskWrapper> tasks = new ArrayList<>();
+        for (TaskWrapper task : getTasks(QUEUE_NAME, 3)) {
+            tasks.add(new TaskWrapper(task.getQueueName(), task.getWorkerUrl(), task.getParamMap(), 0,
+                                      "named-task-" + tasks.size()));
+        }
+
+        taskQueuesLogic.addTasks(tasks);
+        assertEquals(3, getNumberOfTasksInQueue());
+
+        // only the task that has not been added before is added
+        tasks.add(new TaskWrapper(QUEUE_NAME, Const.TaskQueue.SEND_EMAIL_WORKER_URL, new HashMap<String, String[]>(), 0,
+                                  "named-task-3"));
+        taskQueuesLogic.addTasks(tasks);
+        assertEquals(4, getNumberOfTasksInQueue());
+    }
+
+    private List<TaskWrapper> getTasks(String queueName, int numberOfTasks) {
+        List<TaskWrapper> tasks = new ArrayList<>();
+        for (int i = 0; i < numberOfTasks; i++) {
+            Map<String, String[]> paramMap = new HashMap<>();
+            paramMap.put(Const.ParamsNames.EMAIL_SUBJECT, new String[] { "Subject " + i });
+            tasks.add(new TaskWrapper(queueName, Const.TaskQueue.SEND_EMAIL_WORKER_URL, paramMap));
+        }
+        return tasks;
+    }
+
+    private int getNumberOfTasksInQueue() {
+        return getLocalTaskQueue().getQueueStateInfo().get(QUEUE_NAME).getCountTasks();
+    }
+
+    private LocalTaskQueue getLocalTaskQueue() {
+        return LocalTaskQueueTestConfig.getLocalTaskQueue();
+    }
+
+}
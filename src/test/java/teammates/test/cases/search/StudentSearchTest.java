@@ -5,14 +5,18 @@ import java.util.List;
 
 import org.testng.annotations.Test;
 
+import teammates.common.datatransfer.SearchDocumentUpdates;
 import teammates.common.datatransfer.StudentSearchResultBundle;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
+import teammates.storage.api.SearchDocumentsDb;
 import teammates.storage.api.StudentsDb;
 import teammates.test.driver.AssertHelper;
 
 /**
  * SUT: {@link StudentsDb},
+ *      {@link SearchDocumentsDb},
  *      {@link teammates.storage.search.StudentSearchDocument},
  *      {@link teammates.storage.search.StudentSearchQuery}.
  */
@@ -103,6 +107,50 @@ public class StudentSearchTest extends BaseSearchTest {
                      Arrays.asList(stu2InCourse2, stu2InUnregCourse),
                      bundle.studentList);
 
+        ______TS("success: buffered writes are coalesced per document and deferred until written");
+
+        SearchDocumentsDb searchDocumentsDb = new SearchDocumentsDb();
+        searchDocumentsDb.startBuffering();
+
+        studentsDb.putDocument(studentsDb.getStudentForEmail(stu2InUnregCourse.course, stu2InUnregCourse.email));
+        studentsDb.deleteDocument(stu2InUnregCourse);
+
+        bundle = studentsDb.searchStudentsInWholeSystem("student2");
+        assertEquals(2, bundle.numberOfResults);
+
+        List<SearchDocumentUpdates> updatesList = searchDocumentsDb.stopBuffering();
+
+        assertEquals(1, updatesList.size());
+        SearchDocumentUpdates updates = updatesList.get(0);
+        assertEquals(Const.SearchIndex.STUDENT, updates.getIndexName());
+        assertTrue(updates.getDocumentIdsToPut().isEmpty());
+        assertEquals(1, updates.getDocumentIdsToDelete().size());
+
+        searchDocumentsDb.writeDocuments(updates);
+
+        bundle = studentsDb.searchStudentsInWholeSystem("student2");
+
+        assertEquals(1, bundle.numberOfResults);
+        AssertHelper.assertSameContentIgnoreOrder(Arrays.asList(stu2InCourse2), bundle.studentList);
+
+        ______TS("success: buffered document put is rebuilt from the datastore when written");
+
+        searchDocumentsDb.startBuffering();
+        studentsDb.putDocument(studentsDb.getStudentForEmail(stu2InUnregCourse.course, stu2InUnregCourse.email));
+        updatesList = searchDocumentsDb.stopBuffering();
+
+        assertEquals(1, updatesList.size());
+        assertEquals(1, updatesList.get(0).getDocumentIdsToPut().size());
+
+        searchDocumentsDb.writeDocuments(updatesList.get(0));
+
+        bundle = studentsDb.searchStudentsInWholeSystem("student2");
+
+        assertEquals(2, bundle.numberOfResults);
+        AssertHelper.assertSameContentIgnoreOrder(
+                     Arrays.asList(stu2InCourse2, stu2InUnregCourse),
+                     bundle.studentList);
+
     }
 
 }
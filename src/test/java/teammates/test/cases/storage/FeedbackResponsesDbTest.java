@@ -1,6 +1,8 @@
 package teammates.test.cases.storage;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -10,6 +12,7 @@ import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.DataBundle;
+import teammates.common.datatransfer.QueryPage;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.questions.FeedbackQuestionType;
 import teammates.common.datatransfer.questions.FeedbackResponseDetails;
@@ -623,6 +626,78 @@ public class FeedbackResponsesDbTest extends BaseComponentTestCase {
                 feedbackSessionName, "non-existent courseId", 1).isEmpty());
     }
 
+    @Test
+    public void testGetFeedbackResponsesForSessionPage() {
+
+        String courseId = fras.get("response1ForQ1S1C1").courseId;
+        String feedbackSessionName = fras.get("response1ForQ1S1C1").feedbackSessionName;
+        String section = fras.get("response1ForQ1S1C1").giverSection;
+
+        ______TS("pages continue where the previous page ended, without splitting the responses of a giver");
+
+        int numberOfResponses = frDb.getFeedbackResponsesForSession(feedbackSessionName, courseId).size();
+        assertTrue(numberOfResponses > 1);
+        for (int pageSize = 1; pageSize <= numberOfResponses; pageSize++) {
+            verifyPagesCoverSessionWithoutSplittingGivers(feedbackSessionName, courseId, pageSize, numberOfResponses);
+        }
+
+        ______TS("last page is exactly full");
+
+        QueryPage<FeedbackResponseAttributes> fullPage =
+                frDb.getFeedbackResponsesForSessionPage(feedbackSessionName, courseId, null, numberOfResponses);
+        assertEquals(numberOfResponses, fullPage.getItems().size());
+        assertFalse(fullPage.hasNextPage());
+
+        ______TS("walking a section one response at a time");
+
+        int numberOfResponsesFromSection = 0;
+        QueryPage<FeedbackResponseAttributes> page = null;
+        do {
+            String cursor = page == null ? null : page.getNextCursor();
+            page = frDb.getFeedbackResponsesForSessionFromSectionPage(feedbackSessionName, courseId, section, cursor, 1);
+            numberOfResponsesFromSection += page.getItems().size();
+        } while (page.hasNextPage());
+        assertEquals(frDb.getFeedbackResponsesForSessionFromSection(feedbackSessionName, courseId, section).size(),
+                numberOfResponsesFromSection);
+
+        ______TS("null params");
+
+        try {
+            frDb.getFeedbackResponsesForSessionToSectionPage(feedbackSessionName, courseId, null, null, 1);
+            signalFailureToDetectException();
+        } catch (AssertionError e) {
+            AssertHelper.assertContains(Const.StatusCodes.DBLEVEL_NULL_INPUT, e.getLocalizedMessage());
+        }
+
+        ______TS("non-existent feedback session");
+
+        QueryPage<FeedbackResponseAttributes> emptyPage =
+                frDb.getFeedbackResponsesForSessionPage("non-existent feedback session", courseId, null, 4);
+        assertTrue(emptyPage.getItems().isEmpty());
+        assertFalse(emptyPage.hasNextPage());
+    }
+
+    private void verifyPagesCoverSessionWithoutSplittingGivers(
+            String feedbackSessionName, String courseId, int pageSize, int numberOfResponses) {
+        Set<String> responseIds = new HashSet<>();
+        Set<String> giversOfPreviousPages = new HashSet<>();
+        QueryPage<FeedbackResponseAttributes> page = null;
+        do {
+            String cursor = page == null ? null : page.getNextCursor();
+            page = frDb.getFeedbackResponsesForSessionPage(feedbackSessionName, courseId, cursor, pageSize);
+            assertTrue(page.getItems().size() >= pageSize || !page.hasNextPage());
+
+            Set<String> giversOfPage = new HashSet<>();
+            for (FeedbackResponseAttributes response : page.getItems()) {
+                responseIds.add(response.getId());
+                giversOfPage.add(response.giver);
+            }
+            assertTrue(Collections.disjoint(giversOfPreviousPages, giversOfPage));
+            giversOfPreviousPages.addAll(giversOfPage);
+        } while (page.hasNextPage());
+        assertEquals(numberOfResponses, responseIds.size());
+    }
+
     @Test
     public void testGetFeedbackResponsesForSessionInSection() {
 
@@ -282,6 +282,49 @@ public class FeedbackSessionsDbTest extends BaseComponentTestCase {
         verifyPresentInDatastore(modifiedSession);
     }
 
+    @Test
+    public void testUpdateExpectedRespondentCount() throws Exception {
+        FeedbackSessionAttributes session = getNewFeedbackSession();
+        fsDb.deleteEntity(session);
+        fsDb.createEntity(session);
+        String sessionName = session.getFeedbackSessionName();
+        String courseId = session.getCourseId();
+
+        ______TS("count is stored if it has not been cleared since the version was read");
+
+        long version = fsDb.getExpectedRespondentCountVersion(sessionName, courseId);
+        assertTrue(fsDb.updateExpectedRespondentCount(sessionName, courseId, 5, version));
+        assertEquals(Integer.valueOf(5), fsDb.getFeedbackSession(courseId, sessionName).getExpectedRespondentCount());
+
+        ______TS("count is not stored if it has been cleared since the version was read");
+
+        version = fsDb.getExpectedRespondentCountVersion(sessionName, courseId);
+        fsDb.clearExpectedRespondentCount(sessionName, courseId);
+        assertFalse(fsDb.updateExpectedRespondentCount(sessionName, courseId, 5, version));
+        assertNull(fsDb.getFeedbackSession(courseId, sessionName).getExpectedRespondentCount());
+
+        version = fsDb.getExpectedRespondentCountVersion(sessionName, courseId);
+        fsDb.clearExpectedRespondentCountsForCourse(courseId);
+        assertFalse(fsDb.updateExpectedRespondentCount(sessionName, courseId, 5, version));
+        assertNull(fsDb.getFeedbackSession(courseId, sessionName).getExpectedRespondentCount());
+
+        ______TS("session does not exist");
+
+        try {
+            fsDb.updateExpectedRespondentCount("non existent fs", courseId, 5, version);
+            signalFailureToDetectException();
+        } catch (EntityDoesNotExistException e) {
+            AssertHelper.assertContains(FeedbackSessionsDb.ERROR_UPDATE_NON_EXISTENT, e.getLocalizedMessage());
+        }
+
+        try {
+            fsDb.clearExpectedRespondentCount("non existent fs", courseId);
+            signalFailureToDetectException();
+        } catch (EntityDoesNotExistException e) {
+            AssertHelper.assertContains(FeedbackSessionsDb.ERROR_UPDATE_NON_EXISTENT, e.getLocalizedMessage());
+        }
+    }
+
     private FeedbackSessionAttributes getNewFeedbackSession() {
         return FeedbackSessionAttributes.builder("fsTest1", "testCourse", "valid@email.com")
                 .withFeedbackSessionType(FeedbackSessionType.STANDARD)
@@ -0,0 +1,94 @@
+package teammates.test.cases.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.GroupReceiverListChunk;
+import teammates.common.util.GoogleCloudStorageHelper;
+import teammates.test.cases.BaseTestCase;
+
+/**
+ * SUT: {@link GoogleCloudStorageHelper}.
+ */
+public class GoogleCloudStorageHelperTest extends BaseTestCase {
+
+    @Test
+    public void testGetGroupReceiverListChunk() throws IOException {
+
+        ______TS("address split across the chunk boundary: left to the next chunk");
+
+        byte[] file = "a@x.tmt,bb@y.tmt,c@z.tmt".getBytes(StandardCharsets.UTF_8);
+        // the first 12 bytes end in the middle of bb@y.tmt
+        GroupReceiverListChunk chunk = getChunk(file, 0, 12);
+        assertEquals(Arrays.asList("a@x.tmt"), chunk.getEmails());
+        assertEquals(8, chunk.getNextOffset());
+        assertFalse(chunk.isLastChunk());
+
+        chunk = getChunk(file, chunk.getNextOffset(), 12);
+        assertEquals(Arrays.asList("bb@y.tmt"), chunk.getEmails());
+        assertEquals(17, chunk.getNextOffset());
+        assertFalse(chunk.isLastChunk());
+
+        ______TS("final chunk without a trailing comma: last address included");
+
+        chunk = getChunk(file, chunk.getNextOffset(), 12);
+        assertEquals(Arrays.asList("c@z.tmt"), chunk.getEmails());
+        assertEquals(file.length, chunk.getNextOffset());
+        assertTrue(chunk.isLastChunk());
+
+        ______TS("whole file read in chunks: every address read once");
+
+        List<String> expected = new ArrayList<>();
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            expected.add("receiver" + i + "@gmail.tmt");
+            content.append(i == 0 ? "" : ",").append("receiver").append(i).append("@gmail.tmt");
+        }
+        file = content.toString().getBytes(StandardCharsets.UTF_8);
+        for (int maxBytesToRead : new int[] { 25, 64, 1000, file.length, file.length + 1 }) {
+            assertEquals(expected, getAllEmails(file, maxBytesToRead));
+        }
+
+        ______TS("chunk ending exactly at a comma: no empty address");
+
+        file = "a@x.tmt,b@y.tmt,".getBytes(StandardCharsets.UTF_8);
+        assertEquals(Arrays.asList("a@x.tmt", "b@y.tmt"), getAllEmails(file, 8));
+
+        ______TS("whitespace and line break around the addresses: trimmed");
+
+        file = "a@x.tmt, b@y.tmt,\nc@z.tmt\n".getBytes(StandardCharsets.UTF_8);
+        assertEquals(Arrays.asList("a@x.tmt", "b@y.tmt", "c@z.tmt"), getAllEmails(file, 10));
+
+        ______TS("empty file: one empty last chunk");
+
+        file = new byte[0];
+        chunk = getChunk(file, 0, 10);
+        assertTrue(chunk.getEmails().isEmpty());
+        assertEquals(0, chunk.getNextOffset());
+        assertTrue(chunk.isLastChunk());
+    }
+
+    private GroupReceiverListChunk getChunk(byte[] file, long offset, int maxBytesToRead) throws IOException {
+        ByteArrayInputStream stream = new ByteArrayInputStream(file, (int) offset, file.length - (int) offset);
+        return GoogleCloudStorageHelper.getGroupReceiverListChunk(stream, file.length, offset, maxBytesToRead);
+    }
+
+    private List<String> getAllEmails(byte[] file, int maxBytesToRead) throws IOException {
+        List<String> emails = new ArrayList<>();
+        GroupReceiverListChunk chunk = null;
+        long offset = 0;
+        while (chunk == null || !chunk.isLastChunk()) {
+            chunk = getChunk(file, offset, maxBytesToRead);
+            emails.addAll(chunk.getEmails());
+            offset = chunk.getNextOffset();
+        }
+        return emails;
+    }
+
+}
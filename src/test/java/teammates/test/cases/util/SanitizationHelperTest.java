@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Random;
 import java.util.Set;
 
 import org.testng.annotations.Test;
@@ -98,6 +99,50 @@ public class SanitizationHelperTest extends BaseTestCase {
         assertEquals(sanitized, SanitizationHelper.sanitizeForHtml(sanitized));
     }
 
+    @Test
+    public void testSanitizeForHtml_noCharToConvert_returnsSameInstance() {
+        String safe = "plain text; with # and & amp;";
+        assertEquals("plain text; with # and &amp; amp;", SanitizationHelper.sanitizeForHtml(safe));
+
+        String alreadySafe = "plain text; with # and &amp; &lt;&#x2f;&#39;";
+        assertSame(alreadySafe, SanitizationHelper.sanitizeForHtml(alreadySafe));
+        assertSame("", SanitizationHelper.sanitizeForHtml(""));
+    }
+
+    @Test
+    public void testSanitizeForHtml_randomStrings_sameAsReplacingCharByChar() throws Exception {
+        // characters that are converted, together with the characters of their encodings
+        String alphabet = "<>\"/'&;#x2f39ltgampquo ";
+        Random random = new Random(0);
+        for (int i = 0; i < 10000; i++) {
+            StringBuilder unsanitized = new StringBuilder();
+            int length = random.nextInt(20);
+            for (int j = 0; j < length; j++) {
+                unsanitized.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            String expected = sanitizeForHtmlCharByChar(unsanitized.toString());
+
+            assertEquals(expected, SanitizationHelper.sanitizeForHtml(unsanitized.toString()));
+
+            StringBuilder appended = new StringBuilder("prefix");
+            SanitizationHelper.appendSanitizedForHtml(appended, unsanitized.toString());
+            assertEquals("prefix" + expected, appended.toString());
+        }
+    }
+
+    /**
+     * The previous implementation of {@link SanitizationHelper#sanitizeForHtml(String)},
+     * which replaces the characters one kind at a time.
+     */
+    private static String sanitizeForHtmlCharByChar(String unsanitizedString) {
+        return unsanitizedString.replace("<", "&lt;")
+                .replace(">", "&gt;")
+                .replace("\"", "&quot;")
+                .replace("/", "&#x2f;")
+                .replace("'", "&#39;")
+                .replaceAll("&(?!(amp;)|(lt;)|(gt;)|(quot;)|(#x2f;)|(#39;))", "&amp;");
+    }
+
     @Test
     public void testSanitizeForHtmlList() {
         List<String> unsanitizedHtml = new ArrayList<>(Arrays.asList(
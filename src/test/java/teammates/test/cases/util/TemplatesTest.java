@@ -0,0 +1,82 @@
+package teammates.test.cases.util;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.Templates;
+import teammates.common.util.Templates.FeedbackQuestion.FormTemplates;
+import teammates.common.util.Templates.FeedbackQuestion.Slots;
+import teammates.test.cases.BaseTestCase;
+
+/**
+ * SUT: {@link Templates}.
+ */
+public class TemplatesTest extends BaseTestCase {
+
+    @Test
+    public void testPopulateTemplate() {
+
+        ______TS("slots are replaced, unknown slots and other text are kept");
+
+        verifyPopulateTemplate("Dear ${name}, your ${item} is ${status}. ${unknown} $ { } ${",
+                "${name}", "Alice", "${status}", "ready");
+
+        ______TS("repeated slots and repeated keys");
+
+        verifyPopulateTemplate("${a}-${b}-${a}", "${a}", "1", "${b}", "2", "${a}", "3");
+
+        ______TS("adjacent slots and empty values");
+
+        verifyPopulateTemplate("${a}${b}${a}", "${a}", "", "${b}", "x");
+
+        ______TS("no key-value pairs");
+
+        verifyPopulateTemplate("plain ${text}");
+
+        ______TS("values that are templates themselves are populated by later keys");
+
+        verifyPopulateTemplate("<p>${joinFragment}</p>",
+                "${joinFragment}", "<a href=\"${joinUrl}\">join</a>", "${joinUrl}", "http://example.com");
+
+        ______TS("values that may form a slot with the text around them");
+
+        verifyPopulateTemplate("${a}{b}", "${a}", "$", "${b}", "x");
+        verifyPopulateTemplate("$${a}", "${a}", "{b}", "${b}", "x");
+        verifyPopulateTemplate("${x${a}", "${a}", "y}", "${xy}", "z");
+
+        ______TS("slot start not closed before a slot");
+
+        verifyPopulateTemplate("${a${b}", "${b}", "c", "${ac}", "d");
+
+        ______TS("keys that are not slots are replaced in turn");
+
+        verifyPopulateTemplate("teammates.demo.instructor@demo.course of demo.course",
+                "teammates.demo.instructor@demo.course", "instr@example.com", "demo.course", "course-id");
+
+        ______TS("question statistics fragments");
+
+        verifyPopulateTemplate(FormTemplates.NUMSCALE_RESULTS_STATS_FRAGMENT_WITH_SELF_RESPONSE,
+                Slots.RECIPIENT_TEAM, "Team 1", Slots.RECIPIENT_NAME, "Alice",
+                Slots.AVERAGE, "3.5", Slots.MAX, "5", Slots.MIN, "1",
+                Slots.AVERAGE_EXCLUDING_SELF_RESPONSE, "3");
+        verifyPopulateTemplate(FormTemplates.RUBRIC_RESULT_RECIPIENT_STATS_BODY_FRAGMENT,
+                Slots.RUBRIC_RECIPIENT_STAT_ROW, "<td>row</td>");
+        verifyPopulateTemplate(FormTemplates.RUBRIC_RESULT_RECIPIENT_STATS_BODY_FRAGMENT,
+                Slots.RUBRIC_RECIPIENT_STAT_ROW, "<td>${Max}</td>", Slots.MAX, "5");
+    }
+
+    private void verifyPopulateTemplate(String template, String... keyValuePairs) {
+        String expected = template;
+        for (int i = 0; i < keyValuePairs.length; i += 2) {
+            expected = expected.replace(keyValuePairs[i], keyValuePairs[i + 1]);
+        }
+
+        assertEquals(expected, Templates.populateTemplate(template, keyValuePairs));
+        // populating again uses the cached compiled template
+        assertEquals(expected, Templates.populateTemplate(template, keyValuePairs));
+
+        StringBuilder out = new StringBuilder("prefix|");
+        Templates.appendPopulatedTemplate(out, template, keyValuePairs);
+        assertEquals("prefix|" + expected, out.toString());
+    }
+
+}
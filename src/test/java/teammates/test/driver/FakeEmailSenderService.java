@@ -0,0 +1,70 @@
+package teammates.test.driver;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import teammates.common.exception.EmailSendingException;
+import teammates.common.util.EmailWrapper;
+import teammates.logic.core.EmailSenderService;
+
+/**
+ * A local stand-in for an email service that sends many emails per call.
+ *
+ * <p>Instead of calling a third-party service, each call is recorded so that the batching of emails
+ * can be verified. A call fails if it contains any of the recipients set to fail, as a call to
+ * the actual service would when the service rejects the call.
+ */
+public class FakeEmailSenderService extends EmailSenderService {
+
+    private final int maxEmailsPerBatch;
+    private final Set<String> failingRecipients = new HashSet<>();
+    private final List<List<EmailWrapper>> calls = new ArrayList<>();
+
+    public FakeEmailSenderService(int maxEmailsPerBatch) {
+        this.maxEmailsPerBatch = maxEmailsPerBatch;
+    }
+
+    /**
+     * Makes the calls containing the email to {@code recipient} fail.
+     */
+    public void failForRecipient(String recipient) {
+        failingRecipients.add(recipient);
+    }
+
+    /**
+     * Returns the emails of each call made to the service.
+     */
+    public List<List<EmailWrapper>> getCalls() {
+        return calls;
+    }
+
+    @Override
+    public EmailWrapper parseToEmail(EmailWrapper wrapper) {
+        return wrapper;
+    }
+
+    @Override
+    protected void sendEmailWithService(EmailWrapper wrapper) throws EmailSendingException {
+        List<EmailWrapper> call = new ArrayList<>();
+        call.add(wrapper);
+        sendEmailsWithService(call);
+    }
+
+    @Override
+    protected void sendEmailsWithService(List<EmailWrapper> wrappers) throws EmailSendingException {
+        calls.add(wrappers);
+        for (EmailWrapper wrapper : wrappers) {
+            if (failingRecipients.contains(wrapper.getRecipient())) {
+                throw new EmailSendingException("Recipient rejected: " + wrapper.getRecipient());
+            }
+        }
+    }
+
+    @Override
+    protected int getMaxEmailsPerBatch() {
+        return maxEmailsPerBatch;
+    }
+
+}
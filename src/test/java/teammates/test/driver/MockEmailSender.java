@@ -3,6 +3,7 @@ package teammates.test.driver;
 import java.util.ArrayList;
 import java.util.List;
 
+import teammates.common.util.EmailSendingResult;
 import teammates.common.util.EmailWrapper;
 import teammates.logic.api.EmailSender;
 
@@ -21,6 +22,16 @@ public class MockEmailSender extends EmailSender {
         sentEmails.add(email);
     }
 
+    @Override
+    public List<EmailSendingResult> sendEmails(List<EmailWrapper> emails) {
+        List<EmailSendingResult> results = new ArrayList<>();
+        for (EmailWrapper email : emails) {
+            sentEmails.add(email);
+            results.add(new EmailSendingResult(email, null));
+        }
+        return results;
+    }
+
     @Override
     public List<EmailWrapper> getEmailsSent() {
         return sentEmails;
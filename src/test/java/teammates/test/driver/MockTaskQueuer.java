@@ -39,6 +39,12 @@ public class MockTaskQueuer extends TaskQueuer {
         tasksAdded.add(task);
     }
 
+    @Override
+    protected void addTasks(List<TaskWrapper> tasks) {
+        // countdown time not tested
+        tasksAdded.addAll(tasks);
+    }
+
     @Override
     public List<TaskWrapper> getTasksAdded() {
         return tasksAdded;